@@ -0,0 +1,349 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.component;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import com.viromedia.bridge.component.VRTManagedAnimation.AnimationState;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Starts delayed {@link VRTManagedAnimation}s for every node from a single frame callback,
+ * instead of each animation posting its own delayed runnable. Animations due within the same
+ * frame are started together, back to back, from that frame's callback.
+ *
+ * Animations can also join a named sequence group with an index. A member of a sequence only
+ * starts (after its own delay) once every member of the group with a lower index has finished;
+ * members with the same index start together.
+ *
+ * All scheduling happens on the UI thread. The scheduler also counts animations by state for
+ * profiling.
+ */
+public class AnimationScheduler implements Choreographer.FrameCallback {
+
+    /*
+     Starts due up to this long after a frame's timestamp are run in that frame, since the
+     frame will be on screen by then.
+     */
+    private static final long FRAME_TOLERANCE_NANOS = 8_000_000L;
+    private static final long NO_WAKEUP = Long.MAX_VALUE;
+
+    private static AnimationScheduler sInstance;
+
+    public static synchronized AnimationScheduler getInstance() {
+        if (sInstance == null) {
+            sInstance = new AnimationScheduler();
+        }
+        return sInstance;
+    }
+
+    private static class PendingStart {
+        final VRTManagedAnimation mAnimation;
+        final long mStartTimeNanos;
+        final long mOrder;
+
+        PendingStart(VRTManagedAnimation animation, long startTimeNanos, long order) {
+            mAnimation = animation;
+            mStartTimeNanos = startTimeNanos;
+            mOrder = order;
+        }
+    }
+
+    private static class SequenceGroup {
+        // Members not yet released, by index, along with the delay to apply once released
+        final TreeMap<Integer, Map<VRTManagedAnimation, Long>> mWaiting = new TreeMap<>();
+        // Released members that haven't finished yet
+        final Map<VRTManagedAnimation, Integer> mReleased = new HashMap<>();
+
+        boolean isEmpty() {
+            return mWaiting.isEmpty() && mReleased.isEmpty();
+        }
+    }
+
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    private final PriorityQueue<PendingStart> mPending = new PriorityQueue<>(16,
+            new Comparator<PendingStart>() {
+                @Override
+                public int compare(PendingStart a, PendingStart b) {
+                    if (a.mStartTimeNanos != b.mStartTimeNanos) {
+                        return a.mStartTimeNanos < b.mStartTimeNanos ? -1 : 1;
+                    }
+                    return Long.compare(a.mOrder, b.mOrder);
+                }
+            });
+    private final Map<VRTManagedAnimation, PendingStart> mPendingByAnimation = new HashMap<>();
+    private final Map<String, SequenceGroup> mGroups = new HashMap<>();
+    private final Map<VRTManagedAnimation, String> mGroupByAnimation = new HashMap<>();
+    private final List<VRTManagedAnimation> mDue = new ArrayList<>();
+    private long mNextOrder = 0;
+    private long mWakeupTimeNanos = NO_WAKEUP;
+
+    private final AtomicInteger mScheduledCount = new AtomicInteger();
+    private final AtomicInteger mRunningCount = new AtomicInteger();
+    private final AtomicInteger mPausedCount = new AtomicInteger();
+    private final AtomicLong mStartBatches = new AtomicLong();
+    private final AtomicLong mBatchedStarts = new AtomicLong();
+
+    private AnimationScheduler() {
+    }
+
+    /**
+     * Start the given animation once the delay has elapsed, on the first frame at or after
+     * that time.
+     */
+    public void schedule(final VRTManagedAnimation animation, final long delayMillis) {
+        if (!isMainThread()) {
+            mMainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    schedule(animation, delayMillis);
+                }
+            });
+            return;
+        }
+
+        removePending(animation);
+        PendingStart start = new PendingStart(animation,
+                System.nanoTime() + Math.max(0, delayMillis) * 1_000_000L, mNextOrder++);
+        mPending.add(start);
+        mPendingByAnimation.put(animation, start);
+        updateWakeup();
+    }
+
+    /**
+     * Add the given animation to a sequence group. It is scheduled with the given delay once
+     * every member of the group with a lower index has finished.
+     */
+    public void scheduleInSequence(final VRTManagedAnimation animation, final String group,
+                                   final int index, final long delayMillis) {
+        if (!isMainThread()) {
+            mMainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    scheduleInSequence(animation, group, index, delayMillis);
+                }
+            });
+            return;
+        }
+
+        cancel(animation);
+        SequenceGroup sequence = mGroups.get(group);
+        if (sequence == null) {
+            sequence = new SequenceGroup();
+            mGroups.put(group, sequence);
+        }
+        Map<VRTManagedAnimation, Long> members = sequence.mWaiting.get(index);
+        if (members == null) {
+            members = new HashMap<>();
+            sequence.mWaiting.put(index, members);
+        }
+        members.put(animation, delayMillis);
+        mGroupByAnimation.put(animation, group);
+        releaseNext(sequence);
+    }
+
+    /**
+     * Remove the given animation from any pending start and from its sequence group, releasing
+     * the next members of the group if it was holding them back. Invoked whenever an animation
+     * finishes or is terminated.
+     */
+    public void cancel(final VRTManagedAnimation animation) {
+        if (!isMainThread()) {
+            mMainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    cancel(animation);
+                }
+            });
+            return;
+        }
+
+        if (removePending(animation)) {
+            updateWakeup();
+        }
+
+        String group = mGroupByAnimation.remove(animation);
+        if (group == null) {
+            return;
+        }
+        SequenceGroup sequence = mGroups.get(group);
+        sequence.mReleased.remove(animation);
+        Iterator<Map<VRTManagedAnimation, Long>> waiting = sequence.mWaiting.values().iterator();
+        while (waiting.hasNext()) {
+            Map<VRTManagedAnimation, Long> members = waiting.next();
+            if (members.remove(animation) != null && members.isEmpty()) {
+                waiting.remove();
+            }
+        }
+
+        if (sequence.isEmpty()) {
+            mGroups.remove(group);
+        } else {
+            releaseNext(sequence);
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        mWakeupTimeNanos = NO_WAKEUP;
+
+        PendingStart next = mPending.peek();
+        while (next != null && next.mStartTimeNanos <= frameTimeNanos + FRAME_TOLERANCE_NANOS) {
+            mPending.poll();
+            mPendingByAnimation.remove(next.mAnimation);
+            mDue.add(next.mAnimation);
+            next = mPending.peek();
+        }
+
+        if (!mDue.isEmpty()) {
+            mStartBatches.incrementAndGet();
+            mBatchedStarts.addAndGet(mDue.size());
+            for (int i = 0; i < mDue.size(); i++) {
+                mDue.get(i).startScheduledAnimation();
+            }
+            mDue.clear();
+        }
+        updateWakeup();
+    }
+
+    /**
+     * Release the lowest-indexed waiting members of the sequence if no released member with
+     * a lower index is still running.
+     */
+    private void releaseNext(SequenceGroup sequence) {
+        while (!sequence.mWaiting.isEmpty()) {
+            int index = sequence.mWaiting.firstKey();
+            for (int released : sequence.mReleased.values()) {
+                if (released < index) {
+                    return;
+                }
+            }
+
+            Map<VRTManagedAnimation, Long> members = sequence.mWaiting.remove(index);
+            for (Map.Entry<VRTManagedAnimation, Long> member : members.entrySet()) {
+                sequence.mReleased.put(member.getKey(), index);
+                schedule(member.getKey(), member.getValue());
+            }
+        }
+    }
+
+    private boolean removePending(VRTManagedAnimation animation) {
+        PendingStart start = mPendingByAnimation.remove(animation);
+        if (start == null) {
+            return false;
+        }
+        mPending.remove(start);
+        return true;
+    }
+
+    /**
+     * Make sure a frame callback is posted in time for the earliest pending start. Long delays
+     * wait with a delayed frame callback rather than waking up every frame.
+     */
+    private void updateWakeup() {
+        PendingStart next = mPending.peek();
+        if (next == null || next.mStartTimeNanos >= mWakeupTimeNanos) {
+            return;
+        }
+
+        Choreographer choreographer = Choreographer.getInstance();
+        if (mWakeupTimeNanos != NO_WAKEUP) {
+            choreographer.removeFrameCallback(this);
+        }
+        long delayMillis = Math.max(0, (next.mStartTimeNanos - System.nanoTime()) / 1_000_000L);
+        choreographer.postFrameCallbackDelayed(this, delayMillis);
+        mWakeupTimeNanos = next.mStartTimeNanos;
+    }
+
+    private boolean isMainThread() {
+        return Looper.myLooper() == Looper.getMainLooper();
+    }
+
+    void onStateChanged(AnimationState from, AnimationState to) {
+        AtomicInteger fromCount = getCounter(from);
+        if (fromCount != null) {
+            fromCount.decrementAndGet();
+        }
+        AtomicInteger toCount = getCounter(to);
+        if (toCount != null) {
+            toCount.incrementAndGet();
+        }
+    }
+
+    private AtomicInteger getCounter(AnimationState state) {
+        switch (state) {
+            case SCHEDULED:
+                return mScheduledCount;
+            case RUNNING:
+                return mRunningCount;
+            case PAUSED:
+                return mPausedCount;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Number of animations currently running.
+     */
+    public int getActiveCount() {
+        return mRunningCount.get();
+    }
+
+    /**
+     * Number of animations waiting for their delay or for their turn in a sequence.
+     */
+    public int getScheduledCount() {
+        return mScheduledCount.get();
+    }
+
+    public int getPausedCount() {
+        return mPausedCount.get();
+    }
+
+    /**
+     * Number of frames in which at least one scheduled animation was started.
+     */
+    public long getStartBatchCount() {
+        return mStartBatches.get();
+    }
+
+    /**
+     * Number of animations started by the scheduler, across all batches.
+     */
+    public long getBatchedStartCount() {
+        return mBatchedStarts.get();
+    }
+}
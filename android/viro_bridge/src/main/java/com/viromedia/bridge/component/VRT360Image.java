@@ -39,6 +39,7 @@ import com.viromedia.bridge.utility.HdrImageDownloader;
 import com.viromedia.bridge.utility.Helper;
 import com.viromedia.bridge.utility.ImageDownloadListener;
 import com.viromedia.bridge.utility.ImageDownloader;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 
 public class VRT360Image extends VRTNode {
@@ -156,6 +157,7 @@ public class VRT360Image extends VRTNode {
     }
 
     private void imageDownloadDidStart() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_LOAD_START);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_LOAD_START,
@@ -164,6 +166,7 @@ public class VRT360Image extends VRTNode {
     }
 
     private void imageDownloadDidFinish() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_LOAD_END);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_LOAD_END,
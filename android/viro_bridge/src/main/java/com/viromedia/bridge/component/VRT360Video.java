@@ -36,6 +36,7 @@ import com.viro.core.VideoTexture;
 import com.viromedia.bridge.component.node.VRTNode;
 import com.viromedia.bridge.component.node.VRTScene;
 import com.viromedia.bridge.utility.Helper;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 
 import java.lang.ref.WeakReference;
@@ -270,6 +271,7 @@ public class VRT360Video extends VRTNode {
     }
 
     private void reactVideoBufferStartCallback() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_BUFFER_START);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_BUFFER_START,
@@ -277,6 +279,7 @@ public class VRT360Video extends VRTNode {
     }
 
     private void reactVideoBufferEndCallback() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_BUFFER_END);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_BUFFER_END,
@@ -284,6 +287,7 @@ public class VRT360Video extends VRTNode {
     }
 
     private void reactVideoFinishedCallback() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_FINISH);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_FINISH,
@@ -294,6 +298,7 @@ public class VRT360Video extends VRTNode {
         WritableMap event = Arguments.createMap();
         event.putDouble("currentTime", (double) currentTime);
         event.putDouble("totalTime", (double) totalTime);
+        PerfTelemetry.recordEvent(ViroEvents.ON_UPDATE_TIME);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_UPDATE_TIME,
@@ -40,6 +40,7 @@ import com.viro.core.ViroViewScene;
 import com.viromedia.bridge.ReactViroPackage;
 import com.viromedia.bridge.component.node.VRTScene;
 import com.viromedia.bridge.module.MaterialManager;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 import com.viromedia.bridge.module.PerfMonitor;
 import com.viromedia.bridge.utility.ViroLog;
@@ -370,6 +371,7 @@ public class VRT3DSceneNavigator extends FrameLayout {
         }
 
         // Notify javascript listeners (for ReactNativeJs to ViroReactJs cases)
+        PerfTelemetry.recordEvent(ViroEvents.ON_EXIT_VIRO);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_EXIT_VIRO,
@@ -36,6 +36,8 @@ public class VRTAnimatedComponent extends VRTComponent {
 
         private String mAnimationName;
         private AnimationManager mAnimationManager;
+        private String mLoadedName;
+        private long mLoadedVersion = -1;
 
         public AnimatedComponentAnimation(ReactContext context, VRTComponent parent) {
             super(context, parent);
@@ -50,12 +52,25 @@ public class VRTAnimatedComponent extends VRTComponent {
         @Override
         public ExecutableAnimation loadAnimation() {
             if (mAnimationName != null) {
+                mLoadedName = mAnimationName;
+                mLoadedVersion = mAnimationManager.getAnimationVersion(mAnimationName);
                 return mAnimationManager.getAnimation(mAnimationName).copy();
             }
             else {
                 return null;
             }
         }
+
+        @Override
+        protected boolean isLoadedAnimationCurrent() {
+            return mAnimationName != null && mAnimationName.equals(mLoadedName)
+                    && mAnimationManager.getAnimationVersion(mAnimationName) == mLoadedVersion;
+        }
+
+        @Override
+        protected boolean animatesMaterials() {
+            return mAnimationName != null && mAnimationManager.animatesMaterials(mAnimationName);
+        }
     }
 
     private AnimatedComponentAnimation mManagedAnimation = null;
@@ -43,6 +43,7 @@ public abstract class VRTBaseSound extends VRTComponent {
     protected static final String URI = "uri";
 
     protected BaseSound mNativeSound;
+    private String mSoundDataUri;
     protected ReadableMap mSource;
     protected boolean mPaused = false;
     protected float mVolume = 1.0f;
@@ -139,20 +140,25 @@ public abstract class VRTBaseSound extends VRTComponent {
             mNativeSound.dispose();
             mNativeSound = null;
         }
+        releaseSoundData();
 
         mShouldResetSound = false;
 
         // figure out what type of audio I have
         if (mSource.hasKey(NAME)) {
-            SoundData data = getSoundDataForName(mSource.getString(NAME));
-            if (data == null) {
+            String uri = getSoundModule().getPreloadedSoundUri(mSource.getString(NAME));
+            if (uri == null) {
                 onError("Unknown Sound source with name: [" + mSource.getString(NAME) + "]");
                 return;
             }
-            mNativeSound = getNativeSound(data);
+            mNativeSound = getNativeSound(acquireSoundData(uri));
         } else if (mSource.hasKey(URI)) {
             Uri uri = Helper.parseUri(mSource.getString(URI), getContext());
-            mNativeSound = getNativeSound(uri.toString());
+            if (isCacheable(uri)) {
+                mNativeSound = getNativeSound(acquireSoundData(uri.toString()));
+            } else {
+                mNativeSound = getNativeSound(uri.toString());
+            }
         } else {
             throw new IllegalArgumentException("Unknown sound source.");
         }
@@ -160,9 +166,33 @@ public abstract class VRTBaseSound extends VRTComponent {
         setNativeProps();
     }
 
-    private SoundData getSoundDataForName(String name) {
-        SoundModule soundModule = mReactContext.getNativeModule(SoundModule.class);
-        return soundModule.getSoundData(name);
+    private SoundModule getSoundModule() {
+        return mReactContext.getNativeModule(SoundModule.class);
+    }
+
+    /**
+     * Takes a reference on the cached SoundData for the given uri, which is held until the
+     * native sound is disposed so the data can't be evicted while it's playing.
+     */
+    private SoundData acquireSoundData(String uri) {
+        mSoundDataUri = uri;
+        return getSoundModule().getSoundDataCache().acquire(uri, null);
+    }
+
+    private void releaseSoundData() {
+        if (mSoundDataUri != null) {
+            getSoundModule().getSoundDataCache().release(mSoundDataUri);
+            mSoundDataUri = null;
+        }
+    }
+
+    /**
+     * Remote and local files are loaded through the shared SoundData cache; other sources
+     * (e.g. bundled resources) are passed straight to the native sound.
+     */
+    private static boolean isCacheable(Uri uri) {
+        String scheme = uri.getScheme();
+        return "http".equals(scheme) || "https".equals(scheme) || "file".equals(scheme);
     }
 
     @Override
@@ -172,6 +202,7 @@ public abstract class VRTBaseSound extends VRTComponent {
             mNativeSound.dispose();
             mNativeSound = null;
         }
+        releaseSoundData();
     }
 
     @Override
@@ -32,8 +32,14 @@ import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.facebook.react.views.view.ReactViewGroup;
 import com.viro.core.ViroContext;
 import com.viromedia.bridge.component.node.VRTScene;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Base class for any Viro UI Component. Equivalent to the VRTView in iOS.
  */
@@ -60,6 +66,13 @@ public class VRTComponent extends ReactViewGroup {
     private boolean mDropped = false;
     private boolean mDetached = false;
 
+    /*
+     While a tree update batch is open, onTreeUpdate() for components added or removed is
+     deferred and run once per component when the batch ends. Only touched on the UI thread.
+     */
+    private static int sTreeUpdateBatchDepth = 0;
+    private static final Set<VRTComponent> sDeferredTreeUpdates = new LinkedHashSet<>();
+
     public VRTComponent(ReactContext reactContext) {
         this(reactContext.getBaseContext(), null, -1, -1, reactContext);
     }
@@ -125,8 +138,8 @@ public class VRTComponent extends ReactViewGroup {
             component.setScene(mScene);
         }
 
-        component.onTreeUpdate();
-        onTreeUpdate();
+        dispatchTreeUpdate(component);
+        dispatchTreeUpdate(this);
 
         if (shouldAppear()) {
             component.parentDidAppear();
@@ -145,9 +158,43 @@ public class VRTComponent extends ReactViewGroup {
         if (child instanceof VRTComponent) {
             VRTComponent component = (VRTComponent) child;
             component.parentDidDisappear();
+            dispatchTreeUpdate(component);
+        }
+        dispatchTreeUpdate(this);
+    }
+
+    /**
+     * Begins a tree update batch. Until the matching endTreeUpdateBatch(), adding or removing
+     * children defers onTreeUpdate(), so a component touched many times in one batch (e.g. a
+     * parent receiving hundreds of children) is updated once. Batches may nest; must be called
+     * on the UI thread.
+     */
+    public static void beginTreeUpdateBatch() {
+        sTreeUpdateBatchDepth++;
+    }
+
+    /**
+     * Ends a tree update batch, running the deferred onTreeUpdate() calls once the outermost
+     * batch ends.
+     */
+    public static void endTreeUpdateBatch() {
+        if (sTreeUpdateBatchDepth == 0 || --sTreeUpdateBatchDepth > 0) {
+            return;
+        }
+
+        List<VRTComponent> deferred = new ArrayList<>(sDeferredTreeUpdates);
+        sDeferredTreeUpdates.clear();
+        for (VRTComponent component : deferred) {
+            component.onTreeUpdate();
+        }
+    }
+
+    private static void dispatchTreeUpdate(VRTComponent component) {
+        if (sTreeUpdateBatchDepth > 0) {
+            sDeferredTreeUpdates.add(component);
+        } else {
             component.onTreeUpdate();
         }
-        onTreeUpdate();
     }
 
     /**
@@ -227,6 +274,23 @@ public class VRTComponent extends ReactViewGroup {
         return mTornDown;
     }
 
+    /**
+     * Invoked by the view manager at the end of every prop transaction. State every component
+     * relies on is applied in onBeforePropsSet() first, so it can't be skipped by an
+     * onPropsSet() override that doesn't call super.
+     */
+    public final void dispatchPropsSet() {
+        onBeforePropsSet();
+        onPropsSet();
+    }
+
+    /**
+     * Callback that will be triggered after all ReactProp are updated, before onPropsSet().
+     */
+    protected void onBeforePropsSet() {
+        // No-op
+    }
+
     /**
      * Callback that will be triggered after all ReactProp are updated.
      */
@@ -355,6 +419,7 @@ public class VRTComponent extends ReactViewGroup {
         WritableMap event = Arguments.createMap();
         event.putString("error", error);
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_ERROR);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_ERROR,
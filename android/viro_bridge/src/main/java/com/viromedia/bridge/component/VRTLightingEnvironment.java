@@ -30,6 +30,7 @@ import com.viro.core.internal.Image;
 import com.viromedia.bridge.component.node.VRTNode;
 import com.viromedia.bridge.component.node.VRTScene;
 import com.viromedia.bridge.utility.HdrImageDownloader;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 
 public class VRTLightingEnvironment extends VRTNode {
@@ -102,6 +103,7 @@ public class VRTLightingEnvironment extends VRTNode {
     }
 
     private void imageDownloadDidStart() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_LOAD_START);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_LOAD_START,
@@ -110,6 +112,7 @@ public class VRTLightingEnvironment extends VRTNode {
     }
 
     private void imageDownloadDidFinish() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_LOAD_END);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_LOAD_END,
@@ -21,14 +21,11 @@
 
 package com.viromedia.bridge.component;
 
-import android.os.Handler;
-import android.os.Looper;
-
-
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReadableMap;
 import com.viromedia.bridge.component.node.VRTNode;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 import com.viromedia.bridge.utility.ViroLog;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
@@ -43,7 +40,7 @@ import java.lang.ref.WeakReference;
 public abstract class VRTManagedAnimation {
     private static final String TAG = ViroLog.getTag(VRTManagedAnimation.class);
 
-    private enum AnimationState {
+    enum AnimationState {
         SCHEDULED, RUNNING, PAUSED, TERMINATED
     }
 
@@ -52,11 +49,21 @@ public abstract class VRTManagedAnimation {
     private ExecutableAnimation mPreviousAnimationInterrupted = null; // used to store previous played animation so it can be terminated before destroyed.
     private float mDelayInMilliseconds = 0; // milliseconds
     private long mOverrideDurationInMilliseconds = -1; // overrides the animation's set duration
+    private long mLoadedOverrideDurationInMilliseconds = -1; // the override set on mExecutableAnimation
     private boolean mLoop = false;
     private boolean mRun = false;
     private boolean mInterruptible = false;
     private AnimationState mState = AnimationState.TERMINATED;
 
+    /**
+     * Staggering and sequencing across nodes. Staggered animations add groupIndex * stagger to
+     * their delay; sequential animations wait for lower-indexed members of their group to finish.
+     */
+    private String mGroup = null;
+    private int mGroupIndex = 0;
+    private float mStaggerInMilliseconds = 0;
+    private boolean mSequential = false;
+
     /**
      * The node on which the animation is run.
      */
@@ -67,27 +74,13 @@ public abstract class VRTManagedAnimation {
      */
     private VRTComponent mParentComponent;
 
-    /**
-     * This is a handler to the main thread where we queue up our delayed runner
-     */
-    private Handler mMainLoopHandler = new Handler(Looper.getMainLooper());
-
-    /**
-     * This runnable is what we use to start animations w/ a delay.
-     */
-    private Runnable mDelayedRunner = new Runnable() {
-        @Override
-        public void run() {
-            startAnimation();
-        }
-    };
-
     public VRTManagedAnimation(ReactContext context, VRTComponent parent) {
         mReactContext = context;
         mParentComponent = parent;
     }
 
     public void onTearDown() {
+        setState(AnimationState.TERMINATED);
         if (mExecutableAnimation != null) {
             mExecutableAnimation.terminate(true);
             mExecutableAnimation.dispose();
@@ -110,17 +103,41 @@ public abstract class VRTManagedAnimation {
     public abstract ExecutableAnimation loadAnimation();
 
     /**
-     * Load the animation fresh from its sources. This is only invoked
-     * when an animation is scheduled (just before starting). If null is
-     * returned by loadAnimation, then we keep the existing animation.
+     * Return true if the animation returned by the last loadAnimation call is
+     * still current, in which case it is run again instead of loading a new
+     * copy. This lets looping and restarted animations reuse their instance.
+     * Subclasses should return false whenever the animation's source changed.
+     */
+    protected boolean isLoadedAnimationCurrent() {
+        return false;
+    }
+
+    /**
+     * Return true if the loaded animation changes the materials of the node
+     * it runs on, which then needs its own copies of its materials.
+     */
+    protected boolean animatesMaterials() {
+        return false;
+    }
+
+    /**
+     * Load the animation fresh from its sources, unless the animation we
+     * already hold is still current. This is only invoked when an animation
+     * is scheduled (just before starting). A change to the duration override
+     * also reloads, as the animation keeps any duration previously set on it.
      */
     private void handleLoadAnimation() {
+        if (mExecutableAnimation != null && isLoadedAnimationCurrent()
+                && mLoadedOverrideDurationInMilliseconds == mOverrideDurationInMilliseconds) {
+            return;
+        }
         ExecutableAnimation animation = loadAnimation();
         if (mExecutableAnimation != null) {
             mExecutableAnimation.dispose();
         }
 
         mExecutableAnimation = animation;
+        mLoadedOverrideDurationInMilliseconds = mOverrideDurationInMilliseconds;
     }
 
     public void parseFromMap(ReadableMap map) {
@@ -153,6 +170,11 @@ public abstract class VRTManagedAnimation {
         } else {
             setInterruptible(false);
         }
+
+        mGroup = map != null && map.hasKey("group") ? map.getString("group") : null;
+        mGroupIndex = map != null && map.hasKey("groupIndex") ? map.getInt("groupIndex") : 0;
+        mStaggerInMilliseconds = map != null && map.hasKey("stagger") ? (float) map.getDouble("stagger") : 0;
+        mSequential = map != null && map.hasKey("sequential") && map.getBoolean("sequential");
     }
 
     public void setInterruptible(boolean interruptible) { mInterruptible = interruptible;}
@@ -205,22 +227,28 @@ public abstract class VRTManagedAnimation {
 
         if (mState == AnimationState.RUNNING && mInterruptible == true) {
             mExecutableAnimation.terminate(!mInterruptible);
-            mState = AnimationState.TERMINATED;
+            setState(AnimationState.TERMINATED);
             mPreviousAnimationInterrupted = mExecutableAnimation;
             mExecutableAnimation = null;
         }
 
         if (mState == AnimationState.PAUSED) {
             mExecutableAnimation.resume();
-            mState = AnimationState.RUNNING;
+            setState(AnimationState.RUNNING);
         }
         else if (mState == AnimationState.TERMINATED) {
-            mState = AnimationState.SCHEDULED;
-            // invoke startAnimation() right away if there is no delay provided.
-            if (mDelayInMilliseconds <= 0) {
-                startAnimation();
+            setState(AnimationState.SCHEDULED);
+            float delay = Math.max(mDelayInMilliseconds, 0);
+            if (mSequential && mGroup != null) {
+                AnimationScheduler.getInstance().scheduleInSequence(this, mGroup, mGroupIndex, (long) delay);
             } else {
-                mMainLoopHandler.postDelayed(mDelayedRunner, (long) mDelayInMilliseconds);
+                delay += mGroupIndex * mStaggerInMilliseconds;
+                // invoke startAnimation() right away if there is no delay provided.
+                if (delay <= 0) {
+                    startAnimation();
+                } else {
+                    AnimationScheduler.getInstance().schedule(this, (long) delay);
+                }
             }
         }
         else {
@@ -237,11 +265,10 @@ public abstract class VRTManagedAnimation {
         }
         if (mState == AnimationState.RUNNING) {
             mExecutableAnimation.pause();
-            mState = AnimationState.PAUSED;
+            setState(AnimationState.PAUSED);
         }
         else if (mState == AnimationState.SCHEDULED) {
-            mState = AnimationState.TERMINATED;
-            mMainLoopHandler.removeCallbacks(mDelayedRunner);
+            setState(AnimationState.TERMINATED);
         }
     }
 
@@ -250,15 +277,36 @@ public abstract class VRTManagedAnimation {
      * terminated.
      */
     private void terminateAnimation() {
-        if (mState == AnimationState.SCHEDULED) {
-            mMainLoopHandler.removeCallbacks(mDelayedRunner);
-        }
-        else if (mState == AnimationState.RUNNING || mState == AnimationState.PAUSED) {
+        if (mState == AnimationState.RUNNING || mState == AnimationState.PAUSED) {
             if (mExecutableAnimation != null) {
                 mExecutableAnimation.terminate(true);
             }
         }
-        mState = AnimationState.TERMINATED;
+        setState(AnimationState.TERMINATED);
+    }
+
+    /**
+     * Update the animation state, keeping the scheduler's counts current. Terminating also
+     * removes the animation from the scheduler, cancelling any pending start and letting later
+     * members of its sequence group run.
+     */
+    private void setState(AnimationState state) {
+        if (state == mState) {
+            return;
+        }
+        AnimationScheduler scheduler = AnimationScheduler.getInstance();
+        scheduler.onStateChanged(mState, state);
+        mState = state;
+        if (state == AnimationState.TERMINATED) {
+            scheduler.cancel(this);
+        }
+    }
+
+    /**
+     * Invoked by the AnimationScheduler when a delayed start is due.
+     */
+    void startScheduledAnimation() {
+        startAnimation();
     }
 
     /**
@@ -267,27 +315,31 @@ public abstract class VRTManagedAnimation {
     private void startAnimation() {
         if (mState != AnimationState.SCHEDULED) {
             ViroLog.info(TAG, "Aborted starting new animation, was no longer scheduled");
-            mState = AnimationState.TERMINATED;
+            setState(AnimationState.TERMINATED);
             return;
         }
         if (mNode == null) {
             ViroLog.info(TAG, "Aborted starting new animation, no target node specified");
-            mState = AnimationState.TERMINATED;
+            setState(AnimationState.TERMINATED);
             return;
         }
         if (mNode.isTornDown()) {
             ViroLog.info(TAG, "Aborted starting new animation, node is torn down");
-            mState = AnimationState.TERMINATED;
+            setState(AnimationState.TERMINATED);
             return;
         }
 
         handleLoadAnimation();
         if (mExecutableAnimation == null) {
             ViroLog.info(TAG, "Aborted starting new animation, no animation is loaded");
-            mState = AnimationState.TERMINATED;
+            setState(AnimationState.TERMINATED);
             return;
         }
         onStartAnimation();
+        mNode.onNativeTransformDiverged();
+        if (animatesMaterials()) {
+            mNode.requireUniqueMaterials();
+        }
 
         final WeakReference<VRTManagedAnimation> weakSelf = new WeakReference<>(this);
         if (mOverrideDurationInMilliseconds > -1) {
@@ -302,13 +354,14 @@ public abstract class VRTManagedAnimation {
                 }
             }
         });
-        mState = AnimationState.RUNNING;
+        setState(AnimationState.RUNNING);
     }
 
     /**
      * This method should be called when an animation starts and notifies the JS bridge
      */
     private void onStartAnimation() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_ANIMATION_START);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 mParentComponent.getId(),
                 ViroEvents.ON_ANIMATION_START,
@@ -320,6 +373,7 @@ public abstract class VRTManagedAnimation {
      * bridge. It also handles looping logic.
      */
     private void onFinishAnimation(ExecutableAnimation animation) {
+        PerfTelemetry.recordEvent(ViroEvents.ON_ANIMATION_FINISH);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 mParentComponent.getId(),
                 ViroEvents.ON_ANIMATION_FINISH,
@@ -327,7 +381,7 @@ public abstract class VRTManagedAnimation {
 
         // If the animation changed, we won't terminate or loop
         if (mExecutableAnimation == animation) {
-            mState = AnimationState.TERMINATED;
+            setState(AnimationState.TERMINATED);
             if (mLoop && mRun) {
                 playAnimation();
             }
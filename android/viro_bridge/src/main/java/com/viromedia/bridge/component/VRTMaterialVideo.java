@@ -28,6 +28,7 @@ import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.viro.core.Material;
 import com.viro.core.VideoTexture;
 import com.viromedia.bridge.module.MaterialManager;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 
 import java.lang.ref.WeakReference;
@@ -236,6 +237,7 @@ public class VRTMaterialVideo extends VRTComponent implements MaterialManager.Ma
     }
 
     private void playerBufferStart() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_BUFFER_START);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_BUFFER_START,
@@ -243,6 +245,7 @@ public class VRTMaterialVideo extends VRTComponent implements MaterialManager.Ma
     }
 
     private void playerBufferEnd() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_BUFFER_END);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_BUFFER_END,
@@ -250,6 +253,7 @@ public class VRTMaterialVideo extends VRTComponent implements MaterialManager.Ma
     }
 
     private void playerDidFinishPlaying() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_FINISH);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_FINISH,
@@ -261,6 +265,7 @@ public class VRTMaterialVideo extends VRTComponent implements MaterialManager.Ma
         event.putDouble("currentTime", (double) currentTime);
         event.putDouble("totalTime", (double) totalTime);
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_UPDATE_TIME);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_UPDATE_TIME,
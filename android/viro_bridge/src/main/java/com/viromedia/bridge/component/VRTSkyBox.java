@@ -21,50 +21,43 @@
 
 package com.viromedia.bridge.component;
 
-import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReadableMap;
-import com.facebook.react.bridge.ReadableMapKeySetIterator;
-import com.facebook.react.bridge.ReadableType;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.viro.core.Node;
 import com.viro.core.PortalScene;
-import com.viro.core.internal.Image;
 import com.viro.core.Texture;
 import com.viromedia.bridge.component.node.VRTNode;
 import com.viromedia.bridge.component.node.VRTScene;
+import com.viromedia.bridge.utility.CubeMapLoader;
 import com.viromedia.bridge.utility.Helper;
-import com.viromedia.bridge.utility.ImageDownloadListener;
-import com.viromedia.bridge.utility.ImageDownloader;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroLog;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.concurrent.CountDownLatch;
-
 public class VRTSkyBox extends VRTNode {
     private static final long COLOR_NOT_SET = 0;
 
     private static final String TAG = ViroLog.getTag(VRTSkyBox.class);
     private final ReactContext mContext;
+    private final Handler mMainHandler;
     private ReadableMap mSourceMap;
-    private Map<String, Image> mImageMap = new HashMap<>();
-    private Texture mLatestTexture;
-    private ImageDownloader mImageDownloader;
+    private CubeMapLoader.CubeMap mLatestCubeMap;
     private long mColor;
     private Texture.Format mFormat = Texture.Format.RGBA8;
     private boolean mSkyboxNeedsUpdate = false;
     private boolean mUseTextureForSkybox = true;
-    private HashSet<SkyboxImageDownloadListener> mDownloadListeners = new HashSet<>();
+    private SkyboxLoadListener mLoadListener;
+    private CubeMapLoader.Request mLoadRequest;
 
     public VRTSkyBox(ReactContext context) {
         super(context);
         mContext = context;
-        mImageDownloader = new ImageDownloader(getContext());
+        mMainHandler = new Handler(Looper.getMainLooper());
         mColor = COLOR_NOT_SET;
     }
 
@@ -86,18 +79,7 @@ public class VRTSkyBox extends VRTNode {
 
         if (mSkyboxNeedsUpdate) {
             if (mUseTextureForSkybox && mSourceMap != null) {
-                imageDownloadDidStart();
-                ReadableMapKeySetIterator iterator = mSourceMap.keySetIterator();
-                // We'll use this latch to find out when all the 6 images for the skybox have downloaded
-                CountDownLatch latch = new CountDownLatch(6);
-
-                while (iterator.hasNextKey()) {
-                    String key = iterator.nextKey();
-                    ReadableType type = mSourceMap.getType(key);
-                    if (type.name().equals(ReadableType.Map.name())) {
-                        getImageForCubeFace(key, mSourceMap.getMap(key), latch);
-                    }
-                }
+                loadCubeMap();
             } else if (mColor != COLOR_NOT_SET) {
                 setBackgroundCubeImageColor(mColor);
             }
@@ -106,43 +88,47 @@ public class VRTSkyBox extends VRTNode {
         }
     }
 
+    private void loadCubeMap() {
+        cancelCubeMapLoad();
+        imageDownloadDidStart();
+
+        mLoadListener = new SkyboxLoadListener();
+        try {
+            mLoadRequest = new CubeMapLoader(getContext(), mFormat).loadAsync(mSourceMap, mLoadListener);
+        } catch (IllegalArgumentException e) {
+            ViroLog.error(TAG, e.getMessage());
+            mLoadListener = null;
+            imageDownloadDidFinish(null);
+        }
+    }
 
-    private void getImageForCubeFace(final String cubeFaceName, ReadableMap map, final CountDownLatch latch) {
-        if (map != null) {
-            SkyboxImageDownloadListener listener = new SkyboxImageDownloadListener(cubeFaceName, latch);
-            mDownloadListeners.add(listener);
-            mImageDownloader.getImageAsync(map, listener);
+    private void cancelCubeMapLoad() {
+        if (mLoadListener != null) {
+            mLoadListener.invalidate();
+            mLoadListener = null;
+        }
+        if (mLoadRequest != null) {
+            mLoadRequest.cancel();
+            mLoadRequest = null;
         }
     }
 
     @Override
     public void onTearDown() {
         super.onTearDown();
+        cancelCubeMapLoad();
 
-        for (SkyboxImageDownloadListener listener : mDownloadListeners) {
-            listener.invalidate();
-        }
-
-        if (!mImageMap.isEmpty() && mSourceMap != null) {
-            ReadableMapKeySetIterator iterator = mSourceMap.keySetIterator();
-            while (iterator.hasNextKey()) {
-                String key = iterator.nextKey();
-                mImageMap.get(key).destroy();
-                mImageMap.remove(key);
-            }
-        }
-
-        if (mLatestTexture != null) {
-            mLatestTexture.dispose();
-            mLatestTexture = null;
+        if (mLatestCubeMap != null) {
+            mLatestCubeMap.dispose();
+            mLatestCubeMap = null;
         }
     }
 
     @Override
     public void setScene(VRTScene scene) {
         super.setScene(scene);
-        if (mLatestTexture != null) {
-            setBackgroundCubeImageTexture(mLatestTexture);
+        if (mLatestCubeMap != null) {
+            setBackgroundCubeImageTexture(mLatestCubeMap.getTexture());
         } else if (mColor != COLOR_NOT_SET) {
             setBackgroundCubeImageColor(mColor);
         }
@@ -150,11 +136,11 @@ public class VRTSkyBox extends VRTNode {
 
     public void setFormat(String format) {
         mFormat = Texture.Format.forString(format);
-        mImageDownloader.setTextureFormat(mFormat);
         mSkyboxNeedsUpdate = true;
     }
 
     private void imageDownloadDidStart() {
+        PerfTelemetry.recordEvent(VRTSkyBoxManager.SKYBOX_LOAD_START);
         mContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 VRTSkyBoxManager.SKYBOX_LOAD_START,
@@ -190,23 +176,27 @@ public class VRTSkyBox extends VRTNode {
         }
     }
 
-    private void imageDownloadDidFinish(boolean success) {
-        if (mLatestTexture != null) {
-            mLatestTexture.dispose();
-        }
-
-        if (success){
-            mLatestTexture = new Texture(mImageMap.get("px"), mImageMap.get("nx"),
-                    mImageMap.get("py"), mImageMap.get("ny"),
-                    mImageMap.get("pz"), mImageMap.get("nz"));
+    /**
+     * Invoked on the UI thread when a load ends; cubeMap is null if the load failed.
+     */
+    private void imageDownloadDidFinish(CubeMapLoader.CubeMap cubeMap) {
+        if (cubeMap != null) {
+            if (mLatestCubeMap != null) {
+                mLatestCubeMap.dispose();
+            }
+            mLatestCubeMap = cubeMap;
 
             if (mUseTextureForSkybox) {
-                setBackgroundCubeImageTexture(mLatestTexture);
+                setBackgroundCubeImageTexture(mLatestCubeMap.getTexture());
             }
         }
 
         WritableMap event = Arguments.createMap();
-        event.putBoolean("success", success);
+        event.putBoolean("success", cubeMap != null);
+        if (cubeMap != null) {
+            event.putMap("faceLoadTimes", cubeMap.getFaceLoadTimes());
+        }
+        PerfTelemetry.recordEvent(VRTSkyBoxManager.SKYBOX_LOAD_END);
         mContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 VRTSkyBoxManager.SKYBOX_LOAD_END,
@@ -214,19 +204,11 @@ public class VRTSkyBox extends VRTNode {
         );
     }
 
-    private class SkyboxImageDownloadListener implements ImageDownloadListener {
-        private boolean mIsValid = true;
-        private CountDownLatch mLatch;
-        private final String mCubeFaceName;
-
-        public SkyboxImageDownloadListener(String cubeFaceName, CountDownLatch latch) {
-            mCubeFaceName = cubeFaceName;
-            mLatch = latch;
-        }
+    private class SkyboxLoadListener implements CubeMapLoader.Listener {
+        private volatile boolean mIsValid = true;
 
         public void invalidate() {
             mIsValid = false;
-            mLatch = null;
         }
 
         @Override
@@ -235,40 +217,35 @@ public class VRTSkyBox extends VRTNode {
         }
 
         @Override
-        public void completed(Bitmap result) {
-            if (!mIsValid) {
-                return;
-            }
-
-            Image cubeFaceImage = mImageMap.get(mCubeFaceName);
-            if (cubeFaceImage != null) {
-                cubeFaceImage.destroy();
-            }
-
-            cubeFaceImage = new Image(result, mFormat);
-            mImageMap.put(mCubeFaceName, cubeFaceImage);
-            mLatch.countDown();
-
-            if (mLatch.getCount() == 0) {
-                // All 6 skybox images finished downloading.
-                imageDownloadDidFinish(true);
-
-                if(result != null) {
-                    final int width = result.getWidth();
-                    final int height = result.getHeight();
-
-                    if(width != height) {
-                        ViroLog.error(TAG, "Width and height for skybox textures must be square, current image dimensions are (" + width + "," + height + ")");
+        public void onLoaded(final CubeMapLoader.CubeMap cubeMap) {
+            mMainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    if (!mIsValid || isTornDown()) {
+                        cubeMap.dispose();
+                        return;
                     }
+                    mLoadRequest = null;
+                    mLoadListener = null;
+                    imageDownloadDidFinish(cubeMap);
                 }
-            }
-
-            mDownloadListeners.remove(this);
+            });
         }
 
         @Override
-        public void failed(String error) {
-            imageDownloadDidFinish(false);
+        public void onFailed(final String error) {
+            mMainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    if (!mIsValid || isTornDown()) {
+                        return;
+                    }
+                    ViroLog.error(TAG, error);
+                    mLoadRequest = null;
+                    mLoadListener = null;
+                    imageDownloadDidFinish(null);
+                }
+            });
         }
     }
 }
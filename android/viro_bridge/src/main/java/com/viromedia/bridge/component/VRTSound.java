@@ -29,6 +29,7 @@ import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.viro.core.internal.BaseSound;
 import com.viro.core.SoundData;
 import com.viro.core.Sound;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 
 public class VRTSound extends VRTBaseSound implements Sound.PlaybackListener {
@@ -61,6 +62,7 @@ public class VRTSound extends VRTBaseSound implements Sound.PlaybackListener {
 
     @Override
     public void onSoundFinish(Sound sound) {
+        PerfTelemetry.recordEvent(ViroEvents.ON_FINISH);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(getId(),
                 ViroEvents.ON_FINISH,
                 null);
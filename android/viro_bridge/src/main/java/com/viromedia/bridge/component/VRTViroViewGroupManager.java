@@ -29,6 +29,8 @@ import com.facebook.react.common.MapBuilder;
 import com.facebook.react.uimanager.LayoutShadowNode;
 import com.facebook.react.uimanager.ViewGroupManager;
 import com.facebook.react.uimanager.annotations.ReactProp;
+import com.viromedia.bridge.utility.PerfTelemetry;
+import com.viromedia.bridge.utility.ViroLog;
 
 import java.util.Map;
 
@@ -89,8 +91,16 @@ public abstract class VRTViroViewGroupManager<T extends ViewGroup>
     @Override
     protected void onAfterUpdateTransaction(T view) {
         super.onAfterUpdateTransaction(view);
+        PerfTelemetry.recordPropUpdate();
         if (view instanceof VRTComponent) {
-            ((VRTComponent) view).onPropsSet();
+            // Traced here so the span covers every component's onPropsSet, including
+            // overrides that do their work before or after calling super
+            long span = ViroLog.beginSpan("VRTComponent.onPropsSet");
+            try {
+                ((VRTComponent) view).dispatchPropsSet();
+            } finally {
+                ViroLog.endSpan("VRTComponent.onPropsSet", span);
+            }
         }
     }
 
@@ -0,0 +1,238 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.component.node;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.viro.core.PhysicsShape;
+import com.viro.core.PhysicsShapeAutoCompound;
+import com.viro.core.PhysicsShapeBox;
+import com.viro.core.PhysicsShapeSphere;
+import com.viro.core.PhysicsWorld;
+import com.viro.core.Vector;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs a batch of ray and shape collision queries against a scene's physics world and
+ * collects, for each query, whether it hit and the nearest body hit.
+ *
+ * The physics world only reports a boolean per query, but it invokes the CollisionListener
+ * of every body a query hits with the query's tag. Each query in a batch is therefore issued
+ * with a unique, reserved tag, and {@link VRTNode}'s collision delegate routes collisions
+ * carrying such a tag here (see {@link #onCollided}) instead of emitting onCollision events.
+ * While any query is outstanding, every physics body carries its collision delegate; once the
+ * last one completes, the delegates are removed again from nodes that can't collide.
+ *
+ * The nearest hit relies on the physics world running each query to completion before
+ * reporting it: the collision listeners of all the bodies a query hits are invoked before
+ * its HitTestListener, on the same thread. The query's tag is unregistered when its
+ * HitTestListener fires, so a collision reported after that is ignored rather than being
+ * written into results that have already been delivered.
+ *
+ * Queries are packed as {@link #QUERY_STRIDE} floats each:
+ * [fromX, fromY, fromZ, toX, toY, toZ, shape, param0, param1, param2], where shape is one of
+ * the SHAPE_ constants and params are the sphere radius or box dimensions.
+ */
+public class PhysicsQueryBatch {
+    public static final int QUERY_STRIDE = 10;
+    public static final int HIT_STRIDE = 2;
+    public static final int POINT_STRIDE = 4;
+
+    public static final int SHAPE_RAY = 0;
+    public static final int SHAPE_SPHERE = 1;
+    public static final int SHAPE_BOX = 2;
+    public static final int SHAPE_COMPOUND = 3;
+
+    private static final String QUERY_TAG_PREFIX = "__viro_batch_query_";
+    private static final AtomicLong sNextQueryId = new AtomicLong();
+    private static final ConcurrentHashMap<String, Query> sPendingQueries = new ConcurrentHashMap<>();
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+    private static final Runnable sUpdateCollisionListeners = new Runnable() {
+        @Override
+        public void run() {
+            VRTNode.updateCollisionListeners();
+        }
+    };
+
+    public interface Listener {
+        /**
+         * Invoked once every query in the batch has completed.
+         *
+         * @param hits   {@link #HIT_STRIDE} ints per query: [hit (0 or 1), tag of the nearest
+         *               node hit, or -1 if unknown]
+         * @param points {@link #POINT_STRIDE} floats per query: [x, y, z, distance] of the nearest
+         *               hit, or a distance of -1 if there is none
+         */
+        void onComplete(int[] hits, float[] points);
+    }
+
+    private final int[] mHits;
+    private final float[] mPoints;
+    private final Listener mListener;
+    private int mRemaining;
+
+    private PhysicsQueryBatch(int count, Listener listener) {
+        mHits = new int[count * HIT_STRIDE];
+        mPoints = new float[count * POINT_STRIDE];
+        mListener = listener;
+        mRemaining = count;
+        for (int i = 0; i < count; i++) {
+            mHits[i * HIT_STRIDE + 1] = -1;
+            mPoints[i * POINT_STRIDE + 3] = -1;
+        }
+    }
+
+    /**
+     * Validates the packed queries, throwing IllegalArgumentException for malformed ones, then
+     * issues them all against the given physics world. Must be called on the UI thread.
+     */
+    public static void run(PhysicsWorld world, float[] queries, boolean closest, Listener listener) {
+        if (queries.length % QUERY_STRIDE != 0) {
+            throw new IllegalArgumentException("Packed collision queries must have "
+                    + QUERY_STRIDE + " floats per query, got " + queries.length);
+        }
+
+        int count = queries.length / QUERY_STRIDE;
+        PhysicsShape[] shapes = new PhysicsShape[count];
+        for (int i = 0; i < count; i++) {
+            shapes[i] = createShape(queries, i * QUERY_STRIDE);
+        }
+        if (count == 0) {
+            listener.onComplete(new int[0], new float[0]);
+            return;
+        }
+
+        PhysicsQueryBatch batch = new PhysicsQueryBatch(count, listener);
+        Query[] batchQueries = new Query[count];
+        for (int i = 0; i < count; i++) {
+            int offset = i * QUERY_STRIDE;
+            Vector from = new Vector(queries[offset], queries[offset + 1], queries[offset + 2]);
+            batchQueries[i] = new Query(batch, i, from);
+            sPendingQueries.put(batchQueries[i].mTag, batchQueries[i]);
+        }
+        // Make sure every body can report the hits of the queries before issuing them
+        VRTNode.updateCollisionListeners();
+
+        for (int i = 0; i < count; i++) {
+            int offset = i * QUERY_STRIDE;
+            Vector to = new Vector(queries[offset + 3], queries[offset + 4], queries[offset + 5]);
+            final Query query = batchQueries[i];
+            Vector from = query.mFrom;
+
+            PhysicsWorld.HitTestListener hitListener = new PhysicsWorld.HitTestListener() {
+                @Override
+                public void onComplete(boolean hasHit) {
+                    // All of this query's collisions have been reported by now (see above)
+                    if (sPendingQueries.remove(query.mTag) == null) {
+                        return;
+                    }
+                    if (sPendingQueries.isEmpty()) {
+                        sMainHandler.post(sUpdateCollisionListeners);
+                    }
+                    query.mBatch.onQueryComplete(query.mIndex, hasHit);
+                }
+            };
+            if (shapes[i] == null) {
+                world.findCollisionsWithRayAsync(from, to, closest, query.mTag, hitListener);
+            } else {
+                world.findCollisionsWithShapeAsync(from, to, shapes[i], query.mTag, hitListener);
+            }
+        }
+    }
+
+    static boolean hasPendingQueries() {
+        return !sPendingQueries.isEmpty();
+    }
+
+    /**
+     * Records a collision reported to the node with the given view tag. Returns true if the
+     * collision belongs to a batched query, in which case it must not be dispatched as an
+     * onCollision event.
+     */
+    static boolean onCollided(int viewTag, String collidedTag, Vector collidedPoint) {
+        if (collidedTag == null || !collidedTag.startsWith(QUERY_TAG_PREFIX)) {
+            return false;
+        }
+        Query query = sPendingQueries.get(collidedTag);
+        if (query != null) {
+            query.mBatch.onQueryHit(query.mIndex, viewTag, query.mFrom, collidedPoint);
+        }
+        return true;
+    }
+
+    private synchronized void onQueryHit(int index, int viewTag, Vector from, Vector point) {
+        float distance = from.distance(point);
+        int p = index * POINT_STRIDE;
+        if (mPoints[p + 3] >= 0 && mPoints[p + 3] <= distance) {
+            return;
+        }
+        mHits[index * HIT_STRIDE + 1] = viewTag;
+        mPoints[p] = point.x;
+        mPoints[p + 1] = point.y;
+        mPoints[p + 2] = point.z;
+        mPoints[p + 3] = distance;
+    }
+
+    private void onQueryComplete(int index, boolean hasHit) {
+        synchronized (this) {
+            mHits[index * HIT_STRIDE] = hasHit ? 1 : 0;
+            mRemaining--;
+            if (mRemaining > 0) {
+                return;
+            }
+        }
+        mListener.onComplete(mHits, mPoints);
+    }
+
+    private static PhysicsShape createShape(float[] queries, int offset) {
+        int shape = (int) queries[offset + 6];
+        switch (shape) {
+            case SHAPE_RAY:
+                return null;
+            case SHAPE_SPHERE:
+                return new PhysicsShapeSphere(queries[offset + 7]);
+            case SHAPE_BOX:
+                return new PhysicsShapeBox(queries[offset + 7], queries[offset + 8], queries[offset + 9]);
+            case SHAPE_COMPOUND:
+                return new PhysicsShapeAutoCompound();
+            default:
+                throw new IllegalArgumentException("Invalid collision query shape [" + shape + "]");
+        }
+    }
+
+    private static class Query {
+        final PhysicsQueryBatch mBatch;
+        final int mIndex;
+        final Vector mFrom;
+        final String mTag;
+
+        Query(PhysicsQueryBatch batch, int index, Vector from) {
+            mBatch = batch;
+            mIndex = index;
+            mFrom = from;
+            mTag = QUERY_TAG_PREFIX + sNextQueryId.getAndIncrement();
+        }
+    }
+}
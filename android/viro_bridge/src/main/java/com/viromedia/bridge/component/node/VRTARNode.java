@@ -28,12 +28,14 @@ import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.viro.core.ARAnchor;
 import com.viro.core.internal.ARDeclarativeNode;
 import com.viro.core.ARNode;
-import com.viromedia.bridge.utility.ARUtils;
+import com.viromedia.bridge.utility.ARPlaneGeometryEncoder;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 
 public class VRTARNode extends VRTNode implements ARDeclarativeNode.Delegate {
 
     protected boolean mIsAnchored = false;
+    private ARPlaneGeometryEncoder mPlaneGeometryEncoder = new ARPlaneGeometryEncoder();
 
     public VRTARNode(ReactContext context) {
         super(context);
@@ -48,14 +50,23 @@ public class VRTARNode extends VRTNode implements ARDeclarativeNode.Delegate {
         ((ARDeclarativeNode) getNodeJni()).setPauseUpdates(pauseUpdates);
     }
 
+    /**
+     * Send the next anchor update in full, used when JS can't apply a plane geometry delta.
+     */
+    public void requestAnchorResync() {
+        mPlaneGeometryEncoder.requestResync(null);
+    }
+
     // -- ARNodeDelegate implementation --
 
     @Override
     public void onAnchorFound(ARAnchor arAnchor) {
         mIsAnchored = true;
         handleAppearanceChange();
+        mPlaneGeometryEncoder.clear();
         WritableMap returnMap = Arguments.createMap();
-        returnMap.putMap("anchorFoundMap", ARUtils.mapFromARAnchor(arAnchor));
+        returnMap.putMap("anchorFoundMap", mPlaneGeometryEncoder.mapFromARAnchor(arAnchor));
+        PerfTelemetry.recordEvent(ViroEvents.ON_ANCHOR_FOUND);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_ANCHOR_FOUND,
@@ -65,7 +76,8 @@ public class VRTARNode extends VRTNode implements ARDeclarativeNode.Delegate {
     @Override
     public void onAnchorUpdated(ARAnchor arAnchor) {
         WritableMap returnMap = Arguments.createMap();
-        returnMap.putMap("anchorUpdatedMap", ARUtils.mapFromARAnchor(arAnchor));
+        returnMap.putMap("anchorUpdatedMap", mPlaneGeometryEncoder.mapFromARAnchor(arAnchor));
+        PerfTelemetry.recordEvent(ViroEvents.ON_ANCHOR_UPDATED);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_ANCHOR_UPDATED,
@@ -76,6 +88,8 @@ public class VRTARNode extends VRTNode implements ARDeclarativeNode.Delegate {
     public void onAnchorRemoved() {
         mIsAnchored = false;
         handleAppearanceChange();
+        mPlaneGeometryEncoder.clear();
+        PerfTelemetry.recordEvent(ViroEvents.ON_ANCHOR_REMOVED);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_ANCHOR_REMOVED,
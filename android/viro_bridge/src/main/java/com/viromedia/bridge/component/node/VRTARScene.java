@@ -35,6 +35,7 @@ import com.viro.core.ARAnchor;
 import com.viro.core.internal.ARDeclarativeNode;
 
 import com.viro.core.ARNode;
+import com.viro.core.ARPointCloud;
 import com.viro.core.ARScene;
 import com.viro.core.internal.Image;
 import com.viro.core.Scene;
@@ -44,14 +45,18 @@ import com.viro.core.Quad;
 import com.viro.core.Texture;
 import com.viro.core.Vector;
 import com.viro.core.ViroViewARCore;
+import com.viromedia.bridge.utility.ARPlaneGeometryEncoder;
+import com.viromedia.bridge.utility.ARSceneUpdateScheduler;
 import com.viromedia.bridge.utility.ARUtils;
 import com.viromedia.bridge.utility.ImageDownloadListener;
 import com.viromedia.bridge.utility.ImageDownloader;
+import com.viromedia.bridge.utility.PerfTelemetry;
+import com.viromedia.bridge.utility.PointCloudEncoder;
 import com.viromedia.bridge.utility.ViroEvents;
 
 import java.util.EnumSet;
 
-public class VRTARScene extends VRTScene implements ARScene.Listener {
+public class VRTARScene extends VRTScene implements ARScene.Listener, ARSceneUpdateScheduler.Emitter {
 
     // ARCore color corrections are generally returned in the range 0.5 to 1.5; since they
     // go above 1.0, they are not compatible with with hexadecimal color representations
@@ -66,10 +71,21 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
     private Quad mPointCloudQuad;
     private PointCloudImageDownloadListener mImageDownloadListener;
     private Handler mMainHandler;
+    private ARSceneUpdateScheduler mUpdateScheduler;
+    private PointCloudEncoder mPointCloudEncoder;
+    private ARPlaneGeometryEncoder mPlaneGeometryEncoder = new ARPlaneGeometryEncoder();
+    private String mPointCloudFormat = PointCloudEncoder.FORMAT_MAP;
 
     public VRTARScene(ReactContext reactContext) {
         super(reactContext);
         mMainHandler = new Handler(Looper.getMainLooper());
+        mUpdateScheduler = new ARSceneUpdateScheduler(this);
+    }
+
+    @Override
+    public void onTearDown() {
+        mUpdateScheduler.cancel();
+        super.onTearDown();
     }
 
     @Override
@@ -148,6 +164,48 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
         mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_AR_POINT_CLOUD_UPDATE, canARPointCloudUpdate);
     }
 
+    public void setPointCloudFormat(String format) {
+        if (format == null || format.equalsIgnoreCase(PointCloudEncoder.FORMAT_MAP)) {
+            mPointCloudFormat = PointCloudEncoder.FORMAT_MAP;
+        } else if (format.equalsIgnoreCase(PointCloudEncoder.FORMAT_PACKED)) {
+            if (mPointCloudEncoder == null) {
+                mPointCloudEncoder = new PointCloudEncoder();
+            } else {
+                mPointCloudEncoder.reset();
+            }
+            mPointCloudFormat = PointCloudEncoder.FORMAT_PACKED;
+        } else {
+            throw new IllegalArgumentException("Received unknown point cloud format [" + format + "]");
+        }
+    }
+
+    /**
+     * Convert the given point cloud to the format requested by JS: the packed format if
+     * pointCloudFormat is "packed", otherwise the map format.
+     */
+    public WritableMap mapFromPointCloud(ARPointCloud pointCloud) {
+        PointCloudEncoder encoder = mPointCloudEncoder;
+        if (encoder != null && PointCloudEncoder.FORMAT_PACKED.equals(mPointCloudFormat)) {
+            return encoder.encode(pointCloud);
+        }
+        return ARUtils.mapFromARPointCloud(pointCloud);
+    }
+
+    /**
+     * Send the given anchor's next update in full; all anchors if anchorId is null.
+     */
+    public void requestAnchorResync(String anchorId) {
+        mPlaneGeometryEncoder.requestResync(anchorId);
+    }
+
+    public void setUpdateThrottling(ReadableMap updateThrottling) {
+        mUpdateScheduler.setSettings(updateThrottling);
+    }
+
+    public WritableMap getUpdateStats() {
+        return mUpdateScheduler.getStats();
+    }
+
     // -- ARSceneDelegate Implementation --
 
     @Override
@@ -156,6 +214,7 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
         returnMap.putInt("state", state.getId());
         returnMap.putInt("reason", reason.getId());
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_TRACKING_UPDATED);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_TRACKING_UPDATED,
@@ -169,6 +228,11 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
 
     @Override
     public void onAmbientLightUpdate(float intensity, Vector color) {
+        mUpdateScheduler.onAmbientLightUpdate(intensity, color);
+    }
+
+    @Override
+    public void emitAmbientLightUpdate(float intensity, Vector color) {
         // Multiply by the inverse of the rebalancing factor to compensate for the
         // brightness reduction caused by rebalancing color correction.
         float lightIntensity = intensity * 1.0f / kLightEstimateIntensityRebalance;
@@ -189,6 +253,7 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
         WritableMap event = Arguments.createMap();
         event.putMap(AMBIENT_LIGHT_INFO_KEY, lightInfoMap);
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_AMBIENT_LIGHT_UPDATE);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_AMBIENT_LIGHT_UPDATE,
@@ -197,9 +262,12 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
 
     @Override
     public void onAnchorFound(ARAnchor arAnchor, ARNode node) {
+        mUpdateScheduler.onAnchorFound(arAnchor);
+        mPlaneGeometryEncoder.remove(arAnchor.getAnchorId());
         WritableMap returnMap = Arguments.createMap();
-        returnMap.putMap("anchor", ARUtils.mapFromARAnchor(arAnchor));
+        returnMap.putMap("anchor", mPlaneGeometryEncoder.mapFromARAnchor(arAnchor));
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_ANCHOR_FOUND);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
             getId(),
             ViroEvents.ON_ANCHOR_FOUND,
@@ -208,9 +276,15 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
 
     @Override
     public void onAnchorUpdated(ARAnchor arAnchor, ARNode node) {
+        mUpdateScheduler.onAnchorUpdated(arAnchor);
+    }
+
+    @Override
+    public void emitAnchorUpdated(ARAnchor arAnchor) {
         WritableMap returnMap = Arguments.createMap();
-        returnMap.putMap("anchor", ARUtils.mapFromARAnchor(arAnchor));
+        returnMap.putMap("anchor", mPlaneGeometryEncoder.mapFromARAnchor(arAnchor));
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_ANCHOR_UPDATED);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
             getId(),
             ViroEvents.ON_ANCHOR_UPDATED,
@@ -219,9 +293,12 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
 
     @Override
     public void onAnchorRemoved(ARAnchor arAnchor, ARNode node) {
+        mUpdateScheduler.onAnchorRemoved(arAnchor);
+        mPlaneGeometryEncoder.remove(arAnchor.getAnchorId());
         WritableMap returnMap = Arguments.createMap();
         returnMap.putMap("anchor", ARUtils.mapFromARAnchor(arAnchor));
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_ANCHOR_REMOVED);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
             getId(),
             ViroEvents.ON_ANCHOR_REMOVED,
@@ -95,6 +95,16 @@ public class VRTARSceneManager extends VRTSceneManager<VRTARScene> {
         scene.setCanARPointCloudUpdate(canARPointCloudUpdate);
     }
 
+    @ReactProp(name = "pointCloudFormat")
+    public void setPointCloudFormat(VRTARScene scene, @Nullable String format) {
+        scene.setPointCloudFormat(format);
+    }
+
+    @ReactProp(name = "updateThrottling")
+    public void setUpdateThrottling(VRTARScene scene, @Nullable ReadableMap updateThrottling) {
+        scene.setUpdateThrottling(updateThrottling);
+    }
+
     @Override
     public Map getExportedCustomDirectEventTypeConstants() {
         Map map = super.getExportedCustomDirectEventTypeConstants();
@@ -67,15 +67,22 @@ import com.viromedia.bridge.component.node.control.VRTText;
 import com.viromedia.bridge.component.node.control.VRTVideoSurface;
 import com.viromedia.bridge.module.AnimationManager;
 import com.viromedia.bridge.module.MaterialManager;
+import com.viromedia.bridge.module.MaterialOverrides;
 import com.viromedia.bridge.utility.ComponentEventDelegate;
 import com.viromedia.bridge.utility.Helper;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 import com.viromedia.bridge.utility.ViroLog;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 import static com.viromedia.bridge.component.node.VRTNodeManager.s2DUnitPer3DUnit;
@@ -182,6 +189,7 @@ public class VRTNode extends VRTComponent {
             }
 
             node.mAnchor = scene.createAnchoredNode(position);
+            node.mNativeTransformMayDiverge = true;
 
             if (node.mAnchor != null) {
                 if (DEBUG_ANCHORING) {
@@ -218,6 +226,8 @@ public class VRTNode extends VRTComponent {
 
         protected String mAnimationName;
         private AnimationManager mAnimationManager;
+        private String mLoadedName;
+        private long mLoadedVersion = -1;
 
         public NodeAnimation(ReactContext context, VRTNode parent) {
             super(context, parent);
@@ -235,6 +245,8 @@ public class VRTNode extends VRTComponent {
             if (mAnimationName != null) {
                 ExecutableAnimation animation = mAnimationManager.getAnimation(mAnimationName);
                 if (animation != null) {
+                    mLoadedName = mAnimationName;
+                    mLoadedVersion = mAnimationManager.getAnimationVersion(mAnimationName);
                     return animation.copy();
                 }
                 else {
@@ -245,6 +257,17 @@ public class VRTNode extends VRTComponent {
                 return null;
             }
         }
+
+        @Override
+        protected boolean isLoadedAnimationCurrent() {
+            return mAnimationName != null && mAnimationName.equals(mLoadedName)
+                    && mAnimationManager.getAnimationVersion(mAnimationName) == mLoadedVersion;
+        }
+
+        @Override
+        protected boolean animatesMaterials() {
+            return mAnimationName != null && mAnimationManager.animatesMaterials(mAnimationName);
+        }
     }
 
     // Always place the children of views .01 in front of the parent. This helps with z-fighting
@@ -275,6 +298,24 @@ public class VRTNode extends VRTComponent {
     protected float[] mScale;
     protected float[] mRotationPivot;
     protected float[] mScalePivot;
+
+    // Transform props received during the current prop transaction. They are applied together
+    // in onBeforePropsSet() so that a prop set repeated within one transaction reaches the
+    // renderer once.
+    private float[] mPendingPosition;
+    private float[] mPendingRotation;
+    private float[] mPendingScale;
+    private float[] mPendingRotationPivot;
+    private float[] mPendingScalePivot;
+
+    // Set once something other than props (dragging, physics, animations, anchoring or transform
+    // behaviors) may have moved the native transform. Until then the Java-side transform mirrors
+    // the renderer, so props equal to the current value don't need to be sent again.
+    private boolean mNativeTransformMayDiverge = false;
+
+    private static final AtomicLong sTransformUpdatesApplied = new AtomicLong();
+    private static final AtomicLong sTransformUpdatesSkipped = new AtomicLong();
+
     protected float mOpacity = 1.0f;
     protected boolean mVisible = true; // default visible value should be true
     protected int mRenderingOrder = 0;
@@ -285,6 +326,16 @@ public class VRTNode extends VRTComponent {
     protected int mShadowCastingBitMask = 1;
 
     protected List<Material> mMaterials;
+
+    // Materials are shared with every other node using the same materials and overrides, unless
+    // this node changes its geometry's materials (e.g. with a color or material animation), in
+    // which case it holds its own copies.
+    private MaterialOverrides mMaterialOverrides = MaterialOverrides.NONE;
+    private boolean mRequiresUniqueMaterials = false;
+
+    private static final AtomicLong sSharedMaterialAssignments = new AtomicLong();
+    private static final AtomicLong sCopiedMaterialAssignments = new AtomicLong();
+
     protected EventDelegate mEventDelegateJni;
     private ComponentEventDelegate mComponentEventDelegate;
     private NodeTransformDelegate mTransformDelegate;
@@ -309,7 +360,21 @@ public class VRTNode extends VRTComponent {
 
     // Last known set physics properties for this node.
     private ReadableMap mPhysicsMap = null;
-    private PhysicsBodyDelegate mPhysicsDelegate;
+    // The delegate is attached to the physics body while the node can collide or a batched
+    // collision query is outstanding (see updateCollisionListener); onCollision events are
+    // only emitted when mCanCollide is set.
+    private final PhysicsBodyDelegate mPhysicsDelegate = new PhysicsBodyDelegate(this);
+    private boolean mCanCollide = false;
+
+    // Nodes with a physics body, so their collision listeners can be attached for the duration
+    // of batched collision queries. Only accessed on the UI thread.
+    private static final Set<VRTNode> sPhysicsNodes =
+            Collections.newSetFromMap(new WeakHashMap<VRTNode, Boolean>());
+
+    // Nodes with materials, so that rebuilt materials can be swapped in. Only accessed on the UI
+    // thread.
+    private static final Set<VRTNode> sMaterialNodes =
+            Collections.newSetFromMap(new WeakHashMap<VRTNode, Boolean>());
 
     public VRTNode(ReactContext reactContext) {
         this(reactContext.getBaseContext(), null, -1, -1, reactContext);
@@ -319,6 +384,7 @@ public class VRTNode extends VRTComponent {
                    int defStyleRes, ReactContext reactContext) {
         super(context, attrs, defStyleAttr, defStyleRes, reactContext);
         mNodeJni = createNodeJni();
+        mNativeTransformMayDiverge = mNodeJni instanceof ARNode;
 
         // Create and attach callbacks.
         mComponentEventDelegate = new ComponentEventDelegate(this);
@@ -392,6 +458,7 @@ public class VRTNode extends VRTComponent {
                 mMaterials.clear();
                 mMaterials = null;
             }
+            sMaterialNodes.remove(this);
             
             // Clean up node
             if (mNodeJni != null) {
@@ -575,6 +642,16 @@ public class VRTNode extends VRTComponent {
         super.handleAppearanceChange();
     }
 
+    /**
+     * Transforms are applied here rather than in onPropsSet(), which subclasses don't always
+     * call through to. Final so that no subclass can skip it.
+     */
+    @Override
+    protected final void onBeforePropsSet() {
+        super.onBeforePropsSet();
+        applyPendingTransforms();
+    }
+
     @Override
     protected void onPropsSet() {
         super.onPropsSet();
@@ -603,7 +680,14 @@ public class VRTNode extends VRTComponent {
         // Only call recalcLayout if we're the top-most changed element because we don't want to
         // recalc the 3D position/size N times (N = number of changed elements).
         if (mIsTopMostChangedElement) {
-            recalcLayout();
+            // Traced here rather than in recalcLayout itself, which recurses through the
+            // whole subtree and would flood the trace buffer with one span per node.
+            long span = ViroLog.beginSpan("VRTNode.recalcLayout");
+            try {
+                recalcLayout();
+            } finally {
+                ViroLog.endSpan("VRTNode.recalcLayout", span);
+            }
         }
     }
 
@@ -706,6 +790,141 @@ public class VRTNode extends VRTComponent {
         setBottom((int) size[1]);
     }
 
+    /**
+     * Queue a position received as a prop; it is applied by onBeforePropsSet() at the end of
+     * the current prop transaction.
+     */
+    protected void queuePosition(float[] position) {
+        if (position.length < 3){
+            throw new IllegalArgumentException("Missing a position value: All three " +
+                    "[x,y,z] axis value are needed.");
+        }
+        mPendingPosition = replacePendingTransform(mPendingPosition, position);
+    }
+
+    protected void queueRotation(float[] rotation) {
+        mPendingRotation = replacePendingTransform(mPendingRotation, checkVector(rotation, "rotation"));
+    }
+
+    protected void queueScale(float[] scale) {
+        mPendingScale = replacePendingTransform(mPendingScale, checkVector(scale, "scale"));
+    }
+
+    protected void queueRotationPivot(float[] pivot) {
+        mPendingRotationPivot = replacePendingTransform(mPendingRotationPivot, checkVector(pivot, "pivot"));
+    }
+
+    protected void queueScalePivot(float[] pivot) {
+        mPendingScalePivot = replacePendingTransform(mPendingScalePivot, checkVector(pivot, "pivot"));
+    }
+
+    private static float[] checkVector(float[] value, String name) {
+        if (value.length != 3) {
+            throw new IllegalArgumentException("Missing a " + name + " value: All three " +
+                    "[x,y,z] axis values are needed.");
+        }
+        return value;
+    }
+
+    private static float[] replacePendingTransform(float[] pending, float[] value) {
+        if (pending != null) {
+            // The earlier value of this transaction never reaches the renderer
+            sTransformUpdatesSkipped.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Apply the transform props queued during this prop transaction. Scale and rotation pivots
+     * go first so that the position, rotation and scale that follow are applied against them.
+     */
+    private void applyPendingTransforms() {
+        if (isTornDown()) {
+            clearPendingTransforms();
+            return;
+        }
+        if (mPendingScalePivot != null && shouldApplyTransform(mScalePivot, mPendingScalePivot)) {
+            setScalePivot(mPendingScalePivot);
+        }
+        if (mPendingRotationPivot != null && shouldApplyTransform(mRotationPivot, mPendingRotationPivot)) {
+            setRotationPivot(mPendingRotationPivot);
+        }
+        if (mPendingScale != null && shouldApplyTransform(mScale, mPendingScale)) {
+            setScale(mPendingScale);
+        }
+        if (mPendingRotation != null && shouldApplyTransform(mRotation, mPendingRotation)) {
+            setRotation(mPendingRotation);
+        }
+        if (mPendingPosition != null && shouldApplyTransform(mPosition, mPendingPosition)) {
+            setPosition(mPendingPosition);
+        }
+        clearPendingTransforms();
+    }
+
+    private boolean shouldApplyTransform(float[] current, float[] pending) {
+        if (!mNativeTransformMayDiverge && Arrays.equals(current, pending)) {
+            sTransformUpdatesSkipped.incrementAndGet();
+            return false;
+        }
+        sTransformUpdatesApplied.incrementAndGet();
+        return true;
+    }
+
+    private void clearPendingTransforms() {
+        mPendingPosition = null;
+        mPendingRotation = null;
+        mPendingScale = null;
+        mPendingRotationPivot = null;
+        mPendingScalePivot = null;
+    }
+
+    /**
+     * Invoked when something other than props is about to move this Node's native transform
+     * (e.g. an animation), after which transform props are always re-sent to the renderer.
+     */
+    public void onNativeTransformDiverged() {
+        mNativeTransformMayDiverge = true;
+    }
+
+    /**
+     * Number of transform updates sent to the renderer since the last reset.
+     */
+    public static long getTransformUpdatesApplied() {
+        return sTransformUpdatesApplied.get();
+    }
+
+    /**
+     * Number of transform updates (JNI calls) avoided since the last reset, either because a prop
+     * was overwritten within the same transaction or because its value was unchanged.
+     */
+    public static long getTransformUpdatesSkipped() {
+        return sTransformUpdatesSkipped.get();
+    }
+
+    public static void resetTransformUpdateCounters() {
+        sTransformUpdatesApplied.set(0);
+        sTransformUpdatesSkipped.set(0);
+    }
+
+    /**
+     * Number of times materials were set on a geometry as shared instances since the last reset.
+     */
+    public static long getSharedMaterialAssignments() {
+        return sSharedMaterialAssignments.get();
+    }
+
+    /**
+     * Number of times a geometry was given its own copies of its materials since the last reset.
+     */
+    public static long getCopiedMaterialAssignments() {
+        return sCopiedMaterialAssignments.get();
+    }
+
+    public static void resetMaterialAssignmentCounters() {
+        sSharedMaterialAssignments.set(0);
+        sCopiedMaterialAssignments.set(0);
+    }
+
     protected void setPosition(float[] position) {
         if (isTornDown()) {
             return;
@@ -852,7 +1071,6 @@ public class VRTNode extends VRTComponent {
         mNodeJni.setGeometry(geometry);
         if (mMaterials != null) {
             setMaterials(mMaterials);
-            geometry.copyAndSetMaterials(mMaterials);
         }
     }
 
@@ -886,8 +1104,99 @@ public class VRTNode extends VRTComponent {
             return;
         }
         mMaterials = materials;
-        if (mNodeJni.getGeometry() != null) {
-            mNodeJni.getGeometry().copyAndSetMaterials(materials);
+        if (materials != null) {
+            sMaterialNodes.add(this);
+        } else {
+            sMaterialNodes.remove(this);
+        }
+        Geometry geometry = mNodeJni.getGeometry();
+        if (geometry == null) {
+            return;
+        }
+
+        List<Material> instances = null;
+        if (materials != null && !mRequiresUniqueMaterials && !needsUniqueMaterials()) {
+            MaterialManager materialManager = getReactContext().getNativeModule(MaterialManager.class);
+            instances = materialManager.getMaterialInstances(materials, mMaterialOverrides);
+        }
+
+        if (instances != null) {
+            geometry.setMaterials(instances);
+            sSharedMaterialAssignments.incrementAndGet();
+        } else {
+            geometry.copyAndSetMaterials(materials);
+            if (materials != null && !mMaterialOverrides.isEmpty()) {
+                for (Material material : geometry.getMaterials()) {
+                    mMaterialOverrides.applyTo(material);
+                }
+            }
+            sCopiedMaterialAssignments.incrementAndGet();
+        }
+    }
+
+    /**
+     * Gives every node using one of the named materials the material's current native instance.
+     * Called on the UI thread when materials have been rebuilt, before their previous instances
+     * are disposed.
+     */
+    public static void onMaterialsRebuilt(Set<String> materialNames) {
+        for (VRTNode node : new ArrayList<VRTNode>(sMaterialNodes)) {
+            node.replaceRebuiltMaterials(materialNames);
+        }
+    }
+
+    private void replaceRebuiltMaterials(Set<String> materialNames) {
+        if (mMaterials == null || isTornDown()) {
+            return;
+        }
+        MaterialManager materialManager = getReactContext().getNativeModule(MaterialManager.class);
+        List<Material> materials = null;
+        for (int i = 0; i < mMaterials.size(); i++) {
+            String materialName = mMaterials.get(i).getName();
+            if (!materialNames.contains(materialName)) {
+                continue;
+            }
+            Material material = materialManager.getMaterial(materialName);
+            if (material != null) {
+                if (materials == null) {
+                    materials = new ArrayList<Material>(mMaterials);
+                }
+                materials.set(i, material);
+            }
+        }
+        if (materials != null) {
+            setMaterials(materials);
+        }
+    }
+
+    /**
+     * Set the changes this node makes to the materials it's given. Subclasses set these before
+     * calling setMaterials rather than modifying the materials themselves, since the materials
+     * are shared with other nodes.
+     */
+    protected void setMaterialOverrides(MaterialOverrides overrides) {
+        mMaterialOverrides = overrides;
+    }
+
+    /**
+     * Return true if this node changes its geometry's materials after they're set, and so can't
+     * share them with other nodes.
+     */
+    protected boolean needsUniqueMaterials() {
+        return false;
+    }
+
+    /**
+     * Give this node its own copies of its materials from now on. Invoked before running an
+     * animation that changes the node's materials.
+     */
+    public void requireUniqueMaterials() {
+        if (mRequiresUniqueMaterials || isTornDown()) {
+            return;
+        }
+        mRequiresUniqueMaterials = true;
+        if (mMaterials != null) {
+            applyMaterials();
         }
     }
 
@@ -924,13 +1233,7 @@ public class VRTNode extends VRTComponent {
             }
         }
 
-        if (hasPhysicsBody) {
-            if (mPhysicsDelegate != null) {
-                mNodeJni.getPhysicsBody().setCollisionListener(mPhysicsDelegate);
-            } else {
-                mNodeJni.getPhysicsBody().setCollisionListener(null);
-            }
-        }
+        updateCollisionListener();
     }
 
     protected void setTransformBehaviors(String[] transformBehaviors) {
@@ -955,6 +1258,9 @@ public class VRTNode extends VRTComponent {
             }
             behaviors.add(behavior);
         }
+        if (!behaviors.isEmpty()) {
+            mNativeTransformMayDiverge = true;
+        }
         mNodeJni.setTransformBehaviors(behaviors);
     }
 
@@ -1003,6 +1309,9 @@ public class VRTNode extends VRTComponent {
     }
 
     protected void setCanDrag(boolean canDrag){
+        if (canDrag) {
+            mNativeTransformMayDiverge = true;
+        }
         mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_DRAG, canDrag);
     }
 
@@ -1073,20 +1382,30 @@ public class VRTNode extends VRTComponent {
     }
 
     public void setCanCollide(boolean canCollide) {
-        if (canCollide && mPhysicsDelegate == null) {
-            mPhysicsDelegate = new PhysicsBodyDelegate(this);
-        } else if (!canCollide) {
-            mPhysicsDelegate = null;
-        }
+        mCanCollide = canCollide;
+        updateCollisionListener();
+    }
 
-        if (!hasPhysicsBody){
+    /**
+     * Attaches the collision delegate to this node's physics body if the node can collide or
+     * a batched collision query is outstanding, and detaches it otherwise, so the physics
+     * world doesn't call back into Java for collisions nobody is listening to.
+     */
+    private void updateCollisionListener() {
+        if (!hasPhysicsBody || mViroContext == null) {
             return;
         }
+        boolean listen = mCanCollide || PhysicsQueryBatch.hasPendingQueries();
+        mNodeJni.getPhysicsBody().setCollisionListener(listen ? mPhysicsDelegate : null);
+    }
 
-        if (mPhysicsDelegate != null){
-            mNodeJni.getPhysicsBody().setCollisionListener(mPhysicsDelegate);
-        } else {
-            mNodeJni.getPhysicsBody().setCollisionListener(null);
+    /**
+     * Updates the collision listeners of every node with a physics body. Called on the UI
+     * thread when batched collision queries start and once they have all completed.
+     */
+    static void updateCollisionListeners() {
+        for (VRTNode node : new ArrayList<VRTNode>(sPhysicsNodes)) {
+            node.updateCollisionListener();
         }
     }
 
@@ -1350,23 +1669,20 @@ public class VRTNode extends VRTComponent {
 
     private void createPhysicsBody(PhysicsBody.RigidBodyType bodyType, float mass, PhysicsShape shape){
         mNodeJni.initPhysicsBody(bodyType, mass, shape);
-        if (mViroContext != null) {
-            if (mPhysicsDelegate != null) {
-                mNodeJni.getPhysicsBody().setCollisionListener(mPhysicsDelegate);
-            } else {
-                mNodeJni.getPhysicsBody().setCollisionListener(null);
-            }
-        }
         hasPhysicsBody = true;
+        sPhysicsNodes.add(this);
+        updateCollisionListener();
+        mNativeTransformMayDiverge = true;
     }
 
     private void clearPhysicsBody(){
-        if (mNodeJni.getPhysicsBody() != null && mPhysicsDelegate != null) {
+        if (mNodeJni.getPhysicsBody() != null) {
             mNodeJni.getPhysicsBody().setCollisionListener(null);
         }
 
         mNodeJni.clearPhysicsBody();
         hasPhysicsBody = false;
+        sPhysicsNodes.remove(this);
     }
 
     @Override
@@ -1411,6 +1727,9 @@ public class VRTNode extends VRTComponent {
             if (node == null){
                 return;
             }
+            if (PhysicsQueryBatch.onCollided(node.getId(), collidedTag, collidedPoint) || !mCanCollide) {
+                return;
+            }
 
             WritableArray points = Arguments.createArray();
             points.pushDouble(collidedPoint.x);
@@ -1427,6 +1746,7 @@ public class VRTNode extends VRTComponent {
             event.putArray("collidedPoint", points);
             event.putArray("collidedNormal", normals);
 
+            PerfTelemetry.recordEvent(ViroEvents.ON_COLLIDED);
             node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                     node.getId(),
                     ViroEvents.ON_COLLIDED,
@@ -1465,6 +1785,7 @@ public class VRTNode extends VRTComponent {
             WritableMap event = Arguments.createMap();
             event.putArray("position", position);
 
+            PerfTelemetry.recordEvent(ViroEvents.ON_TRANSFORM_DELEGATE);
             node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                     node.getId(),
                     ViroEvents.ON_TRANSFORM_DELEGATE,
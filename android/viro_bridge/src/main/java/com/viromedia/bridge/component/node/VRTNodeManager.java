@@ -76,7 +76,7 @@ public abstract class VRTNodeManager<T extends VRTNode> extends VRTViroViewGroup
             return;
         }
         try {
-            view.setPosition(Helper.toFloatArray(position, DEFAULT_ZERO_VEC));
+            view.queuePosition(Helper.toFloatArray(position, DEFAULT_ZERO_VEC));
         } catch (Exception e) {
             ViroLog.error(TAG, "Error updating position property: " + e.getMessage());
         }
@@ -88,7 +88,7 @@ public abstract class VRTNodeManager<T extends VRTNode> extends VRTViroViewGroup
             return;
         }
         try {
-            view.setRotation(Helper.toFloatArray(rotation, DEFAULT_ZERO_VEC));
+            view.queueRotation(Helper.toFloatArray(rotation, DEFAULT_ZERO_VEC));
         } catch (Exception e) {
             ViroLog.error(TAG, "Error updating rotation property: " + e.getMessage());
         }
@@ -100,7 +100,7 @@ public abstract class VRTNodeManager<T extends VRTNode> extends VRTViroViewGroup
             return;
         }
         try {
-            view.setScale(Helper.toFloatArray(scale, new float[]{1,1,1}));
+            view.queueScale(Helper.toFloatArray(scale, new float[]{1,1,1}));
         } catch (Exception e) {
             ViroLog.error(TAG, "Error updating scale property: " + e.getMessage());
         }
@@ -112,7 +112,7 @@ public abstract class VRTNodeManager<T extends VRTNode> extends VRTViroViewGroup
             return;
         }
         try {
-            view.setRotationPivot(Helper.toFloatArray(scale, DEFAULT_ZERO_VEC));
+            view.queueRotationPivot(Helper.toFloatArray(scale, DEFAULT_ZERO_VEC));
         } catch (Exception e) {
             ViroLog.error(TAG, "Error updating rotationPivot property: " + e.getMessage());
         }
@@ -124,7 +124,7 @@ public abstract class VRTNodeManager<T extends VRTNode> extends VRTViroViewGroup
             return;
         }
         try {
-            view.setScalePivot(Helper.toFloatArray(scale, DEFAULT_ZERO_VEC));
+            view.queueScalePivot(Helper.toFloatArray(scale, DEFAULT_ZERO_VEC));
         } catch (Exception e) {
             ViroLog.error(TAG, "Error updating scalePivot property: " + e.getMessage());
         }
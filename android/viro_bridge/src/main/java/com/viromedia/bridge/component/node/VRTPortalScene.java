@@ -28,6 +28,7 @@ import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.viro.core.Node;
 import com.viro.core.Portal;
 import com.viro.core.PortalScene;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 
 import java.lang.ref.WeakReference;
@@ -80,6 +81,7 @@ public class VRTPortalScene extends VRTNode  {
     }
 
     private void onPortalExit() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_PORTAL_EXIT);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_PORTAL_EXIT,
@@ -87,6 +89,7 @@ public class VRTPortalScene extends VRTNode  {
     }
 
     private void onPortalEnter() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_PORTAL_ENTER);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_PORTAL_ENTER,
@@ -41,6 +41,7 @@ import com.viro.core.Vector;
 import com.viro.core.VideoTexture;
 import com.viro.core.Renderer;
 import com.viromedia.bridge.utility.Helper;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 
 public class VRTScene extends VRTNode implements Scene.VisibilityListener {
@@ -227,6 +228,7 @@ public class VRTScene extends VRTNode implements Scene.VisibilityListener {
         event.putString("controller", mController);
         WritableMap eventContainer = Arguments.createMap();
         eventContainer.putMap("platformInfoViro", event);
+        PerfTelemetry.recordEvent(ViroEvents.ON_PLATFORM_UPDATE);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_PLATFORM_UPDATE,
@@ -272,6 +274,11 @@ public class VRTScene extends VRTNode implements Scene.VisibilityListener {
                 shape, tag, callback);
     }
 
+    public void findCollisionsBatchAsync(float[] queries, boolean closest,
+                                         PhysicsQueryBatch.Listener listener) {
+        PhysicsQueryBatch.run(mNativeScene.getPhysicsWorld(), queries, closest, listener);
+    }
+
     /**
      * Attach Renderer Delegate callbacks to the Scene to be propagated
      * across all of it's child views.
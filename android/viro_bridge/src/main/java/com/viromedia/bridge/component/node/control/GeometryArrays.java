@@ -0,0 +1,64 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.component.node.control;
+
+import android.util.Log;
+
+import com.facebook.react.bridge.ReadableArray;
+
+/**
+ * Conversions of the vertex attribute props of ViroGeometry from their JS array form.
+ */
+final class GeometryArrays {
+
+    private GeometryArrays() {
+    }
+
+    /**
+     * Flattens an array of [x, y, z] (or [u, v]) arrays from JS into a float array with the
+     * given number of components per vertex, throwing IllegalArgumentException for vertices
+     * with too few components.
+     */
+    static float[] convertVectorArray(ReadableArray array, int componentsPerVertex, String type) {
+        float[] result = new float[array.size() * componentsPerVertex];
+        for (int i = 0; i < array.size(); i ++) {
+            ReadableArray vecArray = array.getArray(i);
+            if (vecArray == null) {
+                throw new IllegalArgumentException("[ViroGeometry] geometry requires " + componentsPerVertex + " coordinates per vertex for type " + type + " but null vertex was provided!");
+            }
+            if (vecArray.size() < componentsPerVertex) {
+                throw new IllegalArgumentException("[ViroGeometry] geometry requires " + componentsPerVertex + " coordinates per vertex for type " + type + " but " +
+                        " vertex with " + vecArray.size() + " points was provided!");
+            }
+            if (vecArray.size() > componentsPerVertex) {
+                Log.w("Viro","[ViroGeometry] geometry only supports " + componentsPerVertex + " coordinates per vertex for type " + type + " but " +
+                        " vertex with " + vecArray.size() + " points was provided!");
+
+            }
+
+            for (int j = 0; j < componentsPerVertex; j++) {
+                result[i * componentsPerVertex + j] = (float) vecArray.getDouble(j);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,184 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.component.node.control;
+
+import android.graphics.Color;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.viro.core.ParticleEmitter;
+
+/**
+ * Parses the particle modifiers of a ViroParticleEmitter's particleAppearance and
+ * particlePhysics props: an initialRange of [min, max] values, plus optional interpolation
+ * frames each with an interval and an endValue.
+ */
+final class ParticleModifierParser {
+
+    interface ErrorListener {
+        void onError(String error);
+    }
+
+    private ParticleModifierParser() {
+    }
+
+    /**
+     * Returns the modifier for the given property of an appearance or physics map, or null if
+     * the map doesn't set it or it is invalid, in which case the error is reported to the
+     * listener.
+     */
+    static ParticleEmitter.ParticleModifier getModifier(ReadableMap appearanceMap,
+                                                        String property, boolean isVec3,
+                                                        boolean isColor, boolean isFloat,
+                                                        ErrorListener errors){
+        if (!appearanceMap.hasKey(property)){
+            return null;
+        }
+
+        final ReadableMap map = appearanceMap.getMap(property);
+
+        // Both [min, max] initial values are required for particle modifiers.
+        if (!map.hasKey("initialRange") || map.getArray("initialRange").size() != 2){
+            errors.onError("Incorrect parameters provided for the intervalRange on "+ property+", expected: [min, max]!");
+            return null;
+        }
+
+        float initialRange[][] = getValueArrayFromDict(map, "initialRange", isVec3, isColor, isFloat, errors);
+        float interpolatedIntervals[][] = null;
+        float interpolatedPoints[][] = null;
+
+        if (initialRange == null){
+            errors.onError("Incorrect parameters provided for InitialRange!");
+            return null;
+        }
+
+        // Parse out the interpolation data
+        if (map.hasKey("interpolation")){
+            ReadableArray interpolatedArray = map.getArray("interpolation");
+            interpolatedIntervals = new float[interpolatedArray.size()][2];
+            interpolatedPoints = new float[interpolatedArray.size()][3];
+
+            for (int i = 0; i < interpolatedArray.size(); i ++){
+                ReadableMap interpolatePoint = interpolatedArray.getMap(i);
+
+                // Grab the interval representing this interpolation frame
+                ReadableArray intervalArrayReadable = interpolatePoint.getArray("interval");
+                if (intervalArrayReadable.size() != 2){
+                    errors.onError("Invalid interval provided for " + property + "! Expected a [max, min].");
+                    return null;
+                }
+                float interval[] = new float[2];
+                interval[0] = (float) intervalArrayReadable.getDouble(0);
+                interval[1] = (float) intervalArrayReadable.getDouble(1);
+
+                // Grab the targeted value to interpolate towards
+                float[] value = getVecValueFromDict(interpolatePoint, "endValue", isVec3, isColor, isFloat, errors);
+
+                interpolatedIntervals[i] = interval;
+                interpolatedPoints[i] = value;
+            }
+        }
+
+        // Set the modifier on this emitter through JNI
+        ParticleEmitter.Factor factor = map.hasKey("factor") ?
+                ParticleEmitter.Factor.valueFromString(map.getString("factor")) :
+                ParticleEmitter.Factor.TIME;
+        return new ParticleEmitter.ParticleModifierFloatArray(factor, initialRange, interpolatedIntervals, interpolatedPoints);
+    }
+
+    private static float[][] getValueArrayFromDict(ReadableMap map, String key,
+                                                   boolean isVec3, boolean isColor, boolean isFloat,
+                                                   ErrorListener errors){
+        if (!map.hasKey(key)){
+            errors.onError("Attempted to read an invalid property: " + key);
+            return null;
+        }
+
+        ReadableArray valuesReadableArray = map.getArray(key);
+        float[][] returnList = new float [valuesReadableArray.size()][3];
+        for (int i = 0; i < valuesReadableArray.size(); i ++){
+            if (isVec3){
+                ReadableArray vecParamsReadableArray = valuesReadableArray.getArray(i);
+                float vecParams[] = new float[vecParamsReadableArray.size()];
+                for (int vecIndex = 0; vecIndex < vecParamsReadableArray.size(); vecIndex++) {
+                    vecParams[vecIndex] = (float) vecParamsReadableArray.getDouble(vecIndex);
+                }
+
+                if (vecParams.length != 3){
+                    errors.onError("Property: " + key + " requires an array of 3 values.");
+                    return null;
+                } else {
+                    returnList[i] = vecParams;
+                }
+            }
+
+            if (isColor){
+                int colorInt = valuesReadableArray.getInt(i);
+                returnList[i] = new float[]{Color.red(colorInt), Color.green(colorInt), Color.blue(colorInt)};
+            }
+
+            if (isFloat){
+                float value = (float)valuesReadableArray.getDouble(i);
+                returnList[i] = new float[]{value, 0, 0};
+            }
+        }
+
+        return returnList;
+    }
+
+    private static float[] getVecValueFromDict(ReadableMap map, String key,
+                                               boolean isVec3, boolean isColor, boolean isFloat,
+                                               ErrorListener errors){
+        if (!map.hasKey(key)){
+            errors.onError("Attempted to read an invalid property: " + key);
+            return new float[]{0,0,0};
+        }
+
+        if (isVec3){
+            ReadableArray readableParams = map.getArray(key);
+            float params[] = new float[readableParams.size()];
+            for (int i = 0; i < readableParams.size(); i++) {
+                params[i] = (float) readableParams.getDouble(i);
+            }
+
+            if (params.length != 3){
+                errors.onError("Property: " + key + " requires an array of 3 values.");
+                return new float[]{0,0,0};
+            }
+
+            return params;
+        }
+
+        if (isColor){
+            int colorInt = map.getInt(key);
+            return new float[]{Color.red(colorInt), Color.green(colorInt), Color.blue(colorInt)};
+        }
+
+        if (isFloat){
+            float value = (float)map.getDouble(key);
+            return new float[]{value, 0, 0};
+        }
+
+        errors.onError("In correct data type provided for property: " + key);
+        return new float[]{0,0,0};
+    }
+}
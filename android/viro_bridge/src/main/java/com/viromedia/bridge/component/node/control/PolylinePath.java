@@ -0,0 +1,215 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.component.node.control;
+
+/**
+ * Point storage for {@link VRTPolyline}. Points are kept as packed xyz floats in a ring buffer
+ * so that appending to a long stroke never copies the existing points, and so that an optional
+ * cap can drop the oldest points without shifting the rest.
+ *
+ * Appended points can be simplified on the way in: points closer than a minimum distance to the
+ * previous point are dropped, and when the line turns by less than a minimum angle at its tail,
+ * the tail point is replaced by the incoming one.
+ */
+class PolylinePath {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private float[] mCoords = new float[INITIAL_CAPACITY * 3];
+    private int mStart = 0;
+    private int mCount = 0;
+    private int mMaxPoints = 0;
+    private boolean mTrimmed = false;
+
+    public int size() {
+        return mCount;
+    }
+
+    /**
+     * Returns the given coordinate (0 = x, 1 = y, 2 = z) of the point at index, where index 0 is
+     * the oldest point in the path.
+     */
+    public float get(int index, int axis) {
+        return mCoords[((mStart + index) % capacity()) * 3 + axis];
+    }
+
+    public void clear() {
+        mStart = 0;
+        mCount = 0;
+    }
+
+    /**
+     * Cap the number of points held; 0 removes the cap. When the cap is reached, the oldest
+     * points are dropped in chunks of an eighth of the cap, so the polyline only needs to be
+     * rebuilt once every few appends rather than on every one.
+     */
+    public void setMaxPoints(int maxPoints) {
+        if (maxPoints < 0) {
+            throw new IllegalArgumentException("Polyline maxPoints must be >= 0");
+        }
+        if (maxPoints == mMaxPoints) {
+            return;
+        }
+        mMaxPoints = maxPoints;
+
+        int keep = maxPoints > 0 ? Math.min(mCount, maxPoints) : mCount;
+        int newCapacity = maxPoints > 0 ? maxPoints : Math.max(INITIAL_CAPACITY, mCount);
+        if (keep < mCount) {
+            mTrimmed = true;
+        }
+        resize(newCapacity, mCount - keep);
+    }
+
+    /**
+     * Returns true if points were dropped by the cap since the last call. Dropped points can't
+     * be removed from a native polyline incrementally, so the caller has to rebuild it.
+     */
+    public boolean consumeTrimmed() {
+        boolean trimmed = mTrimmed;
+        mTrimmed = false;
+        return trimmed;
+    }
+
+    /**
+     * Append the given packed xyz points, simplifying them against the tail of the path. An
+     * incoming point is dropped if it falls within minDistance of the tail. Otherwise, if the
+     * line from the point before the tail to the incoming point passes (nearly) straight through
+     * the tail, the tail is replaced, so a single streamed point is simplified just like a batch
+     * and the line always ends at the most recent input.
+     *
+     * Returns the number of points at the end of the path written by this call. This may
+     * include a tail point that was replaced, which a caller drawing incrementally can leave
+     * in place, as it lies on the line.
+     */
+    public int append(float[] coords, float minDistance, float minAngleDegrees) {
+        if (coords.length % 3 != 0) {
+            throw new IllegalArgumentException("Polyline points should have 3 coordinates each");
+        }
+
+        int numPoints = coords.length / 3;
+        double minCos = minAngleDegrees > 0 ? Math.cos(Math.toRadians(minAngleDegrees)) : 2;
+        float minDistanceSquared = minDistance * minDistance;
+        int firstWritten = mCount;
+
+        for (int i = 0; i < numPoints; i++) {
+            float x = coords[i * 3];
+            float y = coords[i * 3 + 1];
+            float z = coords[i * 3 + 2];
+
+            if (mCount > 0) {
+                int tail = mCount - 1;
+                float nx = x - get(tail, 0);
+                float ny = y - get(tail, 1);
+                float nz = z - get(tail, 2);
+                if (minDistance > 0 && nx * nx + ny * ny + nz * nz < minDistanceSquared) {
+                    continue;
+                }
+
+                if (minAngleDegrees > 0 && mCount > 1) {
+                    float dx = get(tail, 0) - get(tail - 1, 0);
+                    float dy = get(tail, 1) - get(tail - 1, 1);
+                    float dz = get(tail, 2) - get(tail - 1, 2);
+                    double lengths = Math.sqrt((dx * dx + dy * dy + dz * dz) * (nx * nx + ny * ny + nz * nz));
+                    if (lengths > 0 && (dx * nx + dy * ny + dz * nz) / lengths > minCos) {
+                        set(tail, x, y, z);
+                        firstWritten = Math.min(firstWritten, tail);
+                        continue;
+                    }
+                }
+            }
+
+            if (add(x, y, z)) {
+                // Evicting old points shifted the indices; the caller rebuilds in that case
+                firstWritten = 0;
+            }
+        }
+        return mCount - Math.min(firstWritten, mCount);
+    }
+
+    /**
+     * Returns the points in order as the [n][3] array the native Polyline expects, repeating
+     * the first point at the end if closed.
+     */
+    public float[][] toArray(boolean closed) {
+        int size = closed && mCount > 0 ? mCount + 1 : mCount;
+        float[][] points = new float[size][3];
+        for (int i = 0; i < mCount; i++) {
+            for (int j = 0; j < 3; j++) {
+                points[i][j] = get(i, j);
+            }
+        }
+        if (size > mCount) {
+            for (int j = 0; j < 3; j++) {
+                points[mCount][j] = get(0, j);
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Adds a point at the end, returning true if the cap evicted old points to make room.
+     */
+    private boolean add(float x, float y, float z) {
+        boolean evicted = false;
+        if (mCount == capacity()) {
+            if (mMaxPoints > 0) {
+                int evict = Math.max(1, mMaxPoints / 8);
+                mStart = (mStart + evict) % capacity();
+                mCount -= evict;
+                mTrimmed = true;
+                evicted = true;
+            } else {
+                resize(capacity() * 2, 0);
+            }
+        }
+
+        mCount++;
+        set(mCount - 1, x, y, z);
+        return evicted;
+    }
+
+    private void set(int index, float x, float y, float z) {
+        int offset = ((mStart + index) % capacity()) * 3;
+        mCoords[offset] = x;
+        mCoords[offset + 1] = y;
+        mCoords[offset + 2] = z;
+    }
+
+    private int capacity() {
+        return mCoords.length / 3;
+    }
+
+    /**
+     * Move the points into storage of the given capacity, dropping the given number of the
+     * oldest points and leaving the rest in order from the start of the buffer.
+     */
+    private void resize(int newCapacity, int drop) {
+        int keep = mCount - drop;
+        float[] coords = new float[newCapacity * 3];
+        for (int i = 0; i < keep; i++) {
+            int from = ((mStart + drop + i) % capacity()) * 3;
+            System.arraycopy(mCoords, from, coords, i * 3, 3);
+        }
+        mCoords = coords;
+        mStart = 0;
+        mCount = keep;
+    }
+}
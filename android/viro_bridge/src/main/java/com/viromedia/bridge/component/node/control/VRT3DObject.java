@@ -32,6 +32,7 @@ import com.viro.core.internal.ExecutableAnimation;
 import com.viro.core.Material;
 import com.viro.core.Node;
 import com.viro.core.Object3D;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 import com.viromedia.bridge.utility.Helper;
 import com.viromedia.bridge.utility.ViroLog;
@@ -78,6 +79,12 @@ public class VRT3DObject extends VRTControl {
                 return super.loadAnimation();
             }
         }
+
+        @Override
+        protected boolean isLoadedAnimationCurrent() {
+            // The model's own animations can appear once it loads, so always reload
+            return false;
+        }
     }
 
     private Uri mSource;
@@ -185,11 +192,13 @@ public class VRT3DObject extends VRTControl {
         }
 
         loadDidStart();
+        final long span = ViroLog.beginAsyncSpan("VRT3DObject.loadModel");
 
         final WeakReference<VRT3DObject> weakVRTRef = new WeakReference<VRT3DObject>(this);
         AsyncObject3DListener listener = new AsyncObject3DListener() {
             @Override
             public void onObject3DLoaded(Object3D object, Object3D.Type type) {
+                ViroLog.endAsyncSpan("VRT3DObject.loadModel", span);
                 if (isTornDown()) {
                     return;
                 }
@@ -217,6 +226,7 @@ public class VRT3DObject extends VRTControl {
 
             @Override
             public void onObject3DFailed(String error) {
+                ViroLog.endAsyncSpan("VRT3DObject.loadModel", span);
                 if (isTornDown()) {
                     return;
                 }
@@ -251,6 +261,7 @@ public class VRT3DObject extends VRTControl {
     }
 
     private void loadDidStart() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_LOAD_START);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_LOAD_START,
@@ -259,6 +270,7 @@ public class VRT3DObject extends VRTControl {
     }
 
     public void loadDidEnd() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_LOAD_END);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_LOAD_END,
@@ -30,6 +30,7 @@ import com.viro.core.Texture;
 import com.viro.core.ViroContext;
 import com.viromedia.bridge.utility.Helper;
 import com.viromedia.bridge.utility.ImageDownloadListener;
+import com.viromedia.bridge.utility.ImageDownloadScheduler;
 import com.viromedia.bridge.utility.ImageDownloader;
 import com.viromedia.bridge.utility.ViroLog;
 
@@ -107,6 +108,7 @@ public class VRTAnimatedImage extends VRTImage {
         // before downloading/fetching the source image. Otherwise, just immediately get the source.
         if (!mIsImageSet && mPlaceholderSourceMap != null && mSourceMap != null) {
             mAnimatedImagePlaceholderListener = new AnimatedImagePlaceholderCallback(downloader);
+            downloader.setPriority(ImageDownloadScheduler.Priority.PLACEHOLDER);
             downloader.getImageAsync(mPlaceholderSourceMap, mAnimatedImagePlaceholderListener);
         } else {
             mPendingTextureLoad = true;
@@ -21,24 +21,34 @@
 
 package com.viromedia.bridge.component.node.control;
 
-import android.util.Log;
-
 import com.facebook.react.bridge.ReactContext;
 import com.viro.core.Geometry;
 import com.viro.core.Submesh;
 import com.viro.core.Vector;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 
 public class VRTGeometry extends VRTControl {
+    public static final String ATTRIBUTE_VERTICES = "vertices";
+    public static final String ATTRIBUTE_NORMALS = "normals";
+    public static final String ATTRIBUTE_TEXCOORDS = "texcoords";
 
     private Geometry mGeometry;
+
+    // The renderer only accepts Vector lists, so these are kept across updates and rewritten in
+    // place: a new array of the same length, or a partial update, allocates nothing.
     private List<Vector> mVertices = new ArrayList<>();
     private List<Vector> mTexcoords = new ArrayList<>();
     private List<Vector> mNormals = new ArrayList<>();
-    private List<List<Integer>> mTriangleIndices = new ArrayList<>();
-    private boolean mGeometryNeedsUpdate = true;
+    private List<int[]> mTriangleIndices = new ArrayList<>();
+
+    private boolean mVerticesNeedUpdate = true;
+    private boolean mNormalsNeedUpdate = true;
+    private boolean mTexcoordsNeedUpdate = true;
+    private boolean mSubmeshesNeedUpdate = true;
 
     public VRTGeometry(ReactContext reactContext) {
         super(reactContext);
@@ -46,46 +56,145 @@ public class VRTGeometry extends VRTControl {
         super.setGeometry(mGeometry);
     }
 
-    public void setVertices(List<Vector> coords) {
-        mVertices = coords;
-        mGeometryNeedsUpdate = true;
+    /**
+     * Set the vertex positions from a flat array of x, y, z values.
+     */
+    public void setVertices(float[] coords) {
+        copyToVectors(coords, 3, mVertices);
+        mVerticesNeedUpdate = true;
     }
 
-    public void setNormals(List<Vector> coords) {
-        mNormals = coords;
-        mGeometryNeedsUpdate = true;
-
+    /**
+     * Set the normals from a flat array of x, y, z values.
+     */
+    public void setNormals(float[] coords) {
+        copyToVectors(coords, 3, mNormals);
+        mNormalsNeedUpdate = true;
     }
 
-    public void setTexcoords(List<Vector> coords) {
-        mTexcoords = coords;
-        mGeometryNeedsUpdate = true;
+    /**
+     * Set the texture coordinates from a flat array of u, v values.
+     */
+    public void setTexcoords(float[] coords) {
+        copyToVectors(coords, 2, mTexcoords);
+        mTexcoordsNeedUpdate = true;
     }
 
-    public void setTriangleIndices(List<List<Integer>> triangleIndices) {
+    /**
+     * Set the triangle indices, one array of indices per submesh.
+     */
+    public void setTriangleIndices(List<int[]> triangleIndices) {
         mTriangleIndices = triangleIndices;
-        mGeometryNeedsUpdate = true;
+        mSubmeshesNeedUpdate = true;
+    }
+
+    /**
+     * Replace the values of one vertex attribute starting at the given vertex. Only the range
+     * crosses the bridge, but the renderer has no partial update, so the whole attribute array
+     * is still pushed to native. The range must lie within the current attribute array.
+     */
+    public void updateVertexRange(String attribute, int startVertex, float[] coords) {
+        List<Vector> target;
+        int componentsPerVertex;
+        if (ATTRIBUTE_VERTICES.equals(attribute)) {
+            target = mVertices;
+            componentsPerVertex = 3;
+            mVerticesNeedUpdate = true;
+        } else if (ATTRIBUTE_NORMALS.equals(attribute)) {
+            target = mNormals;
+            componentsPerVertex = 3;
+            mNormalsNeedUpdate = true;
+        } else if (ATTRIBUTE_TEXCOORDS.equals(attribute)) {
+            target = mTexcoords;
+            componentsPerVertex = 2;
+            mTexcoordsNeedUpdate = true;
+        } else {
+            throw new IllegalArgumentException("[ViroGeometry] Unknown vertex attribute [" + attribute + "]");
+        }
+
+        int count = coords.length / componentsPerVertex;
+        if (startVertex < 0 || startVertex + count > target.size()) {
+            throw new IllegalArgumentException("[ViroGeometry] Range [" + startVertex + ", " +
+                    (startVertex + count) + ") is outside the " + target.size() + " " + attribute + " of this geometry");
+        }
+        for (int i = 0; i < count; i++) {
+            setVector(target.get(startVertex + i), coords, i * componentsPerVertex, componentsPerVertex);
+        }
+        updateGeometry();
+    }
+
+    /**
+     * A read-only List view of a submesh's indices. Submesh only takes a List, so this hands it
+     * the decoded array directly instead of copying every index into a boxed list first.
+     */
+    private static final class IndexList extends AbstractList<Integer> implements RandomAccess {
+        private final int[] mIndices;
+
+        IndexList(int[] indices) {
+            mIndices = indices;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return mIndices[index];
+        }
+
+        @Override
+        public int size() {
+            return mIndices.length;
+        }
+    }
+
+    private static void copyToVectors(float[] coords, int componentsPerVertex, List<Vector> target) {
+        int count = coords.length / componentsPerVertex;
+        while (target.size() > count) {
+            target.remove(target.size() - 1);
+        }
+        for (int i = 0; i < count; i++) {
+            if (i < target.size()) {
+                setVector(target.get(i), coords, i * componentsPerVertex, componentsPerVertex);
+            } else {
+                Vector v = new Vector();
+                setVector(v, coords, i * componentsPerVertex, componentsPerVertex);
+                target.add(v);
+            }
+        }
+    }
+
+    private static void setVector(Vector v, float[] coords, int offset, int componentsPerVertex) {
+        v.x = coords[offset];
+        v.y = coords[offset + 1];
+        v.z = componentsPerVertex > 2 ? coords[offset + 2] : 0;
     }
 
     @Override
     public void onPropsSet() {
         super.onPropsSet();
-        if (mGeometryNeedsUpdate) {
-            updateGeometry();
-            mGeometryNeedsUpdate = false;
-        }
+        updateGeometry();
     }
 
     public void updateGeometry() {
-        mGeometry.setVertices(mVertices);
-        mGeometry.setTextureCoordinates(mTexcoords);
-        mGeometry.setNormals(mNormals);
+        if (mVerticesNeedUpdate) {
+            mGeometry.setVertices(mVertices);
+            mVerticesNeedUpdate = false;
+        }
+        if (mTexcoordsNeedUpdate) {
+            mGeometry.setTextureCoordinates(mTexcoords);
+            mTexcoordsNeedUpdate = false;
+        }
+        if (mNormalsNeedUpdate) {
+            mGeometry.setNormals(mNormals);
+            mNormalsNeedUpdate = false;
+        }
 
-        List<Submesh> submeshes = new ArrayList<>();
-        for (List<Integer> triangles : mTriangleIndices) {
-            submeshes.add(Submesh.builder().triangleIndices(triangles).build());
+        if (mSubmeshesNeedUpdate) {
+            List<Submesh> submeshes = new ArrayList<>();
+            for (int[] triangles : mTriangleIndices) {
+                submeshes.add(Submesh.builder().triangleIndices(new IndexList(triangles)).build());
+            }
+            mGeometry.setSubmeshes(submeshes);
+            mSubmeshesNeedUpdate = false;
         }
-        mGeometry.setSubmeshes(submeshes);
     }
 
 }
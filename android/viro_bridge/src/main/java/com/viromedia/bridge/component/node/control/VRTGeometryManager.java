@@ -21,16 +21,19 @@
 
 package com.viromedia.bridge.component.node.control;
 
-import android.util.Log;
+import androidx.annotation.Nullable;
 
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.common.MapBuilder;
 import com.facebook.react.uimanager.ThemedReactContext;
 import com.facebook.react.uimanager.annotations.ReactProp;
-import com.viro.core.Vector;
+import com.viromedia.bridge.utility.Helper;
+import com.viromedia.bridge.utility.ViroCommands;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class VRTGeometryManager extends VRTControlManager<VRTGeometry> {
 
@@ -48,59 +51,52 @@ public class VRTGeometryManager extends VRTControlManager<VRTGeometry> {
         return new VRTGeometry(reactContext);
     }
 
-    private List<Vector> convertVectorArray(ReadableArray array, int componentsPerVertex, String type) {
-        List<Vector> result = new ArrayList<Vector>();
-        for (int i = 0; i < array.size(); i ++) {
-            ReadableArray vecArray = array.getArray(i);
-            if (vecArray == null) {
-                throw new IllegalArgumentException("[ViroGeometry] geometry requires " + componentsPerVertex + " coordinates per vertex for type " + type + " but null vertex was provided!");
-            }
-            if (vecArray.size() < componentsPerVertex) {
-                throw new IllegalArgumentException("[ViroGeometry] geometry requires " + componentsPerVertex + " coordinates per vertex for type " + type + " but " +
-                        " vertex with " + vecArray.size() + " points was provided!");
-            }
-            if (vecArray.size() > componentsPerVertex) {
-                Log.w("Viro","[ViroGeometry] geometry only supports " + componentsPerVertex + " coordinates per vertex for type " + type + " but " +
-                        " vertex with " + vecArray.size() + " points was provided!");
-
-            }
-
-            Vector v = new Vector();
-            if (componentsPerVertex > 0) {
-                v.x = (float) vecArray.getDouble(0);
-            }
-            if (componentsPerVertex > 1) {
-                v.y = (float) vecArray.getDouble(1);
-            }
-            if (componentsPerVertex > 2) {
-                v.z = (float) vecArray.getDouble(2);
-            }
-            result.add(v);
+    private float[] decodePackedVectors(String packed, int componentsPerVertex, String type) {
+        float[] result = Helper.decodeFloatBuffer(packed);
+        if (result.length % componentsPerVertex != 0) {
+            throw new IllegalArgumentException("[ViroGeometry] geometry requires " + componentsPerVertex + " coordinates per vertex for type " + type + " but " +
+                    " packed buffer with " + result.length + " values was provided!");
         }
         return result;
     }
 
+    /*
+     The array props are set to null when the component switches to the packed props below,
+     which then carry the data, so null is ignored rather than clearing the geometry.
+     */
     @ReactProp(name = "vertices")
-    public void setVertices(VRTGeometry view, ReadableArray vertices) {
-        if (vertices == null || vertices.size() == 0) {
+    public void setVertices(VRTGeometry view, @Nullable ReadableArray vertices) {
+        if (vertices == null) {
+            return;
+        }
+        if (vertices.size() == 0) {
             throw new IllegalArgumentException("[ViroGeometry] Invalid Geometry vertex boundary list provided!");
         }
-        view.setVertices(convertVectorArray(vertices, 3, "vertices"));
+        view.setVertices(GeometryArrays.convertVectorArray(vertices, 3, "vertices"));
     }
 
     @ReactProp(name = "texcoords")
-    public void setTexcoords(VRTGeometry view, ReadableArray texcoords) {
-        view.setTexcoords(convertVectorArray(texcoords, 2, "texcoords"));
+    public void setTexcoords(VRTGeometry view, @Nullable ReadableArray texcoords) {
+        if (texcoords == null) {
+            return;
+        }
+        view.setTexcoords(GeometryArrays.convertVectorArray(texcoords, 2, "texcoords"));
     }
 
     @ReactProp(name = "normals")
-    public void setNormals(VRTGeometry view, ReadableArray normals) {
-        view.setNormals(convertVectorArray(normals, 3, "normals"));
+    public void setNormals(VRTGeometry view, @Nullable ReadableArray normals) {
+        if (normals == null) {
+            return;
+        }
+        view.setNormals(GeometryArrays.convertVectorArray(normals, 3, "normals"));
     }
 
     @ReactProp(name = "triangleIndices")
-    public void setTriangleIndices(VRTGeometry view, ReadableArray triangleIndicesArray) {
-        List<List<Integer>> triangleIndices = new ArrayList<>();
+    public void setTriangleIndices(VRTGeometry view, @Nullable ReadableArray triangleIndicesArray) {
+        if (triangleIndicesArray == null) {
+            return;
+        }
+        List<int[]> triangleIndices = new ArrayList<>();
 
         for (int i = 0; i < triangleIndicesArray.size(); i++) {
             ReadableArray submeshArray = triangleIndicesArray.getArray(i);
@@ -108,12 +104,72 @@ public class VRTGeometryManager extends VRTControlManager<VRTGeometry> {
                 continue;
             }
 
-            List<Integer> submesh = new ArrayList<>();
+            int[] submesh = new int[submeshArray.size()];
             for (int j = 0; j < submeshArray.size(); j++) {
-                submesh.add(submeshArray.getInt(j));
+                submesh[j] = submeshArray.getInt(j);
             }
             triangleIndices.add(submesh);
         }
         view.setTriangleIndices(triangleIndices);
     }
+
+    /*
+     The packed props carry the same data as the props above as base64 strings of
+     little-endian 32-bit values, which is far cheaper to send for large meshes.
+     */
+    @ReactProp(name = "packedVertices")
+    public void setPackedVertices(VRTGeometry view, @Nullable String vertices) {
+        if (vertices == null) {
+            return;
+        }
+        float[] coords = decodePackedVectors(vertices, 3, "vertices");
+        if (coords.length == 0) {
+            throw new IllegalArgumentException("[ViroGeometry] Invalid Geometry vertex boundary list provided!");
+        }
+        view.setVertices(coords);
+    }
+
+    @ReactProp(name = "packedTexcoords")
+    public void setPackedTexcoords(VRTGeometry view, @Nullable String texcoords) {
+        if (texcoords != null) {
+            view.setTexcoords(decodePackedVectors(texcoords, 2, "texcoords"));
+        }
+    }
+
+    @ReactProp(name = "packedNormals")
+    public void setPackedNormals(VRTGeometry view, @Nullable String normals) {
+        if (normals != null) {
+            view.setNormals(decodePackedVectors(normals, 3, "normals"));
+        }
+    }
+
+    @ReactProp(name = "packedTriangleIndices")
+    public void setPackedTriangleIndices(VRTGeometry view, @Nullable ReadableArray triangleIndicesArray) {
+        if (triangleIndicesArray == null) {
+            return;
+        }
+        List<int[]> triangleIndices = new ArrayList<>();
+        for (int i = 0; i < triangleIndicesArray.size(); i++) {
+            triangleIndices.add(Helper.decodeIntBuffer(triangleIndicesArray.getString(i)));
+        }
+        view.setTriangleIndices(triangleIndices);
+    }
+
+    @Override
+    public void receiveCommand(VRTGeometry geometry, int commandType, @Nullable ReadableArray args) {
+        switch (commandType) {
+            case ViroCommands.UPDATE_VERTEX_RANGE_INDEX:
+                geometry.updateVertexRange(args.getString(0), args.getInt(1),
+                        Helper.decodeFloatBuffer(args.getString(2)));
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported command " + commandType
+                        + " received by" + getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public Map<String,Integer> getCommandsMap() {
+        return MapBuilder.of(ViroCommands.UPDATE_VERTEX_RANGE_NAME, ViroCommands.UPDATE_VERTEX_RANGE_INDEX);
+    }
 }
@@ -33,8 +33,11 @@ import com.viro.core.internal.Image;
 import com.viro.core.Material;
 import com.viro.core.Quad;
 import com.viro.core.Texture;
+import com.viromedia.bridge.utility.DirectImageDownloadListener;
 import com.viromedia.bridge.utility.ImageDownloadListener;
+import com.viromedia.bridge.utility.ImageDownloadScheduler;
 import com.viromedia.bridge.utility.ImageDownloader;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 import com.viromedia.bridge.utility.ViroLog;
 
@@ -199,6 +202,7 @@ public class VRTImage extends VRTControl {
         // before downloading/fetching the source image. Otherwise, just immediately get the source.
         if (!mIsImageSet && mPlaceholderSourceMap != null && mSourceMap != null) {
             mPlaceholderListener = new PlaceholderImageDownloadListener(downloader);
+            downloader.setPriority(ImageDownloadScheduler.Priority.PLACEHOLDER);
             downloader.getImageAsync(mPlaceholderSourceMap, mPlaceholderListener);
         } else {
             downloadSourceImage(downloader);
@@ -209,6 +213,7 @@ public class VRTImage extends VRTControl {
         if (mSourceMap != null) {
             imageDownloadDidStart();
             mMainListener = new MainImageDownloadListener();
+            downloader.setPriority(ImageDownloadScheduler.Priority.VISIBLE);
             downloader.getImageAsync(mSourceMap, mMainListener);
         }
 
@@ -272,6 +277,14 @@ public class VRTImage extends VRTControl {
         if (mNativeQuad == null) {
             return;
         }
+        setImageOnQuad(new Image(image, mFormat));
+    }
+
+    void setImageOnQuad(Image image) {
+        if (mNativeQuad == null) {
+            image.destroy();
+            return;
+        }
 
         if (mLatestImage != null) {
             mLatestImage.destroy();
@@ -280,12 +293,15 @@ public class VRTImage extends VRTControl {
             mLatestImageTexture.dispose();
         }
 
-        mLatestImage = new Image(image, mFormat);
+        mLatestImage = image;
+        long startNanos = System.nanoTime();
         mLatestImageTexture = new Texture(mLatestImage, true, mMipmap, mStereoMode);
+        PerfTelemetry.recordTextureUpload(startNanos);
         mNativeQuad.setImageTexture(mLatestImageTexture);
     }
 
     void imageDownloadDidStart() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_LOAD_START);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_LOAD_START,
@@ -294,6 +310,7 @@ public class VRTImage extends VRTControl {
     }
 
     void imageDownloadDidFinish() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_LOAD_END);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_LOAD_END,
@@ -412,9 +429,10 @@ public class VRTImage extends VRTControl {
     }
 
     /**
-     * This is the ImageDownloadListener for the main source image
+     * This is the ImageDownloadListener for the main source image. The native image is created
+     * on the download thread, so only the finished Image is handed to the main thread.
      */
-    class MainImageDownloadListener implements ImageDownloadListener {
+    class MainImageDownloadListener implements DirectImageDownloadListener {
         private boolean mIsValid = true;
 
         public void invalidate() {
@@ -428,18 +446,26 @@ public class VRTImage extends VRTControl {
 
         @Override
         public void completed(final Bitmap result) {
+            if (!isValid()) {
+                return;
+            }
+
+            final Image image = new Image(result, mFormat);
+            final int width = result.getWidth();
+            final int height = result.getHeight();
             mMainHandler.post(new Runnable() {
                 @Override
                 public void run() {
                     if (!isValid()) {
+                        image.destroy();
                         return;
                     }
 
                     mIsImageSet = true;
-                    updateMainImageDimensions(result.getWidth(), result.getHeight());
+                    updateMainImageDimensions(width, height);
 
                     setMaterialOnQuad();
-                    setImageOnQuad(result);
+                    setImageOnQuad(image);
 
                     imageDownloadDidFinish();
                     mMainListener = null;
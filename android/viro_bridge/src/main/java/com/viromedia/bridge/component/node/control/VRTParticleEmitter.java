@@ -22,7 +22,6 @@
 package com.viromedia.bridge.component.node.control;
 
 import android.graphics.Bitmap;
-import android.graphics.Color;
 import android.os.Handler;
 import android.os.Looper;
 
@@ -40,6 +39,7 @@ import com.viro.core.Texture;
 import com.viromedia.bridge.component.node.VRTScene;
 import com.viromedia.bridge.utility.ImageDownloadListener;
 import com.viromedia.bridge.utility.ImageDownloader;
+import com.viromedia.bridge.utility.PerfTelemetry;
 
 import java.util.ArrayList;
 
@@ -93,6 +93,14 @@ public class VRTParticleEmitter extends VRTControl {
     private ParticleEmitter.ParticleModifier mDefaultVelocity;
     private ParticleEmitter.ParticleModifier mDefaultAccelerationMod;
 
+    private final ParticleModifierParser.ErrorListener mModifierErrorListener =
+            new ParticleModifierParser.ErrorListener() {
+                @Override
+                public void onError(String error) {
+                    VRTParticleEmitter.this.onError(error);
+                }
+            };
+
     public VRTParticleEmitter(ReactContext reactContext) {
         super(reactContext);
         mDefaultAlphaMod = new ParticleEmitter.ParticleModifierFloatArray(new float[]{1, 0, 0});
@@ -308,7 +316,9 @@ public class VRTParticleEmitter extends VRTControl {
 
         mImageNeedsUpdate = true;
         mLatestImage = new Image(result, Texture.Format.RGBA8);
+        long startNanos = System.nanoTime();
         mLatestTexture = new Texture(mLatestImage, true, false, null);
+        PerfTelemetry.recordTextureUpload(startNanos);
 
         mImageDownloadListener.invalidate();
         mImageDownloadListener = null;
@@ -586,137 +596,11 @@ public class VRTParticleEmitter extends VRTControl {
         mNativeEmitter.setColorModifierLegacy(colorMod);
     }
 
-    private ParticleEmitter.ParticleModifier getModifier(ReadableMap appearanceMap,
-                                                            String property, boolean isVec3,
-                                                            boolean isColor, boolean isFloat){
-        if (!appearanceMap.hasKey(property)){
-            return null;
-        }
-
-        final ReadableMap map = appearanceMap.getMap(property);
-
-        // Both [min, max] initial values are required for particle modifiers.
-        if (!map.hasKey("initialRange") || map.getArray("initialRange").size() != 2){
-            onError("Incorrect parameters provided for the intervalRange on "+ property+", expected: [min, max]!");
-            return null;
-        }
-
-        float initialRange[][] = getValueArrayFromDict(map, "initialRange", isVec3, isColor, isFloat);
-        float interpolatedIntervals[][] = null;
-        float interpolatedPoints[][] = null;
-
-        if (initialRange == null){
-            onError("Incorrect parameters provided for InitialRange!");
-            return null;
-        }
-
-        // Parse out the interpolation data
-        if (map.hasKey("interpolation")){
-            ReadableArray interpolatedArray = map.getArray("interpolation");
-            interpolatedIntervals = new float[interpolatedArray.size()][2];
-            interpolatedPoints = new float[interpolatedArray.size()][3];
-
-            for (int i = 0; i < interpolatedArray.size(); i ++){
-                ReadableMap interpolatePoint = interpolatedArray.getMap(i);
-
-                // Grab the interval representing this interpolation frame
-                ReadableArray intervalArrayReadable = interpolatePoint.getArray("interval");
-                if (intervalArrayReadable.size() != 2){
-                    onError("Invalid interval provided for " + property + "! Expected a [max, min].");
-                    return null;
-                }
-                float interval[] = new float[2];
-                interval[0] = (float) intervalArrayReadable.getDouble(0);
-                interval[1] = (float) intervalArrayReadable.getDouble(1);
-
-                // Grab the targeted value to interpolate towards
-                float[] value = getVecValueFromDict(interpolatePoint, "endValue", isVec3, isColor, isFloat);
-
-                interpolatedIntervals[i] = interval;
-                interpolatedPoints[i] = value;
-            }
-        }
-
-        // Set the modifier on this emitter through JNI
-        ParticleEmitter.Factor factor = map.hasKey("factor") ?
-                ParticleEmitter.Factor.valueFromString(map.getString("factor")) :
-                ParticleEmitter.Factor.TIME;
-        return new ParticleEmitter.ParticleModifierFloatArray(factor, initialRange, interpolatedIntervals, interpolatedPoints);
-    }
-
-    private float[][] getValueArrayFromDict(ReadableMap map, String key,
-                                          boolean isVec3, boolean isColor, boolean isFloat){
-        if (!map.hasKey(key)){
-            onError("Attempted to read an invalid property: " + key);
-            return null;
-        }
-
-        ReadableArray valuesReadableArray = map.getArray(key);
-        float[][] returnList = new float [valuesReadableArray.size()][3];
-        for (int i = 0; i < valuesReadableArray.size(); i ++){
-            if (isVec3){
-                ReadableArray vecParamsReadableArray = valuesReadableArray.getArray(i);
-                float vecParams[] = new float[vecParamsReadableArray.size()];
-                for (int vecIndex = 0; vecIndex < vecParamsReadableArray.size(); vecIndex++) {
-                    vecParams[vecIndex] = (float) vecParamsReadableArray.getDouble(vecIndex);
-                }
-
-                if (vecParams.length != 3){
-                    onError("Property: " + key + " requires an array of 3 values.");
-                    return null;
-                } else {
-                    returnList[i] = vecParams;
-                }
-            }
-
-            if (isColor){
-                int colorInt = valuesReadableArray.getInt(i);
-                returnList[i] = new float[]{Color.red(colorInt), Color.green(colorInt), Color.blue(colorInt)};
-            }
-
-            if (isFloat){
-                float value = (float)valuesReadableArray.getDouble(i);
-                returnList[i] = new float[]{value, 0, 0};
-            }
-        }
-
-        return returnList;
-    }
-
-    private float[] getVecValueFromDict(ReadableMap map, String key,
-                                        boolean isVec3, boolean isColor, boolean isFloat){
-        if (!map.hasKey(key)){
-            onError("Attempted to read an invalid property: " + key);
-            return new float[]{0,0,0};
-        }
-
-        if (isVec3){
-            ReadableArray readableParams = map.getArray(key);
-            float params[] = new float[readableParams.size()];
-            for (int i = 0; i < readableParams.size(); i++) {
-                params[i] = (float) readableParams.getDouble(i);
-            }
-
-            if (params.length != 3){
-                onError("Property: " + key + " requires an array of 3 values.");
-                return new float[]{0,0,0};
-            }
-
-            return params;
-        }
-
-        if (isColor){
-            int colorInt = map.getInt(key);
-            return new float[]{Color.red(colorInt), Color.green(colorInt), Color.blue(colorInt)};
-        }
-
-        if (isFloat){
-            float value = (float)map.getDouble(key);
-            return new float[]{value, 0, 0};
-        }
-
-        onError("In correct data type provided for property: " + key);
-        return new float[]{0,0,0};
+    private ParticleEmitter.ParticleModifier getModifier(ReadableMap map, String property,
+                                                         boolean isVec3, boolean isColor,
+                                                         boolean isFloat) {
+        return ParticleModifierParser.getModifier(map, property, isVec3, isColor, isFloat,
+                mModifierErrorListener);
     }
 
     private class ImageParticleDownloadListener implements ImageDownloadListener {
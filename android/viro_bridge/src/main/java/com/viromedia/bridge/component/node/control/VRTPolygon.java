@@ -25,6 +25,7 @@ import com.facebook.react.bridge.ReactContext;
 import com.viro.core.Material;
 import com.viro.core.Polygon;
 import com.viro.core.Vector;
+import com.viromedia.bridge.module.MaterialOverrides;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -92,9 +93,8 @@ public class VRTPolygon extends VRTControl {
          Override to set the shadow mode in the materials.
          */
         if (materials != null) {
-            for (Material material : materials) {
-                material.setShadowMode(mARShadowReceiver ? Material.ShadowMode.TRANSPARENT : Material.ShadowMode.NORMAL);
-            }
+            setMaterialOverrides(MaterialOverrides.NONE.withShadowMode(
+                    mARShadowReceiver ? Material.ShadowMode.TRANSPARENT : null));
             super.setMaterials(materials);
         }
         /*
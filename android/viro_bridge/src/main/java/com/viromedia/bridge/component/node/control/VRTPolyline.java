@@ -25,14 +25,19 @@ package com.viromedia.bridge.component.node.control;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReadableArray;
 import com.viro.core.Polyline;
+import com.viro.core.Vector;
 
 public class VRTPolyline extends VRTControl {
     private Polyline mNativeLine;
     private boolean mDidSetGeometry = false;
-    private float[][] mPoints;
+    private final PolylinePath mPath = new PolylinePath();
+    // Points pushed to the native line, which includes tails since replaced by simplification
+    private int mNativePointCount = 0;
     private float mThickness = 0.1f; // default thickness of line is 0.1f
     private boolean mClosed = false;
     private ReadableArray mRawPoints;
+    private float mSimplificationDistance = 0;
+    private float mSimplificationAngle = 0;
 
     public VRTPolyline(ReactContext reactContext)  {
         super(reactContext);
@@ -51,36 +56,22 @@ public class VRTPolyline extends VRTControl {
         mDidSetGeometry = false;
     }
 
-    private float[][] processPoints() {
+    private float[] processPoints() {
         if (mRawPoints.size() == 0) {
             throw new IllegalArgumentException("Polyline should consist of at least 1 point");
         }
 
-        int pointSize = mRawPoints.size();
-        if (mClosed) {
-            pointSize+=1;
-        }
-
-        float[][] pointsArray = new float[pointSize][3];
+        float[] coords = new float[mRawPoints.size() * 3];
         for (int i = 0; i < mRawPoints.size(); i++) {
             ReadableArray point = mRawPoints.getArray(i);
             if (point.size() < 3) {
                 throw new IllegalArgumentException("Polyline points should have at least 3 coordinates");
             }
             for (int j = 0; j < 3; j++) {
-                pointsArray[i][j] = (float) point.getDouble(j);
+                coords[i * 3 + j] = (float) point.getDouble(j);
             }
         }
-
-        // Add a closing point to the end if closed prop set.
-        if (mClosed) {
-            ReadableArray point = mRawPoints.getArray(0);
-            pointsArray[mRawPoints.size()][0] = (float)point.getDouble(0);
-            pointsArray[mRawPoints.size()][1] = (float)point.getDouble(1);
-            pointsArray[mRawPoints.size()][2] = (float)point.getDouble(2);
-        }
-
-        return pointsArray;
+        return coords;
     }
 
     public void setThickness(float thickness) {
@@ -98,19 +89,76 @@ public class VRTPolyline extends VRTControl {
         mDidSetGeometry = false;
     }
 
+    public void setMaxPoints(int maxPoints) {
+        mPath.setMaxPoints(maxPoints);
+        if (mPath.consumeTrimmed()) {
+            mDidSetGeometry = false;
+        }
+    }
+
+    public void setSimplificationDistance(float distance) {
+        if (distance < 0) {
+            throw new IllegalArgumentException("Polyline simplificationDistance must be >= 0");
+        }
+        mSimplificationDistance = distance;
+    }
+
+    public void setSimplificationAngle(float degrees) {
+        if (degrees < 0 || degrees >= 180) {
+            throw new IllegalArgumentException("Polyline simplificationAngle must be in [0, 180)");
+        }
+        mSimplificationAngle = degrees;
+    }
+
+    /**
+     * Append packed xyz points to the end of the line. Only the new points are pushed to the
+     * native polyline, unless the line is closed or the point cap dropped old points, in which
+     * case the line is rebuilt from the retained points. Tail points replaced by simplification
+     * stay in the native line, as they lie on it, until it holds twice the retained points and
+     * is rebuilt.
+     */
+    public void appendPoints(float[] coords) {
+        int written = mPath.append(coords, mSimplificationDistance, mSimplificationAngle);
+        if (written == 0) {
+            return;
+        }
+
+        if (mNativeLine == null || mClosed || mPath.consumeTrimmed()
+                || mNativePointCount + written > 2 * mPath.size()) {
+            rebuildNativeLine();
+            return;
+        }
+        for (int i = mPath.size() - written; i < mPath.size(); i++) {
+            mNativeLine.appendPoint(new Vector(mPath.get(i, 0), mPath.get(i, 1), mPath.get(i, 2)));
+        }
+        mNativePointCount += written;
+    }
+
     @Override
     public void onPropsSet() {
         super.onPropsSet();
-        if (!mDidSetGeometry && mRawPoints != null) {
-            mPoints = processPoints();
-            if (mNativeLine != null) {
-                mNativeLine.dispose();
-            }
+        if (mRawPoints != null) {
+            // The points prop replaces the whole line, including anything appended since
+            mPath.clear();
+            mPath.append(processPoints(), mSimplificationDistance, mSimplificationAngle);
+            mPath.consumeTrimmed();
+            mRawPoints = null;
+            mDidSetGeometry = false;
+        }
+        if (!mDidSetGeometry && mPath.size() > 0) {
+            rebuildNativeLine();
+        }
+    }
 
-            mNativeLine = new Polyline(mPoints, mThickness);
-            setGeometry(mNativeLine);
-            mDidSetGeometry = true;
+    private void rebuildNativeLine() {
+        if (mNativeLine != null) {
+            mNativeLine.dispose();
         }
+
+        mNativeLine = new Polyline(mPath.toArray(mClosed), mThickness);
+        mNativePointCount = mPath.size();
+        setGeometry(mNativeLine);
+        mDidSetGeometry = true;
     }
 
 }
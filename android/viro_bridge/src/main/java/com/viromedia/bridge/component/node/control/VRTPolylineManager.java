@@ -21,12 +21,16 @@
 
 package com.viromedia.bridge.component.node.control;
 
+import androidx.annotation.Nullable;
+
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.common.MapBuilder;
 import com.facebook.react.uimanager.ThemedReactContext;
 import com.facebook.react.uimanager.annotations.ReactProp;
 import com.viromedia.bridge.component.node.VRTNodeManager;
+import com.viromedia.bridge.utility.Helper;
+import com.viromedia.bridge.utility.ViroCommands;
 import com.viromedia.bridge.utility.ViroEvents;
 
 import java.util.Map;
@@ -62,4 +66,36 @@ public class VRTPolylineManager extends VRTControlManager<VRTPolyline> {
         polyline.setThickness(thickness);
     }
 
+    @ReactProp(name = "maxPoints", defaultInt = 0)
+    public void setMaxPoints(VRTPolyline polyline, int maxPoints) {
+        polyline.setMaxPoints(maxPoints);
+    }
+
+    @ReactProp(name = "simplificationDistance", defaultFloat = 0f)
+    public void setSimplificationDistance(VRTPolyline polyline, float distance) {
+        polyline.setSimplificationDistance(distance);
+    }
+
+    @ReactProp(name = "simplificationAngle", defaultFloat = 0f)
+    public void setSimplificationAngle(VRTPolyline polyline, float degrees) {
+        polyline.setSimplificationAngle(degrees);
+    }
+
+    @Override
+    public void receiveCommand(VRTPolyline polyline, int commandType, @Nullable ReadableArray args) {
+        switch (commandType) {
+            case ViroCommands.APPEND_POINTS_INDEX:
+                polyline.appendPoints(Helper.decodeFloatBuffer(args.getString(0)));
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported command " + commandType
+                        + " received by" + getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public Map<String,Integer> getCommandsMap() {
+        return MapBuilder.of(ViroCommands.APPEND_POINTS_NAME, ViroCommands.APPEND_POINTS_INDEX);
+    }
+
 }
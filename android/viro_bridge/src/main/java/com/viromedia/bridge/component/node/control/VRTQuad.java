@@ -25,6 +25,7 @@ package com.viromedia.bridge.component.node.control;
 import com.facebook.react.bridge.ReactContext;
 import com.viro.core.Material;
 import com.viro.core.Quad;
+import com.viromedia.bridge.module.MaterialOverrides;
 
 import java.util.Arrays;
 import java.util.List;
@@ -91,9 +92,8 @@ public class VRTQuad extends VRTControl {
          Override to set the shadow mode in the materials.
          */
         if (materials != null) {
-            for (Material material : materials) {
-                material.setShadowMode(mARShadowReceiver ? Material.ShadowMode.TRANSPARENT : Material.ShadowMode.NORMAL);
-            }
+            setMaterialOverrides(MaterialOverrides.NONE.withShadowMode(
+                    mARShadowReceiver ? Material.ShadowMode.TRANSPARENT : null));
             super.setMaterials(materials);
         }
         /*
@@ -29,6 +29,7 @@ import com.facebook.react.bridge.ReadableMap;
 import com.viro.core.Material;
 import com.viro.core.ViroContext;
 import com.viro.core.Text;
+import com.viromedia.bridge.module.MaterialOverrides;
 
 import java.util.List;
 
@@ -207,11 +208,7 @@ public class VRTText extends VRTControl {
 
     @Override
     protected void setMaterials(List<Material> materials) {
-        if (materials != null) {
-            for (Material material : materials) {
-                material.setCullMode(Material.CullMode.NONE);
-            }
-        }
+        setMaterialOverrides(MaterialOverrides.NONE.withCullMode(Material.CullMode.NONE));
         super.setMaterials(materials);
     }
 
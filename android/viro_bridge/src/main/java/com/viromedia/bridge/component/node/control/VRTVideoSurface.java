@@ -33,6 +33,7 @@ import com.viro.core.ViroContext;
 import com.viro.core.Quad;
 import com.viro.core.VideoTexture;
 import com.viromedia.bridge.utility.Helper;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroEvents;
 
 import java.lang.ref.WeakReference;
@@ -159,6 +160,12 @@ public class VRTVideoSurface extends VRTControl {
         mVideoTexture.setPlaybackListener(mDelegate);
     }
 
+    @Override
+    protected boolean needsUniqueMaterials() {
+        // The video texture is set on this surface's own copy of its materials
+        return true;
+    }
+
     @Override
     protected void setMaterials(List<Material> materials) {
         super.setMaterials(materials);
@@ -255,6 +262,7 @@ public class VRTVideoSurface extends VRTControl {
     }
 
     private void playerBufferStart() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_BUFFER_START);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_BUFFER_START,
@@ -262,6 +270,7 @@ public class VRTVideoSurface extends VRTControl {
     }
 
     private void playerBufferEnd() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_BUFFER_END);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_BUFFER_END,
@@ -269,6 +278,7 @@ public class VRTVideoSurface extends VRTControl {
     }
 
     private void playerDidFinishPlaying() {
+        PerfTelemetry.recordEvent(ViroEvents.ON_FINISH);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_FINISH,
@@ -280,6 +290,7 @@ public class VRTVideoSurface extends VRTControl {
         event.putDouble("currentTime", (double) currentTime);
         event.putDouble("totalTime", (double) totalTime);
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_UPDATE_TIME);
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
                 ViroEvents.ON_UPDATE_TIME,
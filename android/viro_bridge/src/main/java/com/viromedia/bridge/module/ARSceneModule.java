@@ -31,6 +31,7 @@ import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.IllegalViewOperationException;
 import com.facebook.react.uimanager.NativeViewHierarchyManager;
 import com.facebook.react.uimanager.UIBlock;
@@ -42,11 +43,20 @@ import com.viro.core.Renderer;
 import com.viro.core.Vector;
 import com.viro.core.ViroViewARCore;
 import com.viromedia.bridge.component.VRTARSceneNavigator;
+import com.viromedia.bridge.component.node.VRTARNode;
+import com.viromedia.bridge.component.node.VRTARScene;
+import com.viromedia.bridge.utility.ARHitTestBatch;
 import com.viromedia.bridge.utility.ARUtils;
+import com.viromedia.bridge.utility.Helper;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 
 @ReactModule(name = "VRTARSceneModule")
 public class ARSceneModule extends ReactContextBaseJavaModule {
+    private static final String INVALID_HIT_TEST_QUERY = "E_INVALID_HIT_TEST_QUERY";
 
     public ARSceneModule(ReactApplicationContext context) {
         super(context);
@@ -215,4 +225,107 @@ public class ARSceneModule extends ReactContextBaseJavaModule {
             }
         });
     }
+
+    /**
+     * Runs a batch of hit tests (screen points and rays) against the current AR frame and
+     * resolves once with all of their results. Queries are a base64 Float32 buffer laid out as
+     * described in {@link ARHitTestBatch}; the promise resolves with a base64 Float32 "results"
+     * buffer and the "types" names its type indices refer to.
+     *
+     * @param types              result types to return (e.g. "ExistingPlaneUsingExtent"), or
+     *                           null for all types
+     * @param maxResultsPerQuery the nearest results returned per query, or 0 for all
+     */
+    @ReactMethod
+    public void performARHitTestBatch(final int viewTag, final String queries, final ReadableArray types,
+                                      final int maxResultsPerQuery, final Promise promise) {
+        final float[] queryArray;
+        try {
+            queryArray = Helper.decodeFloatBuffer(queries);
+        } catch (IllegalArgumentException e) {
+            promise.reject(INVALID_HIT_TEST_QUERY, e.getMessage());
+            return;
+        }
+        final Set<String> typeFilter;
+        if (types != null) {
+            typeFilter = new HashSet<>();
+            for (int i = 0; i < types.size(); i++) {
+                typeFilter.add(types.getString(i));
+            }
+        } else {
+            typeFilter = null;
+        }
+
+        UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
+        uiManager.addUIBlock(new UIBlock() {
+            @Override
+            public void execute(NativeViewHierarchyManager nativeViewHierarchyManager) {
+                // Errors are reported through the promise, since nothing on the JS side would
+                // see an exception thrown from the UI block
+                View sceneView;
+                try {
+                    sceneView = nativeViewHierarchyManager.resolveView(viewTag);
+                } catch (IllegalViewOperationException e) {
+                    sceneView = null;
+                }
+                if (sceneView == null || !(sceneView.getParent() instanceof VRTARSceneNavigator)) {
+                    promise.reject(INVALID_HIT_TEST_QUERY, "Invalid view returned when " +
+                            "calling performARHitTestBatch: expected ViroARSceneNavigator as parent");
+                    return;
+                }
+
+                VRTARSceneNavigator arSceneNavigator = (VRTARSceneNavigator) sceneView.getParent();
+                ViroViewARCore arView = arSceneNavigator.getARView();
+                try {
+                    ARHitTestBatch.run(arView, queryArray, typeFilter, maxResultsPerQuery,
+                            new ARHitTestBatch.Listener() {
+                                @Override
+                                public void onComplete(float[] results, List<String> resultTypes) {
+                                    WritableMap returnMap = Arguments.createMap();
+                                    returnMap.putString("results", Helper.encodeFloatBuffer(results));
+                                    returnMap.putArray("types", Arguments.makeNativeArray(resultTypes));
+                                    promise.resolve(returnMap);
+                                }
+                            });
+                } catch (IllegalArgumentException e) {
+                    promise.reject(INVALID_HIT_TEST_QUERY, e.getMessage());
+                }
+            }
+        });
+    }
+
+    @ReactMethod
+    public void getUpdateStats(final int viewTag, final Promise promise) {
+        UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
+        uiManager.addUIBlock(new UIBlock() {
+            @Override
+            public void execute(NativeViewHierarchyManager nativeViewHierarchyManager) {
+                View sceneView = nativeViewHierarchyManager.resolveView(viewTag);
+                if (!(sceneView instanceof VRTARScene)) {
+                    throw new IllegalViewOperationException("Invalid view returned when " +
+                            "calling getUpdateStats: expected a ViroARScene!");
+                }
+                promise.resolve(((VRTARScene) sceneView).getUpdateStats());
+            }
+        });
+    }
+
+    @ReactMethod
+    public void requestAnchorResync(final int viewTag, final String anchorId) {
+        UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
+        uiManager.addUIBlock(new UIBlock() {
+            @Override
+            public void execute(NativeViewHierarchyManager nativeViewHierarchyManager) {
+                View view = nativeViewHierarchyManager.resolveView(viewTag);
+                if (view instanceof VRTARScene) {
+                    ((VRTARScene) view).requestAnchorResync(anchorId);
+                } else if (view instanceof VRTARNode) {
+                    ((VRTARNode) view).requestAnchorResync();
+                } else {
+                    throw new IllegalViewOperationException("Invalid view returned when " +
+                            "calling requestAnchorResync: expected a ViroARScene or AR node!");
+                }
+            }
+        });
+    }
 }
@@ -34,6 +34,7 @@ import com.facebook.react.bridge.ReadableMapKeySetIterator;
 import com.facebook.react.module.annotations.ReactModule;
 import com.viro.core.ARImageTarget;
 import com.viromedia.bridge.utility.ImageDownloadListener;
+import com.viromedia.bridge.utility.ImageDownloadScheduler;
 import com.viromedia.bridge.utility.ImageDownloader;
 
 import java.util.ArrayList;
@@ -84,6 +85,7 @@ public class ARTrackingTargetsModule extends ReactContextBaseJavaModule {
             }
 
             ImageDownloader downloader = new ImageDownloader(context);
+            downloader.setPriority(ImageDownloadScheduler.Priority.AR_TARGET);
             downloader.getImageAsync(mSource, new ImageDownloadListener() {
                 @Override
                 public boolean isValid() {
@@ -29,7 +29,6 @@ import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.ReadableMapKeySetIterator;
-import com.facebook.react.bridge.ReadableType;
 import com.facebook.react.module.annotations.ReactModule;
 import com.viro.core.internal.AnimationChain;
 import com.viro.core.internal.AnimationGroup;
@@ -37,9 +36,15 @@ import com.viro.core.internal.ExecutableAnimation;
 import com.viro.core.internal.ExecutableAnimation.ExecutionType;
 import com.viro.core.internal.LazyMaterial;
 import com.viro.core.Material;
+import com.viromedia.bridge.utility.PerfTelemetry;
 import com.viromedia.bridge.utility.ViroLog;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 
 @ReactModule(name = "VRTAnimationManager")
 public class AnimationManager extends ReactContextBaseJavaModule {
@@ -70,16 +75,59 @@ public class AnimationManager extends ReactContextBaseJavaModule {
         }
     }
 
+    /**
+     * A parsed animation along with the JS definition it was parsed from. The animation is a
+     * template: it is never executed itself, and nodes run copies of it. The version changes
+     * whenever the animation is re-parsed, so nodes can tell when their copy is stale.
+     */
+    private static class ParsedAnimation {
+        final Object mDefinition;
+        final ExecutableAnimation mAnimation;
+        final Set<String> mReferences;
+        final boolean mAnimatesMaterials;
+        final long mVersion;
+
+        ParsedAnimation(Object definition, ExecutableAnimation animation, Set<String> references,
+                        boolean animatesMaterials, long version) {
+            mDefinition = definition;
+            mAnimation = animation;
+            mReferences = references;
+            mAnimatesMaterials = animatesMaterials;
+            mVersion = version;
+        }
+    }
+
     /*
      TODO: change this back to non-static. Required for VIRO-3474.
      */
-    private static HashMap<String, ExecutableAnimation> sParsedAnimations;
+    private static HashMap<String, ParsedAnimation> sParsedAnimations;
+    private static long sNextVersion = 0;
     public void clearAnimations() {
         sParsedAnimations = new HashMap<>();
     }
 
     private ReadableMap mRawAnimations;
 
+    /**
+     * Names of the other animations referenced by the animation currently being parsed.
+     */
+    private Set<String> mParseReferences;
+
+    /**
+     * Whether the animation currently being parsed animates color or material.
+     */
+    private boolean mParseAnimatesMaterials;
+
+    private final AnimationMapParser.MaterialResolver mMaterialResolver =
+            new AnimationMapParser.MaterialResolver() {
+                @Override
+                public LazyMaterial resolve(String materialName) {
+                    MaterialManager materialManager =
+                            getReactApplicationContext().getNativeModule(MaterialManager.class);
+                    return new LazyMaterialReact(materialName, materialManager);
+                }
+            };
+
     public AnimationManager(ReactApplicationContext context) {
         super(context);
         Log.e("Manish", "AnimationManager constructor");
@@ -100,21 +148,112 @@ public class AnimationManager extends ReactContextBaseJavaModule {
     @ReactMethod
     public void setJSAnimations(ReadableMap animationsMap) {
         mRawAnimations = animationsMap;
+        long startNanos = System.nanoTime();
         parseAnimations();
+        PerfTelemetry.recordAnimationParse(startNanos);
     }
 
+    /**
+     * Returns the template for the given animation. Callers must run a copy of it rather than
+     * the template itself.
+     */
     public ExecutableAnimation getAnimation(String name) {
-        return sParsedAnimations.get(name);
+        ParsedAnimation parsed = sParsedAnimations.get(name);
+        return parsed != null ? parsed.mAnimation : null;
+    }
+
+    /**
+     * Returns the version of the given animation, or -1 if there is no such animation. The
+     * version changes each time the animation's definition (or that of any animation it
+     * references) changes.
+     */
+    public long getAnimationVersion(String name) {
+        ParsedAnimation parsed = sParsedAnimations.get(name);
+        return parsed != null ? parsed.mVersion : -1;
+    }
+
+    /**
+     * Returns true if the given animation changes the materials of the node it runs on, so
+     * that node can't share its materials with other nodes.
+     */
+    public boolean animatesMaterials(String name) {
+        ParsedAnimation parsed = sParsedAnimations.get(name);
+        return parsed != null && parsed.mAnimatesMaterials;
     }
 
+    /**
+     * Re-parse only the animations whose definitions changed since the last call, along with
+     * any animations that reference them by name. Unchanged animations keep their templates
+     * and versions, so running nodes don't reload them.
+     */
     private void parseAnimations() {
+        long span = ViroLog.beginSpan("AnimationManager.parseAnimations");
+        try {
+            parseChangedAnimations();
+        } finally {
+            ViroLog.endSpan("AnimationManager.parseAnimations", span);
+        }
+    }
+
+    private void parseChangedAnimations() {
+        Map<String, Object> definitions = mRawAnimations.toHashMap();
+
+        Set<String> stale = new HashSet<>();
+        Iterator<Map.Entry<String, ParsedAnimation>> existing = sParsedAnimations.entrySet().iterator();
+        while (existing.hasNext()) {
+            Map.Entry<String, ParsedAnimation> entry = existing.next();
+            Object definition = definitions.get(entry.getKey());
+            if (definition == null || !definition.equals(entry.getValue().mDefinition)) {
+                stale.add(entry.getKey());
+            }
+            if (definition == null) {
+                disposeTemplate(entry.getValue());
+                existing.remove();
+            }
+        }
+
+        // Animations that reference a stale animation by name embed a parsed copy of it, so
+        // they are stale as well
+        boolean propagated = true;
+        while (propagated) {
+            propagated = false;
+            for (Map.Entry<String, ParsedAnimation> entry : sParsedAnimations.entrySet()) {
+                if (!stale.contains(entry.getKey())
+                        && !Collections.disjoint(entry.getValue().mReferences, stale)) {
+                    stale.add(entry.getKey());
+                    propagated = true;
+                }
+            }
+        }
+
+        int parsedCount = 0;
         ReadableMapKeySetIterator iter = mRawAnimations.keySetIterator();
         while(iter.hasNextKey()) {
             String animationName = iter.nextKey();
+            if (sParsedAnimations.containsKey(animationName) && !stale.contains(animationName)) {
+                continue;
+            }
+
+            mParseReferences = new HashSet<>();
+            mParseAnimatesMaterials = false;
             ExecutableAnimation animation = parseAnimationObjectHelper(animationName, ExecutionType.PARALLEL);
-            sParsedAnimations.put(animationName, animation);
+            ParsedAnimation previous = sParsedAnimations.put(animationName,
+                    new ParsedAnimation(definitions.get(animationName), animation, mParseReferences,
+                            mParseAnimatesMaterials, sNextVersion++));
+            if (previous != null) {
+                disposeTemplate(previous);
+            }
+            mParseReferences = null;
+            parsedCount++;
             ViroLog.debug(TAG, "Parsed animation: [" + animationName + "]");
         }
+        ViroLog.debug(TAG, "Parsed " + parsedCount + " of " + definitions.size() + " animations");
+    }
+
+    private void disposeTemplate(ParsedAnimation parsed) {
+        if (parsed.mAnimation != null) {
+            parsed.mAnimation.dispose();
+        }
     }
 
     /**
@@ -164,6 +303,9 @@ public class AnimationManager extends ReactContextBaseJavaModule {
     }
 
     private ExecutableAnimation parseAnimationObject(String animationName, ExecutionType executionType) {
+        if (mParseReferences != null) {
+            mParseReferences.add(animationName);
+        }
         return parseAnimationObjectHelper(animationName, ExecutionType.SERIAL);
     }
 
@@ -188,89 +330,10 @@ public class AnimationManager extends ReactContextBaseJavaModule {
     }
 
     private ExecutableAnimation parseAnimationMap(ReadableMap animationMap) {
-        ReadableMap propertyMap = animationMap.getMap("properties");
-        String positionX = getFloatPropertyAsString(propertyMap, "positionX");
-        String positionY = getFloatPropertyAsString(propertyMap, "positionY");
-        String positionZ = getFloatPropertyAsString(propertyMap, "positionZ");
-        String scaleX = getFloatPropertyAsString(propertyMap, "scaleX");
-        String scaleY = getFloatPropertyAsString(propertyMap, "scaleY");
-        String scaleZ = getFloatPropertyAsString(propertyMap, "scaleZ");
-        String rotateX = getFloatPropertyAsString(propertyMap, "rotateX");
-        String rotateY = getFloatPropertyAsString(propertyMap, "rotateY");
-        String rotateZ = getFloatPropertyAsString(propertyMap, "rotateZ");
-        String opacity = getFloatPropertyAsString(propertyMap, "opacity");
-        String color = getIntPropertyAsString(propertyMap, "color");
-
-        LazyMaterial lazyMaterial = null;
-
-        // Currently we only support animating the index 0 material.
-        if (propertyMap.hasKey("material")) {
-            String material = propertyMap.getString("material");
-            MaterialManager materialManager = getReactApplicationContext().getNativeModule(MaterialManager.class);
-            lazyMaterial = new LazyMaterialReact(material, materialManager);
-        }
-
-        float durationMilliseconds = (float) getPropertyAsDouble(animationMap, "duration");
-        float delayMilliseconds = (float) getPropertyAsDouble(animationMap, "delay");
-
-        float durationSeconds = durationMilliseconds == Double.MIN_VALUE ? 0 : durationMilliseconds / 1000f;
-        float delaySeconds = delayMilliseconds == Double.MIN_VALUE ? 0 : delayMilliseconds / 1000f;
-
-        String functionType = getFloatPropertyAsString(animationMap, "easing");
-        if (functionType == null) {
-            functionType = "Linear";
-        }
-        return new AnimationGroup(positionX, positionY, positionZ,
-                scaleX, scaleY, scaleZ, rotateX, rotateY, rotateZ,
-                opacity, color, lazyMaterial, durationSeconds, delaySeconds, functionType);
-    }
-
-    /**
-     * This method tries to return the floating-point property pointed to by the key as a String from the map.
-     * @param map the property map
-     * @param key the key of the property we want
-     * @return a String or null
-     */
-    private String getFloatPropertyAsString(ReadableMap map, String key) {
-        if (map.hasKey(key)) {
-            if (map.getType(key) == ReadableType.String) {
-                return map.getString(key);
-            } else if (map.getType(key) == ReadableType.Number) {
-                return Double.toString(map.getDouble(key));
-            }
-        }
-        return null;
-    }
-
-    /**
-     * This method tries to return the int property pointed to by the key as a String from the map.
-     * @param map the property map
-     * @param key the key of the property we want
-     * @return a String or null
-     */
-    private String getIntPropertyAsString(ReadableMap map, String key) {
-        if (map.hasKey(key)) {
-            if (map.getType(key) == ReadableType.String) {
-                return map.getString(key);
-            } else if (map.getType(key) == ReadableType.Number) {
-                return Integer.toString(map.getInt(key));
-            }
-        }
-        return null;
-    }
-
-    /**
-     * This method tries to return the property pointed to by the key as a double from the map.
-     *
-     * @param map the property map
-     * @param key the key of the property we want
-     * @return a double or MIN_VALUE denoting that we didn't find the key/value pair.
-     */
-    private double getPropertyAsDouble(ReadableMap map, String key) {
-        if (map.hasKey(key) && map.getType(key) == ReadableType.Number) {
-            return map.getDouble(key);
+        if (AnimationMapParser.animatesMaterials(animationMap)) {
+            mParseAnimatesMaterials = true;
         }
-        return Double.MIN_VALUE;
+        return AnimationMapParser.parse(animationMap, mMaterialResolver);
     }
 
 }
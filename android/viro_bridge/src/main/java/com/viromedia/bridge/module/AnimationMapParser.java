@@ -0,0 +1,141 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.module;
+
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import com.viro.core.internal.AnimationGroup;
+import com.viro.core.internal.LazyMaterial;
+
+/**
+ * Parses the animation maps registered through ViroAnimations into AnimationGroups. Chains and
+ * references between animations are resolved by {@link AnimationManager}.
+ */
+final class AnimationMapParser {
+
+    /**
+     * Looks up the material an animation animates to, by name.
+     */
+    interface MaterialResolver {
+        LazyMaterial resolve(String materialName);
+    }
+
+    private AnimationMapParser() {
+    }
+
+    /**
+     * Returns true if the given animation changes the color or material of the node it runs
+     * on.
+     */
+    static boolean animatesMaterials(ReadableMap animationMap) {
+        ReadableMap propertyMap = animationMap.getMap("properties");
+        return getIntPropertyAsString(propertyMap, "color") != null
+                || propertyMap.hasKey("material");
+    }
+
+    /**
+     * Parses a single animation: its "properties" map, duration, delay and easing.
+     */
+    static AnimationGroup parse(ReadableMap animationMap, MaterialResolver materialResolver) {
+        ReadableMap propertyMap = animationMap.getMap("properties");
+        String positionX = getFloatPropertyAsString(propertyMap, "positionX");
+        String positionY = getFloatPropertyAsString(propertyMap, "positionY");
+        String positionZ = getFloatPropertyAsString(propertyMap, "positionZ");
+        String scaleX = getFloatPropertyAsString(propertyMap, "scaleX");
+        String scaleY = getFloatPropertyAsString(propertyMap, "scaleY");
+        String scaleZ = getFloatPropertyAsString(propertyMap, "scaleZ");
+        String rotateX = getFloatPropertyAsString(propertyMap, "rotateX");
+        String rotateY = getFloatPropertyAsString(propertyMap, "rotateY");
+        String rotateZ = getFloatPropertyAsString(propertyMap, "rotateZ");
+        String opacity = getFloatPropertyAsString(propertyMap, "opacity");
+        String color = getIntPropertyAsString(propertyMap, "color");
+
+        LazyMaterial lazyMaterial = null;
+
+        // Currently we only support animating the index 0 material.
+        if (propertyMap.hasKey("material")) {
+            lazyMaterial = materialResolver.resolve(propertyMap.getString("material"));
+        }
+
+        float durationMilliseconds = (float) getPropertyAsDouble(animationMap, "duration");
+        float delayMilliseconds = (float) getPropertyAsDouble(animationMap, "delay");
+
+        float durationSeconds = durationMilliseconds == Double.MIN_VALUE ? 0 : durationMilliseconds / 1000f;
+        float delaySeconds = delayMilliseconds == Double.MIN_VALUE ? 0 : delayMilliseconds / 1000f;
+
+        String functionType = getFloatPropertyAsString(animationMap, "easing");
+        if (functionType == null) {
+            functionType = "Linear";
+        }
+        return new AnimationGroup(positionX, positionY, positionZ,
+                scaleX, scaleY, scaleZ, rotateX, rotateY, rotateZ,
+                opacity, color, lazyMaterial, durationSeconds, delaySeconds, functionType);
+    }
+
+    /**
+     * This method tries to return the floating-point property pointed to by the key as a String from the map.
+     * @param map the property map
+     * @param key the key of the property we want
+     * @return a String or null
+     */
+    private static String getFloatPropertyAsString(ReadableMap map, String key) {
+        if (map.hasKey(key)) {
+            if (map.getType(key) == ReadableType.String) {
+                return map.getString(key);
+            } else if (map.getType(key) == ReadableType.Number) {
+                return Double.toString(map.getDouble(key));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * This method tries to return the int property pointed to by the key as a String from the map.
+     * @param map the property map
+     * @param key the key of the property we want
+     * @return a String or null
+     */
+    private static String getIntPropertyAsString(ReadableMap map, String key) {
+        if (map.hasKey(key)) {
+            if (map.getType(key) == ReadableType.String) {
+                return map.getString(key);
+            } else if (map.getType(key) == ReadableType.Number) {
+                return Integer.toString(map.getInt(key));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * This method tries to return the property pointed to by the key as a double from the map.
+     *
+     * @param map the property map
+     * @param key the key of the property we want
+     * @return a double or MIN_VALUE denoting that we didn't find the key/value pair.
+     */
+    private static double getPropertyAsDouble(ReadableMap map, String key) {
+        if (map.hasKey(key) && map.getType(key) == ReadableType.Number) {
+            return map.getDouble(key);
+        }
+        return Double.MIN_VALUE;
+    }
+}
@@ -25,8 +25,12 @@ package com.viromedia.bridge.module;
 import android.graphics.Bitmap;
 import android.graphics.Color;
 import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
 
+import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
@@ -34,24 +38,43 @@ import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.ReadableMapKeySetIterator;
 import com.facebook.react.bridge.ReadableType;
+import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.module.annotations.ReactModule;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+import com.viro.core.Geometry;
 import com.viro.core.VideoTexture;
 import com.viro.core.internal.Image;
 import com.viro.core.Material;
 import com.viro.core.Texture;
 import com.viromedia.bridge.component.VRTMaterialVideo;
+import com.viromedia.bridge.component.node.VRTNode;
+import com.viromedia.bridge.utility.CubeMapLoader;
+import com.viromedia.bridge.utility.DirectImageDownloadListener;
 import com.viromedia.bridge.utility.Helper;
+import com.viromedia.bridge.utility.ImageCache;
 import com.viromedia.bridge.utility.ImageDownloader;
+import com.viromedia.bridge.utility.PerfTelemetry;
+import com.viromedia.bridge.utility.ViroEvents;
+import com.viromedia.bridge.utility.ViroLog;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.EnumSet;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @ReactModule(name = "VRTMaterialManager")
 public class MaterialManager extends ReactContextBaseJavaModule {
+    private static final String TAG = ViroLog.getTag(MaterialManager.class);
 
     // TODO: figure out a good place to load the libraries.
     static {
@@ -65,22 +88,60 @@ public class MaterialManager extends ReactContextBaseJavaModule {
      variables.
      */
     private static Map<String, MaterialWrapper> sMaterialsMap;
-    private static Map<String, Image> sImageMap;
+    private static ImageCache sImageCache;
     private static Map<String, WeakReference<MaterialChangeListener>> sMaterialChangeListeners;
     public void clearMaterials() {
         sMaterialsMap = new HashMap<>();
-        sImageMap = new HashMap<>();
+        resetImageCache();
         sMaterialChangeListeners = new HashMap<>();
     }
 
+    /*
+     The image cache is kept across resets rather than replaced, since dropping it would leak the
+     native memory of every image it holds. Unreferenced images are destroyed instead.
+     */
+    private static void resetImageCache() {
+        if (sImageCache == null) {
+            sImageCache = new ImageCache(ImageCache.DEFAULT_MAX_SIZE_BYTES);
+        } else {
+            sImageCache.evictAll();
+        }
+    }
+
+    /*
+     Scalar properties that can be changed on an existing native material. Those with a default
+     can also be removed; removing the others requires rebuilding the material.
+     */
+    private static final Set<String> PATCHABLE_PROPERTIES = new HashSet<String>(Arrays.asList(
+            "diffuseColor", "diffuseIntensity", "shininess", "fresnelExponent", "bloomThreshold",
+            "cullMode", "roughness", "metalness"));
+    private static final Set<String> PATCHABLE_PROPERTIES_WITHOUT_DEFAULT = new HashSet<String>(Arrays.asList(
+            "roughness", "metalness"));
+
+    /*
+     Textures that can be swapped on an existing native material. Only the changed textures are
+     fetched, and the material's other textures are left alone.
+     */
+    private static final Set<String> PATCHABLE_TEXTURES = new HashSet<String>(Arrays.asList(
+            "diffuseTexture", "specularTexture", "normalTexture", "ambientOcclusionTexture"));
+
+    private static final String UPDATE_CREATED = "created";
+    private static final String UPDATE_REUSED = "reused";
+    private static final String UPDATE_PATCHED = "patched";
+    private static final String UPDATE_REBUILT = "rebuilt";
+
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+
     private final ReactApplicationContext mContext;
+    private final ImageDownloader mTextureDownloader;
     private boolean mShouldReload = false;
 
     public MaterialManager(ReactApplicationContext reactContext) {
         super(reactContext);
         mContext = reactContext;
+        mTextureDownloader = new ImageDownloader(reactContext);
         sMaterialsMap = new HashMap<String, MaterialWrapper>();
-        sImageMap = new HashMap<String, Image>();
+        resetImageCache();
         sMaterialChangeListeners = new HashMap<String, WeakReference<MaterialChangeListener>>();
     }
 
@@ -147,7 +208,9 @@ public class MaterialManager extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void setJSMaterials(ReadableMap newMaterials) {
+        long startNanos = System.nanoTime();
         loadMaterials(newMaterials);
+        PerfTelemetry.recordMaterialParse(startNanos);
     }
 
     @ReactMethod
@@ -156,185 +219,440 @@ public class MaterialManager extends ReactContextBaseJavaModule {
             String materialName = materials.getString(i);
             if (sMaterialsMap.containsKey(materialName)) {
                 // we need to delete the native ref before we remove the material
-                sMaterialsMap.get(materialName).getNativeMaterial().dispose();
-                sMaterialsMap.remove(materialName);
+                MaterialWrapper material = sMaterialsMap.remove(materialName);
+                material.getNativeMaterial().dispose();
+                material.disposeVariants();
+                material.releaseImages();
             }
         }
     }
 
+    /**
+     * Returns the materials nodes should use for the given materials with the given overrides:
+     * the materials themselves if there are no overrides, otherwise a variant of each that is
+     * shared by every node with the same overrides. Returns null if the materials can't be
+     * shared this way (video materials, or materials not created through this manager), in
+     * which case the node needs its own copies.
+     */
+    public List<Material> getMaterialInstances(List<Material> materials, MaterialOverrides overrides) {
+        for (Material material : materials) {
+            MaterialWrapper wrapper = sMaterialsMap.get(material.getName());
+            if (wrapper == null || wrapper.getNativeMaterial() != material || wrapper.hasVideoTextures()) {
+                return null;
+            }
+        }
+        if (overrides.isEmpty()) {
+            return materials;
+        }
+
+        List<Material> instances = new ArrayList<Material>(materials.size());
+        for (Material material : materials) {
+            instances.add(sMaterialsMap.get(material.getName()).getVariant(overrides));
+        }
+        return instances;
+    }
+
+    /**
+     * Sets the number of bytes of decoded texture images that are kept cached after the
+     * last material using them has been deleted.
+     */
+    @ReactMethod
+    public void setImageCacheSize(double maxSizeBytes) {
+        sImageCache.setMaxSize((long) maxSizeBytes);
+    }
+
+    /**
+     * Loads the given batch of materials. The textures of every material in the batch are
+     * fetched concurrently, and each material is built as soon as its own textures are ready,
+     * so the time spent here tracks the slowest texture rather than the sum of all of them.
+     *
+     * Materials that already exist are diffed against their previous definition. Identical
+     * materials are kept as they are, and materials whose changes are limited to patchable
+     * scalars and textures are updated in place, fetching only the changed textures. Anything
+     * else is rebuilt.
+     */
+    @SuppressWarnings("unchecked")
     private void loadMaterials(ReadableMap newMaterials) {
+        Map<String, Object> definitions = newMaterials.toHashMap();
+        Map<String, MaterialDiff> patches = new HashMap<String, MaterialDiff>();
+        int reusedCount = 0;
+        int createdCount = 0;
+
+        Map<String, MaterialWrapper> rebuilt = new HashMap<String, MaterialWrapper>();
+
+        TextureBatch batch = new TextureBatch();
         ReadableMapKeySetIterator iter = newMaterials.keySetIterator();
         while (iter.hasNextKey()) {
             String key = iter.nextKey();
-            ReadableMap material = newMaterials.getMap(key);
-            MaterialWrapper materialWrapper = createMaterial(key, material);
-            sMaterialsMap.put(key, materialWrapper);
+            ReadableMap materialMap = newMaterials.getMap(key);
+            Map<String, Object> definition = (Map<String, Object>) definitions.get(key);
+
+            MaterialWrapper existing = sMaterialsMap.get(key);
+            MaterialDiff diff = existing != null ? diffMaterial(existing, definition, materialMap) : null;
+            if (diff == null) {
+                batch.addMaterial(key, materialMap, null);
+                continue;
+            }
+
+            existing.setSource(materialMap, definition);
+            if (diff.isEmpty()) {
+                reusedCount++;
+                notifyMaterialLoaded(key, true, 0, UPDATE_REUSED);
+            } else if (diff.mTextures.isEmpty()) {
+                patchProperties(existing, materialMap, diff.mProperties);
+                patches.put(key, diff);
+                notifyMaterialLoaded(key, true, 0, UPDATE_PATCHED);
+            } else {
+                batch.addMaterial(key, materialMap, diff.mTextures);
+                patches.put(key, diff);
+            }
+        }
+
+        batch.start();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMaterial pending = batch.awaitNextMaterial();
+            MaterialDiff diff = patches.get(pending.mName);
+            if (diff != null && !pending.mFailed) {
+                MaterialWrapper existing = sMaterialsMap.get(pending.mName);
+                patchProperties(existing, pending.mSource, diff.mProperties);
+                patchTextures(existing, pending);
+                notifyMaterialLoaded(pending.mName, true, pending.mLoadTimeMs, UPDATE_PATCHED);
+                continue;
+            }
+
+            MaterialWrapper materialWrapper;
+            if (diff != null) {
+                // A changed texture failed to load; rebuild so the material matches what a fresh
+                // load of this definition would produce
+                pending.releaseImages();
+                patches.remove(pending.mName);
+                materialWrapper = loadMaterial(pending.mName, pending.mSource, null);
+            } else {
+                materialWrapper = createMaterial(pending.mName, pending.mSource, null, pending);
+            }
+            MaterialWrapper replaced = sMaterialsMap.put(pending.mName, materialWrapper);
+            if (replaced != null) {
+                rebuilt.put(pending.mName, replaced);
+            } else {
+                createdCount++;
+            }
+            notifyMaterialLoaded(pending.mName, !pending.mFailed, pending.mLoadTimeMs,
+                    replaced != null ? UPDATE_REBUILT : UPDATE_CREATED);
+        }
+
+        if (!rebuilt.isEmpty()) {
+            retireMaterials(rebuilt);
+        }
+
+        ViroLog.debug(TAG, "Updated " + definitions.size() + " materials: " + reusedCount + " reused, "
+                + patches.size() + " patched, "
+                + (definitions.size() - reusedCount - patches.size() - createdCount) + " rebuilt, "
+                + createdCount + " created");
+    }
+
+    /**
+     * Disposes the given materials, which have been replaced by rebuilt ones. Nodes still hold
+     * the replaced native materials, so on the UI thread each node using one is first given the
+     * rebuilt material, and the replaced one is then torn down the same way deleteMaterials does.
+     */
+    private void retireMaterials(final Map<String, MaterialWrapper> replaced) {
+        sMainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                VRTNode.onMaterialsRebuilt(replaced.keySet());
+                for (MaterialWrapper material : replaced.values()) {
+                    material.getNativeMaterial().dispose();
+                    material.disposeVariants();
+                    material.releaseImages();
+                }
+            }
+        });
+    }
+
+    /**
+     * The changes between a material's previous definition and its new one that can be
+     * applied to the existing native material.
+     */
+    private static class MaterialDiff {
+        final Set<String> mProperties = new HashSet<String>();
+        final Set<String> mTextures = new HashSet<String>();
+
+        boolean isEmpty() {
+            return mProperties.isEmpty() && mTextures.isEmpty();
+        }
+    }
+
+    /**
+     * Compare the given material's definition against its new definition. Returns null if
+     * the material has to be rebuilt, otherwise the properties and textures to patch (both
+     * empty if the definitions are identical).
+     */
+    private MaterialDiff diffMaterial(MaterialWrapper material, Map<String, Object> definition,
+                                      ReadableMap materialMap) {
+        Map<String, Object> previous = material.getDefinition();
+        if (previous == null || material.getNativeMaterial() == null) {
+            return null;
+        }
+        if (previous.equals(definition)) {
+            return new MaterialDiff();
+        }
+        if (material.hasVideoTextures()) {
+            return null;
+        }
+
+        Set<String> keys = new HashSet<String>(previous.keySet());
+        keys.addAll(definition.keySet());
+
+        MaterialDiff diff = new MaterialDiff();
+        for (String key : keys) {
+            Object previousValue = previous.get(key);
+            Object value = definition.get(key);
+            if (value == null ? previousValue == null : value.equals(previousValue)) {
+                continue;
+            }
+
+            if (PATCHABLE_PROPERTIES.contains(key)) {
+                if (value == null && PATCHABLE_PROPERTIES_WITHOUT_DEFAULT.contains(key)) {
+                    return null;
+                }
+                diff.mProperties.add(key);
+            } else if (PATCHABLE_TEXTURES.contains(key) && value != null && previousValue != null) {
+                String path = parseImagePath(materialMap, key);
+                if (path == null || isVideoTexture(path, parseAssetType(materialMap, key))) {
+                    return null;
+                }
+                diff.mTextures.add(key);
+            } else {
+                return null;
+            }
+        }
+        return diff;
+    }
+
+    /**
+     * Apply the given scalar properties to an existing material and its variants.
+     */
+    private void patchProperties(MaterialWrapper materialWrapper, ReadableMap materialMap, Set<String> properties) {
+        patchMaterialProperties(materialWrapper.getNativeMaterial(), materialMap, properties);
+        for (Map.Entry<MaterialOverrides, Material> variant : materialWrapper.mVariants.entrySet()) {
+            Material material = variant.getValue();
+            patchMaterialProperties(material, materialMap, properties);
+            variant.getKey().applyTo(material);
+        }
+    }
+
+    /**
+     * Apply the given scalar properties to a native material, restoring the default (matching
+     * createMaterial) for any that were removed.
+     */
+    private void patchMaterialProperties(Material material, ReadableMap materialMap, Set<String> properties) {
+        for (String key : properties) {
+            boolean hasValue = materialMap.hasKey(key) && !materialMap.isNull(key);
+            if ("diffuseColor".equals(key)) {
+                material.setDiffuseColor(hasValue ? materialMap.getInt(key) : Color.WHITE);
+            } else if ("diffuseIntensity".equals(key)) {
+                material.setDiffuseIntensity(hasValue ? (float) materialMap.getDouble(key) : 1.0f);
+            } else if ("shininess".equals(key)) {
+                material.setShininess(hasValue ? (float) materialMap.getDouble(key) : 2.0f);
+            } else if ("fresnelExponent".equals(key)) {
+                material.setFresnelExponent(hasValue ? (float) materialMap.getDouble(key) : 1.0f);
+            } else if ("bloomThreshold".equals(key)) {
+                material.setBloomThreshold(hasValue ? (float) materialMap.getDouble(key) : -1.0f);
+            } else if ("cullMode".equals(key)) {
+                material.setCullMode(hasValue ? Material.CullMode.valueFromString(materialMap.getString(key))
+                        : Material.CullMode.BACK);
+            } else if ("roughness".equals(key)) {
+                PBRProperties.ROUGHNESS.setPropertyForMaterial(material, (float) materialMap.getDouble(key));
+            } else if ("metalness".equals(key)) {
+                PBRProperties.METALNESS.setPropertyForMaterial(material, (float) materialMap.getDouble(key));
+            }
+        }
+    }
+
+    /**
+     * Swap the textures fetched for the given pending material onto the existing material and
+     * its variants, releasing the cached images of the textures they replace.
+     */
+    private void patchTextures(MaterialWrapper materialWrapper, PendingMaterial textures) {
+        ReadableMap materialMap = textures.mSource;
+        for (Map.Entry<String, Image> entry : textures.mImages.entrySet()) {
+            String key = entry.getKey();
+            String imageKey = textures.mImageKeys.get(key);
+            setTexture(materialWrapper.getNativeMaterial(), key, entry.getValue(), materialMap);
+            materialWrapper.replaceImageKey(key, imageKey);
+
+            for (Material variant : materialWrapper.mVariants.values()) {
+                setTexture(variant, key, entry.getValue(), materialMap);
+            }
+        }
+    }
+
+    private void setTexture(Material material, String key, Image image, ReadableMap materialMap) {
+        if ("ambientOcclusionTexture".equals(key)) {
+            Texture texture = parseTexture(image, true, false, key, materialMap);
+            PBRProperties.AMBIENT_OCCLUSION_TEXTURE.setMapForMaterial(material, texture);
+            texture.dispose();
+        } else {
+            Texture texture = parseTexture(image, !key.startsWith("normal"),
+                    parseImageMipmap(materialMap, key), key, materialMap);
+            if ("diffuseTexture".equals(key)) {
+                material.setDiffuseTexture(texture);
+            } else if ("specularTexture".equals(key)) {
+                material.setSpecularTexture(texture);
+            } else {
+                material.setNormalMap(texture);
+            }
+            texture.dispose();
+        }
+    }
+
+    /**
+     * Fetches the textures of a single material and builds it, blocking until done.
+     */
+    private MaterialWrapper loadMaterial(String materialName, ReadableMap materialMap, VideoTexture videoTexture) {
+        TextureBatch batch = new TextureBatch();
+        batch.addMaterial(materialName, materialMap, null);
+        batch.start();
+        PendingMaterial pending = batch.awaitNextMaterial();
+        return createMaterial(materialName, materialMap, videoTexture, pending);
+    }
+
+    private void notifyMaterialLoaded(String name, boolean success, long loadTimeMs, String update) {
+        WritableMap event = Arguments.createMap();
+        event.putString("name", name);
+        event.putBoolean("success", success);
+        event.putDouble("loadTime", loadTimeMs);
+        event.putString("update", update);
+        PerfTelemetry.recordEvent(ViroEvents.ON_MATERIAL_LOADED);
+        mContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+                .emit(ViroEvents.ON_MATERIAL_LOADED, event);
+    }
+
+    /**
+     * Returns the 2D textures referenced by the given material.
+     */
+    private List<TextureRequest> parseTextureRequests(PendingMaterial material, ReadableMap materialMap) {
+        List<TextureRequest> requests = new ArrayList<TextureRequest>();
+        ReadableMapKeySetIterator iter = materialMap.keySetIterator();
+        while (iter.hasNextKey()) {
+            final String materialPropertyName = iter.nextKey();
+            if (!materialPropertyName.endsWith("texture") && !materialPropertyName.endsWith("Texture")) {
+                continue;
+            }
+            if (materialPropertyName.equalsIgnoreCase("reflectiveTexture")) {
+                continue;
+            }
+
+            if (PBRProperties.AMBIENT_OCCLUSION_TEXTURE.key.equalsIgnoreCase(materialPropertyName)) {
+                String path = parseImagePath(materialMap, materialPropertyName);
+                if (path != null) {
+                    requests.add(new TextureRequest(material, materialPropertyName,
+                            Helper.parseUri(path, mContext), Texture.Format.RGBA8, false));
+                }
+                continue;
+            }
+            if (isPbrProperty(materialPropertyName)) {
+                continue;
+            }
+
+            String path = parseImagePath(materialMap, materialPropertyName);
+            String type = parseAssetType(materialMap, materialPropertyName);
+            if (path == null || isVideoTexture(path, type)) {
+                continue;
+            }
+            requests.add(new TextureRequest(material, materialPropertyName, Helper.parseUri(path, mContext),
+                    parseImageFormat(materialMap, materialPropertyName),
+                    parseImageMipmap(materialMap, materialPropertyName)));
         }
+        return requests;
     }
 
-    private MaterialWrapper createMaterial(String materialName, ReadableMap materialMap) {
-        return createMaterial(materialName, materialMap, null);
+    private boolean isPbrProperty(String materialPropertyName) {
+        for (PBRProperties property : PBRProperties.values()){
+            if (property.key.equalsIgnoreCase(materialPropertyName)){
+                return true;
+            }
+        }
+        return false;
     }
 
-    private MaterialWrapper createMaterial(String materialName, ReadableMap materialMap, VideoTexture videoTexture) {
+    private MaterialWrapper createMaterial(String materialName, ReadableMap materialMap,
+                                           VideoTexture videoTexture, PendingMaterial textures) {
+        long span = ViroLog.beginSpan("MaterialManager.createMaterial");
+        try {
+            return buildMaterial(materialName, materialMap, videoTexture, textures);
+        } finally {
+            ViroLog.endSpan("MaterialManager.createMaterial", span);
+        }
+    }
+
+    private MaterialWrapper buildMaterial(String materialName, ReadableMap materialMap,
+                                          VideoTexture videoTexture, PendingMaterial textures) {
         MaterialWrapper materialWrapper = new MaterialWrapper(materialName, materialMap);
 
-        // These defaults match those in the JNI's Material.java
-        Material.LightingModel lightingModel = Material.LightingModel.CONSTANT;
-        int diffuseColor = Color.WHITE;
-        int chromaKeyFilteringColor = Color.GREEN;
-        boolean chromaFilteringEnabled = false;
+        MaterialProperties properties = MaterialProperties.parse(materialMap);
         Texture diffuseTexture = null;
-        float diffuseIntensity = 1.0f;
         Texture specularTexture = null;
-        float shininess = 2.0f;
-        float fresnelExponent = 1.0f;
         Texture normalMap = null;
-        Material.CullMode cullMode = Material.CullMode.BACK;
-        Material.TransparencyMode transparencyMode= Material.TransparencyMode.A_ONE;
-        Material.BlendMode blendMode = Material.BlendMode.ALPHA;
-        EnumSet<Material.ColorWriteMask> colorWriteMask = EnumSet.of(Material.ColorWriteMask.ALL);
-        float bloomThreshold = -1.0f;
-        boolean writesToDepthBuffer = true;
-        boolean readsFromDepthBuffer = true;
 
         ReadableMapKeySetIterator iter = materialMap.keySetIterator();
         while(iter.hasNextKey()) {
             final String materialPropertyName = iter.nextKey();
 
-            boolean isPbrProperty = false;
-            for (PBRProperties property : PBRProperties.values()){
-                if (property.key.equalsIgnoreCase(materialPropertyName)){
-                    isPbrProperty = true;
-                    break;
-                }
-            }
-            if (isPbrProperty) {
+            if (isPbrProperty(materialPropertyName)
+                    || !MaterialProperties.isTextureProperty(materialPropertyName)) {
                 continue;
             }
 
-            if (materialPropertyName.endsWith("texture") || materialPropertyName.endsWith("Texture")) {
-                if (materialPropertyName.equalsIgnoreCase("reflectiveTexture")) {
-                    Texture nativeTexture = createTextureCubeMap(materialMap.getMap(materialPropertyName), Texture.Format.RGBA8);
-                    // TODO Reflective texture are unsupported currently
-                    continue;
-                }
+            if (materialPropertyName.equalsIgnoreCase("reflectiveTexture")) {
+                CubeMapLoader.CubeMap cubeMap = createTextureCubeMap(materialMap.getMap(materialPropertyName), Texture.Format.RGBA8);
+                // TODO Reflective texture are unsupported currently
+                cubeMap.dispose();
+                continue;
+            }
 
-                String path = parseImagePath(materialMap, materialPropertyName);
-                String type = parseAssetType(materialMap, materialPropertyName);
-                Texture.Format format = parseImageFormat(materialMap, materialPropertyName);
-                boolean mipmap = parseImageMipmap(materialMap, materialPropertyName);
-                boolean sRGB = !materialPropertyName.startsWith("normal");
+            String path = parseImagePath(materialMap, materialPropertyName);
+            String type = parseAssetType(materialMap, materialPropertyName);
+            boolean mipmap = parseImageMipmap(materialMap, materialPropertyName);
+            boolean sRGB = !materialPropertyName.startsWith("normal");
 
-                Uri uri = Helper.parseUri(path, mContext);
-                if (path != null) {
-                    if (isVideoTexture(path, type)) {
-                        materialWrapper.addVideoTexturePath(materialPropertyName, uri);
-                        diffuseTexture = videoTexture;
-                    } else {
-                        if (sImageMap.get(materialPropertyName) != null) {
-                            Texture texture = parseTexture(sImageMap.get(materialPropertyName), sRGB, mipmap,
-                                    materialPropertyName, materialMap);
-                            if (materialPropertyName.equalsIgnoreCase("diffuseTexture")) {
-                                diffuseTexture = texture;
-                            }
-                            else if (materialPropertyName.equalsIgnoreCase("specularTexture")) {
-                                specularTexture = texture;
-                            }
-                            else if (materialPropertyName.equalsIgnoreCase("normalTexture")) {
-                                normalMap = texture;
-                            }
-                            else {
-                                throw new IllegalArgumentException("Invalid texture property received: " + materialPropertyName);
-                            }
-                        } else {
-                            ImageDownloader downloader = new ImageDownloader(mContext);
-                            downloader.setTextureFormat(format);
-
-                            Bitmap imageBitmap = downloader.getImageSync(uri);
-                            if (imageBitmap != null) {
-                                Image nativeImage = new Image(imageBitmap, format);
-                                Texture texture = parseTexture(nativeImage, sRGB, mipmap,
-                                        materialPropertyName, materialMap);
-                                if (materialPropertyName.equalsIgnoreCase("diffuseTexture")) {
-                                    diffuseTexture = texture;
-                                }
-                                else if (materialPropertyName.equalsIgnoreCase("specularTexture")) {
-                                    specularTexture = texture;
-                                }
-                                else if (materialPropertyName.equalsIgnoreCase("normalTexture")) {
-                                    normalMap = texture;
-                                }
-                                else {
-                                    throw new IllegalArgumentException("Invalid texture property received: " + materialPropertyName);
-                                }
-                            }
+            Uri uri = Helper.parseUri(path, mContext);
+            if (path != null) {
+                if (isVideoTexture(path, type)) {
+                    materialWrapper.addVideoTexturePath(materialPropertyName, uri);
+                    diffuseTexture = videoTexture;
+                } else {
+                    Image nativeImage = textures.mImages.get(materialPropertyName);
+                    if (nativeImage != null) {
+                        Texture texture = parseTexture(nativeImage, sRGB, mipmap,
+                                materialPropertyName, materialMap);
+                        if (materialPropertyName.equalsIgnoreCase("diffuseTexture")) {
+                            diffuseTexture = texture;
+                        }
+                        else if (materialPropertyName.equalsIgnoreCase("specularTexture")) {
+                            specularTexture = texture;
+                        }
+                        else if (materialPropertyName.equalsIgnoreCase("normalTexture")) {
+                            normalMap = texture;
+                        }
+                        else {
+                            throw new IllegalArgumentException("Invalid texture property received: " + materialPropertyName);
                         }
                     }
                 }
-            } else if (materialPropertyName.endsWith("color") || materialPropertyName.endsWith("Color")) {
-                int color = materialMap.getInt(materialPropertyName);
-                if (materialPropertyName.equalsIgnoreCase("diffuseColor")) {
-                    diffuseColor = color;
-                }
-                else if(materialPropertyName.equalsIgnoreCase("chromaKeyFilteringColor")) {
-                    chromaKeyFilteringColor = color;
-                    chromaFilteringEnabled = true;
-                }
-                else {
-                    throw new IllegalArgumentException("Invalid color property for material: " + materialPropertyName);
-                }
-            } else {
-                if ("shininess".equalsIgnoreCase(materialPropertyName)) {
-                    shininess = (float)materialMap.getDouble(materialPropertyName);
-                } else if ("fresnelExponent".equalsIgnoreCase(materialPropertyName)) {
-                    fresnelExponent = (float)materialMap.getDouble(materialPropertyName);
-                } else if ("lightingModel".equalsIgnoreCase(materialPropertyName)) {
-                    lightingModel = Material.LightingModel.valueFromString(materialMap.getString(materialPropertyName));
-                } else if ("blendMode".equalsIgnoreCase(materialPropertyName)) {
-                    blendMode = Material.BlendMode.valueFromString(materialMap.getString(materialPropertyName));
-                } else if ("transparencyMode".equalsIgnoreCase(materialPropertyName)) {
-                    transparencyMode = Material.TransparencyMode.valueFromString(materialMap.getString(materialPropertyName));
-                } else if ("writesToDepthBuffer".equalsIgnoreCase(materialPropertyName)) {
-                    writesToDepthBuffer = materialMap.getBoolean(materialPropertyName);
-                } else if ("readsFromDepthBuffer".equalsIgnoreCase(materialPropertyName)) {
-                    readsFromDepthBuffer = materialMap.getBoolean(materialPropertyName);
-                } else if ("colorWriteMask".equalsIgnoreCase(materialPropertyName)) {
-                    ReadableArray colorWriteArray = materialMap.getArray(materialPropertyName);
-                    List<Material.ColorWriteMask> colorWriteList = new ArrayList<Material.ColorWriteMask>();
-                    for (int c = 0; c < colorWriteArray.size(); c++) {
-                        colorWriteList.add(Material.ColorWriteMask.valueFromString(colorWriteArray.getString(c)));
-                    }
-
-                    colorWriteMask = EnumSet.noneOf(Material.ColorWriteMask.class);
-                    colorWriteMask.addAll(colorWriteList);
-                } else if ("cullMode".equalsIgnoreCase(materialPropertyName)) {
-                    cullMode = Material.CullMode.valueFromString(materialMap.getString(materialPropertyName));
-                } else if ("diffuseIntensity".equalsIgnoreCase(materialPropertyName)) {
-                    diffuseIntensity = (float)materialMap.getDouble(materialPropertyName);
-                } else if ("bloomThreshold".equalsIgnoreCase(materialPropertyName)) {
-                    bloomThreshold = (float)materialMap.getDouble(materialPropertyName);
-                }
             }
         }
 
-        Material nativeMaterial = new Material(lightingModel, diffuseColor, diffuseTexture,
-                diffuseIntensity, specularTexture, shininess, fresnelExponent, normalMap,
-                cullMode, transparencyMode, blendMode, bloomThreshold, writesToDepthBuffer,
-                readsFromDepthBuffer, colorWriteMask);
-
-                nativeMaterial.setName(materialName);
-        if (chromaFilteringEnabled) {
-            nativeMaterial.setChromaKeyFilteringEnabled(chromaFilteringEnabled);
-            nativeMaterial.setChromaKeyFilteringColor(chromaKeyFilteringColor);
-        }
+        Material nativeMaterial = properties.createMaterial(materialName, diffuseTexture,
+                specularTexture, normalMap);
 
         materialWrapper.setNativeMaterial(nativeMaterial);
+        materialWrapper.setImageKeys(textures.mImageKeys);
 
         // Parse stuff
-        parsePBRProperties(PBRProperties.METALNESS, nativeMaterial, materialMap);
-        parsePBRProperties(PBRProperties.ROUGHNESS, nativeMaterial, materialMap);
-        parsePBRProperties(PBRProperties.AMBIENT_OCCLUSION_TEXTURE, nativeMaterial, materialMap);
+        parsePBRProperties(PBRProperties.METALNESS, nativeMaterial, materialMap, textures);
+        parsePBRProperties(PBRProperties.ROUGHNESS, nativeMaterial, materialMap, textures);
+        parsePBRProperties(PBRProperties.AMBIENT_OCCLUSION_TEXTURE, nativeMaterial, materialMap, textures);
 
         // We don't need to hold a Java texture reference after assigning the texture to the material.
         // Make an exception for the videoTexture as we use the nativeref to play,pause, loop the video.
@@ -350,7 +668,8 @@ public class MaterialManager extends ReactContextBaseJavaModule {
         return materialWrapper;
     }
 
-    private void parsePBRProperties(PBRProperties property, Material material, ReadableMap materialMap) {
+    private void parsePBRProperties(PBRProperties property, Material material, ReadableMap materialMap,
+                                    PendingMaterial textures) {
         String key = property.key;
         if (!materialMap.hasKey(key)) {
             return;
@@ -362,13 +681,8 @@ public class MaterialManager extends ReactContextBaseJavaModule {
                 throw new IllegalArgumentException("Error: Unable to parse environment light map resource uri!");
             }
 
-            Uri uri = Helper.parseUri(path, mContext);
-            ImageDownloader downloader = new ImageDownloader(mContext);
-            downloader.setTextureFormat(Texture.Format.RGB9_E5);
-
-            Bitmap imageBitmap = downloader.getImageSync(uri);
-            if (imageBitmap != null) {
-                Image nativeImage = new Image(imageBitmap, Texture.Format.RGBA8);
+            Image nativeImage = textures.mImages.get(key);
+            if (nativeImage != null) {
                 boolean sRGB = property == PBRProperties.AMBIENT_OCCLUSION_TEXTURE;
                 Texture texture = parseTexture(nativeImage, sRGB, false,
                         key, materialMap);
@@ -385,7 +699,9 @@ public class MaterialManager extends ReactContextBaseJavaModule {
 
     private Texture parseTexture(Image image, boolean sRGB, boolean mipmap,
                                  String name, ReadableMap materialMap) {
+        long startNanos = System.nanoTime();
         Texture nativeTexture = new Texture(image, sRGB, mipmap);
+        PerfTelemetry.recordTextureUpload(startNanos);
         parseTexture(nativeTexture, name, materialMap);
         return nativeTexture;
     }
@@ -408,53 +724,12 @@ public class MaterialManager extends ReactContextBaseJavaModule {
         }
     }
 
-    private Texture createTextureCubeMap(ReadableMap textureMap, Texture.Format format) {
-        ReadableMapKeySetIterator iter = textureMap.keySetIterator();
-
-        if (!iter.hasNextKey()) {
-            throw new IllegalArgumentException("Error creating cube map: ensure the nx, px, ny, py, nz, and pz params are passed in the body of the cube map texture");
+    private CubeMapLoader.CubeMap createTextureCubeMap(ReadableMap textureMap, Texture.Format format) {
+        CubeMapLoader.CubeMap cubeMap = new CubeMapLoader(mContext, format).loadSync(textureMap);
+        if (cubeMap == null) {
+            throw new IllegalArgumentException("Error loading cube map. Please check that all six faces are valid images");
         }
-
-        final Map<String, Image> cubeMapImages = new HashMap<String, Image>();
-        long cubeSize = -1;
-
-        // create an image for each texture
-        while (iter.hasNextKey()) {
-            final String key = iter.nextKey();
-            if (sImageMap.get(key) != null) {
-                cubeMapImages.put(key, sImageMap.get(key));
-            } else {
-                ImageDownloader downloader = new ImageDownloader(mContext);
-                downloader.setTextureFormat(format);
-                Image nativeImage = new Image(downloader.getImageSync(textureMap), format);
-                cubeMapImages.put(key, nativeImage);
-            }
-
-            Image nativeImageToValidate = cubeMapImages.get(key);
-            // check that the width == height and all sides are the same size
-            if (cubeSize < 0) {
-                cubeSize = nativeImageToValidate.getWidth();
-            }
-
-            if (nativeImageToValidate.getWidth() != cubeSize
-                    || nativeImageToValidate.getHeight() != cubeSize) {
-                throw new IllegalArgumentException("Error loading cube map. Cube map must be square and uniformly sized");
-            }
-        }
-
-        // check that we have all 6 sides
-        if (cubeMapImages.get("px") == null ||
-                cubeMapImages.get("nx") == null ||
-                cubeMapImages.get("py") == null ||
-                cubeMapImages.get("ny") == null ||
-                cubeMapImages.get("pz") == null ||
-                cubeMapImages.get("nz") == null ) {
-            throw new IllegalArgumentException("Some cube map images are null. Please check and fix");
-        }
-        // create and return a Texture w/ all 6 sides.
-        return new Texture(cubeMapImages.get("px"), cubeMapImages.get("nx"),
-                              cubeMapImages.get("py"), cubeMapImages.get("ny"),
-                              cubeMapImages.get("pz"), cubeMapImages.get("nz"));
+        return cubeMap;
     }
 
     private String parseAssetType(ReadableMap map, String key) {
@@ -548,6 +823,175 @@ public class MaterialManager extends ReactContextBaseJavaModule {
         }
     }
 
+    /**
+     * A single 2D texture of a material, backed by an image in the shared image cache.
+     */
+    private static class TextureRequest {
+        final PendingMaterial mMaterial;
+        final String mPropertyName;
+        final Uri mUri;
+        final Texture.Format mFormat;
+        final String mCacheKey;
+
+        TextureRequest(PendingMaterial material, String propertyName, Uri uri, Texture.Format format,
+                       boolean mipmap) {
+            mMaterial = material;
+            mPropertyName = propertyName;
+            mUri = uri;
+            mFormat = format;
+            mCacheKey = ImageCache.getKey(uri, format, mipmap);
+        }
+    }
+
+    /**
+     * A material whose textures are being fetched. Each texture that arrives is added to
+     * mImages along with the cache key of the reference held for it. Once every texture has
+     * either completed or failed, the material is placed on its batch's ready queue.
+     */
+    private static class PendingMaterial {
+        final String mName;
+        final ReadableMap mSource;
+        final Map<String, Image> mImages = new ConcurrentHashMap<String, Image>();
+        final Map<String, String> mImageKeys = new ConcurrentHashMap<String, String>();
+        final AtomicInteger mRemaining = new AtomicInteger(0);
+        final long mStartTime;
+        volatile boolean mFailed = false;
+        volatile long mLoadTimeMs = 0;
+
+        PendingMaterial(String name, ReadableMap source) {
+            mName = name;
+            mSource = source;
+            mStartTime = SystemClock.elapsedRealtime();
+        }
+
+        void addImage(TextureRequest request, Image image) {
+            mImages.put(request.mPropertyName, image);
+            mImageKeys.put(request.mPropertyName, request.mCacheKey);
+        }
+
+        /**
+         * Release the cached images fetched for this material, for when they won't be used.
+         */
+        void releaseImages() {
+            for (String key : mImageKeys.values()) {
+                sImageCache.release(key);
+            }
+            mImages.clear();
+            mImageKeys.clear();
+        }
+    }
+
+    /**
+     * Fetches all the textures of a group of materials concurrently through the shared
+     * ImageDownloadScheduler, handing each material back as soon as its own textures are ready. Textures found
+     * in the image cache are not fetched, and a texture shared by several materials in the
+     * batch is fetched and decoded only once.
+     */
+    private class TextureBatch {
+        private final List<PendingMaterial> mMaterials = new ArrayList<PendingMaterial>();
+        private final Map<String, List<TextureRequest>> mRequestsByKey = new LinkedHashMap<String, List<TextureRequest>>();
+        private final BlockingQueue<PendingMaterial> mReadyQueue = new LinkedBlockingQueue<PendingMaterial>();
+
+        /**
+         * Add a material to the batch. If textureNames is non-null, only those textures of
+         * the material are fetched.
+         */
+        void addMaterial(String materialName, ReadableMap materialMap, Set<String> textureNames) {
+            PendingMaterial material = new PendingMaterial(materialName, materialMap);
+            for (TextureRequest request : parseTextureRequests(material, materialMap)) {
+                if (textureNames != null && !textureNames.contains(request.mPropertyName)) {
+                    continue;
+                }
+                Image cachedImage = sImageCache.acquire(request.mCacheKey);
+                if (cachedImage != null) {
+                    material.addImage(request, cachedImage);
+                    continue;
+                }
+
+                List<TextureRequest> requests = mRequestsByKey.get(request.mCacheKey);
+                if (requests == null) {
+                    requests = new ArrayList<TextureRequest>();
+                    mRequestsByKey.put(request.mCacheKey, requests);
+                }
+                requests.add(request);
+                material.mRemaining.incrementAndGet();
+            }
+            mMaterials.add(material);
+        }
+
+        int size() {
+            return mMaterials.size();
+        }
+
+        void start() {
+            for (PendingMaterial material : mMaterials) {
+                if (material.mRemaining.get() == 0) {
+                    mReadyQueue.add(material);
+                }
+            }
+            for (List<TextureRequest> requests : mRequestsByKey.values()) {
+                TextureRequest first = requests.get(0);
+                mTextureDownloader.getImageAsync(first.mUri, first.mFormat, new TextureListener(requests));
+            }
+        }
+
+        PendingMaterial awaitNextMaterial() {
+            try {
+                return mReadyQueue.take();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException("Loading material textures was interrupted!");
+            }
+        }
+
+        private class TextureListener implements DirectImageDownloadListener {
+            private final List<TextureRequest> mRequests;
+
+            TextureListener(List<TextureRequest> requests) {
+                mRequests = requests;
+            }
+
+            @Override
+            public boolean isValid() {
+                return true;
+            }
+
+            @Override
+            public void completed(Bitmap result) {
+                if (result == null) {
+                    failed("no bitmap was decoded");
+                    return;
+                }
+
+                TextureRequest first = mRequests.get(0);
+                Image image = sImageCache.put(first.mCacheKey, new Image(result, first.mFormat),
+                        result.getByteCount());
+                for (int i = 0; i < mRequests.size(); i++) {
+                    TextureRequest request = mRequests.get(i);
+                    // The reference returned by put() belongs to the first request
+                    request.mMaterial.addImage(request, i == 0 ? image : sImageCache.acquire(request.mCacheKey));
+                    onTextureDone(request.mMaterial);
+                }
+            }
+
+            @Override
+            public void failed(String error) {
+                for (TextureRequest request : mRequests) {
+                    ViroLog.warn(TAG, "Could not load texture " + request.mPropertyName + " for material "
+                            + request.mMaterial.mName + " at " + request.mUri + ": " + error);
+                    request.mMaterial.mFailed = true;
+                    onTextureDone(request.mMaterial);
+                }
+            }
+
+            private void onTextureDone(PendingMaterial material) {
+                if (material.mRemaining.decrementAndGet() == 0) {
+                    material.mLoadTimeMs = SystemClock.elapsedRealtime() - material.mStartTime;
+                    mReadyQueue.add(material);
+                }
+            }
+        }
+    }
+
     public interface MaterialChangeListener {
         // invoked when the diffuse video texture changed of the given material.
         public void onVideoTextureChanged(String materialName);
@@ -559,21 +1003,91 @@ public class MaterialManager extends ReactContextBaseJavaModule {
     public class MaterialWrapper {
         private String mMaterialName;
         private Material mNativeMaterial;
-        // the source map that specified this material.
-        private final ReadableMap mMaterialSource;
+        // the source map that specified this material, and its contents for diffing.
+        private ReadableMap mMaterialSource;
+        private Map<String, Object> mDefinition;
         private Map<String, Uri> mVideoTextures;
+        // keys of the cached images this material holds a reference to, by property.
+        private Map<String, String> mImageKeys;
+        // variants of this material shared by nodes with the same overrides, built on first use.
+        // They are native copies of mNativeMaterial, so they share its textures and hold no
+        // images of their own.
+        private final Map<MaterialOverrides, Material> mVariants = new HashMap<MaterialOverrides, Material>();
 
         public MaterialWrapper(String materialName, ReadableMap source) {
             mVideoTextures = new HashMap<String, Uri>();
+            mImageKeys = new HashMap<String, String>();
             mMaterialSource = source;
             mMaterialName = materialName;
         }
 
+        Map<String, Object> getDefinition() {
+            if (mDefinition == null && mMaterialSource != null) {
+                mDefinition = mMaterialSource.toHashMap();
+            }
+            return mDefinition;
+        }
+
+        void setSource(ReadableMap source, Map<String, Object> definition) {
+            mMaterialSource = source;
+            mDefinition = definition;
+        }
+
         public void setNativeMaterial(Material material) { mNativeMaterial = material; }
         public Material getNativeMaterial() {
             return mNativeMaterial;
         }
 
+        void setImageKeys(Map<String, String> imageKeys) {
+            mImageKeys = new HashMap<String, String>(imageKeys);
+        }
+
+        /**
+         * Replace the image held for the given property, releasing the reference to the old one.
+         */
+        void replaceImageKey(String propertyName, String imageKey) {
+            String previous = mImageKeys.put(propertyName, imageKey);
+            if (previous != null) {
+                sImageCache.release(previous);
+            }
+        }
+
+        /**
+         * Returns this material's references to its images in the image cache.
+         */
+        void releaseImages() {
+            for (String key : mImageKeys.values()) {
+                sImageCache.release(key);
+            }
+            mImageKeys.clear();
+        }
+
+        /**
+         * Returns the variant of this material with the given overrides applied. The first time
+         * it is requested the variant is copied from the already-loaded native material, so
+         * nothing is fetched, decoded or uploaded.
+         */
+        Material getVariant(MaterialOverrides overrides) {
+            Material variant = mVariants.get(overrides);
+            if (variant == null) {
+                // Geometry is the only way to copy a native material
+                Geometry scratch = new Geometry();
+                scratch.copyAndSetMaterials(Collections.singletonList(mNativeMaterial));
+                variant = scratch.getMaterials().get(0);
+                scratch.dispose();
+                overrides.applyTo(variant);
+                mVariants.put(overrides, variant);
+            }
+            return variant;
+        }
+
+        void disposeVariants() {
+            for (Material variant : mVariants.values()) {
+                variant.dispose();
+            }
+            mVariants.clear();
+        }
+
         public void addVideoTexturePath(String name, Uri videoUri) {
             mVideoTextures.put(name, videoUri);
         }
@@ -596,10 +1110,13 @@ public class MaterialManager extends ReactContextBaseJavaModule {
 
         public void recreate(VideoTexture videoTexture) {
             if (mMaterialSource != null) {
-                MaterialWrapper other = createMaterial(mMaterialName, mMaterialSource, videoTexture);
+                MaterialWrapper other = loadMaterial(mMaterialName, mMaterialSource, videoTexture);
                 mNativeMaterial.dispose();
+                disposeVariants();
+                releaseImages();
                 mNativeMaterial = other.mNativeMaterial;
                 mVideoTextures = other.mVideoTextures;
+                mImageKeys = other.mImageKeys;
                 if (sMaterialChangeListeners.get(mMaterialName) != null &&
                         sMaterialChangeListeners.get(mMaterialName).get() != null) {
                     MaterialChangeListener listener = sMaterialChangeListeners.get(mMaterialName).get();
@@ -610,10 +1127,13 @@ public class MaterialManager extends ReactContextBaseJavaModule {
 
         public void recreate() {
             if (mMaterialSource != null) {
-                MaterialWrapper other = createMaterial(mMaterialName, mMaterialSource);
+                MaterialWrapper other = loadMaterial(mMaterialName, mMaterialSource, null);
                 mNativeMaterial.dispose();
+                disposeVariants();
+                releaseImages();
                 mNativeMaterial = other.mNativeMaterial;
                 mVideoTextures = other.mVideoTextures;
+                mImageKeys = other.mImageKeys;
             }
         }
     }
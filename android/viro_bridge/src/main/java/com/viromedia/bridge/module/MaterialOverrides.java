@@ -0,0 +1,89 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.module;
+
+import com.viro.core.Material;
+
+/**
+ * The per-node changes a component makes to the materials it is given, such as the shadow mode
+ * of AR shadow receivers or the cull mode of 3D text. Nodes with equal overrides share one
+ * variant of each material (see {@link MaterialManager#getMaterialInstances}) rather than each
+ * holding its own copy. Overrides are immutable and compared by value.
+ */
+public final class MaterialOverrides {
+
+    public static final MaterialOverrides NONE = new MaterialOverrides(null, null);
+
+    private final Material.ShadowMode mShadowMode;
+    private final Material.CullMode mCullMode;
+
+    private MaterialOverrides(Material.ShadowMode shadowMode, Material.CullMode cullMode) {
+        mShadowMode = shadowMode;
+        mCullMode = cullMode;
+    }
+
+    /**
+     * Returns these overrides with the given shadow mode, or with no shadow mode override if
+     * null.
+     */
+    public MaterialOverrides withShadowMode(Material.ShadowMode shadowMode) {
+        return new MaterialOverrides(shadowMode, mCullMode);
+    }
+
+    /**
+     * Returns these overrides with the given cull mode, or with no cull mode override if null.
+     */
+    public MaterialOverrides withCullMode(Material.CullMode cullMode) {
+        return new MaterialOverrides(mShadowMode, cullMode);
+    }
+
+    public boolean isEmpty() {
+        return mShadowMode == null && mCullMode == null;
+    }
+
+    public void applyTo(Material material) {
+        if (mShadowMode != null) {
+            material.setShadowMode(mShadowMode);
+        }
+        if (mCullMode != null) {
+            material.setCullMode(mCullMode);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MaterialOverrides)) {
+            return false;
+        }
+        MaterialOverrides overrides = (MaterialOverrides) other;
+        return mShadowMode == overrides.mShadowMode && mCullMode == overrides.mCullMode;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (mShadowMode != null ? mShadowMode.hashCode() : 0)
+                + (mCullMode != null ? mCullMode.hashCode() : 0);
+    }
+}
@@ -0,0 +1,141 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.module;
+
+import android.graphics.Color;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableMapKeySetIterator;
+import com.viro.core.Material;
+import com.viro.core.Texture;
+
+import java.util.EnumSet;
+
+/**
+ * The scalar and color properties of a material definition from JS. Textures are handled by
+ * {@link MaterialManager}, since their images have to be fetched before the material can be
+ * built; PBR properties are set on the native material once it exists.
+ */
+final class MaterialProperties {
+
+    // These defaults match those in the JNI's Material.java
+    private Material.LightingModel mLightingModel = Material.LightingModel.CONSTANT;
+    private int mDiffuseColor = Color.WHITE;
+    private int mChromaKeyFilteringColor = Color.GREEN;
+    private boolean mChromaFilteringEnabled = false;
+    private float mDiffuseIntensity = 1.0f;
+    private float mShininess = 2.0f;
+    private float mFresnelExponent = 1.0f;
+    private Material.CullMode mCullMode = Material.CullMode.BACK;
+    private Material.TransparencyMode mTransparencyMode = Material.TransparencyMode.A_ONE;
+    private Material.BlendMode mBlendMode = Material.BlendMode.ALPHA;
+    private EnumSet<Material.ColorWriteMask> mColorWriteMask = EnumSet.of(Material.ColorWriteMask.ALL);
+    private float mBloomThreshold = -1.0f;
+    private boolean mWritesToDepthBuffer = true;
+    private boolean mReadsFromDepthBuffer = true;
+
+    private MaterialProperties() {
+    }
+
+    static boolean isTextureProperty(String materialPropertyName) {
+        return materialPropertyName.endsWith("texture") || materialPropertyName.endsWith("Texture");
+    }
+
+    /**
+     * Parses the non-texture properties of the given material definition, throwing
+     * IllegalArgumentException for unknown color properties. Unknown scalar properties are
+     * ignored.
+     */
+    static MaterialProperties parse(ReadableMap materialMap) {
+        MaterialProperties properties = new MaterialProperties();
+        ReadableMapKeySetIterator iter = materialMap.keySetIterator();
+        while(iter.hasNextKey()) {
+            final String materialPropertyName = iter.nextKey();
+            if (isTextureProperty(materialPropertyName)) {
+                continue;
+            }
+            properties.parseProperty(materialMap, materialPropertyName);
+        }
+        return properties;
+    }
+
+    private void parseProperty(ReadableMap materialMap, String materialPropertyName) {
+        if (materialPropertyName.endsWith("color") || materialPropertyName.endsWith("Color")) {
+            int color = materialMap.getInt(materialPropertyName);
+            if (materialPropertyName.equalsIgnoreCase("diffuseColor")) {
+                mDiffuseColor = color;
+            }
+            else if(materialPropertyName.equalsIgnoreCase("chromaKeyFilteringColor")) {
+                mChromaKeyFilteringColor = color;
+                mChromaFilteringEnabled = true;
+            }
+            else {
+                throw new IllegalArgumentException("Invalid color property for material: " + materialPropertyName);
+            }
+        } else if ("shininess".equalsIgnoreCase(materialPropertyName)) {
+            mShininess = (float)materialMap.getDouble(materialPropertyName);
+        } else if ("fresnelExponent".equalsIgnoreCase(materialPropertyName)) {
+            mFresnelExponent = (float)materialMap.getDouble(materialPropertyName);
+        } else if ("lightingModel".equalsIgnoreCase(materialPropertyName)) {
+            mLightingModel = Material.LightingModel.valueFromString(materialMap.getString(materialPropertyName));
+        } else if ("blendMode".equalsIgnoreCase(materialPropertyName)) {
+            mBlendMode = Material.BlendMode.valueFromString(materialMap.getString(materialPropertyName));
+        } else if ("transparencyMode".equalsIgnoreCase(materialPropertyName)) {
+            mTransparencyMode = Material.TransparencyMode.valueFromString(materialMap.getString(materialPropertyName));
+        } else if ("writesToDepthBuffer".equalsIgnoreCase(materialPropertyName)) {
+            mWritesToDepthBuffer = materialMap.getBoolean(materialPropertyName);
+        } else if ("readsFromDepthBuffer".equalsIgnoreCase(materialPropertyName)) {
+            mReadsFromDepthBuffer = materialMap.getBoolean(materialPropertyName);
+        } else if ("colorWriteMask".equalsIgnoreCase(materialPropertyName)) {
+            ReadableArray colorWriteArray = materialMap.getArray(materialPropertyName);
+            mColorWriteMask = EnumSet.noneOf(Material.ColorWriteMask.class);
+            for (int c = 0; c < colorWriteArray.size(); c++) {
+                mColorWriteMask.add(Material.ColorWriteMask.valueFromString(colorWriteArray.getString(c)));
+            }
+        } else if ("cullMode".equalsIgnoreCase(materialPropertyName)) {
+            mCullMode = Material.CullMode.valueFromString(materialMap.getString(materialPropertyName));
+        } else if ("diffuseIntensity".equalsIgnoreCase(materialPropertyName)) {
+            mDiffuseIntensity = (float)materialMap.getDouble(materialPropertyName);
+        } else if ("bloomThreshold".equalsIgnoreCase(materialPropertyName)) {
+            mBloomThreshold = (float)materialMap.getDouble(materialPropertyName);
+        }
+    }
+
+    /**
+     * Creates a native material with these properties and the given textures, any of which
+     * may be null.
+     */
+    Material createMaterial(String materialName, Texture diffuseTexture, Texture specularTexture,
+                            Texture normalMap) {
+        Material nativeMaterial = new Material(mLightingModel, mDiffuseColor, diffuseTexture,
+                mDiffuseIntensity, specularTexture, mShininess, mFresnelExponent, normalMap,
+                mCullMode, mTransparencyMode, mBlendMode, mBloomThreshold, mWritesToDepthBuffer,
+                mReadsFromDepthBuffer, mColorWriteMask);
+        nativeMaterial.setName(materialName);
+        if (mChromaFilteringEnabled) {
+            nativeMaterial.setChromaKeyFilteringEnabled(mChromaFilteringEnabled);
+            nativeMaterial.setChromaKeyFilteringColor(mChromaKeyFilteringColor);
+        }
+        return nativeMaterial;
+    }
+}
@@ -46,12 +46,30 @@ import com.viromedia.bridge.component.node.VRTNode;
 
 import com.viro.core.Node;
 import com.viromedia.bridge.component.node.control.VRT3DObject;
+import com.viromedia.bridge.utility.Helper;
+import com.viromedia.bridge.utility.ViroLog;
+
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.Math.toDegrees;
 
 @ReactModule(name = "VRTNodeModule")
 public class NodeModule extends ReactContextBaseJavaModule {
+    private static final String TAG = ViroLog.getTag(NodeModule.class);
+
+    /*
+     * Physics batch command ops, see applyPhysicsBatch.
+     */
+    private static final int PHYSICS_OP_IMPULSE = 0;
+    private static final int PHYSICS_OP_TORQUE_IMPULSE = 1;
+    private static final int PHYSICS_OP_VELOCITY = 2;
+    private static final int PHYSICS_VECTOR_STRIDE = 6;
+
+    private static final AtomicLong sPhysicsBatches = new AtomicLong();
+    private static final AtomicLong sPhysicsCommandsApplied = new AtomicLong();
+    private static final AtomicLong sPhysicsCommandsSkipped = new AtomicLong();
+    private static final AtomicLong sPhysicsBatchNanos = new AtomicLong();
 
     public NodeModule(ReactApplicationContext context) {
         super(context);
@@ -144,6 +162,105 @@ public class NodeModule extends ReactContextBaseJavaModule {
         });
     }
 
+    /**
+     * Applies a batch of physics commands in a single UI block. Commands are packed into two
+     * base64 buffers (see ViroPhysicsBatch in JS):
+     *
+     * - commands: Int32 pairs of [viewTag, op], where op is 0 for applyImpulse, 1 for
+     *   applyTorqueImpulse and 2 for setVelocity.
+     * - vectors: Float32, 6 per command: the force, torque or velocity, followed by the
+     *   impulse position (ignored by the other ops).
+     *
+     * Commands targeting nodes that no longer exist are skipped rather than failing the batch,
+     * since bodies are routinely removed between the JS tick and the UI block.
+     */
+    @ReactMethod
+    public void applyPhysicsBatch(final String commands, final String vectors) {
+        final int[] commandArray = Helper.decodeIntBuffer(commands);
+        final float[] vectorArray = Helper.decodeFloatBuffer(vectors);
+        final int count = commandArray.length / 2;
+        if (vectorArray.length < count * PHYSICS_VECTOR_STRIDE) {
+            throw new IllegalArgumentException("Physics batch has " + count + " commands but only "
+                    + vectorArray.length + " vector components");
+        }
+
+        UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
+        uiManager.addUIBlock(new UIBlock() {
+            @Override
+            public void execute(NativeViewHierarchyManager nativeViewHierarchyManager) {
+                long start = System.nanoTime();
+                float[] first = new float[3];
+                float[] second = new float[3];
+                int applied = 0;
+                for (int i = 0; i < count; i++) {
+                    int tag = commandArray[i * 2];
+                    int op = commandArray[i * 2 + 1];
+                    VRTNode node = resolvePhysicsNode(nativeViewHierarchyManager, tag);
+                    if (node == null) {
+                        continue;
+                    }
+
+                    int offset = i * PHYSICS_VECTOR_STRIDE;
+                    System.arraycopy(vectorArray, offset, first, 0, 3);
+                    switch (op) {
+                        case PHYSICS_OP_IMPULSE:
+                            System.arraycopy(vectorArray, offset + 3, second, 0, 3);
+                            node.applyImpulse(first, second);
+                            break;
+                        case PHYSICS_OP_TORQUE_IMPULSE:
+                            node.applyTorqueImpulse(first);
+                            break;
+                        case PHYSICS_OP_VELOCITY:
+                            node.setVelocity(first, false);
+                            break;
+                        default:
+                            ViroLog.warn(TAG, "Skipping unknown physics batch op " + op);
+                            continue;
+                    }
+                    applied++;
+                }
+
+                sPhysicsBatches.incrementAndGet();
+                sPhysicsCommandsApplied.addAndGet(applied);
+                sPhysicsCommandsSkipped.addAndGet(count - applied);
+                sPhysicsBatchNanos.addAndGet(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private VRTNode resolvePhysicsNode(NativeViewHierarchyManager manager, int tag) {
+        View view;
+        try {
+            view = manager.resolveView(tag);
+        } catch (IllegalViewOperationException e) {
+            return null;
+        }
+        if (!(view instanceof VRTNode) || ((VRTNode) view).isTornDown()) {
+            return null;
+        }
+        return (VRTNode) view;
+    }
+
+    /*
+     * Each of these returns its counter and resets it to zero in one step, so batches applied
+     * while the stats are being read are counted in the next read rather than lost.
+     */
+    public static long takePhysicsBatchCount() {
+        return sPhysicsBatches.getAndSet(0);
+    }
+
+    public static long takePhysicsCommandsApplied() {
+        return sPhysicsCommandsApplied.getAndSet(0);
+    }
+
+    public static long takePhysicsCommandsSkipped() {
+        return sPhysicsCommandsSkipped.getAndSet(0);
+    }
+
+    public static long takePhysicsBatchNanos() {
+        return sPhysicsBatchNanos.getAndSet(0);
+    }
+
     @ReactMethod
     public void getNodeTransform(final int viewTag, final Promise promise)
      {
@@ -24,17 +24,41 @@ package com.viromedia.bridge.module;
 import android.app.Application;
 
 import com.facebook.react.ReactApplication;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.devsupport.interfaces.DevOptionHandler;
 import com.facebook.react.devsupport.interfaces.DevSupportManager;
 import com.facebook.react.module.annotations.ReactModule;
 import com.viro.core.ViroView;
+import com.viromedia.bridge.component.AnimationScheduler;
+import com.viromedia.bridge.component.node.VRTNode;
+import com.viromedia.bridge.utility.PerfTelemetry;
+import com.viromedia.bridge.utility.TraceBuffer;
+import com.viromedia.bridge.utility.ViroLog;
 
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.ref.WeakReference;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @ReactModule(name = "VRTPerfMonitor")
 public class PerfMonitor extends ReactContextBaseJavaModule {
+    private static final String TAG = ViroLog.getTag(PerfMonitor.class);
+    private static final String TELEMETRY_WRITE_FAILED = "E_TELEMETRY_WRITE_FAILED";
+
     // https://stackoverflow.com/a/44879687
     @Override
     public boolean canOverrideExistingModule() {
@@ -91,6 +115,162 @@ public class PerfMonitor extends ReactContextBaseJavaModule {
         view.setDebugHUDEnabled(mIsShowing);
     }
 
+    /**
+     * Resolves with the number of node transform updates sent to the renderer and the number
+     * avoided by transform prop batching since the previous call, then resets both counters.
+     * Sampling this once per frame gives the JNI calls saved per frame.
+     */
+    @ReactMethod
+    public void getTransformUpdateStats(Promise promise) {
+        WritableMap stats = Arguments.createMap();
+        stats.putDouble("applied", VRTNode.getTransformUpdatesApplied());
+        stats.putDouble("skipped", VRTNode.getTransformUpdatesSkipped());
+        VRTNode.resetTransformUpdateCounters();
+        promise.resolve(stats);
+    }
+
+    @ReactMethod
+    public void getMaterialInstanceStats(Promise promise) {
+        WritableMap stats = Arguments.createMap();
+        stats.putDouble("shared", VRTNode.getSharedMaterialAssignments());
+        stats.putDouble("copied", VRTNode.getCopiedMaterialAssignments());
+        VRTNode.resetMaterialAssignmentCounters();
+        promise.resolve(stats);
+    }
+
+    @ReactMethod
+    public void getAnimationStats(Promise promise) {
+        AnimationScheduler scheduler = AnimationScheduler.getInstance();
+        WritableMap stats = Arguments.createMap();
+        stats.putInt("active", scheduler.getActiveCount());
+        stats.putInt("scheduled", scheduler.getScheduledCount());
+        stats.putInt("paused", scheduler.getPausedCount());
+        stats.putDouble("startBatches", scheduler.getStartBatchCount());
+        stats.putDouble("batchedStarts", scheduler.getBatchedStartCount());
+        promise.resolve(stats);
+    }
+
+    /**
+     * Resolves with the physics batch commands applied and skipped since the previous call,
+     * and the UI thread time spent applying them, then resets the counters.
+     */
+    @ReactMethod
+    public void getPhysicsBatchStats(Promise promise) {
+        long nanos = NodeModule.takePhysicsBatchNanos();
+        long applied = NodeModule.takePhysicsCommandsApplied();
+        WritableMap stats = Arguments.createMap();
+        stats.putDouble("batches", NodeModule.takePhysicsBatchCount());
+        stats.putDouble("applied", applied);
+        stats.putDouble("skipped", NodeModule.takePhysicsCommandsSkipped());
+        stats.putDouble("applyMs", nanos / 1e6);
+        stats.putDouble("commandsPerMs", nanos > 0 ? applied / (nanos / 1e6) : 0);
+        promise.resolve(stats);
+    }
+
+    /**
+     * Starts or stops recording telemetry (frame times, bridge traffic and load latencies).
+     * Telemetry is off by default and costs close to nothing while off.
+     */
+    @ReactMethod
+    public void setTelemetryEnabled(boolean enabled) {
+        PerfTelemetry.setEnabled(enabled);
+    }
+
+    /**
+     * Resolves with everything recorded since telemetry was last reset, optionally resetting
+     * it afterwards.
+     */
+    @ReactMethod
+    public void getTelemetrySnapshot(boolean reset, Promise promise) {
+        Map<String, Object> snapshot = PerfTelemetry.snapshot(reset);
+        promise.resolve(Arguments.makeNativeMap(snapshot));
+    }
+
+    @ReactMethod
+    public void resetTelemetry() {
+        PerfTelemetry.reset();
+    }
+
+    /**
+     * Writes a telemetry snapshot as JSON to the given path, or to a timestamped file in the
+     * app's files directory if the path is null, and resolves with the path once the file is
+     * closed. Rejects if the file can't be written.
+     */
+    @ReactMethod
+    public void dumpTelemetry(String path, Promise promise) {
+        File file = path != null ? new File(path)
+                : new File(getReactApplicationContext().getFilesDir(),
+                        "viro_telemetry_" + System.currentTimeMillis() + ".json");
+        Map<String, Object> snapshot = PerfTelemetry.snapshot();
+        snapshot.put("spans", spansToList(ViroLog.getTraceSpans()));
+        String json = new JSONObject(snapshot).toString();
+
+        Writer writer = null;
+        try {
+            writer = new OutputStreamWriter(new FileOutputStream(file), Charset.forName("UTF-8"));
+            writer.write(json);
+            // Close here rather than in finally so that a failed flush is reported
+            writer.close();
+            writer = null;
+            promise.resolve(file.getAbsolutePath());
+        } catch (IOException e) {
+            ViroLog.warn(TAG, "Unable to write telemetry to " + file + ": " + e.getMessage());
+            promise.reject(TELEMETRY_WRITE_FAILED, "Unable to write telemetry to " + file + ": "
+                    + e.getMessage());
+        } finally {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    // Already reported the write failure
+                }
+            }
+        }
+    }
+
+    /**
+     * Turns tracing of the bridge's hot paths on or off. When enabled, the most recent spans
+     * are kept in a buffer of the given size; systemTrace additionally emits them as
+     * android.os.Trace sections so they show up in systrace and Perfetto captures.
+     */
+    @ReactMethod
+    public void setTracingEnabled(boolean enabled, boolean systemTrace, int bufferSize) {
+        if (bufferSize > 0) {
+            ViroLog.setTraceCapacity(bufferSize);
+        }
+        int mode = ViroLog.TRACE_OFF;
+        if (enabled) {
+            mode = ViroLog.TRACE_BUFFER | (systemTrace ? ViroLog.TRACE_SYSTEM : 0);
+        }
+        ViroLog.setTraceMode(mode);
+    }
+
+    /**
+     * Resolves with the most recently completed trace spans, oldest first, optionally clearing
+     * them afterwards.
+     */
+    @ReactMethod
+    public void getTraceSpans(boolean clear, Promise promise) {
+        List<TraceBuffer.Span> spans = ViroLog.getTraceSpans();
+        if (clear) {
+            ViroLog.clearTraceSpans();
+        }
+        promise.resolve(Arguments.makeNativeArray(spansToList(spans)));
+    }
+
+    private static List<Object> spansToList(List<TraceBuffer.Span> spans) {
+        List<Object> list = new ArrayList<>(spans.size());
+        for (TraceBuffer.Span span : spans) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("name", span.name);
+            map.put("thread", span.thread);
+            map.put("startUs", span.startNanos / 1000.0);
+            map.put("durationUs", span.durationNanos / 1000.0);
+            list.add(map);
+        }
+        return list;
+    }
+
     @Override
     public String getName() {
         return "VRTPerfMonitor";
@@ -23,12 +23,14 @@ package com.viromedia.bridge.module;
 
 import android.view.View;
 
+import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.JSApplicationCausedNativeException;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.IllegalViewOperationException;
 import com.facebook.react.uimanager.NativeViewHierarchyManager;
 import com.facebook.react.uimanager.UIBlock;
@@ -42,11 +44,13 @@ import com.viro.core.PhysicsShapeBox;
 import com.viro.core.PhysicsShapeSphere;
 import com.viro.core.PhysicsWorld;
 import com.viro.core.Scene;
+import com.viromedia.bridge.component.node.PhysicsQueryBatch;
 import com.viromedia.bridge.component.node.VRTScene;
 import com.viromedia.bridge.utility.Helper;
 
 @ReactModule(name = "VRTSceneModule")
 public class SceneModule extends ReactContextBaseJavaModule {
+    private static final String INVALID_COLLISION_QUERY = "E_INVALID_COLLISION_QUERY";
 
     public SceneModule(ReactApplicationContext context) {
         super(context);
@@ -148,4 +152,56 @@ public class SceneModule extends ReactContextBaseJavaModule {
             }
         });
     }
+
+    /**
+     * Runs a batch of ray and shape queries in a single UI block and resolves once with all
+     * of their results. The queries are a base64 Float32 buffer laid out as described in
+     * {@link PhysicsQueryBatch}; the promise resolves with base64 "hits" (Int32, [hit, tag]
+     * per query) and "points" (Float32, [x, y, z, distance] per query) buffers.
+     */
+    @ReactMethod
+    public void findCollisionsBatchAsync(final int viewTag, final String queries,
+                                         final boolean closest, final Promise promise) {
+        final float[] queryArray;
+        try {
+            queryArray = Helper.decodeFloatBuffer(queries);
+        } catch (IllegalArgumentException e) {
+            promise.reject(INVALID_COLLISION_QUERY, e.getMessage());
+            return;
+        }
+        UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
+        uiManager.addUIBlock(new UIBlock() {
+            @Override
+            public void execute(NativeViewHierarchyManager nativeViewHierarchyManager) {
+                // Errors are reported through the promise, since nothing on the JS side would
+                // see an exception thrown from the UI block
+                View sceneView;
+                try {
+                    sceneView = nativeViewHierarchyManager.resolveView(viewTag);
+                } catch (IllegalViewOperationException e) {
+                    sceneView = null;
+                }
+                if (!(sceneView instanceof VRTScene)) {
+                    promise.reject(INVALID_COLLISION_QUERY, "Invalid view returned when " +
+                            "calling findCollisionsBatchAsync: expected a ViroScene!");
+                    return;
+                }
+
+                VRTScene scene = (VRTScene) sceneView;
+                try {
+                    scene.findCollisionsBatchAsync(queryArray, closest, new PhysicsQueryBatch.Listener() {
+                        @Override
+                        public void onComplete(int[] hits, float[] points) {
+                            WritableMap result = Arguments.createMap();
+                            result.putString("hits", Helper.encodeIntBuffer(hits));
+                            result.putString("points", Helper.encodeFloatBuffer(points));
+                            promise.resolve(result);
+                        }
+                    });
+                } catch (IllegalArgumentException e) {
+                    promise.reject(INVALID_COLLISION_QUERY, e.getMessage());
+                }
+            }
+        });
+    }
 }
@@ -32,13 +32,15 @@ import com.facebook.react.bridge.ReadableMapKeySetIterator;
 import com.facebook.react.bridge.ReadableType;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.module.annotations.ReactModule;
-import com.viro.core.SoundData;
+import com.viromedia.bridge.utility.SoundDataCache;
 import java.util.HashMap;
 
 @ReactModule(name = "VRTSoundModule")
 public class SoundModule extends ReactContextBaseJavaModule {
 
-    private final HashMap<String, SoundData> mSoundDataMap = new HashMap<>();
+    private final HashMap<String, String> mPreloadedSounds = new HashMap<>();
+    private final SoundDataCache mSoundDataCache =
+            new SoundDataCache(SoundDataCache.DEFAULT_MAX_SIZE_BYTES);
 
     public SoundModule(ReactApplicationContext context) {
         super(context);
@@ -56,9 +58,9 @@ public class SoundModule extends ReactContextBaseJavaModule {
     }
 
     /**
-     * This function takes a map of keys to sounds and creates SoundData objects
-     * to prefetch the data before storing them in a local map. We currently only
-     * support external urls (web-based).
+     * This function takes a map of keys to sounds and loads their SoundData into the
+     * shared {@link SoundDataCache} so it is ready before it is played. Sounds already
+     * cached (or loading) for the same url are shared rather than fetched again.
      *
      * @param soundMap a map of String keys to String url's.
      */
@@ -77,13 +79,13 @@ public class SoundModule extends ReactContextBaseJavaModule {
                 throw new IllegalArgumentException("Invalid preloaded sound path received.");
             }
 
-            // If a promise is provided, create SoundDataInitCallback to notify
-            // the javascript layer of when the data has completed preloading.
-            SoundData.SoundDataInitializeCallback callback = null;
+            // If a promise is provided, create a listener to notify the javascript
+            // layer of when the data has completed preloading.
+            SoundDataCache.Listener listener = null;
             if (onSoundPreloadedCallback != null) {
-                callback = new SoundData.SoundDataInitializeCallback() {
+                listener = new SoundDataCache.Listener() {
                     @Override
-                    public void onDataIsReady() {
+                    public void onSoundDataReady(String uri) {
                         WritableMap returnMap = Arguments.createMap();
                         returnMap.putString("key", key);
                         returnMap.putBoolean("result",true);
@@ -92,7 +94,7 @@ public class SoundModule extends ReactContextBaseJavaModule {
                     }
 
                     @Override
-                    public void onDataError(String errorMsg) {
+                    public void onSoundDataError(String uri, String errorMsg) {
                         WritableMap returnMap = Arguments.createMap();
                         returnMap.putString("key", key);
                         returnMap.putBoolean("result",false);
@@ -101,23 +103,62 @@ public class SoundModule extends ReactContextBaseJavaModule {
                     }
                 };
             }
-            mSoundDataMap.put(key, new SoundData(path, callback));
+
+            String previousPath = mPreloadedSounds.put(key, path);
+            mSoundDataCache.prefetch(path, listener);
+            if (previousPath != null && !previousPath.equals(path)) {
+                removeIfUnused(previousPath);
+            }
         }
     }
 
     @ReactMethod
     public void unloadSounds(ReadableArray soundArray) {
         for (int i = 0; i < soundArray.size(); i++) {
-            String keyToRemove = soundArray.getString(i);
-            SoundData dataToRemove = mSoundDataMap.get(keyToRemove);
-            if (dataToRemove != null) {
-                dataToRemove.destroy();
-                mSoundDataMap.remove(keyToRemove);
+            String pathToRemove = mPreloadedSounds.remove(soundArray.getString(i));
+            if (pathToRemove != null) {
+                removeIfUnused(pathToRemove);
             }
         }
     }
 
-    public SoundData getSoundData(String name) {
-        return mSoundDataMap.get(name);
+    /**
+     * Sets the maximum total size, in bytes, of sound data kept in the cache. Sounds in use
+     * are never evicted, so the cache may exceed this size while they are playing.
+     */
+    @ReactMethod
+    public void setSoundCacheSize(double maxSizeBytes) {
+        mSoundDataCache.setMaxSize((long) maxSizeBytes);
+    }
+
+    @ReactMethod
+    public void getSoundCacheStats(Promise promise) {
+        WritableMap stats = Arguments.createMap();
+        stats.putInt("count", mSoundDataCache.getCount());
+        stats.putDouble("sizeBytes", mSoundDataCache.getSize());
+        stats.putDouble("maxSizeBytes", mSoundDataCache.getMaxSize());
+        stats.putDouble("hits", mSoundDataCache.getHitCount());
+        stats.putDouble("misses", mSoundDataCache.getMissCount());
+        stats.putDouble("deduped", mSoundDataCache.getDedupedCount());
+        stats.putDouble("evictions", mSoundDataCache.getEvictionCount());
+        promise.resolve(stats);
+    }
+
+    /**
+     * Returns the url of the sound preloaded under the given name, or null if there is none.
+     */
+    public String getPreloadedSoundUri(String name) {
+        return mPreloadedSounds.get(name);
+    }
+
+    public SoundDataCache getSoundDataCache() {
+        return mSoundDataCache;
+    }
+
+    private void removeIfUnused(String path) {
+        // Another key may have preloaded the same url
+        if (!mPreloadedSounds.containsValue(path)) {
+            mSoundDataCache.remove(path);
+        }
     }
 }
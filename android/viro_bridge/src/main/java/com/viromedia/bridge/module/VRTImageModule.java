@@ -24,11 +24,15 @@ package com.viromedia.bridge.module;
 
 import android.content.Context;
 
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.module.annotations.ReactModule;
+import com.viromedia.bridge.utility.ImageDownloadScheduler;
 import com.viromedia.bridge.utility.ImageDownloader;
 
 @ReactModule(name = "VRTImageModule")
@@ -54,4 +58,30 @@ public class VRTImageModule extends ReactContextBaseJavaModule {
     public void evictFromCache(ReadableMap map) {
         ImageDownloader.evictFromCache(map, mContext);
     }
+
+    /**
+     * Fetches and decodes the given image ahead of time, at the lowest download priority.
+     */
+    @ReactMethod
+    public void prefetch(ReadableMap map) {
+        new ImageDownloader(mContext).prefetch(map);
+    }
+
+    /**
+     * Sets the maximum number of images fetched and decoded at once across the app.
+     */
+    @ReactMethod
+    public void setDownloadParallelism(int parallelism) {
+        ImageDownloadScheduler.getInstance().setParallelism(parallelism);
+    }
+
+    @ReactMethod
+    public void getAllocationStats(Promise promise) {
+        WritableMap stats = Arguments.createMap();
+        stats.putDouble("bytesCopied", ImageDownloader.getBytesCopied());
+        stats.putDouble("copyCount", ImageDownloader.getCopyCount());
+        stats.putDouble("bytesPassedThrough", ImageDownloader.getBytesPassedThrough());
+        stats.putDouble("passThroughCount", ImageDownloader.getPassThroughCount());
+        promise.resolve(stats);
+    }
 }
@@ -0,0 +1,194 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.graphics.Point;
+
+import com.viro.core.ARHitTestListener;
+import com.viro.core.ARHitTestResult;
+import com.viro.core.Vector;
+import com.viro.core.ViroViewARCore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Runs a set of AR hit tests (screen points, camera rays or world-space rays) together and
+ * collects every result into one flat float array, so a batch costs one bridge round trip
+ * rather than one promise and one map per result per query.
+ *
+ * Queries are packed as {@link #QUERY_STRIDE} floats each: [kind, a, b, c, d, e, f], where
+ * kind is one of the QUERY_ constants and
+ * - QUERY_POINT uses a, b as the screen x, y
+ * - QUERY_RAY uses a, b, c as the ray direction from the camera
+ * - QUERY_WORLD_POINTS uses a, b, c as the origin and d, e, f as the destination
+ *
+ * Results are {@link #RESULT_STRIDE} floats each, grouped by query in query order:
+ * [queryIndex, type, positionX, positionY, positionZ, rotationX, rotationY, rotationZ], where
+ * type indexes the list returned by {@link Listener#onComplete} and rotation is in degrees.
+ */
+public class ARHitTestBatch {
+    public static final int QUERY_STRIDE = 7;
+    public static final int RESULT_STRIDE = 8;
+
+    public static final int QUERY_POINT = 0;
+    public static final int QUERY_RAY = 1;
+    public static final int QUERY_WORLD_POINTS = 2;
+
+    public interface Listener {
+        /**
+         * Invoked once every hit test in the batch has finished.
+         *
+         * @param results {@link #RESULT_STRIDE} floats per result
+         * @param types   the result type names referenced by index from the results
+         */
+        void onComplete(float[] results, List<String> types);
+    }
+
+    private final ARHitTestResult[][] mResults;
+    private final Set<String> mTypeFilter;
+    private final int mMaxResultsPerQuery;
+    private final Listener mListener;
+    private int mRemaining;
+
+    private ARHitTestBatch(int count, Set<String> typeFilter, int maxResultsPerQuery, Listener listener) {
+        mResults = new ARHitTestResult[count][];
+        mTypeFilter = typeFilter;
+        mMaxResultsPerQuery = maxResultsPerQuery;
+        mListener = listener;
+        mRemaining = count;
+    }
+
+    /**
+     * Validates the packed queries, throwing IllegalArgumentException for malformed ones, then
+     * issues them all against the AR view's current frame.
+     *
+     * @param typeFilter         result types to keep, or null to keep all of them
+     * @param maxResultsPerQuery the nearest results kept per query after filtering, or 0 to
+     *                           keep all of them
+     */
+    public static void run(ViroViewARCore arView, float[] queries, Set<String> typeFilter,
+                           int maxResultsPerQuery, Listener listener) {
+        if (queries.length % QUERY_STRIDE != 0) {
+            throw new IllegalArgumentException("Packed hit test queries must have "
+                    + QUERY_STRIDE + " floats per query, got " + queries.length);
+        }
+
+        int count = queries.length / QUERY_STRIDE;
+        for (int i = 0; i < count; i++) {
+            int kind = (int) queries[i * QUERY_STRIDE];
+            if (kind != QUERY_POINT && kind != QUERY_RAY && kind != QUERY_WORLD_POINTS) {
+                throw new IllegalArgumentException("Invalid hit test query kind [" + kind + "]");
+            }
+        }
+        ARHitTestBatch batch = new ARHitTestBatch(count, typeFilter, maxResultsPerQuery, listener);
+        if (count == 0) {
+            batch.complete();
+            return;
+        }
+
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            final ARHitTestBatch target = batch;
+            ARHitTestListener hitListener = new ARHitTestListener() {
+                @Override
+                public void onHitTestFinished(ARHitTestResult[] arHitTestResults) {
+                    target.onQueryFinished(index, arHitTestResults);
+                }
+            };
+
+            int o = i * QUERY_STRIDE;
+            switch ((int) queries[o]) {
+                case QUERY_POINT:
+                    arView.performARHitTest(new Point((int) queries[o + 1], (int) queries[o + 2]), hitListener);
+                    break;
+                case QUERY_RAY:
+                    arView.performARHitTestWithRay(new Vector(queries[o + 1], queries[o + 2], queries[o + 3]),
+                            hitListener);
+                    break;
+                default:
+                    arView.performARHitTestWithRay(new Vector(queries[o + 1], queries[o + 2], queries[o + 3]),
+                            new Vector(queries[o + 4], queries[o + 5], queries[o + 6]), hitListener);
+                    break;
+            }
+        }
+    }
+
+    private void onQueryFinished(int index, ARHitTestResult[] results) {
+        synchronized (this) {
+            mResults[index] = results != null ? results : new ARHitTestResult[0];
+            mRemaining--;
+            if (mRemaining > 0) {
+                return;
+            }
+        }
+        complete();
+    }
+
+    private void complete() {
+        List<String> types = new ArrayList<>();
+        List<ARHitTestResult> kept = new ArrayList<>();
+        List<Integer> keptQueries = new ArrayList<>();
+        for (int i = 0; i < mResults.length; i++) {
+            int keptForQuery = 0;
+            for (ARHitTestResult result : mResults[i]) {
+                if (mMaxResultsPerQuery > 0 && keptForQuery >= mMaxResultsPerQuery) {
+                    break;
+                }
+                // Filter before serializing so discarded results cost nothing beyond this check
+                String type = result.getType().getStringValue();
+                if (mTypeFilter != null && !mTypeFilter.contains(type)) {
+                    continue;
+                }
+                kept.add(result);
+                keptQueries.add(i);
+                keptForQuery++;
+            }
+        }
+
+        float[] packed = new float[kept.size() * RESULT_STRIDE];
+        for (int i = 0; i < kept.size(); i++) {
+            ARHitTestResult result = kept.get(i);
+            String type = result.getType().getStringValue();
+            int typeIndex = types.indexOf(type);
+            if (typeIndex < 0) {
+                typeIndex = types.size();
+                types.add(type);
+            }
+
+            float[] position = result.getPosition().toArray();
+            float[] rotation = result.getRotation().toArray();
+            int o = i * RESULT_STRIDE;
+            packed[o] = keptQueries.get(i);
+            packed[o + 1] = typeIndex;
+            packed[o + 2] = position[0];
+            packed[o + 3] = position[1];
+            packed[o + 4] = position[2];
+            // rotation values come as radians, we need to convert to degrees
+            packed[o + 5] = (float) Math.toDegrees(rotation[0]);
+            packed[o + 6] = (float) Math.toDegrees(rotation[1]);
+            packed[o + 7] = (float) Math.toDegrees(rotation[2]);
+        }
+        mListener.onComplete(packed, types);
+    }
+}
@@ -0,0 +1,204 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.viro.core.ARAnchor;
+import com.viro.core.ARPlaneAnchor;
+import com.viro.core.Vector;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Serializes plane anchor updates as deltas against the last update sent for the same anchor,
+ * so a plane that only grew one edge doesn't resend its whole polygon.
+ *
+ * Every plane anchor map carries a vertexVersion, bumped whenever its polygon changes. A full
+ * map (as produced by {@link ARUtils#mapFromARAnchor(ARAnchor)}) is sent the first time an
+ * anchor is seen and after {@link #requestResync(String)}. Any other update carries the
+ * transform and type, plus only what changed:
+ *
+ *   baseVertexVersion  the version this update applies to
+ *   center, width, height   only if they changed
+ *   vertexCount, vertexRanges   only if the polygon changed; vertexRanges is an array of
+ *       {start, vertices} replacing the vertices at [start, start + vertices.length) in a
+ *       polygon resized to vertexCount
+ *
+ * Anchors other than planes are always sent in full.
+ */
+public class ARPlaneGeometryEncoder {
+    private final HashMap<String, PlaneState> mPlanes = new HashMap<String, PlaneState>();
+
+    private static class PlaneState {
+        int mVersion = 0;
+        float[] mVertices;
+        Vector mCenter;
+        Vector mExtent;
+        boolean mNeedsResync = false;
+    }
+
+    public synchronized WritableMap mapFromARAnchor(ARAnchor anchor) {
+        if (anchor.getType() != ARAnchor.Type.PLANE) {
+            return ARUtils.mapFromARAnchor(anchor);
+        }
+
+        ARPlaneAnchor plane = (ARPlaneAnchor) anchor;
+        float[] vertices = toFloatArray(plane.getVertices());
+        Vector center = plane.getCenter();
+        Vector extent = plane.getExtent();
+
+        PlaneState state = mPlanes.get(anchor.getAnchorId());
+        if (state == null || state.mNeedsResync) {
+            if (state == null) {
+                state = new PlaneState();
+                mPlanes.put(anchor.getAnchorId(), state);
+            } else if (!Arrays.equals(state.mVertices, vertices)) {
+                state.mVersion++;
+            }
+            state.mVertices = vertices;
+            state.mCenter = center;
+            state.mExtent = extent;
+            state.mNeedsResync = false;
+
+            WritableMap returnMap = ARUtils.mapFromARAnchor(anchor);
+            returnMap.putInt("vertexVersion", state.mVersion);
+            return returnMap;
+        }
+
+        WritableMap returnMap = ARUtils.mapFromARAnchorTransform(anchor);
+        returnMap.putString("alignment", plane.getAlignment().getStringValue());
+        returnMap.putInt("baseVertexVersion", state.mVersion);
+
+        if (!isSameVector(center, state.mCenter)) {
+            returnMap.putArray("center", Arguments.makeNativeArray(center.toArray()));
+            state.mCenter = center;
+        }
+        if (!isSameVector(extent, state.mExtent)) {
+            returnMap.putDouble("width", extent.x);
+            returnMap.putDouble("height", extent.z);
+            state.mExtent = extent;
+        }
+
+        WritableArray ranges = diffVertices(state.mVertices, vertices);
+        if (ranges != null) {
+            state.mVersion++;
+            state.mVertices = vertices;
+            returnMap.putInt("vertexCount", vertices.length / 3);
+            returnMap.putArray("vertexRanges", ranges);
+        }
+        returnMap.putInt("vertexVersion", state.mVersion);
+        return returnMap;
+    }
+
+    /**
+     * Send the given anchor in full the next time it's updated, or every anchor if anchorId is
+     * null. Used by JS when it receives an update it can't apply.
+     */
+    public synchronized void requestResync(String anchorId) {
+        if (anchorId == null) {
+            for (PlaneState state : mPlanes.values()) {
+                state.mNeedsResync = true;
+            }
+            return;
+        }
+        PlaneState state = mPlanes.get(anchorId);
+        if (state != null) {
+            state.mNeedsResync = true;
+        }
+    }
+
+    public synchronized void remove(String anchorId) {
+        mPlanes.remove(anchorId);
+    }
+
+    public synchronized void clear() {
+        mPlanes.clear();
+    }
+
+    /*
+     Returns the ranges of vertices that differ between the two polygons, or null if they are
+     identical. Vertices past the end of the old polygon form the last range.
+     */
+    private static WritableArray diffVertices(float[] oldVertices, float[] newVertices) {
+        int oldCount = oldVertices.length / 3;
+        int newCount = newVertices.length / 3;
+        WritableArray ranges = null;
+        int rangeStart = -1;
+
+        for (int i = 0; i <= newCount; i++) {
+            boolean changed = i < newCount && (i >= oldCount
+                    || oldVertices[i * 3] != newVertices[i * 3]
+                    || oldVertices[i * 3 + 1] != newVertices[i * 3 + 1]
+                    || oldVertices[i * 3 + 2] != newVertices[i * 3 + 2]);
+            if (changed && rangeStart < 0) {
+                rangeStart = i;
+            } else if (!changed && rangeStart >= 0) {
+                if (ranges == null) {
+                    ranges = Arguments.createArray();
+                }
+                ranges.pushMap(mapFromVertexRange(newVertices, rangeStart, i));
+                rangeStart = -1;
+            }
+        }
+
+        if (ranges == null && newCount != oldCount) {
+            // The polygon only lost vertices from its end
+            ranges = Arguments.createArray();
+        }
+        return ranges;
+    }
+
+    private static WritableMap mapFromVertexRange(float[] vertices, int start, int end) {
+        WritableArray vertexArray = Arguments.createArray();
+        for (int i = start; i < end; i++) {
+            WritableArray vertex = Arguments.createArray();
+            vertex.pushDouble(vertices[i * 3]);
+            vertex.pushDouble(vertices[i * 3 + 1]);
+            vertex.pushDouble(vertices[i * 3 + 2]);
+            vertexArray.pushArray(vertex);
+        }
+
+        WritableMap range = Arguments.createMap();
+        range.putInt("start", start);
+        range.putArray("vertices", vertexArray);
+        return range;
+    }
+
+    private static float[] toFloatArray(List<Vector> vertices) {
+        float[] array = new float[vertices.size() * 3];
+        for (int i = 0; i < vertices.size(); i++) {
+            Vector vertex = vertices.get(i);
+            array[i * 3] = vertex.x;
+            array[i * 3 + 1] = vertex.y;
+            array[i * 3 + 2] = vertex.z;
+        }
+        return array;
+    }
+
+    private static boolean isSameVector(Vector a, Vector b) {
+        return a.x == b.x && a.y == b.y && a.z == b.z;
+    }
+}
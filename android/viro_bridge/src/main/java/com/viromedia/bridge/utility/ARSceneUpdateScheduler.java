@@ -0,0 +1,327 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableMap;
+import com.viro.core.ARAnchor;
+import com.viro.core.ARPlaneAnchor;
+import com.viro.core.Vector;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rate limits and coalesces the per-frame updates an AR scene sends to JS.
+ *
+ * Anchor updates are kept per anchor ID, latest value wins, and are delivered no more often
+ * than the configured anchor rate. An update is only queued if the anchor's position, rotation
+ * or (for planes) extent has moved past its threshold since the last update JS received.
+ * Ambient light updates are handled the same way using intensity and color thresholds.
+ * Anchor found and removed events are not throttled; the scene reports them through
+ * {@link #onAnchorFound(ARAnchor)} and {@link #onAnchorRemoved(ARAnchor)} so the scheduler
+ * can track the state JS has seen.
+ */
+public class ARSceneUpdateScheduler {
+
+    public interface Emitter {
+        void emitAnchorUpdated(ARAnchor anchor);
+        void emitAmbientLightUpdate(float intensity, Vector color);
+    }
+
+    public static final float DEFAULT_ANCHOR_MAX_RATE = 30f;
+    public static final float DEFAULT_AMBIENT_LIGHT_MAX_RATE = 10f;
+
+    private final Emitter mEmitter;
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    // Settings, see setSettings()
+    private long mAnchorIntervalMillis;
+    private long mAmbientLightIntervalMillis;
+    private float mPositionThreshold;
+    private float mRotationThresholdRadians;
+    private float mExtentThreshold;
+    private float mIntensityThreshold;
+    private float mColorThreshold;
+    private boolean mFilterAnchors;
+    private boolean mFilterAmbientLight;
+
+    // Last anchor state delivered to JS, by anchor ID
+    private final Map<String, AnchorState> mDeliveredAnchors = new HashMap<String, AnchorState>();
+    private final LinkedHashMap<String, ARAnchor> mPendingAnchors = new LinkedHashMap<String, ARAnchor>();
+    private boolean mAnchorFlushScheduled = false;
+    private long mLastAnchorFlushTime = 0;
+
+    private boolean mHasDeliveredLight = false;
+    private float mDeliveredIntensity;
+    private Vector mDeliveredColor;
+    private boolean mHasPendingLight = false;
+    private float mPendingIntensity;
+    private Vector mPendingColor;
+    private boolean mLightFlushScheduled = false;
+    private long mLastLightFlushTime = 0;
+
+    private long mAnchorUpdatesDelivered = 0;
+    private long mAnchorUpdatesDropped = 0;
+    private long mAmbientLightUpdatesDelivered = 0;
+    private long mAmbientLightUpdatesDropped = 0;
+
+    private final Runnable mFlushAnchors = new Runnable() {
+        @Override
+        public void run() {
+            flushAnchors();
+        }
+    };
+
+    private final Runnable mFlushAmbientLight = new Runnable() {
+        @Override
+        public void run() {
+            flushAmbientLight();
+        }
+    };
+
+    public ARSceneUpdateScheduler(Emitter emitter) {
+        mEmitter = emitter;
+        setSettings(null);
+    }
+
+    /**
+     * Configure the scheduler. Recognized keys, each optional:
+     *
+     * anchorMaxRate, ambientLightMaxRate: maximum deliveries per second; 0 or less means updates
+     *     are only coalesced to once per main-thread pass.
+     * positionThreshold, extentThreshold: meters.
+     * rotationThreshold: degrees, per axis.
+     * intensityThreshold: lumens.
+     * colorThreshold: per color channel, 0 to 1.
+     *
+     * Anchor updates are only filtered by change once one of the anchor thresholds is set, since
+     * plane anchors can change shape without their transform or extent changing; thresholds
+     * left unset are then 0. Ambient light thresholds work the same way.
+     */
+    public synchronized void setSettings(ReadableMap settings) {
+        mAnchorIntervalMillis = toIntervalMillis(getFloat(settings, "anchorMaxRate", DEFAULT_ANCHOR_MAX_RATE));
+        mAmbientLightIntervalMillis = toIntervalMillis(getFloat(settings, "ambientLightMaxRate", DEFAULT_AMBIENT_LIGHT_MAX_RATE));
+        mPositionThreshold = getFloat(settings, "positionThreshold", 0);
+        mRotationThresholdRadians = (float) Math.toRadians(getFloat(settings, "rotationThreshold", 0));
+        mExtentThreshold = getFloat(settings, "extentThreshold", 0);
+        mIntensityThreshold = getFloat(settings, "intensityThreshold", 0);
+        mColorThreshold = getFloat(settings, "colorThreshold", 0);
+        mFilterAnchors = hasKey(settings, "positionThreshold") || hasKey(settings, "rotationThreshold")
+                || hasKey(settings, "extentThreshold");
+        mFilterAmbientLight = hasKey(settings, "intensityThreshold") || hasKey(settings, "colorThreshold");
+    }
+
+    private static boolean hasKey(ReadableMap map, String key) {
+        return map != null && map.hasKey(key) && !map.isNull(key);
+    }
+
+    private static float getFloat(ReadableMap map, String key, float defaultValue) {
+        if (!hasKey(map, key)) {
+            return defaultValue;
+        }
+        return (float) map.getDouble(key);
+    }
+
+    private static long toIntervalMillis(float maxRate) {
+        return maxRate > 0 ? (long) (1000 / maxRate) : 0;
+    }
+
+    public synchronized void onAnchorFound(ARAnchor anchor) {
+        mDeliveredAnchors.put(anchor.getAnchorId(), new AnchorState(anchor));
+    }
+
+    public synchronized void onAnchorRemoved(ARAnchor anchor) {
+        mDeliveredAnchors.remove(anchor.getAnchorId());
+        if (mPendingAnchors.remove(anchor.getAnchorId()) != null) {
+            mAnchorUpdatesDropped++;
+        }
+    }
+
+    public synchronized void onAnchorUpdated(ARAnchor anchor) {
+        String anchorId = anchor.getAnchorId();
+        if (mPendingAnchors.containsKey(anchorId)) {
+            // Latest value wins
+            mPendingAnchors.put(anchorId, anchor);
+            mAnchorUpdatesDropped++;
+            return;
+        }
+
+        AnchorState delivered = mDeliveredAnchors.get(anchorId);
+        if (mFilterAnchors && delivered != null && !delivered.hasMoved(anchor)) {
+            mAnchorUpdatesDropped++;
+            return;
+        }
+
+        mPendingAnchors.put(anchorId, anchor);
+        if (!mAnchorFlushScheduled) {
+            mAnchorFlushScheduled = true;
+            mMainHandler.postDelayed(mFlushAnchors,
+                    getDelay(mLastAnchorFlushTime, mAnchorIntervalMillis));
+        }
+    }
+
+    public synchronized void onAmbientLightUpdate(float intensity, Vector color) {
+        if (mHasPendingLight) {
+            mAmbientLightUpdatesDropped++;
+        } else if (mFilterAmbientLight && mHasDeliveredLight && !hasLightChanged(intensity, color)) {
+            mAmbientLightUpdatesDropped++;
+            return;
+        }
+
+        mPendingIntensity = intensity;
+        mPendingColor = color;
+        if (!mHasPendingLight) {
+            mHasPendingLight = true;
+            if (!mLightFlushScheduled) {
+                mLightFlushScheduled = true;
+                mMainHandler.postDelayed(mFlushAmbientLight,
+                        getDelay(mLastLightFlushTime, mAmbientLightIntervalMillis));
+            }
+        }
+    }
+
+    private boolean hasLightChanged(float intensity, Vector color) {
+        return Math.abs(intensity - mDeliveredIntensity) > mIntensityThreshold
+                || Math.abs(color.x - mDeliveredColor.x) > mColorThreshold
+                || Math.abs(color.y - mDeliveredColor.y) > mColorThreshold
+                || Math.abs(color.z - mDeliveredColor.z) > mColorThreshold;
+    }
+
+    private static long getDelay(long lastFlushTime, long intervalMillis) {
+        long elapsed = SystemClock.uptimeMillis() - lastFlushTime;
+        return Math.max(0, intervalMillis - elapsed);
+    }
+
+    private void flushAnchors() {
+        List<ARAnchor> anchors;
+        synchronized (this) {
+            mAnchorFlushScheduled = false;
+            mLastAnchorFlushTime = SystemClock.uptimeMillis();
+            anchors = new ArrayList<ARAnchor>(mPendingAnchors.values());
+            mPendingAnchors.clear();
+            for (ARAnchor anchor : anchors) {
+                mDeliveredAnchors.put(anchor.getAnchorId(), new AnchorState(anchor));
+            }
+            mAnchorUpdatesDelivered += anchors.size();
+        }
+
+        for (ARAnchor anchor : anchors) {
+            mEmitter.emitAnchorUpdated(anchor);
+        }
+    }
+
+    private void flushAmbientLight() {
+        float intensity;
+        Vector color;
+        synchronized (this) {
+            mLightFlushScheduled = false;
+            if (!mHasPendingLight) {
+                return;
+            }
+            mLastLightFlushTime = SystemClock.uptimeMillis();
+            mHasPendingLight = false;
+            intensity = mPendingIntensity;
+            color = mPendingColor;
+            mHasDeliveredLight = true;
+            mDeliveredIntensity = intensity;
+            mDeliveredColor = color;
+            mAmbientLightUpdatesDelivered++;
+        }
+
+        mEmitter.emitAmbientLightUpdate(intensity, color);
+    }
+
+    /**
+     * Drop all pending updates and stop any scheduled delivery.
+     */
+    public synchronized void cancel() {
+        mMainHandler.removeCallbacks(mFlushAnchors);
+        mMainHandler.removeCallbacks(mFlushAmbientLight);
+        mAnchorUpdatesDropped += mPendingAnchors.size();
+        mPendingAnchors.clear();
+        mDeliveredAnchors.clear();
+        if (mHasPendingLight) {
+            mAmbientLightUpdatesDropped++;
+            mHasPendingLight = false;
+        }
+        mAnchorFlushScheduled = false;
+        mLightFlushScheduled = false;
+    }
+
+    public synchronized WritableMap getStats() {
+        WritableMap stats = Arguments.createMap();
+        stats.putDouble("anchorUpdatesDelivered", mAnchorUpdatesDelivered);
+        stats.putDouble("anchorUpdatesDropped", mAnchorUpdatesDropped);
+        stats.putDouble("ambientLightUpdatesDelivered", mAmbientLightUpdatesDelivered);
+        stats.putDouble("ambientLightUpdatesDropped", mAmbientLightUpdatesDropped);
+        return stats;
+    }
+
+    /**
+     * The transform of an anchor as last seen by JS.
+     */
+    private class AnchorState {
+        private final Vector mPosition;
+        private final Vector mRotation;
+        private final Vector mExtent;
+
+        AnchorState(ARAnchor anchor) {
+            mPosition = anchor.getPosition();
+            mRotation = anchor.getRotation();
+            mExtent = anchor.getType() == ARAnchor.Type.PLANE ? ((ARPlaneAnchor) anchor).getExtent() : null;
+        }
+
+        boolean hasMoved(ARAnchor anchor) {
+            if (anchor.getPosition().distance(mPosition) > mPositionThreshold) {
+                return true;
+            }
+
+            Vector rotation = anchor.getRotation();
+            if (angleBetween(rotation.x, mRotation.x) > mRotationThresholdRadians
+                    || angleBetween(rotation.y, mRotation.y) > mRotationThresholdRadians
+                    || angleBetween(rotation.z, mRotation.z) > mRotationThresholdRadians) {
+                return true;
+            }
+
+            if (mExtent != null && anchor.getType() == ARAnchor.Type.PLANE) {
+                Vector extent = ((ARPlaneAnchor) anchor).getExtent();
+                return Math.abs(extent.x - mExtent.x) > mExtentThreshold
+                        || Math.abs(extent.z - mExtent.z) > mExtentThreshold;
+            }
+            return false;
+        }
+    }
+
+    private static float angleBetween(float a, float b) {
+        double delta = Math.abs(a - b) % (2 * Math.PI);
+        return (float) Math.min(delta, 2 * Math.PI - delta);
+    }
+}
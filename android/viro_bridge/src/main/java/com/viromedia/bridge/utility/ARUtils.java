@@ -34,13 +34,7 @@ import com.viro.core.Vector;
 public class ARUtils {
 
     public static WritableMap mapFromARAnchor(ARAnchor anchor) {
-        WritableMap returnMap = Arguments.createMap();
-        returnMap.putString("anchorId", anchor.getAnchorId());
-        returnMap.putArray("position", Arguments.makeNativeArray(anchor.getPosition().toArray()));
-        returnMap.putArray("scale", Arguments.makeNativeArray(anchor.getScale().toArray()));
-        // rotation values come as radians, we need to convert to degrees
-        returnMap.putArray("rotation", arrayFromRotationArray(anchor.getRotation().toArray()));
-        returnMap.putString("type", anchor.getType().getStringValue());
+        WritableMap returnMap = mapFromARAnchorTransform(anchor);
 
         if (anchor.getType() == ARAnchor.Type.PLANE) {
             ARPlaneAnchor plane = (ARPlaneAnchor) anchor;
@@ -61,6 +55,20 @@ public class ARUtils {
         return returnMap;
     }
 
+    /*
+     The properties shared by every anchor type: its identifier, transform and type.
+     */
+    static WritableMap mapFromARAnchorTransform(ARAnchor anchor) {
+        WritableMap returnMap = Arguments.createMap();
+        returnMap.putString("anchorId", anchor.getAnchorId());
+        returnMap.putArray("position", Arguments.makeNativeArray(anchor.getPosition().toArray()));
+        returnMap.putArray("scale", Arguments.makeNativeArray(anchor.getScale().toArray()));
+        // rotation values come as radians, we need to convert to degrees
+        returnMap.putArray("rotation", arrayFromRotationArray(anchor.getRotation().toArray()));
+        returnMap.putString("type", anchor.getType().getStringValue());
+        return returnMap;
+    }
+
     // TODO: VIRO-2170 ARHitTestResults should also use Vectors
     public static WritableMap mapFromARHitTestResult(ARHitTestResult result) {
         WritableMap returnMap = Arguments.createMap();
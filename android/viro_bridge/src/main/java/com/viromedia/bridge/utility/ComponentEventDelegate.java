@@ -44,32 +44,97 @@ import java.lang.ref.WeakReference;
 
 /**
  * Represents all java-to-javascript calls that can be triggered from an EventDelegate.
+ *
+ * Drag, scroll, and the move phase of pinch and rotate gestures arrive at the renderer's input
+ * rate. Rather than building and sending an event for each, the latest values are kept in the
+ * fields below and sent once per frame through the {@link FrameEventDispatcher}. Every other
+ * event, including gesture start and end, first flushes the pending moves so JS sees them in
+ * order: a drag's last position always arrives before the click that ends it.
  */
-public class ComponentEventDelegate implements EventDelegate.EventDelegateCallback {
+public class ComponentEventDelegate implements EventDelegate.EventDelegateCallback,
+        FrameEventDispatcher.Source {
+    private static final int PENDING_DRAG = 1;
+    private static final int PENDING_SCROLL = 1 << 1;
+    private static final int PENDING_PINCH = 1 << 2;
+    private static final int PENDING_ROTATE = 1 << 3;
+
     private WeakReference<VRTComponent> weakComponent;
+
+    // Latest values of each coalesced event type, guarded by mPendingLock
+    private final Object mPendingLock = new Object();
+    private int mPendingEvents = 0;
+    private int mDragSource;
+    private float mDragX, mDragY, mDragZ;
+    private int mScrollSource;
+    private float mScrollX, mScrollY;
+    private int mPinchSource;
+    private float mPinchScaleFactor;
+    private int mRotateSource;
+    private float mRotateRadians;
+
     public ComponentEventDelegate(VRTComponent component){
         weakComponent = new WeakReference<VRTComponent>(component);
     }
 
+    /**
+     * Marks the given event type as pending. Must be called while holding mPendingLock.
+     */
+    private void setPending(int eventType) {
+        if (mPendingEvents == 0) {
+            FrameEventDispatcher.getInstance().schedule(this);
+        } else if ((mPendingEvents & eventType) != 0) {
+            // An unsent event of this type is being replaced
+            FrameEventDispatcher.getInstance().onEventCoalesced();
+        }
+        mPendingEvents |= eventType;
+    }
+
+    @Override
+    public void flushPendingEvents() {
+        int pending;
+        int dragSource, scrollSource, pinchSource, rotateSource;
+        float dragX, dragY, dragZ, scrollX, scrollY, pinchScaleFactor, rotateRadians;
+        synchronized (mPendingLock) {
+            pending = mPendingEvents;
+            mPendingEvents = 0;
+            dragSource = mDragSource;
+            dragX = mDragX;
+            dragY = mDragY;
+            dragZ = mDragZ;
+            scrollSource = mScrollSource;
+            scrollX = mScrollX;
+            scrollY = mScrollY;
+            pinchSource = mPinchSource;
+            pinchScaleFactor = mPinchScaleFactor;
+            rotateSource = mRotateSource;
+            rotateRadians = mRotateRadians;
+        }
+
+        if ((pending & PENDING_DRAG) != 0) {
+            emitDrag(dragSource, dragX, dragY, dragZ);
+        }
+        if ((pending & PENDING_SCROLL) != 0) {
+            emitScroll(scrollSource, scrollX, scrollY);
+        }
+        if ((pending & PENDING_PINCH) != 0) {
+            emitPinch(pinchSource, pinchScaleFactor, PinchState.PINCH_MOVE);
+        }
+        if ((pending & PENDING_ROTATE) != 0) {
+            emitRotate(rotateSource, rotateRadians, RotateState.ROTATE_MOVE);
+        }
+    }
+
     @Override
     public void onHover(int source, Node node, boolean isHovering, float position[]) {
+        flushPendingEvents();
         VRTComponent component = weakComponent.get();
         if (component == null){
             return;
         }
 
-        WritableArray positionArray = Arguments.createArray();
-        if (position != null && position.length == 3) {
-            positionArray.pushDouble(position[0]);
-            positionArray.pushDouble(position[1]);
-            positionArray.pushDouble(position[2]);
-        }
-
-        WritableMap event = Arguments.createMap();
-        event.putInt("source", source);
-        event.putBoolean("isHovering", isHovering);
-        event.putArray("position", positionArray);
+        WritableMap event = ComponentEventPayloads.hover(source, isHovering, position);
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_HOVER);
         component.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                 component.getId(),
                 ViroEvents.ON_HOVER,
@@ -78,23 +143,15 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
 
     @Override
     public void onClick(int source, Node node, ClickState clickState, float position[]) {
+        flushPendingEvents();
         VRTComponent component = weakComponent.get();
         if (component == null){
             return;
         }
 
-        WritableArray positionArray = Arguments.createArray();
-        if (position != null && position.length == 3) {
-            positionArray.pushDouble(position[0]);
-            positionArray.pushDouble(position[1]);
-            positionArray.pushDouble(position[2]);
-        }
-
-        WritableMap event = Arguments.createMap();
-        event.putInt("source", source);
-        event.putInt("clickState", clickState.getTypeId());
-        event.putArray("position", positionArray);
+        WritableMap event = ComponentEventPayloads.click(source, clickState.getTypeId(), position);
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_CLICK);
         component.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                 component.getId(),
                 ViroEvents.ON_CLICK,
@@ -103,20 +160,15 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
 
     @Override
     public void onTouch(int source, Node node, TouchState touchState, float touchPadPos[]){
+        flushPendingEvents();
         VRTComponent component = weakComponent.get();
         if (component == null){
             return;
         }
 
-        WritableMap event = Arguments.createMap();
-        event.putInt("source", source);
-        event.putInt("touchState", touchState.getTypeId());
-
-        WritableArray touchPos = Arguments.createArray();
-        touchPos.pushDouble(touchPadPos[0]);
-        touchPos.pushDouble(touchPadPos[1]);
-        event.putArray("touchPos", touchPos);
+        WritableMap event = ComponentEventPayloads.touch(source, touchState.getTypeId(), touchPadPos);
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_TOUCH);
         component.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                 component.getId(),
                 ViroEvents.ON_TOUCH,
@@ -125,14 +177,14 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
 
     @Override
     public void onSwipe(int source, Node target, SwipeState swipeState) {
+        flushPendingEvents();
         VRTComponent node = weakComponent.get();
         if (node == null){
             return;
         }
 
-        WritableMap event = Arguments.createMap();
-        event.putInt("source", source);
-        event.putInt("swipeState", swipeState.getTypeId());
+        WritableMap event = ComponentEventPayloads.swipe(source, swipeState.getTypeId());
+        PerfTelemetry.recordEvent(ViroEvents.ON_SWIPE);
         node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                 node.getId(),
                 ViroEvents.ON_SWIPE,
@@ -141,54 +193,66 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
 
     @Override
     public void onScroll(int source, Node node, float x, float y) {
+        synchronized (mPendingLock) {
+            mScrollSource = source;
+            mScrollX = x;
+            mScrollY = y;
+            setPending(PENDING_SCROLL);
+        }
+    }
+
+    private void emitScroll(int source, float x, float y) {
         VRTComponent component = weakComponent.get();
         if (component == null){
             return;
         }
 
-        WritableMap event = Arguments.createMap();
-        event.putInt("source", source);
-        WritableArray scrollPos = Arguments.createArray();
-        scrollPos.pushDouble(x);
-        scrollPos.pushDouble(y);
-
-        event.putArray("scrollPos", scrollPos);
+        WritableMap event = ComponentEventPayloads.scroll(source, x, y);
+        PerfTelemetry.recordEvent(ViroEvents.ON_SCROLL);
         component.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                 component.getId(),
                 ViroEvents.ON_SCROLL,
                 event);
+        FrameEventDispatcher.getInstance().onEventEmitted();
     }
 
     @Override
     public void onDrag(int source, Node target, float x, float y, float z) {
+        synchronized (mPendingLock) {
+            mDragSource = source;
+            mDragX = x;
+            mDragY = y;
+            mDragZ = z;
+            setPending(PENDING_DRAG);
+        }
+    }
+
+    private void emitDrag(int source, float x, float y, float z) {
         VRTComponent node = weakComponent.get();
         if (node == null){
             return;
         }
 
-        WritableMap event = Arguments.createMap();
-        event.putInt("source", source);
-        WritableArray dragToPos = Arguments.createArray();
-        dragToPos.pushDouble(x);
-        dragToPos.pushDouble(y);
-        dragToPos.pushDouble(z);
-        event.putArray("dragToPos", dragToPos);
+        WritableMap event = ComponentEventPayloads.drag(source, x, y, z);
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_DRAG);
         node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                 node.getId(),
                 ViroEvents.ON_DRAG,
                 event);
+        FrameEventDispatcher.getInstance().onEventEmitted();
     }
 
     @Override
     public void onFuse(int source, Node target) {
+        flushPendingEvents();
         VRTComponent node = weakComponent.get();
         if (node == null){
             return;
         }
 
-        WritableMap event = Arguments.createMap();
-        event.putInt("source", source);
+        WritableMap event = ComponentEventPayloads.fuse(source);
+        PerfTelemetry.recordEvent(ViroEvents.ON_FUSE);
         node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                 node.getId(),
                 ViroEvents.ON_FUSE,
@@ -197,20 +261,33 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
 
     @Override
     public void onPinch(int source, Node target, float scaleFactor, PinchState pinchState) {
+        if (pinchState == PinchState.PINCH_MOVE) {
+            synchronized (mPendingLock) {
+                mPinchSource = source;
+                mPinchScaleFactor = scaleFactor;
+                setPending(PENDING_PINCH);
+            }
+            return;
+        }
+
+        flushPendingEvents();
+        emitPinch(source, scaleFactor, pinchState);
+    }
+
+    private void emitPinch(int source, float scaleFactor, PinchState pinchState) {
         VRTComponent node = weakComponent.get();
         if (node == null){
             return;
         }
 
-        WritableMap event = Arguments.createMap();
-        event.putInt("source", source);
-        event.putDouble("scaleFactor", scaleFactor);
-        event.putInt("pinchState", pinchState.getTypeId());
+        WritableMap event = ComponentEventPayloads.pinch(source, scaleFactor, pinchState.getTypeId());
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_PINCH);
         node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                 node.getId(),
                 ViroEvents.ON_PINCH,
                 event);
+        FrameEventDispatcher.getInstance().onEventEmitted();
     }
 
     @Override
@@ -230,29 +307,13 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
                                                    float rotEulerX, float rotEulerY, float rotEulerZ,
                                                    float forwardX, float forwardY, float forwardZ,
                                                    float upX, float upY, float upZ) {
-                    WritableArray cameraOrientationArray = Arguments.createArray();
-                    cameraOrientationArray.pushDouble(posX);
-                    cameraOrientationArray.pushDouble(poxY);
-                    cameraOrientationArray.pushDouble(posZ);
-                    cameraOrientationArray.pushDouble(Math.toDegrees(rotEulerX));
-                    cameraOrientationArray.pushDouble(Math.toDegrees(rotEulerY));
-                    cameraOrientationArray.pushDouble(Math.toDegrees(rotEulerZ));
-                    cameraOrientationArray.pushDouble(forwardX);
-                    cameraOrientationArray.pushDouble(forwardY);
-                    cameraOrientationArray.pushDouble(forwardZ);
-                    cameraOrientationArray.pushDouble(upX);
-                    cameraOrientationArray.pushDouble(upY);
-                    cameraOrientationArray.pushDouble(upZ);
-
-                    WritableArray hitTestResultsArray = Arguments.createArray();
-                    for (ARHitTestResult result : arResults) {
-                        hitTestResultsArray.pushMap(ARUtils.mapFromARHitTestResult(result));
-                    }
-                    WritableMap event = Arguments.createMap();
-                    event.putArray("hitTestResults", hitTestResultsArray);
-
-                    event.putArray("cameraOrientation", cameraOrientationArray);
+                    WritableArray cameraOrientationArray = ComponentEventPayloads.cameraTransformArray(
+                            posX, poxY, posZ, rotEulerX, rotEulerY, rotEulerZ,
+                            forwardX, forwardY, forwardZ, upX, upY, upZ);
+                    WritableMap event = ComponentEventPayloads.cameraARHitTest(arResults,
+                            cameraOrientationArray);
 
+                    PerfTelemetry.recordEvent(ViroEvents.ON_CAMERA_AR_HIT_TEST_VIRO);
                     scene.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                             scene.getId(),
                             ViroEvents.ON_CAMERA_AR_HIT_TEST_VIRO,
@@ -273,8 +334,9 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
             final VRTARScene arScene = (VRTARScene) node;
 
             WritableMap event = Arguments.createMap();
-            event.putMap("pointCloud", ARUtils.mapFromARPointCloud(arPointCloud));
+            event.putMap("pointCloud", arScene.mapFromPointCloud(arPointCloud));
 
+            PerfTelemetry.recordEvent(ViroEvents.ON_AR_POINT_CLOUD_UPDATE);
             arScene.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                     arScene.getId(),
                     ViroEvents.ON_AR_POINT_CLOUD_UPDATE,
@@ -284,20 +346,33 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
 
     @Override
     public void onRotate(int source, Node target, float rotationRadians, RotateState rotateState) {
+        if (rotateState == RotateState.ROTATE_MOVE) {
+            synchronized (mPendingLock) {
+                mRotateSource = source;
+                mRotateRadians = rotationRadians;
+                setPending(PENDING_ROTATE);
+            }
+            return;
+        }
+
+        flushPendingEvents();
+        emitRotate(source, rotationRadians, rotateState);
+    }
+
+    private void emitRotate(int source, float rotationRadians, RotateState rotateState) {
         VRTComponent node = weakComponent.get();
         if (node == null){
             return;
         }
 
-        WritableMap event = Arguments.createMap();
-        event.putInt("source", source);
-        event.putDouble("rotationFactor", Math.toDegrees(rotationRadians));
-        event.putInt("rotateState", rotateState.getTypeId());
+        WritableMap event = ComponentEventPayloads.rotate(source, rotationRadians, rotateState.getTypeId());
 
+        PerfTelemetry.recordEvent(ViroEvents.ON_ROTATE);
         node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                 node.getId(),
                 ViroEvents.ON_ROTATE,
                 event);
+        FrameEventDispatcher.getInstance().onEventEmitted();
     }
 
     @Override
@@ -307,9 +382,8 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
             return;
         }
 
-        WritableMap event = Arguments.createMap();
-        event.putInt("source", source);
-        event.putInt("controllerStatus", controllerStatus.getTypeId());
+        WritableMap event = ComponentEventPayloads.controllerStatus(source, controllerStatus.getTypeId());
+        PerfTelemetry.recordEvent(ViroEvents.ON_CONTROLLER_STATUS);
         node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                 node.getId(),
                 ViroEvents.ON_CONTROLLER_STATUS,
@@ -330,24 +404,12 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
         if (node instanceof VRTScene) {
             final VRTScene scene = (VRTScene) node;
 
-            WritableMap event = Arguments.createMap();
-
-            WritableArray cameraTransformArray = Arguments.createArray();
-            cameraTransformArray.pushDouble(posX);
-            cameraTransformArray.pushDouble(poxY);
-            cameraTransformArray.pushDouble(posZ);
-            cameraTransformArray.pushDouble(Math.toDegrees(rotEulerX));
-            cameraTransformArray.pushDouble(Math.toDegrees(rotEulerY));
-            cameraTransformArray.pushDouble(Math.toDegrees(rotEulerZ));
-            cameraTransformArray.pushDouble(forwardX);
-            cameraTransformArray.pushDouble(forwardY);
-            cameraTransformArray.pushDouble(forwardZ);
-            cameraTransformArray.pushDouble(upX);
-            cameraTransformArray.pushDouble(upY);
-            cameraTransformArray.pushDouble(upZ);
-
-            event.putArray("cameraTransform", cameraTransformArray);
+            WritableMap event = ComponentEventPayloads.cameraTransform(
+                    ComponentEventPayloads.cameraTransformArray(posX, poxY, posZ,
+                            rotEulerX, rotEulerY, rotEulerZ, forwardX, forwardY, forwardZ,
+                            upX, upY, upZ));
 
+            PerfTelemetry.recordEvent(ViroEvents.ON_CAMERA_TRANSFORM_UPDATE);
             scene.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
                     scene.getId(),
                     ViroEvents.ON_CAMERA_TRANSFORM_UPDATE,
@@ -0,0 +1,173 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.viro.core.ARHitTestResult;
+
+/**
+ * Builds the payloads of the events {@link ComponentEventDelegate} sends to JS. States are
+ * passed as their type ids.
+ */
+public final class ComponentEventPayloads {
+
+    private ComponentEventPayloads() {
+    }
+
+    public static WritableMap hover(int source, boolean isHovering, float position[]) {
+        WritableMap event = Arguments.createMap();
+        event.putInt("source", source);
+        event.putBoolean("isHovering", isHovering);
+        event.putArray("position", positionArray(position));
+        return event;
+    }
+
+    public static WritableMap click(int source, int clickState, float position[]) {
+        WritableMap event = Arguments.createMap();
+        event.putInt("source", source);
+        event.putInt("clickState", clickState);
+        event.putArray("position", positionArray(position));
+        return event;
+    }
+
+    public static WritableMap touch(int source, int touchState, float touchPadPos[]) {
+        WritableMap event = Arguments.createMap();
+        event.putInt("source", source);
+        event.putInt("touchState", touchState);
+
+        WritableArray touchPos = Arguments.createArray();
+        touchPos.pushDouble(touchPadPos[0]);
+        touchPos.pushDouble(touchPadPos[1]);
+        event.putArray("touchPos", touchPos);
+        return event;
+    }
+
+    public static WritableMap swipe(int source, int swipeState) {
+        WritableMap event = Arguments.createMap();
+        event.putInt("source", source);
+        event.putInt("swipeState", swipeState);
+        return event;
+    }
+
+    public static WritableMap scroll(int source, float x, float y) {
+        WritableMap event = Arguments.createMap();
+        event.putInt("source", source);
+        WritableArray scrollPos = Arguments.createArray();
+        scrollPos.pushDouble(x);
+        scrollPos.pushDouble(y);
+        event.putArray("scrollPos", scrollPos);
+        return event;
+    }
+
+    public static WritableMap drag(int source, float x, float y, float z) {
+        WritableMap event = Arguments.createMap();
+        event.putInt("source", source);
+        WritableArray dragToPos = Arguments.createArray();
+        dragToPos.pushDouble(x);
+        dragToPos.pushDouble(y);
+        dragToPos.pushDouble(z);
+        event.putArray("dragToPos", dragToPos);
+        return event;
+    }
+
+    public static WritableMap fuse(int source) {
+        WritableMap event = Arguments.createMap();
+        event.putInt("source", source);
+        return event;
+    }
+
+    public static WritableMap pinch(int source, float scaleFactor, int pinchState) {
+        WritableMap event = Arguments.createMap();
+        event.putInt("source", source);
+        event.putDouble("scaleFactor", scaleFactor);
+        event.putInt("pinchState", pinchState);
+        return event;
+    }
+
+    public static WritableMap rotate(int source, float rotationRadians, int rotateState) {
+        WritableMap event = Arguments.createMap();
+        event.putInt("source", source);
+        event.putDouble("rotationFactor", Math.toDegrees(rotationRadians));
+        event.putInt("rotateState", rotateState);
+        return event;
+    }
+
+    public static WritableMap controllerStatus(int source, int controllerStatus) {
+        WritableMap event = Arguments.createMap();
+        event.putInt("source", source);
+        event.putInt("controllerStatus", controllerStatus);
+        return event;
+    }
+
+    public static WritableMap cameraARHitTest(ARHitTestResult results[], WritableArray cameraOrientation) {
+        WritableArray hitTestResultsArray = Arguments.createArray();
+        for (ARHitTestResult result : results) {
+            hitTestResultsArray.pushMap(ARUtils.mapFromARHitTestResult(result));
+        }
+        WritableMap event = Arguments.createMap();
+        event.putArray("hitTestResults", hitTestResultsArray);
+        event.putArray("cameraOrientation", cameraOrientation);
+        return event;
+    }
+
+    public static WritableMap cameraTransform(WritableArray cameraTransform) {
+        WritableMap event = Arguments.createMap();
+        event.putArray("cameraTransform", cameraTransform);
+        return event;
+    }
+
+    /**
+     * Returns the camera's position, rotation (in degrees), forward and up vectors as a
+     * single array, as sent with camera transform and AR hit test events.
+     */
+    public static WritableArray cameraTransformArray(float posX, float posY, float posZ,
+                                                     float rotEulerX, float rotEulerY, float rotEulerZ,
+                                                     float forwardX, float forwardY, float forwardZ,
+                                                     float upX, float upY, float upZ) {
+        WritableArray cameraTransformArray = Arguments.createArray();
+        cameraTransformArray.pushDouble(posX);
+        cameraTransformArray.pushDouble(posY);
+        cameraTransformArray.pushDouble(posZ);
+        cameraTransformArray.pushDouble(Math.toDegrees(rotEulerX));
+        cameraTransformArray.pushDouble(Math.toDegrees(rotEulerY));
+        cameraTransformArray.pushDouble(Math.toDegrees(rotEulerZ));
+        cameraTransformArray.pushDouble(forwardX);
+        cameraTransformArray.pushDouble(forwardY);
+        cameraTransformArray.pushDouble(forwardZ);
+        cameraTransformArray.pushDouble(upX);
+        cameraTransformArray.pushDouble(upY);
+        cameraTransformArray.pushDouble(upZ);
+        return cameraTransformArray;
+    }
+
+    private static WritableArray positionArray(float position[]) {
+        WritableArray positionArray = Arguments.createArray();
+        if (position != null && position.length == 3) {
+            positionArray.pushDouble(position[0]);
+            positionArray.pushDouble(position[1]);
+            positionArray.pushDouble(position[2]);
+        }
+        return positionArray;
+    }
+}
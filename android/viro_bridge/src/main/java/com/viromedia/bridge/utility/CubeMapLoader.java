@@ -0,0 +1,287 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.os.SystemClock;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import com.facebook.react.bridge.WritableMap;
+import com.viro.core.Texture;
+import com.viro.core.internal.Image;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads the six faces of a cube map in parallel and assembles them into a cube {@link Texture}.
+ *
+ * Each face is requested through the shared {@link ImageDownloadScheduler} and converted to a
+ * native {@link Image} on the thread that decoded it. Once the last face arrives the faces are
+ * checked to be square and of equal size, and the cube texture is built on that same thread,
+ * so nothing is left for the UI thread but to use the result.
+ */
+public class CubeMapLoader {
+    private static final String TAG = ViroLog.getTag(CubeMapLoader.class);
+
+    /**
+     * Face keys in the order the cube Texture constructor expects them.
+     */
+    public static final String[] FACES = {"px", "nx", "py", "ny", "pz", "nz"};
+
+    public interface Listener {
+        /**
+         * Whether the result is still wanted. Faces not yet fetched are dropped once this
+         * returns false.
+         */
+        boolean isValid();
+
+        /**
+         * Invoked on a download thread with the loaded cube map, which the listener now owns.
+         */
+        void onLoaded(CubeMap cubeMap);
+
+        void onFailed(String error);
+    }
+
+    /**
+     * A cube Texture together with the face images backing it.
+     */
+    public static class CubeMap {
+        private final Texture mTexture;
+        private final Image[] mFaces;
+        private final long[] mFaceLoadTimes;
+
+        CubeMap(Texture texture, Image[] faces, long[] faceLoadTimes) {
+            mTexture = texture;
+            mFaces = faces;
+            mFaceLoadTimes = faceLoadTimes;
+        }
+
+        public Texture getTexture() {
+            return mTexture;
+        }
+
+        /**
+         * Milliseconds from the start of the load until each face was decoded, keyed by face.
+         */
+        public WritableMap getFaceLoadTimes() {
+            WritableMap times = Arguments.createMap();
+            for (int i = 0; i < FACES.length; i++) {
+                times.putDouble(FACES[i], mFaceLoadTimes[i]);
+            }
+            return times;
+        }
+
+        public void dispose() {
+            mTexture.dispose();
+            for (Image face : mFaces) {
+                face.destroy();
+            }
+        }
+    }
+
+    private final Context mContext;
+    private final Texture.Format mFormat;
+
+    public CubeMapLoader(Context context, Texture.Format format) {
+        mContext = context;
+        mFormat = format;
+    }
+
+    /**
+     * Load the cube map described by the given source, which must have an image source map
+     * for each of the keys in {@link #FACES}.
+     *
+     * @return the pending load, which can be cancelled to release any faces already loaded.
+     */
+    public Request loadAsync(ReadableMap source, Listener listener) {
+        for (String face : FACES) {
+            if (source == null || !source.hasKey(face) || source.getType(face) != ReadableType.Map) {
+                throw new IllegalArgumentException("Error creating cube map: ensure the nx, px, " +
+                        "ny, py, nz, and pz params are passed in the body of the cube map texture");
+            }
+        }
+
+        Request request = new Request(listener);
+        for (int i = 0; i < FACES.length; i++) {
+            ImageDownloader downloader = new ImageDownloader(mContext);
+            downloader.setTextureFormat(mFormat);
+            downloader.getImageAsync(source.getMap(FACES[i]), new FaceListener(request, i));
+        }
+        return request;
+    }
+
+    /**
+     * Load the cube map described by the given source, blocking until all faces are loaded.
+     * Must not be called from an image download thread.
+     *
+     * @return the cube map, or null if any face failed to load.
+     */
+    public CubeMap loadSync(ReadableMap source) {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final CubeMap[] result = new CubeMap[1];
+        loadAsync(source, new Listener() {
+            @Override
+            public boolean isValid() {
+                return true;
+            }
+
+            @Override
+            public void onLoaded(CubeMap cubeMap) {
+                result[0] = cubeMap;
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailed(String error) {
+                ViroLog.warn(TAG, error);
+                latch.countDown();
+            }
+        });
+
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException("Loading cube map was interrupted!");
+        }
+        return result[0];
+    }
+
+    /**
+     * State shared by the six face downloads of one load.
+     */
+    public class Request {
+        private final Listener mListener;
+        private final long mStartTime = SystemClock.elapsedRealtime();
+        private final Image[] mFaces = new Image[FACES.length];
+        private final long[] mFaceLoadTimes = new long[FACES.length];
+        private final AtomicInteger mRemaining = new AtomicInteger(FACES.length);
+        private final AtomicBoolean mFinished = new AtomicBoolean(false);
+
+        Request(Listener listener) {
+            mListener = listener;
+        }
+
+        boolean isValid() {
+            return !mFinished.get() && mListener.isValid();
+        }
+
+        /**
+         * Stop the load. The listener won't be called and faces already loaded are destroyed.
+         */
+        public void cancel() {
+            if (mFinished.compareAndSet(false, true)) {
+                destroyFaces();
+            }
+        }
+
+        void onFaceLoaded(int index, Image face) {
+            synchronized (this) {
+                if (mFinished.get()) {
+                    face.destroy();
+                    return;
+                }
+                mFaces[index] = face;
+                mFaceLoadTimes[index] = SystemClock.elapsedRealtime() - mStartTime;
+            }
+            if (mRemaining.decrementAndGet() == 0) {
+                onAllFacesLoaded();
+            }
+        }
+
+        void onFaceFailed(String error) {
+            if (!mFinished.compareAndSet(false, true)) {
+                return;
+            }
+            destroyFaces();
+            mListener.onFailed(error);
+        }
+
+        private void onAllFacesLoaded() {
+            if (!mFinished.compareAndSet(false, true)) {
+                return;
+            }
+            if (!mListener.isValid()) {
+                destroyFaces();
+                return;
+            }
+
+            long size = mFaces[0].getWidth();
+            for (int i = 0; i < FACES.length; i++) {
+                if (mFaces[i].getWidth() != size || mFaces[i].getHeight() != size) {
+                    destroyFaces();
+                    mListener.onFailed("Error loading cube map. Cube map must be square and " +
+                            "uniformly sized, face " + FACES[i] + " is (" + mFaces[i].getWidth() +
+                            "," + mFaces[i].getHeight() + ")");
+                    return;
+                }
+            }
+
+            Texture texture = new Texture(mFaces[0], mFaces[1], mFaces[2], mFaces[3],
+                    mFaces[4], mFaces[5]);
+            mListener.onLoaded(new CubeMap(texture, mFaces, mFaceLoadTimes));
+        }
+
+        private synchronized void destroyFaces() {
+            for (int i = 0; i < mFaces.length; i++) {
+                if (mFaces[i] != null) {
+                    mFaces[i].destroy();
+                    mFaces[i] = null;
+                }
+            }
+        }
+    }
+
+    private class FaceListener implements DirectImageDownloadListener {
+        private final Request mRequest;
+        private final int mIndex;
+
+        FaceListener(Request request, int index) {
+            mRequest = request;
+            mIndex = index;
+        }
+
+        @Override
+        public boolean isValid() {
+            return mRequest.isValid();
+        }
+
+        @Override
+        public void completed(Bitmap result) {
+            if (result == null) {
+                mRequest.onFaceFailed("Unable to load cube map face " + FACES[mIndex]);
+                return;
+            }
+            mRequest.onFaceLoaded(mIndex, new Image(result, mFormat));
+        }
+
+        @Override
+        public void failed(String error) {
+            mRequest.onFaceFailed("Unable to load cube map face " + FACES[mIndex] + ": " + error);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.graphics.Bitmap;
+
+/**
+ * An {@link ImageDownloadListener} that is finished with the downloaded bitmap by the time
+ * {@link #completed(Bitmap)} returns, typically because it uploads the bitmap into a native
+ * {@link com.viro.core.internal.Image} right away.
+ *
+ * {@link ImageDownloader} passes these listeners the bitmap held in Fresco's cache instead of
+ * a copy whenever no format conversion is needed. The bitmap must not be retained, modified
+ * or recycled, as it is released back to Fresco once completed() returns.
+ */
+public interface DirectImageDownloadListener extends ImageDownloadListener {
+}
@@ -0,0 +1,133 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers coalesced high-frequency events (drags, scrolls, pinches and rotations) once per
+ * display frame. A {@link Source} with pending events registers itself with
+ * {@link #schedule(Source)}; on the next frame every registered source is asked to flush,
+ * so each source emits at most one event of each type per frame.
+ */
+public class FrameEventDispatcher implements Choreographer.FrameCallback {
+
+    public interface Source {
+        /**
+         * Emit the latest pending event of each type. Invoked on the UI thread; a source may
+         * also flush itself early, ahead of an event that must not overtake its pending ones.
+         */
+        void flushPendingEvents();
+    }
+
+    private static FrameEventDispatcher sInstance;
+
+    public static synchronized FrameEventDispatcher getInstance() {
+        if (sInstance == null) {
+            sInstance = new FrameEventDispatcher();
+        }
+        return sInstance;
+    }
+
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    private final Runnable mPostFrameCallback = new Runnable() {
+        @Override
+        public void run() {
+            Choreographer.getInstance().postFrameCallback(FrameEventDispatcher.this);
+        }
+    };
+
+    private List<Source> mPending = new ArrayList<Source>();
+    private List<Source> mFlushing = new ArrayList<Source>();
+    private boolean mFrameScheduled = false;
+
+    private final AtomicLong mEmittedCount = new AtomicLong();
+    private final AtomicLong mCoalescedCount = new AtomicLong();
+
+    private FrameEventDispatcher() {
+    }
+
+    /**
+     * Flush the given source on the next frame. Sources schedule themselves when they move from
+     * having no pending events to having some; flushing a source with nothing pending is a no-op.
+     */
+    public void schedule(Source source) {
+        synchronized (this) {
+            mPending.add(source);
+            if (mFrameScheduled) {
+                return;
+            }
+            mFrameScheduled = true;
+        }
+
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            mPostFrameCallback.run();
+        } else {
+            mMainHandler.post(mPostFrameCallback);
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        List<Source> sources;
+        synchronized (this) {
+            sources = mPending;
+            mPending = mFlushing;
+            mFlushing = sources;
+            mFrameScheduled = false;
+        }
+
+        for (int i = 0; i < sources.size(); i++) {
+            sources.get(i).flushPendingEvents();
+        }
+        sources.clear();
+    }
+
+    void onEventEmitted() {
+        mEmittedCount.incrementAndGet();
+    }
+
+    void onEventCoalesced() {
+        mCoalescedCount.incrementAndGet();
+    }
+
+    /**
+     * Number of coalesced events that were delivered to JS.
+     */
+    public long getEmittedCount() {
+        return mEmittedCount.get();
+    }
+
+    /**
+     * Number of events that were replaced by a newer event of the same type before being
+     * delivered, and so never reached JS.
+     */
+    public long getCoalescedCount() {
+        return mCoalescedCount.get();
+    }
+}
@@ -23,11 +23,15 @@ package com.viromedia.bridge.utility;
 
 import android.content.Context;
 import android.net.Uri;
+import android.util.Base64;
 import androidx.annotation.Nullable;
 
 import com.facebook.react.bridge.ReadableArray;
 import com.viro.core.Vector;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
  * Class containing few common helper methods.
  * Note - Feel free to split / rename this class as this class gets more methods
@@ -124,4 +128,53 @@ public class Helper {
                 "raw",
                 context.getPackageName());
     }
+
+    /**
+     * Decode a packed buffer sent from JS: a base64 string of little-endian 32-bit floats,
+     * as produced from a Float32Array.
+     */
+    public static float[] decodeFloatBuffer(String base64) {
+        ByteBuffer bytes = decodeBuffer(base64);
+        float[] values = new float[bytes.remaining() / 4];
+        bytes.asFloatBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * Decode a packed buffer sent from JS: a base64 string of little-endian 32-bit integers,
+     * as produced from an Int32Array or Uint32Array.
+     */
+    public static int[] decodeIntBuffer(String base64) {
+        ByteBuffer bytes = decodeBuffer(base64);
+        int[] values = new int[bytes.remaining() / 4];
+        bytes.asIntBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * Encode values as a packed buffer for JS: a base64 string of little-endian 32-bit floats,
+     * readable as a Float32Array.
+     */
+    public static String encodeFloatBuffer(float[] values) {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asFloatBuffer().put(values);
+        return Base64.encodeToString(bytes.array(), Base64.NO_WRAP);
+    }
+
+    /**
+     * Encode values as a packed buffer for JS: a base64 string of little-endian 32-bit integers,
+     * readable as an Int32Array.
+     */
+    public static String encodeIntBuffer(int[] values) {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asIntBuffer().put(values);
+        return Base64.encodeToString(bytes.array(), Base64.NO_WRAP);
+    }
+
+    private static ByteBuffer decodeBuffer(String base64) {
+        if (base64 == null) {
+            throw new IllegalArgumentException("Packed buffer is null");
+        }
+        return ByteBuffer.wrap(Base64.decode(base64, Base64.DEFAULT)).order(ByteOrder.LITTLE_ENDIAN);
+    }
 }
@@ -0,0 +1,133 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A fixed-memory histogram of non-negative values, in the style of HdrHistogram: values are
+ * counted in log-linear buckets (each power of two split into {@link #SUB_BUCKETS} linear
+ * buckets), so any recorded value can be reported within about 6% of its true value while
+ * the histogram never allocates after construction. Values beyond the tracked range are
+ * counted in the last bucket.
+ */
+public class Histogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values up to 2^36 (about 19 hours in microseconds) land in their own bucket
+    private static final int MAX_EXPONENT = 35;
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] mCounts = new long[BUCKET_COUNT];
+    private long mTotalCount;
+    private long mSum;
+    private long mMin = Long.MAX_VALUE;
+    private long mMax;
+
+    public synchronized void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        mCounts[bucketFor(value)]++;
+        mTotalCount++;
+        mSum += value;
+        mMin = Math.min(mMin, value);
+        mMax = Math.max(mMax, value);
+    }
+
+    public synchronized long getCount() {
+        return mTotalCount;
+    }
+
+    /**
+     * Returns the value at the given percentile (0 to 100): the highest value that falls in the
+     * same bucket as the recorded value at that rank. Returns 0 if nothing has been recorded.
+     */
+    public synchronized long getPercentile(double percentile) {
+        if (mTotalCount == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(Math.max(0, Math.min(percentile, 100)) / 100.0 * mTotalCount);
+        rank = Math.max(rank, 1);
+
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += mCounts[i];
+            if (seen >= rank) {
+                if (i == BUCKET_COUNT - 1) {
+                    return mMax;
+                }
+                return Math.min(Math.max(highestValueIn(i), mMin), mMax);
+            }
+        }
+        return mMax;
+    }
+
+    public synchronized void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            mCounts[i] = 0;
+        }
+        mTotalCount = 0;
+        mSum = 0;
+        mMin = Long.MAX_VALUE;
+        mMax = 0;
+    }
+
+    /**
+     * Summarizes the histogram as count, min, max, mean and the 50th, 90th, 99th and 99.9th
+     * percentiles.
+     */
+    public synchronized Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("count", (double) mTotalCount);
+        map.put("min", (double) (mTotalCount > 0 ? mMin : 0));
+        map.put("max", (double) mMax);
+        map.put("mean", mTotalCount > 0 ? (double) mSum / mTotalCount : 0.0);
+        map.put("p50", (double) getPercentile(50));
+        map.put("p90", (double) getPercentile(90));
+        map.put("p99", (double) getPercentile(99));
+        map.put("p999", (double) getPercentile(99.9));
+        return map;
+    }
+
+    private static int bucketFor(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (value >> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
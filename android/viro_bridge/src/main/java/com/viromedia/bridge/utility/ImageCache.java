@@ -0,0 +1,164 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.net.Uri;
+
+import com.viro.core.Texture;
+import com.viro.core.internal.Image;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache of decoded native {@link Image} objects, keyed by source URI, texture format and
+ * mipmap flag. Every {@link #acquire(String)} or {@link #put(String, Image, long)} hands the
+ * caller a reference that must be returned through {@link #release(String)}.
+ *
+ * Images that are still referenced are never evicted. Once an image is no longer referenced
+ * it stays in the cache, in least-recently-used order, for as long as the total size of the
+ * cache fits within its byte budget.
+ */
+public class ImageCache {
+    private static final String TAG = ViroLog.getTag(ImageCache.class);
+    public static final long DEFAULT_MAX_SIZE_BYTES = 64 * 1024 * 1024;
+
+    private final LinkedHashMap<String, Entry> mEntries;
+    private long mMaxSizeBytes;
+    private long mSizeBytes;
+
+    public ImageCache(long maxSizeBytes) {
+        // Access-ordered so that iteration starts from the least recently used entry
+        mEntries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+        mMaxSizeBytes = maxSizeBytes;
+        mSizeBytes = 0;
+    }
+
+    public static String getKey(Uri uri, Texture.Format format, boolean mipmap) {
+        return uri.toString() + "|" + format.name() + "|" + mipmap;
+    }
+
+    /**
+     * Returns the cached image for the given key and adds a reference to it, or null if the
+     * image is not cached.
+     */
+    public synchronized Image acquire(String key) {
+        Entry entry = mEntries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.mRefCount++;
+        return entry.mImage;
+    }
+
+    /**
+     * Adds the given image to the cache, holding a single reference for the caller. If an
+     * image was cached under the same key in the meantime, the given image is destroyed and
+     * a reference to the existing one is returned instead.
+     */
+    public synchronized Image put(String key, Image image, long sizeBytes) {
+        Entry existing = mEntries.get(key);
+        if (existing != null) {
+            image.destroy();
+            existing.mRefCount++;
+            return existing.mImage;
+        }
+
+        mEntries.put(key, new Entry(image, sizeBytes));
+        mSizeBytes += sizeBytes;
+        trimToSize();
+        return image;
+    }
+
+    /**
+     * Removes a reference to the image with the given key. Images that are no longer
+     * referenced become eligible for eviction.
+     */
+    public synchronized void release(String key) {
+        Entry entry = mEntries.get(key);
+        if (entry == null) {
+            return;
+        }
+        if (entry.mRefCount <= 0) {
+            ViroLog.warn(TAG, "Released image that is no longer referenced: " + key);
+            return;
+        }
+        entry.mRefCount--;
+        if (entry.mRefCount == 0) {
+            trimToSize();
+        }
+    }
+
+    public synchronized void setMaxSize(long maxSizeBytes) {
+        mMaxSizeBytes = maxSizeBytes;
+        trimToSize();
+    }
+
+    public synchronized long getMaxSize() {
+        return mMaxSizeBytes;
+    }
+
+    public synchronized long getSize() {
+        return mSizeBytes;
+    }
+
+    public synchronized int getCount() {
+        return mEntries.size();
+    }
+
+    /**
+     * Destroys every image that is no longer referenced.
+     */
+    public synchronized void evictAll() {
+        evict(0);
+    }
+
+    private void trimToSize() {
+        evict(mMaxSizeBytes);
+    }
+
+    private void evict(long maxSizeBytes) {
+        Iterator<Map.Entry<String, Entry>> iter = mEntries.entrySet().iterator();
+        while (mSizeBytes > maxSizeBytes && iter.hasNext()) {
+            Entry entry = iter.next().getValue();
+            if (entry.mRefCount > 0) {
+                continue;
+            }
+            entry.mImage.destroy();
+            mSizeBytes -= entry.mSizeBytes;
+            iter.remove();
+        }
+    }
+
+    private static class Entry {
+        final Image mImage;
+        final long mSizeBytes;
+        int mRefCount;
+
+        Entry(Image image, long sizeBytes) {
+            mImage = image;
+            mSizeBytes = sizeBytes;
+            mRefCount = 1;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide scheduler for image downloads. Every {@link ImageDownloader} submits its
+ * requests here, so the number of images being fetched and decoded at once, and the number
+ * of threads receiving the results, is bounded for the whole app rather than per downloader.
+ *
+ * Queued requests are started in order of {@link Priority} and then in the order they were
+ * submitted. A request whose listener has been invalidated while it was queued is dropped
+ * without ever being fetched.
+ */
+public class ImageDownloadScheduler {
+    private static final String TAG = ViroLog.getTag(ImageDownloadScheduler.class);
+    public static final int DEFAULT_PARALLELISM = 4;
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * Request lanes, in the order in which queued requests are started.
+     */
+    public enum Priority {
+        // Small, usually local images shown while the real image loads.
+        PLACEHOLDER,
+        // Images that are needed on screen right now.
+        VISIBLE,
+        // Reference images for AR tracking targets.
+        AR_TARGET,
+        // Images fetched ahead of time, before anything needs them.
+        PREFETCH
+    }
+
+    /**
+     * A unit of work run by the scheduler.
+     */
+    public interface Task {
+        /**
+         * Whether the task is no longer needed. Checked right before the task is started.
+         */
+        boolean isCancelled();
+
+        /**
+         * Starts the task. The task must run the given Runnable exactly once, when it is done.
+         */
+        void start(Runnable onFinished);
+    }
+
+    private static ImageDownloadScheduler sInstance;
+
+    public static synchronized ImageDownloadScheduler getInstance() {
+        if (sInstance == null) {
+            sInstance = new ImageDownloadScheduler(DEFAULT_PARALLELISM);
+        }
+        return sInstance;
+    }
+
+    private final PriorityQueue<QueuedTask> mQueue = new PriorityQueue<QueuedTask>();
+    private final ThreadPoolExecutor mCallbackExecutor;
+    private int mParallelism;
+    private int mRunningCount = 0;
+    private long mNextSequence = 0;
+    private long mDroppedCount = 0;
+
+    private ImageDownloadScheduler(int parallelism) {
+        mParallelism = parallelism;
+        mCallbackExecutor = new ThreadPoolExecutor(parallelism, parallelism,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new CallbackThreadFactory());
+        mCallbackExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * The executor on which download results should be delivered.
+     */
+    public Executor getCallbackExecutor() {
+        return mCallbackExecutor;
+    }
+
+    /**
+     * Sets the maximum number of requests that may be in flight at once, which is also the
+     * number of threads results are delivered on.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Image download parallelism must be at least 1, got " + parallelism);
+        }
+        synchronized (this) {
+            if (parallelism > mCallbackExecutor.getMaximumPoolSize()) {
+                mCallbackExecutor.setMaximumPoolSize(parallelism);
+                mCallbackExecutor.setCorePoolSize(parallelism);
+            } else {
+                mCallbackExecutor.setCorePoolSize(parallelism);
+                mCallbackExecutor.setMaximumPoolSize(parallelism);
+            }
+            mParallelism = parallelism;
+        }
+        dispatch();
+    }
+
+    public synchronized int getParallelism() {
+        return mParallelism;
+    }
+
+    public synchronized int getQueuedCount() {
+        return mQueue.size();
+    }
+
+    public synchronized int getRunningCount() {
+        return mRunningCount;
+    }
+
+    /**
+     * @return the number of requests dropped because they were cancelled while queued.
+     */
+    public synchronized long getDroppedCount() {
+        return mDroppedCount;
+    }
+
+    public void schedule(Priority priority, Task task) {
+        synchronized (this) {
+            mQueue.add(new QueuedTask(priority, mNextSequence++, task));
+        }
+        dispatch();
+    }
+
+    /**
+     * Starts queued tasks until the queue is empty or the parallelism limit is reached.
+     * Tasks are started outside of the lock, as starting one may deliver its result inline.
+     */
+    private void dispatch() {
+        while (true) {
+            QueuedTask next;
+            synchronized (this) {
+                next = pollNextRunnable();
+                if (next == null) {
+                    return;
+                }
+                mRunningCount++;
+            }
+
+            try {
+                next.mTask.start(new FinishedRunnable());
+            } catch (RuntimeException e) {
+                ViroLog.error(TAG, "Failed to start image download: " + e.getMessage());
+                onTaskFinished();
+            }
+        }
+    }
+
+    private QueuedTask pollNextRunnable() {
+        while (mRunningCount < mParallelism && !mQueue.isEmpty()) {
+            QueuedTask next = mQueue.poll();
+            if (!next.mTask.isCancelled()) {
+                return next;
+            }
+            mDroppedCount++;
+        }
+        return null;
+    }
+
+    private void onTaskFinished() {
+        synchronized (this) {
+            mRunningCount--;
+        }
+        dispatch();
+    }
+
+    /**
+     * Guards against a task reporting that it finished more than once.
+     */
+    private class FinishedRunnable implements Runnable {
+        private boolean mFinished = false;
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (mFinished) {
+                    return;
+                }
+                mFinished = true;
+            }
+            onTaskFinished();
+        }
+    }
+
+    private static class QueuedTask implements Comparable<QueuedTask> {
+        final Priority mPriority;
+        final long mSequence;
+        final Task mTask;
+
+        QueuedTask(Priority priority, long sequence, Task task) {
+            mPriority = priority;
+            mSequence = sequence;
+            mTask = task;
+        }
+
+        @Override
+        public int compareTo(QueuedTask other) {
+            if (mPriority != other.mPriority) {
+                return mPriority.ordinal() - other.mPriority.ordinal();
+            }
+            return Long.compare(mSequence, other.mSequence);
+        }
+    }
+
+    private static class CallbackThreadFactory implements ThreadFactory {
+        private final AtomicInteger mCount = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ViroImageDownload-" + mCount.incrementAndGet());
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        }
+    }
+}
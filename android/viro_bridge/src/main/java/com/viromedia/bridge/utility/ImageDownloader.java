@@ -32,7 +32,6 @@ import com.facebook.datasource.BaseDataSubscriber;
 import com.facebook.datasource.DataSource;
 import com.facebook.datasource.DataSubscriber;
 import com.facebook.drawee.backends.pipeline.Fresco;
-import com.facebook.imagepipeline.core.DefaultExecutorSupplier;
 import com.facebook.imagepipeline.core.ImagePipeline;
 import com.facebook.imagepipeline.image.BaseCloseableStaticBitmap;
 import com.facebook.imagepipeline.image.CloseableImage;
@@ -43,18 +42,32 @@ import com.viro.core.Texture;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class downloads images and returns them as @{link Bitmap} objects
  * by leveraging the Facebook Fresco image downloading/caching library.
+ *
+ * Bitmaps are copied out of Fresco's cache before being handed to an
+ * {@link ImageDownloadListener}, unless the listener is a {@link DirectImageDownloadListener}
+ * and the decoded bitmap already has the requested config.
+ *
+ * Requests from all downloaders are run by the shared {@link ImageDownloadScheduler}, in the
+ * lane given by {@link #setPriority(ImageDownloadScheduler.Priority)}.
  */
 public class ImageDownloader {
     private static final String TAG = ViroLog.getTag(ImageDownloader.class);
     private static final String URI_KEY = "uri";
     private final Context mContext;
     private final ConcurrentHashMap<CountDownLatch, Bitmap> mImageMap;
-    private final DefaultExecutorSupplier mExecutorSupplier;
     private Bitmap.Config mConfig = Bitmap.Config.ARGB_8888;
+    private ImageDownloadScheduler.Priority mPriority = ImageDownloadScheduler.Priority.VISIBLE;
+
+    // Allocation counters shared by all downloaders.
+    private static final AtomicLong sBytesCopied = new AtomicLong();
+    private static final AtomicLong sCopyCount = new AtomicLong();
+    private static final AtomicLong sBytesPassedThrough = new AtomicLong();
+    private static final AtomicLong sPassThroughCount = new AtomicLong();
 
     public static void evictFromCache(ReadableMap map, Context context) {
         if (!map.hasKey(URI_KEY)) {
@@ -71,8 +84,58 @@ public class ImageDownloader {
     public ImageDownloader(Context context) {
         mContext = context;
         mImageMap = new ConcurrentHashMap<>();
-        mExecutorSupplier = new DefaultExecutorSupplier(1);
+    }
+
+    /**
+     * Sets the scheduler lane used for subsequent requests made through this downloader.
+     */
+    public void setPriority(ImageDownloadScheduler.Priority priority) {
+        mPriority = priority;
+    }
+
+    /**
+     * Fetches and decodes the image into Fresco's cache in the PREFETCH lane, without
+     * delivering it to anyone, so that a later request for it is served from memory.
+     *
+     * @param map a ReadableMap with a "uri" key, ideally the same one we get from the JS layer
+     */
+    public void prefetch(ReadableMap map) {
+        if (!map.hasKey(URI_KEY)) {
+            throw new IllegalArgumentException("Unable to find \"uri\" key in given source map.");
+        }
+        final Uri uri = Helper.parseUri(map.getString(URI_KEY), mContext);
+        ImageDownloadScheduler.getInstance().schedule(ImageDownloadScheduler.Priority.PREFETCH,
+                new ImageDownloadScheduler.Task() {
+                    @Override
+                    public boolean isCancelled() {
+                        return false;
+                    }
+
+                    @Override
+                    public void start(final Runnable onFinished) {
+                        ImageRequest request = ImageRequestBuilder.newBuilderWithSource(uri).build();
+                        DataSource<Void> dataSource = Fresco.getImagePipeline().prefetchToBitmapCache(request, mContext);
+                        dataSource.subscribe(new BaseDataSubscriber<Void>() {
+                            @Override
+                            protected void onNewResultImpl(DataSource<Void> dataSource) {
+                                if (dataSource.isFinished()) {
+                                    onFinished.run();
+                                }
+                            }
+
+                            @Override
+                            protected void onFailureImpl(DataSource<Void> dataSource) {
+                                ViroLog.warn(TAG, "Could not prefetch image at: " + uri.toString());
+                                onFinished.run();
+                            }
 
+                            @Override
+                            public void onCancellation(DataSource<Void> dataSource) {
+                                onFinished.run();
+                            }
+                        }, ImageDownloadScheduler.getInstance().getCallbackExecutor());
+                    }
+                });
     }
 
     /**
@@ -96,7 +159,7 @@ public class ImageDownloader {
      */
     public Bitmap getImageSync(Uri uri) {
         CountDownLatch latch = new CountDownLatch(1);
-        getImage(uri, latch, null);
+        getImage(uri, mConfig, latch, null);
         try {
             latch.await();
         } catch (InterruptedException e) {
@@ -128,10 +191,54 @@ public class ImageDownloader {
             throw new IllegalArgumentException("Unable to find \"uri\" key in given source map.");
         }
 
-        getImage(Helper.parseUri(map.getString(URI_KEY), mContext), null, listener);
+        getImage(Helper.parseUri(map.getString(URI_KEY), mContext), mConfig, null, listener);
+    }
+
+    /**
+     * This method fetches an image asynchronously, converting it to the given format
+     * regardless of the format set on this downloader. This allows a single downloader
+     * to service concurrent requests for textures of differing formats.
+     *
+     * @param uri a URI representing the location of the image to fetch.
+     * @param format the texture format the resulting bitmap should be compatible with.
+     * @param listener object that will be called once the image is fetched.
+     */
+    public void getImageAsync(Uri uri, Texture.Format format, ImageDownloadListener listener) {
+        if (listener == null) {
+            ViroLog.warn(TAG, "The given ImageDownloadListener is null. Doing nothing.");
+            return;
+        }
+        getImage(uri, getBitmapConfig(format), null, listener);
+    }
+
+    private void getImage(final Uri uri, final Bitmap.Config config, final CountDownLatch latch,
+                          final ImageDownloadListener listener) {
+        ImageDownloadScheduler.getInstance().schedule(mPriority, new ImageDownloadScheduler.Task() {
+            @Override
+            public boolean isCancelled() {
+                // Requests whose listener was invalidated while queued are dropped before
+                // anything is fetched or decoded.
+                return listener != null && !listener.isValid();
+            }
+
+            @Override
+            public void start(final Runnable onFinished) {
+                // Spans the fetch and decode, from leaving the download queue to the result
+                final long span = ViroLog.beginAsyncSpan("ImageDownloader.getImage");
+                fetchImage(uri, config, latch, listener, new Runnable() {
+                    @Override
+                    public void run() {
+                        ViroLog.endAsyncSpan("ImageDownloader.getImage", span);
+                        onFinished.run();
+                    }
+                });
+            }
+        });
     }
 
-    private void getImage(Uri uri, final CountDownLatch latch, final ImageDownloadListener listener) {
+    private void fetchImage(final Uri uri, final Bitmap.Config config, final CountDownLatch latch,
+                            final ImageDownloadListener listener, final Runnable onFinished) {
+        final long fetchStartNanos = System.nanoTime();
         ImagePipeline imagePipeline = Fresco.getImagePipeline();
         ImageRequest request = ImageRequestBuilder.newBuilderWithSource(uri).build();
         DataSource<CloseableReference<CloseableImage>> dataSource = imagePipeline.fetchDecodedImage(request, mContext);
@@ -143,6 +250,14 @@ public class ImageDownloader {
                         if (!dataSource.isFinished()) {
                             return;
                         }
+                        try {
+                            deliverResult(dataSource);
+                        } finally {
+                            onFinished.run();
+                        }
+                    }
+
+                    private void deliverResult(DataSource<CloseableReference<CloseableImage>> dataSource) {
                         // If the listener isn't still valid, then return before we fetch the result
                         // and the memory-intensive bitmap.
                         if (listener != null && !listener.isValid()) {
@@ -154,19 +269,34 @@ public class ImageDownloader {
                         CloseableImage image = result.get();
                         Log.d("[ImageDownloader.onNewResultImpl]", image.getClass().toString());
                         if (image instanceof BaseCloseableStaticBitmap) {
+                            PerfTelemetry.recordImageDecode(fetchStartNanos);
                             Bitmap bitmap = ((BaseCloseableStaticBitmap) image).getUnderlyingBitmap();
 
-                            if (listener != null) {
-                                listener.completed(bitmap.copy(mConfig, true));
-                            } else {
-                                Bitmap temp = bitmap.copy(mConfig, true);
-                                if (temp != null) {
-                                    mImageMap.put(latch, temp);
+                            try {
+                                if (listener instanceof DirectImageDownloadListener && bitmap.getConfig() == config) {
+                                    // The listener is done with the bitmap once completed() returns, so
+                                    // hand it Fresco's bitmap and only close our reference afterwards.
+                                    sBytesPassedThrough.addAndGet(bitmap.getByteCount());
+                                    sPassThroughCount.incrementAndGet();
+                                    listener.completed(bitmap);
+                                } else if (listener != null) {
+                                    listener.completed(copyBitmap(bitmap, config));
+                                } else {
+                                    Bitmap temp = copyBitmap(bitmap, config);
+                                    if (temp != null) {
+                                        mImageMap.put(latch, temp);
+                                    }
                                 }
+                            } finally {
+                                result.close();
+                            }
+                        } else {
+                            result.close();
+                            if (listener != null) {
+                                listener.failed("Unable to decode a static bitmap from: " + uri.toString());
                             }
                         }
 
-                        result.close();
                         dataSource.close();
                         if (latch != null) {
                             latch.countDown();
@@ -175,6 +305,7 @@ public class ImageDownloader {
 
                     @Override
                     protected void onFailureImpl(DataSource<CloseableReference<CloseableImage>> dataSource) {
+                        onFinished.run();
                         if (latch != null) {
                             latch.countDown();
                         }
@@ -183,17 +314,71 @@ public class ImageDownloader {
                             listener.failed(t.getMessage());
                         }
                     }
+
+                    @Override
+                    public void onCancellation(DataSource<CloseableReference<CloseableImage>> dataSource) {
+                        onFinished.run();
+                        if (latch != null) {
+                            latch.countDown();
+                        }
+                    }
                 };
 
-        dataSource.subscribe(dataSubscriber, mExecutorSupplier.forBackgroundTasks());
+        dataSource.subscribe(dataSubscriber, ImageDownloadScheduler.getInstance().getCallbackExecutor());
+    }
+
+    private static Bitmap copyBitmap(Bitmap bitmap, Bitmap.Config config) {
+        Bitmap copy = bitmap.copy(config, true);
+        if (copy != null) {
+            sBytesCopied.addAndGet(copy.getByteCount());
+            sCopyCount.incrementAndGet();
+        }
+        return copy;
+    }
+
+    /**
+     * @return the number of bytes of bitmap data copied so far.
+     */
+    public static long getBytesCopied() {
+        return sBytesCopied.get();
+    }
+
+    /**
+     * @return the number of bitmaps copied so far.
+     */
+    public static long getCopyCount() {
+        return sCopyCount.get();
+    }
+
+    /**
+     * @return the number of bytes of bitmap data handed to listeners without a copy so far.
+     */
+    public static long getBytesPassedThrough() {
+        return sBytesPassedThrough.get();
+    }
+
+    /**
+     * @return the number of bitmaps handed to listeners without a copy so far.
+     */
+    public static long getPassThroughCount() {
+        return sPassThroughCount.get();
+    }
+
+    public static void resetAllocationCounters() {
+        sBytesCopied.set(0);
+        sCopyCount.set(0);
+        sBytesPassedThrough.set(0);
+        sPassThroughCount.set(0);
     }
 
     public void setTextureFormat(Texture.Format format) {
+        mConfig = getBitmapConfig(format);
+    }
+
+    private static Bitmap.Config getBitmapConfig(Texture.Format format) {
         if (format == Texture.Format.RGB565) {
-            mConfig = Bitmap.Config.RGB_565;
-        }
-        else {
-            mConfig = Bitmap.Config.ARGB_8888;
+            return Bitmap.Config.RGB_565;
         }
+        return Bitmap.Config.ARGB_8888;
     }
 }
@@ -0,0 +1,262 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Runtime performance telemetry for release builds: frame-time and latency histograms plus
+ * bridge traffic counts, recorded only while enabled (see PerfMonitor.setTelemetryEnabled)
+ * so it costs a volatile read per call site otherwise.
+ *
+ * Latencies are recorded in microseconds. Call sites take System.nanoTime() before the work
+ * and pass it to the matching record method once it completes.
+ */
+public class PerfTelemetry {
+    private static volatile boolean sEnabled = false;
+
+    private static final Histogram sFrameTime = new Histogram();
+    private static final Histogram sPropUpdatesPerFrame = new Histogram();
+    private static final Histogram sImageDecode = new Histogram();
+    private static final Histogram sTextureUpload = new Histogram();
+    private static final Histogram sMaterialParse = new Histogram();
+    private static final Histogram sAnimationParse = new Histogram();
+
+    private static final AtomicInteger sPendingPropUpdates = new AtomicInteger();
+    private static final AtomicLong sPropUpdates = new AtomicLong();
+    private static final ConcurrentHashMap<String, AtomicLong> sEvents = new ConcurrentHashMap<>();
+    private static volatile long sStartedAtMillis = System.currentTimeMillis();
+
+    // Recording holds the read lock and snapshot-and-reset holds the write lock, so nothing
+    // recorded between taking a snapshot and resetting is lost
+    private static final ReadWriteLock sLock = new ReentrantReadWriteLock();
+
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+    private static final FrameRecorder sFrameRecorder = new FrameRecorder();
+
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        if (sEnabled == enabled) {
+            return;
+        }
+        sEnabled = enabled;
+        if (enabled) {
+            sMainHandler.post(sFrameRecorder);
+        }
+    }
+
+    /**
+     * Counts one JS to native prop update transaction on a view.
+     */
+    public static void recordPropUpdate() {
+        if (!sEnabled) {
+            return;
+        }
+        sLock.readLock().lock();
+        try {
+            sPendingPropUpdates.incrementAndGet();
+            sPropUpdates.incrementAndGet();
+        } finally {
+            sLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts one native to JS event of the given type.
+     */
+    public static void recordEvent(String type) {
+        if (!sEnabled) {
+            return;
+        }
+        sLock.readLock().lock();
+        try {
+            AtomicLong count = sEvents.get(type);
+            if (count == null) {
+                AtomicLong newCount = new AtomicLong();
+                count = sEvents.putIfAbsent(type, newCount);
+                if (count == null) {
+                    count = newCount;
+                }
+            }
+            count.incrementAndGet();
+        } finally {
+            sLock.readLock().unlock();
+        }
+    }
+
+    public static void recordImageDecode(long startNanos) {
+        record(sImageDecode, startNanos);
+    }
+
+    public static void recordTextureUpload(long startNanos) {
+        record(sTextureUpload, startNanos);
+    }
+
+    public static void recordMaterialParse(long startNanos) {
+        record(sMaterialParse, startNanos);
+    }
+
+    public static void recordAnimationParse(long startNanos) {
+        record(sAnimationParse, startNanos);
+    }
+
+    private static void record(Histogram histogram, long startNanos) {
+        if (!sEnabled) {
+            return;
+        }
+        sLock.readLock().lock();
+        try {
+            histogram.record((System.nanoTime() - startNanos) / 1000);
+        } finally {
+            sLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns everything recorded since telemetry was last reset, along with the bridge's
+     * existing cumulative counters.
+     */
+    public static Map<String, Object> snapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     * Returns everything recorded since telemetry was last reset, resetting it in the same
+     * step if requested.
+     */
+    public static Map<String, Object> snapshot(boolean reset) {
+        sLock.writeLock().lock();
+        try {
+            Map<String, Object> snapshot = buildSnapshot();
+            if (reset) {
+                resetLocked();
+            }
+            return snapshot;
+        } finally {
+            sLock.writeLock().unlock();
+        }
+    }
+
+    private static Map<String, Object> buildSnapshot() {
+        Map<String, Object> histograms = new LinkedHashMap<>();
+        histograms.put("frameTimeUs", sFrameTime.toMap());
+        histograms.put("propUpdatesPerFrame", sPropUpdatesPerFrame.toMap());
+        histograms.put("imageDecodeUs", sImageDecode.toMap());
+        histograms.put("textureUploadUs", sTextureUpload.toMap());
+        histograms.put("materialParseUs", sMaterialParse.toMap());
+        histograms.put("animationParseUs", sAnimationParse.toMap());
+
+        Map<String, Object> events = new LinkedHashMap<>();
+        for (Map.Entry<String, AtomicLong> entry : sEvents.entrySet()) {
+            events.put(entry.getKey(), (double) entry.getValue().get());
+        }
+
+        FrameEventDispatcher dispatcher = FrameEventDispatcher.getInstance();
+        Map<String, Object> counters = new LinkedHashMap<>();
+        counters.put("propUpdates", (double) sPropUpdates.get());
+        counters.put("coalescedEventsEmitted", (double) dispatcher.getEmittedCount());
+        counters.put("coalescedEventsDropped", (double) dispatcher.getCoalescedCount());
+        counters.put("imageBytesCopied", (double) ImageDownloader.getBytesCopied());
+        counters.put("imageBytesPassedThrough", (double) ImageDownloader.getBytesPassedThrough());
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", sEnabled);
+        snapshot.put("startedAt", (double) sStartedAtMillis);
+        snapshot.put("capturedAt", (double) System.currentTimeMillis());
+        snapshot.put("histograms", histograms);
+        snapshot.put("events", events);
+        snapshot.put("counters", counters);
+        return snapshot;
+    }
+
+    public static void reset() {
+        sLock.writeLock().lock();
+        try {
+            resetLocked();
+        } finally {
+            sLock.writeLock().unlock();
+        }
+    }
+
+    private static void resetLocked() {
+        sFrameTime.reset();
+        sPropUpdatesPerFrame.reset();
+        sImageDecode.reset();
+        sTextureUpload.reset();
+        sMaterialParse.reset();
+        sAnimationParse.reset();
+        sPendingPropUpdates.set(0);
+        sPropUpdates.set(0);
+        sEvents.clear();
+        sStartedAtMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Records the interval between display frames, and the prop updates that arrived during
+     * each, for as long as telemetry is enabled. Only touched on the main thread.
+     */
+    private static class FrameRecorder implements Runnable, Choreographer.FrameCallback {
+        private boolean mRunning = false;
+        private long mLastFrameNanos = 0;
+
+        @Override
+        public void run() {
+            if (!mRunning) {
+                mRunning = true;
+                mLastFrameNanos = 0;
+                Choreographer.getInstance().postFrameCallback(this);
+            }
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            if (!sEnabled) {
+                mRunning = false;
+                return;
+            }
+            if (mLastFrameNanos != 0) {
+                sLock.readLock().lock();
+                try {
+                    sFrameTime.record((frameTimeNanos - mLastFrameNanos) / 1000);
+                    sPropUpdatesPerFrame.record(sPendingPropUpdates.getAndSet(0));
+                } finally {
+                    sLock.readLock().unlock();
+                }
+            }
+            mLastFrameNanos = frameTimeNanos;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.util.Base64;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+import com.viro.core.ARPointCloud;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Encodes point cloud updates in the packed format: instead of a nested array per point,
+ * identifiers and points are each sent as one base64 string of little-endian 32-bit values,
+ * which JS decodes straight into an Int32Array and a Float32Array.
+ *
+ * Each update is encoded against the previous one. A keyframe carries every point; any other
+ * update carries the full identifier list but only the points that are new or have moved,
+ * along with their indices, and JS copies the rest from its previous frame by identifier.
+ *
+ * Packed event fields:
+ *   format         "packed"
+ *   keyframe       true if changedPoints holds every point in identifier order
+ *   identifiers    base64 int32[count * 2] of each 64-bit identifier's low and high words
+ *   changedIndices base64 int32[changed], omitted on keyframes
+ *   changedPoints  base64 float32[changed * 4] of x, y, z, confidence
+ */
+public class PointCloudEncoder {
+    public static final String FORMAT_MAP = "map";
+    public static final String FORMAT_PACKED = "packed";
+
+    private static final int FLOATS_PER_POINT = 4;
+    private static final int BYTES_PER_VALUE = 4;
+
+    private IdIndexMap mPreviousIndices = new IdIndexMap();
+    private IdIndexMap mCurrentIndices = new IdIndexMap();
+    private float[] mPreviousPoints = new float[0];
+    private int[] mChangedIndices = new int[0];
+    private ByteBuffer mBuffer = ByteBuffer.allocate(0);
+    private boolean mNeedsKeyframe = true;
+
+    /**
+     * Make the next update a keyframe, e.g. because JS has lost its previous frame.
+     */
+    public synchronized void reset() {
+        mNeedsKeyframe = true;
+        mPreviousIndices.clear(0);
+        mPreviousPoints = new float[0];
+    }
+
+    public synchronized WritableMap encode(ARPointCloud pointCloud) {
+        float[] points = pointCloud.getPoints();
+        long[] ids = pointCloud.getIds();
+        int count = Math.min(ids.length, points.length / FLOATS_PER_POINT);
+        boolean keyframe = mNeedsKeyframe;
+
+        if (mChangedIndices.length < count) {
+            mChangedIndices = new int[count];
+        }
+        int changedCount = 0;
+        mCurrentIndices.clear(count);
+        for (int i = 0; i < count; i++) {
+            mCurrentIndices.put(ids[i], i);
+            if (keyframe) {
+                mChangedIndices[changedCount++] = i;
+                continue;
+            }
+            int previous = mPreviousIndices.get(ids[i]);
+            if (previous < 0 || !isSamePoint(points, i, mPreviousPoints, previous)) {
+                mChangedIndices[changedCount++] = i;
+            }
+        }
+
+        WritableMap returnMap = Arguments.createMap();
+        returnMap.putString("format", FORMAT_PACKED);
+        returnMap.putBoolean("keyframe", keyframe);
+
+        ByteBuffer buffer = prepareBuffer(count * 2);
+        for (int i = 0; i < count; i++) {
+            buffer.putInt((int) ids[i]);
+            buffer.putInt((int) (ids[i] >>> 32));
+        }
+        returnMap.putString("identifiers", toBase64(buffer));
+
+        if (!keyframe) {
+            buffer = prepareBuffer(changedCount);
+            for (int i = 0; i < changedCount; i++) {
+                buffer.putInt(mChangedIndices[i]);
+            }
+            returnMap.putString("changedIndices", toBase64(buffer));
+        }
+
+        buffer = prepareBuffer(changedCount * FLOATS_PER_POINT);
+        for (int i = 0; i < changedCount; i++) {
+            int offset = mChangedIndices[i] * FLOATS_PER_POINT;
+            for (int j = 0; j < FLOATS_PER_POINT; j++) {
+                buffer.putFloat(points[offset + j]);
+            }
+        }
+        returnMap.putString("changedPoints", toBase64(buffer));
+
+        IdIndexMap swap = mPreviousIndices;
+        mPreviousIndices = mCurrentIndices;
+        mCurrentIndices = swap;
+        mPreviousPoints = points;
+        mNeedsKeyframe = false;
+        return returnMap;
+    }
+
+    /**
+     * Maps point identifiers to their index in a frame. Keys and values are kept in primitive
+     * arrays with open addressing, so filling the map each frame allocates nothing once it has
+     * grown to the point count.
+     */
+    private static final class IdIndexMap {
+        private long[] mKeys = new long[16];
+        private int[] mValues = new int[16];
+
+        IdIndexMap() {
+            Arrays.fill(mValues, -1);
+        }
+
+        /**
+         * Empties the map, making room for the given number of entries.
+         */
+        void clear(int expectedSize) {
+            int capacity = mKeys.length;
+            while (capacity < expectedSize * 2) {
+                capacity *= 2;
+            }
+            if (capacity != mKeys.length) {
+                mKeys = new long[capacity];
+                mValues = new int[capacity];
+            }
+            Arrays.fill(mValues, -1);
+        }
+
+        /**
+         * Adds an entry; the index must be >= 0, and the map must have been cleared with room
+         * for it.
+         */
+        void put(long id, int index) {
+            int mask = mKeys.length - 1;
+            int slot = hash(id) & mask;
+            while (mValues[slot] >= 0 && mKeys[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+            mKeys[slot] = id;
+            mValues[slot] = index;
+        }
+
+        /**
+         * Returns the index for the identifier, or -1 if it isn't in the map.
+         */
+        int get(long id) {
+            int mask = mKeys.length - 1;
+            int slot = hash(id) & mask;
+            while (mValues[slot] >= 0) {
+                if (mKeys[slot] == id) {
+                    return mValues[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private static int hash(long id) {
+            long h = id * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    private static boolean isSamePoint(float[] points, int index, float[] previousPoints, int previousIndex) {
+        int offset = index * FLOATS_PER_POINT;
+        int previousOffset = previousIndex * FLOATS_PER_POINT;
+        for (int j = 0; j < FLOATS_PER_POINT; j++) {
+            if (points[offset + j] != previousPoints[previousOffset + j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ByteBuffer prepareBuffer(int valueCount) {
+        int size = valueCount * BYTES_PER_VALUE;
+        if (mBuffer.capacity() < size) {
+            mBuffer = ByteBuffer.allocate(size);
+        }
+        mBuffer.clear();
+        mBuffer.order(ByteOrder.LITTLE_ENDIAN);
+        return mBuffer;
+    }
+
+    private static String toBase64(ByteBuffer buffer) {
+        return Base64.encodeToString(buffer.array(), 0, buffer.position(), Base64.NO_WRAP);
+    }
+}
@@ -0,0 +1,329 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.net.Uri;
+
+import com.viro.core.SoundData;
+
+import java.io.File;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A cache of native {@link SoundData}, keyed by source URI, shared by preloaded sounds and
+ * sound components playing from a URI. Requests for a URI that is already loading or loaded
+ * share the same SoundData, so a clip is only fetched once.
+ *
+ * Every {@link #acquire(String, Listener)} hands the caller a reference that must be returned
+ * through {@link #release(String)}; sound components hold one for as long as they have a
+ * native sound, which pins the data while it may be playing. Data that is no longer referenced
+ * (including preloaded sounds not currently in use) stays cached in least-recently-used order
+ * for as long as the total size of the cache fits within its byte budget.
+ *
+ * The budget counts compressed file bytes, not the memory used by the decoded audio: the size
+ * of a clip is the length of a local file, or the Content-Length of a remote one, which is
+ * fetched once the data is ready. Until then, or if the size can't be determined, the clip
+ * counts as {@link #UNKNOWN_SIZE_BYTES} so that unsized clips still count against the budget.
+ */
+public class SoundDataCache {
+    private static final String TAG = ViroLog.getTag(SoundDataCache.class);
+    public static final long DEFAULT_MAX_SIZE_BYTES = 32 * 1024 * 1024;
+    public static final long UNKNOWN_SIZE_BYTES = 1024 * 1024;
+    private static final int SIZE_REQUEST_TIMEOUT_MS = 10000;
+
+    public interface Listener {
+        void onSoundDataReady(String uri);
+        void onSoundDataError(String uri, String error);
+    }
+
+    private enum State {
+        LOADING, READY, FAILED
+    }
+
+    private static final ExecutorService sSizeExecutor = Executors.newSingleThreadExecutor();
+
+    private final LinkedHashMap<String, Entry> mEntries;
+    private long mMaxSizeBytes;
+    private long mSizeBytes;
+
+    private long mHitCount;
+    private long mMissCount;
+    private long mDedupedCount;
+    private long mEvictionCount;
+
+    public SoundDataCache(long maxSizeBytes) {
+        // Access-ordered so that iteration starts from the least recently used entry
+        mEntries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+        mMaxSizeBytes = maxSizeBytes;
+        mSizeBytes = 0;
+    }
+
+    /**
+     * Returns the SoundData for the given URI and adds a reference to it, starting to load it
+     * if it isn't cached. The listener, if any, is notified once the data is ready or failed
+     * (immediately if that has already happened).
+     */
+    public synchronized SoundData acquire(String uri, Listener listener) {
+        Entry entry = getOrLoad(uri, listener);
+        entry.mRefCount++;
+        return entry.mData;
+    }
+
+    /**
+     * Start loading the given URI without holding a reference to it, so it is cached but
+     * may be evicted once the cache is over budget.
+     */
+    public synchronized void prefetch(String uri, Listener listener) {
+        getOrLoad(uri, listener);
+        trimToSize();
+    }
+
+    /**
+     * Removes a reference to the data for the given URI. Data that is no longer referenced
+     * becomes eligible for eviction.
+     */
+    public synchronized void release(String uri) {
+        Entry entry = mEntries.get(uri);
+        if (entry == null) {
+            return;
+        }
+        if (entry.mRefCount <= 0) {
+            ViroLog.warn(TAG, "Released sound that is no longer referenced: " + uri);
+            return;
+        }
+        entry.mRefCount--;
+        if (entry.mRefCount == 0) {
+            trimToSize();
+        }
+    }
+
+    /**
+     * Destroys the data for the given URI now if nothing references it.
+     */
+    public synchronized void remove(String uri) {
+        Entry entry = mEntries.get(uri);
+        if (entry != null && entry.mRefCount == 0) {
+            destroy(entry);
+            mEntries.remove(uri);
+        }
+    }
+
+    public synchronized void setMaxSize(long maxSizeBytes) {
+        mMaxSizeBytes = maxSizeBytes;
+        trimToSize();
+    }
+
+    public synchronized long getMaxSize() {
+        return mMaxSizeBytes;
+    }
+
+    public synchronized long getSize() {
+        return mSizeBytes;
+    }
+
+    public synchronized int getCount() {
+        return mEntries.size();
+    }
+
+    /**
+     * Number of requests served by data that was already loaded.
+     */
+    public synchronized long getHitCount() {
+        return mHitCount;
+    }
+
+    /**
+     * Number of requests that had to start loading their data.
+     */
+    public synchronized long getMissCount() {
+        return mMissCount;
+    }
+
+    /**
+     * Number of requests that joined a load already in progress for the same URI.
+     */
+    public synchronized long getDedupedCount() {
+        return mDedupedCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return mEvictionCount;
+    }
+
+    private Entry getOrLoad(final String uri, Listener listener) {
+        Entry entry = mEntries.get(uri);
+        if (entry != null && entry.mState == State.FAILED && entry.mRefCount == 0) {
+            // Retry failed loads once nothing is holding on to the failed data
+            destroy(entry);
+            mEntries.remove(uri);
+            entry = null;
+        }
+
+        if (entry != null) {
+            if (entry.mState == State.LOADING) {
+                mDedupedCount++;
+                if (listener != null) {
+                    entry.mListeners.add(listener);
+                }
+            } else {
+                mHitCount++;
+                notify(entry, listener);
+            }
+            return entry;
+        }
+
+        mMissCount++;
+        final Entry newEntry = new Entry(uri);
+        if (listener != null) {
+            newEntry.mListeners.add(listener);
+        }
+        mEntries.put(uri, newEntry);
+        mSizeBytes += newEntry.mSizeBytes;
+        newEntry.mData = new SoundData(uri, new SoundData.SoundDataInitializeCallback() {
+            @Override
+            public void onDataIsReady() {
+                onLoaded(newEntry, null);
+            }
+
+            @Override
+            public void onDataError(String error) {
+                onLoaded(newEntry, error != null ? error : "Unknown error");
+            }
+        });
+        return newEntry;
+    }
+
+    private void onLoaded(final Entry entry, String error) {
+        List<Listener> listeners;
+        synchronized (this) {
+            if (entry.mState != State.LOADING) {
+                return;
+            }
+            entry.mState = error == null ? State.READY : State.FAILED;
+            entry.mError = error;
+            listeners = new ArrayList<Listener>(entry.mListeners);
+            entry.mListeners.clear();
+        }
+
+        for (Listener listener : listeners) {
+            notify(entry, listener);
+        }
+        if (error == null) {
+            sSizeExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    setSize(entry, fetchSize(entry.mUri));
+                }
+            });
+        }
+    }
+
+    private synchronized void setSize(Entry entry, long sizeBytes) {
+        if (mEntries.get(entry.mUri) != entry || sizeBytes <= 0) {
+            return;
+        }
+        mSizeBytes += sizeBytes - entry.mSizeBytes;
+        entry.mSizeBytes = sizeBytes;
+        trimToSize();
+    }
+
+    private void notify(Entry entry, Listener listener) {
+        if (listener == null) {
+            return;
+        }
+        if (entry.mState == State.READY) {
+            listener.onSoundDataReady(entry.mUri);
+        } else if (entry.mState == State.FAILED) {
+            listener.onSoundDataError(entry.mUri, entry.mError);
+        }
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<String, Entry>> iter = mEntries.entrySet().iterator();
+        while (mSizeBytes > mMaxSizeBytes && iter.hasNext()) {
+            Entry entry = iter.next().getValue();
+            if (entry.mRefCount > 0 || entry.mState == State.LOADING) {
+                continue;
+            }
+            destroy(entry);
+            iter.remove();
+            mEvictionCount++;
+        }
+    }
+
+    private void destroy(Entry entry) {
+        entry.mData.destroy();
+        mSizeBytes -= entry.mSizeBytes;
+    }
+
+    /**
+     * Returns the size of the file at the given URI in bytes, or 0 if it can't be determined.
+     */
+    private static long fetchSize(String uri) {
+        Uri parsed = Uri.parse(uri);
+        String scheme = parsed.getScheme();
+        if (scheme == null || "file".equals(scheme)) {
+            return new File(parsed.getPath()).length();
+        }
+        if (!"http".equals(scheme) && !"https".equals(scheme)) {
+            return 0;
+        }
+
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(uri).openConnection();
+            connection.setRequestMethod("HEAD");
+            connection.setConnectTimeout(SIZE_REQUEST_TIMEOUT_MS);
+            connection.setReadTimeout(SIZE_REQUEST_TIMEOUT_MS);
+            return Math.max(connection.getContentLengthLong(), 0);
+        } catch (Exception e) {
+            ViroLog.warn(TAG, "Unable to determine size of sound " + uri + ": " + e.getMessage());
+            return 0;
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    private static class Entry {
+        final String mUri;
+        final List<Listener> mListeners = new ArrayList<Listener>();
+        SoundData mData;
+        State mState = State.LOADING;
+        String mError;
+        long mSizeBytes = UNKNOWN_SIZE_BYTES;
+        int mRefCount;
+
+        Entry(String uri) {
+            mUri = uri;
+        }
+    }
+}
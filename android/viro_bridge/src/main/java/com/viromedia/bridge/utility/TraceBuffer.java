@@ -0,0 +1,109 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fixed-size ring buffer of the most recently completed trace spans. Recording a span
+ * overwrites the oldest one once the buffer is full and never allocates.
+ */
+public class TraceBuffer {
+
+    public static class Span {
+        public final String name;
+        public final String thread;
+        public final long startNanos;
+        public final long durationNanos;
+
+        Span(String name, String thread, long startNanos, long durationNanos) {
+            this.name = name;
+            this.thread = thread;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+        }
+    }
+
+    private String[] mNames;
+    private String[] mThreads;
+    private long[] mStarts;
+    private long[] mDurations;
+    private int mNext;
+    private int mSize;
+
+    TraceBuffer(int capacity) {
+        allocate(capacity);
+    }
+
+    synchronized void record(String name, long startNanos, long durationNanos) {
+        mNames[mNext] = name;
+        mThreads[mNext] = Thread.currentThread().getName();
+        mStarts[mNext] = startNanos;
+        mDurations[mNext] = durationNanos;
+        mNext = (mNext + 1) % mNames.length;
+        mSize = Math.min(mSize + 1, mNames.length);
+    }
+
+    /**
+     * Resizes the buffer, discarding the spans it holds.
+     */
+    synchronized void setCapacity(int capacity) {
+        if (capacity != mNames.length) {
+            allocate(capacity);
+        }
+    }
+
+    synchronized void clear() {
+        for (int i = 0; i < mNames.length; i++) {
+            mNames[i] = null;
+            mThreads[i] = null;
+        }
+        mNext = 0;
+        mSize = 0;
+    }
+
+    /**
+     * Returns the spans in the buffer, oldest first.
+     */
+    synchronized List<Span> getSpans() {
+        List<Span> spans = new ArrayList<>(mSize);
+        int first = (mNext - mSize + mNames.length) % mNames.length;
+        for (int i = 0; i < mSize; i++) {
+            int index = (first + i) % mNames.length;
+            spans.add(new Span(mNames[index], mThreads[index], mStarts[index], mDurations[index]));
+        }
+        return spans;
+    }
+
+    private void allocate(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Trace buffer capacity must be positive, got " + capacity);
+        }
+        mNames = new String[capacity];
+        mThreads = new String[capacity];
+        mStarts = new long[capacity];
+        mDurations = new long[capacity];
+        mNext = 0;
+        mSize = 0;
+    }
+}
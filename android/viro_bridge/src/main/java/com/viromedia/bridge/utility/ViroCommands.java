@@ -26,4 +26,8 @@ public class ViroCommands {
     public static final String SEEK_TO_TIME_NAME = "seekToTime";
     public static final int PAUSE_INDEX = 1;
     public static final String PAUSE = "pause";
+    public static final int UPDATE_VERTEX_RANGE_INDEX = 2;
+    public static final String UPDATE_VERTEX_RANGE_NAME = "updateVertexRange";
+    public static final int APPEND_POINTS_INDEX = 3;
+    public static final String APPEND_POINTS_NAME = "appendPoints";
 }
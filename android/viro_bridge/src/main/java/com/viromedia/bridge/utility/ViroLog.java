@@ -22,11 +22,32 @@
 package com.viromedia.bridge.utility;
 
 
+import android.os.Build;
+import android.os.Trace;
 import android.util.Log;
 
+import java.util.List;
+
+/**
+ * Logging, plus lightweight tracing of the bridge's hot paths.
+ *
+ * Spans are timed with {@link #beginSpan(String)} and {@link #endSpan(String, long)}, or their
+ * async variants for work that completes on another thread or in a callback. While tracing is
+ * off a span costs a single volatile read and allocates nothing. While it is on, completed
+ * spans are kept in a ring buffer of the most recent ones ({@link #TRACE_BUFFER}) and/or
+ * emitted as android.os.Trace sections for systrace and Perfetto ({@link #TRACE_SYSTEM}).
+ */
 public class ViroLog {
     private static final String TAG_PREFIX = "Viro-";
 
+    public static final int TRACE_OFF = 0;
+    public static final int TRACE_BUFFER = 1;
+    public static final int TRACE_SYSTEM = 2;
+    public static final int DEFAULT_TRACE_CAPACITY = 512;
+
+    private static volatile int sTraceMode = TRACE_OFF;
+    private static final TraceBuffer sTraceBuffer = new TraceBuffer(DEFAULT_TRACE_CAPACITY);
+
     public static String getTag(Class clazz) {
         return TAG_PREFIX + clazz.getSimpleName();
     }
@@ -46,4 +67,108 @@ public class ViroLog {
     public static void error(String tag, String message) {
         Log.e(tag, message);
     }
+
+    /**
+     * Sets where spans are recorded: TRACE_OFF, or TRACE_BUFFER and/or TRACE_SYSTEM.
+     */
+    public static void setTraceMode(int mode) {
+        sTraceMode = mode;
+    }
+
+    public static int getTraceMode() {
+        return sTraceMode;
+    }
+
+    public static void setTraceCapacity(int capacity) {
+        sTraceBuffer.setCapacity(capacity);
+    }
+
+    /**
+     * Returns the most recently completed spans, oldest first.
+     */
+    public static List<TraceBuffer.Span> getTraceSpans() {
+        return sTraceBuffer.getSpans();
+    }
+
+    public static void clearTraceSpans() {
+        sTraceBuffer.clear();
+    }
+
+    /**
+     * Begins a span that ends on the same thread, nested within any span already open on it.
+     * Returns a token to pass to {@link #endSpan(String, long)}, which is 0 if tracing is off.
+     */
+    public static long beginSpan(String name) {
+        int mode = sTraceMode;
+        if (mode == TRACE_OFF) {
+            return 0;
+        }
+        boolean system = (mode & TRACE_SYSTEM) != 0;
+        if (system) {
+            Trace.beginSection(name);
+        }
+        return token(system);
+    }
+
+    public static void endSpan(String name, long token) {
+        if (token == 0) {
+            return;
+        }
+        if (isSystemToken(token)) {
+            Trace.endSection();
+        }
+        recordSpan(name, token);
+    }
+
+    /**
+     * Begins a span that may end on another thread. Returns a token to pass to
+     * {@link #endAsyncSpan(String, long)}, which is 0 if tracing is off.
+     */
+    public static long beginAsyncSpan(String name) {
+        int mode = sTraceMode;
+        if (mode == TRACE_OFF) {
+            return 0;
+        }
+        boolean system = (mode & TRACE_SYSTEM) != 0 && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q;
+        long token = token(system);
+        if (system) {
+            Trace.beginAsyncSection(name, cookie(token));
+        }
+        return token;
+    }
+
+    public static void endAsyncSpan(String name, long token) {
+        if (token == 0) {
+            return;
+        }
+        if (isSystemToken(token) && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            Trace.endAsyncSection(name, cookie(token));
+        }
+        recordSpan(name, token);
+    }
+
+    /*
+     * A span's token is its start time, with the lowest bit flagging whether a system trace
+     * section was opened for it (so it's closed even if the trace mode changes in between).
+     */
+    private static long token(boolean system) {
+        long token = (System.nanoTime() & ~1L) | (system ? 1 : 0);
+        return token != 0 ? token : 2;
+    }
+
+    private static boolean isSystemToken(long token) {
+        return (token & 1) != 0;
+    }
+
+    private static int cookie(long token) {
+        return (int) (token >>> 1);
+    }
+
+    private static void recordSpan(String name, long token) {
+        if ((sTraceMode & TRACE_BUFFER) == 0) {
+            return;
+        }
+        long start = token & ~1L;
+        sTraceBuffer.record(name, start, System.nanoTime() - start);
+    }
 }
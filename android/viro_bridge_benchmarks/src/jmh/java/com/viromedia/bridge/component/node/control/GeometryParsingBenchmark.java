@@ -0,0 +1,76 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+
+package com.viromedia.bridge.component.node.control;
+
+import com.facebook.react.bridge.JavaOnlyArray;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Converting ViroGeometry's vertex props from arrays of vectors into the flat float arrays
+ * passed to the renderer.
+ */
+@State(Scope.Thread)
+public class GeometryParsingBenchmark {
+
+    @Param({"100", "1000"})
+    public int vertexCount;
+
+    private JavaOnlyArray mVertices;
+    private JavaOnlyArray mTexcoords;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        mVertices = new JavaOnlyArray();
+        mTexcoords = new JavaOnlyArray();
+        for (int i = 0; i < vertexCount; i++) {
+            JavaOnlyArray vertex = new JavaOnlyArray();
+            vertex.pushDouble(random.nextDouble());
+            vertex.pushDouble(random.nextDouble());
+            vertex.pushDouble(random.nextDouble());
+            mVertices.pushArray(vertex);
+
+            JavaOnlyArray texcoord = new JavaOnlyArray();
+            texcoord.pushDouble(random.nextDouble());
+            texcoord.pushDouble(random.nextDouble());
+            mTexcoords.pushArray(texcoord);
+        }
+    }
+
+    @Benchmark
+    public float[] vertices() {
+        return GeometryArrays.convertVectorArray(mVertices, 3, "vertices");
+    }
+
+    @Benchmark
+    public float[] texcoords() {
+        return GeometryArrays.convertVectorArray(mTexcoords, 2, "texcoords");
+    }
+}
@@ -0,0 +1,127 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+
+package com.viromedia.bridge.component.node.control;
+
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.viro.core.ParticleEmitter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Parsing the particle modifiers of a ViroParticleEmitter's particleAppearance prop, for each
+ * of the float, vector and color modifier types.
+ */
+@State(Scope.Thread)
+public class ParticleModifierBenchmark {
+    private static final ParticleModifierParser.ErrorListener FAIL_ON_ERROR =
+            new ParticleModifierParser.ErrorListener() {
+                @Override
+                public void onError(String error) {
+                    throw new IllegalStateException(error);
+                }
+            };
+
+    private JavaOnlyMap mAppearance;
+
+    @Setup
+    public void setup() {
+        mAppearance = new JavaOnlyMap();
+
+        JavaOnlyArray opacityRange = new JavaOnlyArray();
+        opacityRange.pushDouble(0);
+        opacityRange.pushDouble(0.2);
+        mAppearance.putMap("opacity", modifier(opacityRange, new Object[] { 1.0, 1.0, 0.0 }));
+
+        JavaOnlyArray scaleRange = new JavaOnlyArray();
+        scaleRange.pushArray(vector(1, 1, 1));
+        scaleRange.pushArray(vector(2, 2, 2));
+        mAppearance.putMap("scale", modifier(scaleRange,
+                new Object[] { vector(3, 3, 3), vector(4, 4, 4), vector(0, 0, 0) }));
+
+        JavaOnlyArray colorRange = new JavaOnlyArray();
+        colorRange.pushInt(0xFFFF0000);
+        colorRange.pushInt(0xFFFFFF00);
+        mAppearance.putMap("color", modifier(colorRange,
+                new Object[] { 0xFF00FF00, 0xFF0000FF, 0xFFFFFFFF }));
+    }
+
+    /**
+     * Returns a modifier with the given initial range and one interpolation frame per end
+     * value, spread evenly over a second.
+     */
+    private static JavaOnlyMap modifier(JavaOnlyArray initialRange, Object[] endValues) {
+        JavaOnlyArray interpolation = new JavaOnlyArray();
+        for (int i = 0; i < endValues.length; i++) {
+            JavaOnlyArray interval = new JavaOnlyArray();
+            interval.pushDouble(i * 1000.0 / endValues.length);
+            interval.pushDouble((i + 1) * 1000.0 / endValues.length);
+
+            JavaOnlyMap frame = new JavaOnlyMap();
+            frame.putArray("interval", interval);
+            if (endValues[i] instanceof JavaOnlyArray) {
+                frame.putArray("endValue", (JavaOnlyArray) endValues[i]);
+            } else if (endValues[i] instanceof Integer) {
+                frame.putInt("endValue", (Integer) endValues[i]);
+            } else {
+                frame.putDouble("endValue", (Double) endValues[i]);
+            }
+            interpolation.pushMap(frame);
+        }
+
+        JavaOnlyMap modifier = new JavaOnlyMap();
+        modifier.putArray("initialRange", initialRange);
+        modifier.putArray("interpolation", interpolation);
+        modifier.putString("factor", "Time");
+        return modifier;
+    }
+
+    private static JavaOnlyArray vector(double x, double y, double z) {
+        JavaOnlyArray vector = new JavaOnlyArray();
+        vector.pushDouble(x);
+        vector.pushDouble(y);
+        vector.pushDouble(z);
+        return vector;
+    }
+
+    @Benchmark
+    public ParticleEmitter.ParticleModifier floatModifier() {
+        return ParticleModifierParser.getModifier(mAppearance, "opacity", false, false, true,
+                FAIL_ON_ERROR);
+    }
+
+    @Benchmark
+    public ParticleEmitter.ParticleModifier vectorModifier() {
+        return ParticleModifierParser.getModifier(mAppearance, "scale", true, false, false,
+                FAIL_ON_ERROR);
+    }
+
+    @Benchmark
+    public ParticleEmitter.ParticleModifier colorModifier() {
+        return ParticleModifierParser.getModifier(mAppearance, "color", false, true, false,
+                FAIL_ON_ERROR);
+    }
+}
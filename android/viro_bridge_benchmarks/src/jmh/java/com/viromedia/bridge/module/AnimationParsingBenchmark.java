@@ -0,0 +1,73 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+
+package com.viromedia.bridge.module;
+
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.viro.core.internal.AnimationGroup;
+import com.viro.core.internal.LazyMaterial;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Parsing a single animation map, as done for every animation registered through
+ * ViroAnimations.
+ */
+@State(Scope.Thread)
+public class AnimationParsingBenchmark {
+    private static final AnimationMapParser.MaterialResolver NO_MATERIALS =
+            new AnimationMapParser.MaterialResolver() {
+                @Override
+                public LazyMaterial resolve(String materialName) {
+                    return null;
+                }
+            };
+
+    private JavaOnlyMap mAnimationMap;
+
+    @Setup
+    public void setup() {
+        JavaOnlyMap properties = new JavaOnlyMap();
+        properties.putString("positionX", "+=0.5");
+        properties.putDouble("positionY", 1.5);
+        properties.putDouble("scaleX", 2);
+        properties.putDouble("scaleY", 2);
+        properties.putDouble("scaleZ", 2);
+        properties.putString("rotateY", "+=90");
+        properties.putDouble("opacity", 0.5);
+        properties.putInt("color", 0xFFFF0000);
+
+        mAnimationMap = new JavaOnlyMap();
+        mAnimationMap.putMap("properties", properties);
+        mAnimationMap.putDouble("duration", 500);
+        mAnimationMap.putDouble("delay", 100);
+        mAnimationMap.putString("easing", "EaseInEaseOut");
+    }
+
+    @Benchmark
+    public AnimationGroup parseAnimationMap() {
+        return AnimationMapParser.parse(mAnimationMap, NO_MATERIALS);
+    }
+}
@@ -0,0 +1,66 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+
+package com.viromedia.bridge.module;
+
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Parsing the scalar and color properties of a material definition, as done for every
+ * material registered through ViroMaterials.
+ */
+@State(Scope.Thread)
+public class MaterialParsingBenchmark {
+    private JavaOnlyMap mMaterialMap;
+
+    @Setup
+    public void setup() {
+        mMaterialMap = new JavaOnlyMap();
+        mMaterialMap.putString("lightingModel", "Blinn");
+        mMaterialMap.putInt("diffuseColor", 0xFF336699);
+        mMaterialMap.putDouble("diffuseIntensity", 0.8);
+        mMaterialMap.putDouble("shininess", 4);
+        mMaterialMap.putString("blendMode", "Add");
+        mMaterialMap.putString("cullMode", "None");
+        mMaterialMap.putBoolean("writesToDepthBuffer", false);
+        mMaterialMap.putDouble("bloomThreshold", 0.5);
+        JavaOnlyArray colorWriteMask = new JavaOnlyArray();
+        colorWriteMask.pushString("Red");
+        colorWriteMask.pushString("Alpha");
+        mMaterialMap.putArray("colorWriteMask", colorWriteMask);
+
+        JavaOnlyMap texture = new JavaOnlyMap();
+        texture.putString("uri", "https://example.com/diffuse.png");
+        mMaterialMap.putMap("diffuseTexture", texture);
+    }
+
+    @Benchmark
+    public MaterialProperties parseProperties() {
+        return MaterialProperties.parse(mMaterialMap);
+    }
+}
@@ -0,0 +1,158 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import com.facebook.react.bridge.WritableMap;
+import com.viro.core.ARHitTestResult;
+import com.viro.core.ARPlaneAnchor;
+import com.viro.core.ARPointCloud;
+import com.viro.core.Vector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Serialization of AR frame data sent to JS: point clouds in the map and packed formats, plane
+ * anchors sent in full and as deltas, and hit test results. Point clouds and planes are
+ * separate states, so each benchmark only runs over the sizes of the data it serializes.
+ */
+public class ARSerializationBenchmark {
+
+    @State(Scope.Thread)
+    public static class PointCloudState {
+        @Param({"100", "1000"})
+        public int pointCount;
+
+        ARPointCloud mCloud;
+        // Same points as mCloud, with a tenth of them moved
+        ARPointCloud mMovedCloud;
+        PointCloudEncoder mEncoder;
+        boolean mFlip;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(42);
+            float[] points = new float[pointCount * 4];
+            long[] ids = new long[pointCount];
+            for (int i = 0; i < pointCount; i++) {
+                points[i * 4] = random.nextFloat();
+                points[i * 4 + 1] = random.nextFloat();
+                points[i * 4 + 2] = random.nextFloat();
+                points[i * 4 + 3] = random.nextFloat();
+                ids[i] = i;
+            }
+            float[] movedPoints = points.clone();
+            for (int i = 0; i < pointCount; i += 10) {
+                movedPoints[i * 4] += 0.01f;
+            }
+            mCloud = new ARPointCloud(points, ids);
+            mMovedCloud = new ARPointCloud(movedPoints, ids);
+            mEncoder = new PointCloudEncoder();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PlaneState {
+        @Param({"16", "64"})
+        public int planeVertexCount;
+
+        ARPlaneAnchor mPlane;
+        // Same plane as mPlane, with one edge grown
+        ARPlaneAnchor mGrownPlane;
+        ARPlaneGeometryEncoder mEncoder;
+        boolean mFlip;
+
+        @Setup
+        public void setup() {
+            List<Vector> vertices = new ArrayList<>();
+            List<Vector> grownVertices = new ArrayList<>();
+            for (int i = 0; i < planeVertexCount; i++) {
+                double angle = 2 * Math.PI * i / planeVertexCount;
+                Vector vertex = new Vector((float) Math.cos(angle), 0, (float) Math.sin(angle));
+                vertices.add(vertex);
+                grownVertices.add(i < planeVertexCount / 8
+                        ? new Vector(vertex.x * 1.1f, 0, vertex.z * 1.1f) : vertex);
+            }
+            mPlane = createPlane(vertices);
+            mGrownPlane = createPlane(grownVertices);
+            mEncoder = new ARPlaneGeometryEncoder();
+            mEncoder.mapFromARAnchor(mPlane);
+        }
+
+        private static ARPlaneAnchor createPlane(List<Vector> vertices) {
+            return new ARPlaneAnchor("plane", new Vector(0, -1, -2), new Vector(0, 0.5f, 0),
+                    new Vector(1, 1, 1), ARPlaneAnchor.Alignment.HORIZONTAL, new Vector(0, 0, 0),
+                    new Vector(2, 0, 2), vertices);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class HitTestState {
+        ARHitTestResult mHitResult;
+
+        @Setup
+        public void setup() {
+            mHitResult = new ARHitTestResult(ARHitTestResult.Type.PLANE, new Vector(1, 2, 3),
+                    new Vector(0.1f, 0.2f, 0.3f), new Vector(1, 1, 1));
+        }
+    }
+
+    @Benchmark
+    public WritableMap pointCloudMap(PointCloudState state) {
+        return ARUtils.mapFromARPointCloud(state.mCloud);
+    }
+
+    @Benchmark
+    public WritableMap pointCloudPackedKeyframe(PointCloudState state) {
+        state.mEncoder.reset();
+        return state.mEncoder.encode(state.mCloud);
+    }
+
+    @Benchmark
+    public WritableMap pointCloudPackedDelta(PointCloudState state) {
+        state.mFlip = !state.mFlip;
+        return state.mEncoder.encode(state.mFlip ? state.mMovedCloud : state.mCloud);
+    }
+
+    @Benchmark
+    public WritableMap planeAnchorFull(PlaneState state) {
+        return ARUtils.mapFromARAnchor(state.mPlane);
+    }
+
+    @Benchmark
+    public WritableMap planeAnchorDelta(PlaneState state) {
+        state.mFlip = !state.mFlip;
+        return state.mEncoder.mapFromARAnchor(state.mFlip ? state.mGrownPlane : state.mPlane);
+    }
+
+    @Benchmark
+    public WritableMap hitTestResult(HitTestState state) {
+        return ARUtils.mapFromARHitTestResult(state.mHitResult);
+    }
+}
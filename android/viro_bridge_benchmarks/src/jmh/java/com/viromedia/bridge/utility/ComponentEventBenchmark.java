@@ -0,0 +1,81 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+
+package com.viromedia.bridge.utility;
+
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.viro.core.ARHitTestResult;
+import com.viro.core.Vector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Building the payloads of the input and camera events sent from {@link ComponentEventDelegate}.
+ */
+@State(Scope.Thread)
+public class ComponentEventBenchmark {
+    private final float[] mPosition = { 0.5f, 1.5f, -2f };
+    private ARHitTestResult[] mHitResults;
+
+    @Setup
+    public void setup() {
+        mHitResults = new ARHitTestResult[3];
+        for (int i = 0; i < mHitResults.length; i++) {
+            mHitResults[i] = new ARHitTestResult(ARHitTestResult.Type.PLANE, new Vector(i, 0, -1),
+                    new Vector(0, 0, 0), new Vector(1, 1, 1));
+        }
+    }
+
+    @Benchmark
+    public WritableMap click() {
+        return ComponentEventPayloads.click(1, 2, mPosition);
+    }
+
+    @Benchmark
+    public WritableMap drag() {
+        return ComponentEventPayloads.drag(1, mPosition[0], mPosition[1], mPosition[2]);
+    }
+
+    @Benchmark
+    public WritableMap pinch() {
+        return ComponentEventPayloads.pinch(1, 1.25f, 2);
+    }
+
+    @Benchmark
+    public WritableMap cameraTransform() {
+        return ComponentEventPayloads.cameraTransform(cameraTransformArray());
+    }
+
+    @Benchmark
+    public WritableMap cameraARHitTest() {
+        return ComponentEventPayloads.cameraARHitTest(mHitResults, cameraTransformArray());
+    }
+
+    private static WritableArray cameraTransformArray() {
+        return ComponentEventPayloads.cameraTransformArray(0, 1.6f, 0, 0.1f, 0.2f, 0,
+                0, 0, -1, 0, 1, 0);
+    }
+}
@@ -0,0 +1,60 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The per-call cost of recording telemetry and trace spans while they're enabled, which is
+ * what instrumented hot paths pay on top of their own work.
+ */
+@State(Scope.Thread)
+public class TelemetryBenchmark {
+    private Histogram mHistogram;
+    private TraceBuffer mTraceBuffer;
+    private long mValue;
+
+    @Setup
+    public void setup() {
+        mHistogram = new Histogram();
+        mTraceBuffer = new TraceBuffer(512);
+    }
+
+    @Benchmark
+    public void histogramRecord() {
+        mValue = (mValue * 31 + 17) & 0xFFFFF;
+        mHistogram.record(mValue);
+    }
+
+    @Benchmark
+    public long histogramPercentile() {
+        return mHistogram.getPercentile(99);
+    }
+
+    @Benchmark
+    public void traceBufferRecord() {
+        mTraceBuffer.record("VRTComponent.onPropsSet", System.nanoTime(), 1000);
+    }
+}
@@ -0,0 +1,56 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.facebook.react.bridge;
+
+/**
+ * JVM stand-in for the bridge's Arguments factory, producing Java-only maps and arrays.
+ */
+public class Arguments {
+
+    public static WritableMap createMap() {
+        return new JavaOnlyMap();
+    }
+
+    public static WritableArray createArray() {
+        return new JavaOnlyArray();
+    }
+
+    public static WritableArray makeNativeArray(Object array) {
+        WritableArray result = new JavaOnlyArray();
+        if (array instanceof float[]) {
+            for (float value : (float[]) array) {
+                result.pushDouble(value);
+            }
+        } else if (array instanceof double[]) {
+            for (double value : (double[]) array) {
+                result.pushDouble(value);
+            }
+        } else if (array instanceof int[]) {
+            for (int value : (int[]) array) {
+                result.pushInt(value);
+            }
+        } else if (array != null) {
+            throw new IllegalArgumentException("Unsupported array type " + array.getClass());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,130 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.facebook.react.bridge;
+
+import java.util.ArrayList;
+
+/**
+ * A WritableArray held entirely in Java. See {@link JavaOnlyMap}.
+ */
+public class JavaOnlyArray implements WritableArray {
+    private final ArrayList<Object> mBacking = new ArrayList<>();
+
+    @Override
+    public int size() {
+        return mBacking.size();
+    }
+
+    @Override
+    public void pushNull() {
+        mBacking.add(null);
+    }
+
+    @Override
+    public void pushBoolean(boolean value) {
+        mBacking.add(value);
+    }
+
+    @Override
+    public void pushDouble(double value) {
+        mBacking.add(value);
+    }
+
+    @Override
+    public void pushInt(int value) {
+        mBacking.add((double) value);
+    }
+
+    @Override
+    public void pushString(String value) {
+        mBacking.add(value);
+    }
+
+    @Override
+    public void pushArray(ReadableArray array) {
+        mBacking.add(array);
+    }
+
+    @Override
+    public void pushMap(ReadableMap map) {
+        mBacking.add(map);
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        return mBacking.get(index) == null;
+    }
+
+    @Override
+    public ReadableType getType(int index) {
+        return typeOf(mBacking.get(index));
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        return (Boolean) mBacking.get(index);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return ((Number) mBacking.get(index)).doubleValue();
+    }
+
+    @Override
+    public int getInt(int index) {
+        return ((Number) mBacking.get(index)).intValue();
+    }
+
+    @Override
+    public String getString(int index) {
+        return (String) mBacking.get(index);
+    }
+
+    @Override
+    public ReadableArray getArray(int index) {
+        return (ReadableArray) mBacking.get(index);
+    }
+
+    @Override
+    public ReadableMap getMap(int index) {
+        return (ReadableMap) mBacking.get(index);
+    }
+
+    public Object get(int index) {
+        return mBacking.get(index);
+    }
+
+    static ReadableType typeOf(Object value) {
+        if (value == null) {
+            return ReadableType.Null;
+        } else if (value instanceof Boolean) {
+            return ReadableType.Boolean;
+        } else if (value instanceof Number) {
+            return ReadableType.Number;
+        } else if (value instanceof String) {
+            return ReadableType.String;
+        } else if (value instanceof ReadableMap) {
+            return ReadableType.Map;
+        }
+        return ReadableType.Array;
+    }
+}
@@ -0,0 +1,136 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.facebook.react.bridge;
+
+import java.util.HashMap;
+import java.util.Iterator;
+
+/**
+ * A WritableMap held entirely in Java, also used to build the maps the parsing benchmarks
+ * read. Unlike the native maps the bridge uses on device, puts and gets don't cross JNI, so
+ * benchmarks measure the Java-side work and allocation of building or reading a payload
+ * rather than the cost of the native map itself.
+ */
+public class JavaOnlyMap implements WritableMap {
+    private final HashMap<String, Object> mBacking = new HashMap<>();
+
+    @Override
+    public boolean hasKey(String name) {
+        return mBacking.containsKey(name);
+    }
+
+    @Override
+    public void putNull(String key) {
+        mBacking.put(key, null);
+    }
+
+    @Override
+    public void putBoolean(String key, boolean value) {
+        mBacking.put(key, value);
+    }
+
+    @Override
+    public void putDouble(String key, double value) {
+        mBacking.put(key, value);
+    }
+
+    @Override
+    public void putInt(String key, int value) {
+        // Stored as a double, as the bridge does
+        mBacking.put(key, (double) value);
+    }
+
+    @Override
+    public void putString(String key, String value) {
+        mBacking.put(key, value);
+    }
+
+    @Override
+    public void putArray(String key, ReadableArray value) {
+        mBacking.put(key, value);
+    }
+
+    @Override
+    public void putMap(String key, ReadableMap value) {
+        mBacking.put(key, value);
+    }
+
+    @Override
+    public boolean isNull(String name) {
+        return mBacking.get(name) == null;
+    }
+
+    @Override
+    public ReadableType getType(String name) {
+        return JavaOnlyArray.typeOf(mBacking.get(name));
+    }
+
+    @Override
+    public boolean getBoolean(String name) {
+        return (Boolean) mBacking.get(name);
+    }
+
+    @Override
+    public double getDouble(String name) {
+        return ((Number) mBacking.get(name)).doubleValue();
+    }
+
+    @Override
+    public int getInt(String name) {
+        return ((Number) mBacking.get(name)).intValue();
+    }
+
+    @Override
+    public String getString(String name) {
+        return (String) mBacking.get(name);
+    }
+
+    @Override
+    public ReadableArray getArray(String name) {
+        return (ReadableArray) mBacking.get(name);
+    }
+
+    @Override
+    public ReadableMap getMap(String name) {
+        return (ReadableMap) mBacking.get(name);
+    }
+
+    @Override
+    public ReadableMapKeySetIterator keySetIterator() {
+        final Iterator<String> keys = mBacking.keySet().iterator();
+        return new ReadableMapKeySetIterator() {
+            @Override
+            public boolean hasNextKey() {
+                return keys.hasNext();
+            }
+
+            @Override
+            public String nextKey() {
+                return keys.next();
+            }
+        };
+    }
+
+    public Object get(String key) {
+        return mBacking.get(key);
+    }
+}
@@ -0,0 +1,71 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viro.core;
+
+/**
+ * JVM stand-in for the renderer type, covering what the benchmarked sources use.
+ */
+public class ARHitTestResult {
+
+    public enum Type {
+        FEATURE_POINT("FeaturePoint"),
+        PLANE("ExistingPlaneUsingExtent");
+
+        private final String mStringValue;
+
+        Type(String value) {
+            mStringValue = value;
+        }
+
+        public String getStringValue() {
+            return mStringValue;
+        }
+    }
+
+    private final Type mType;
+    private final Vector mPosition;
+    private final Vector mRotation;
+    private final Vector mScale;
+
+    public ARHitTestResult(Type type, Vector position, Vector rotation, Vector scale) {
+        mType = type;
+        mPosition = position;
+        mRotation = rotation;
+        mScale = scale;
+    }
+
+    public Type getType() {
+        return mType;
+    }
+
+    public Vector getPosition() {
+        return mPosition;
+    }
+
+    public Vector getRotation() {
+        return mRotation;
+    }
+
+    public Vector getScale() {
+        return mScale;
+    }
+}
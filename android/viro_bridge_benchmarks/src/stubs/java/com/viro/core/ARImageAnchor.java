@@ -0,0 +1,56 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viro.core;
+
+/**
+ * JVM stand-in for the renderer type, covering what the benchmarked sources use.
+ */
+public class ARImageAnchor extends ARAnchor {
+
+    public enum TrackingMethod {
+        NOT_TRACKING("notTracking"),
+        TRACKING("tracking"),
+        LAST_KNOWN_POSE("lastKnownPose");
+
+        private final String mStringValue;
+
+        TrackingMethod(String value) {
+            mStringValue = value;
+        }
+
+        public String getStringValue() {
+            return mStringValue;
+        }
+    }
+
+    private final TrackingMethod mTrackingMethod;
+
+    public ARImageAnchor(String anchorId, Vector position, Vector rotation, Vector scale,
+                         TrackingMethod trackingMethod) {
+        super(anchorId, Type.IMAGE, position, rotation, scale);
+        mTrackingMethod = trackingMethod;
+    }
+
+    public TrackingMethod getTrackingMethod() {
+        return mTrackingMethod;
+    }
+}
@@ -0,0 +1,75 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viro.core;
+
+import java.util.List;
+
+/**
+ * JVM stand-in for the renderer type, covering what the benchmarked sources use.
+ */
+public class ARPlaneAnchor extends ARAnchor {
+
+    public enum Alignment {
+        HORIZONTAL("Horizontal"),
+        VERTICAL("Vertical");
+
+        private final String mStringValue;
+
+        Alignment(String value) {
+            mStringValue = value;
+        }
+
+        public String getStringValue() {
+            return mStringValue;
+        }
+    }
+
+    private final Alignment mAlignment;
+    private final Vector mCenter;
+    private final Vector mExtent;
+    private final List<Vector> mVertices;
+
+    public ARPlaneAnchor(String anchorId, Vector position, Vector rotation, Vector scale,
+                         Alignment alignment, Vector center, Vector extent, List<Vector> vertices) {
+        super(anchorId, Type.PLANE, position, rotation, scale);
+        mAlignment = alignment;
+        mCenter = center;
+        mExtent = extent;
+        mVertices = vertices;
+    }
+
+    public Alignment getAlignment() {
+        return mAlignment;
+    }
+
+    public Vector getCenter() {
+        return mCenter;
+    }
+
+    public Vector getExtent() {
+        return mExtent;
+    }
+
+    public List<Vector> getVertices() {
+        return mVertices;
+    }
+}
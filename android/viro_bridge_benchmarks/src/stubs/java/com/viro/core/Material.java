@@ -0,0 +1,108 @@
+//  Copyright © 2026 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+
+package com.viro.core;
+
+import java.util.EnumSet;
+
+/**
+ * JVM stand-in for the renderer type, covering what the benchmarked sources use.
+ */
+public class Material {
+
+    public enum LightingModel {
+        CONSTANT, LAMBERT, BLINN, PHONG, PHYSICALLY_BASED;
+
+        public static LightingModel valueFromString(String str) {
+            return Material.valueFromString(LightingModel.class, str);
+        }
+    }
+
+    public enum CullMode {
+        BACK, FRONT, NONE;
+
+        public static CullMode valueFromString(String str) {
+            return Material.valueFromString(CullMode.class, str);
+        }
+    }
+
+    public enum TransparencyMode {
+        A_ONE, RGB_ZERO;
+
+        public static TransparencyMode valueFromString(String str) {
+            return Material.valueFromString(TransparencyMode.class, str);
+        }
+    }
+
+    public enum BlendMode {
+        NONE, ALPHA, ADD, SUBTRACT, MULTIPLY, SCREEN;
+
+        public static BlendMode valueFromString(String str) {
+            return Material.valueFromString(BlendMode.class, str);
+        }
+    }
+
+    public enum ColorWriteMask {
+        NONE, RED, GREEN, BLUE, ALPHA, ALL;
+
+        public static ColorWriteMask valueFromString(String str) {
+            return Material.valueFromString(ColorWriteMask.class, str);
+        }
+    }
+
+    private String mName;
+    private boolean mChromaKeyFilteringEnabled;
+    private int mChromaKeyFilteringColor;
+
+    public Material(LightingModel lightingModel, int diffuseColor, Texture diffuseTexture,
+                    float diffuseIntensity, Texture specularTexture, float shininess,
+                    float fresnelExponent, Texture normalMap, CullMode cullMode,
+                    TransparencyMode transparencyMode, BlendMode blendMode, float bloomThreshold,
+                    boolean writesToDepthBuffer, boolean readsFromDepthBuffer,
+                    EnumSet<ColorWriteMask> colorWriteMask) {
+    }
+
+    public void setName(String name) {
+        mName = name;
+    }
+
+    public String getName() {
+        return mName;
+    }
+
+    public void setChromaKeyFilteringEnabled(boolean enabled) {
+        mChromaKeyFilteringEnabled = enabled;
+    }
+
+    public void setChromaKeyFilteringColor(int color) {
+        mChromaKeyFilteringColor = color;
+    }
+
+    private static <T extends Enum<T>> T valueFromString(Class<T> type, String str) {
+        for (T value : type.getEnumConstants()) {
+            if (value.name().replace("_", "").equalsIgnoreCase(str.replace("_", ""))) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
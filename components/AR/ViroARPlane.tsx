@@ -18,7 +18,13 @@ import {
 } from "../Types/ViroEvents";
 import { ViroBase } from "../ViroBase";
 import * as React from "react";
-import { NativeSyntheticEvent, requireNativeComponent } from "react-native";
+import {
+  findNodeHandle,
+  NativeModules,
+  NativeSyntheticEvent,
+  requireNativeComponent,
+} from "react-native";
+import { ViroARPlaneGeometryDecoder } from "../Utilities/ViroARPlaneGeometry";
 
 type Props = {
   anchorId?: string;
@@ -35,23 +41,42 @@ type Props = {
  * Container for Viro Components anchored to a detected plane.
  */
 export class ViroARPlane extends ViroBase<Props> {
+  _planeGeometryDecoder = new ViroARPlaneGeometryDecoder();
+
   _onAnchorFound = (event: NativeSyntheticEvent<ViroARAnchorFoundEvent>) => {
-    if (this.props.onAnchorFound) {
-      this.props.onAnchorFound(event.nativeEvent.anchorFoundMap);
+    this._planeGeometryDecoder.clear();
+    const anchor = this._planeGeometryDecoder.decode(
+      event.nativeEvent.anchorFoundMap,
+      this._requestAnchorResync
+    );
+    if (anchor && this.props.onAnchorFound) {
+      this.props.onAnchorFound(anchor);
     }
   };
 
   _onAnchorUpdated = (
     event: NativeSyntheticEvent<ViroARAnchorUpdatedEvent>
   ) => {
-    if (this.props.onAnchorUpdated) {
-      this.props.onAnchorUpdated(event.nativeEvent.anchorUpdatedMap);
+    const anchor = this._planeGeometryDecoder.decode(
+      event.nativeEvent.anchorUpdatedMap,
+      this._requestAnchorResync
+    );
+    if (anchor && this.props.onAnchorUpdated) {
+      this.props.onAnchorUpdated(anchor);
     }
   };
 
+  _requestAnchorResync = (_anchorId: string) => {
+    NativeModules.VRTARSceneModule.requestAnchorResync(
+      findNodeHandle(this),
+      null
+    );
+  };
+
   _onAnchorRemoved = (
     _event: NativeSyntheticEvent<ViroARAnchorRemovedEvent>
   ) => {
+    this._planeGeometryDecoder.clear();
     if (this.props.onAnchorRemoved) {
       this.props.onAnchorRemoved();
     }
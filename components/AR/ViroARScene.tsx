@@ -48,6 +48,16 @@ import { ViroCamera } from "../ViroCamera";
 import { ViroTrackingStateConstants } from "../ViroConstants";
 import { ViroCommonProps } from "./ViroCommonProps";
 import { ViroOrbitCamera } from "components/ViroOrbitCamera";
+import {
+  ViroPackedPointCloud,
+  ViroPointCloudDecoder,
+} from "../Utilities/ViroPointCloud";
+import { ViroARPlaneGeometryDecoder } from "../Utilities/ViroARPlaneGeometry";
+import { findCollisionsBatchAsync } from "../Utilities/ViroCollisionQueries";
+import {
+  performARHitTestBatchAsync,
+  ViroARHitTestBatchOptions,
+} from "../Utilities/ViroARHitTestBatch";
 
 const ViroCameraModule = NativeModules.ViroCameraModule;
 
@@ -60,8 +70,34 @@ type Props = ViroCommonProps & {
 
   anchorDetectionTypes?: string[] | string;
 
+  /**
+   * Format of point cloud updates (Android only). With "map" (the default),
+   * onARPointCloudUpdate receives arrays of [x, y, z, confidence] points and
+   * identifiers. With "packed", onARPackedPointCloudUpdate receives a
+   * Float32Array of points and an Int32Array of identifiers instead, which is
+   * far cheaper to send for large point clouds.
+   */
+  pointCloudFormat?: "map" | "packed";
+
+  /**
+   * Limits how often anchor and ambient light updates are sent from native (Android only).
+   * Rates are in updates per second. Thresholds are the change needed before an update is
+   * sent: meters for position and extent, degrees for rotation, lumens for intensity and
+   * 0-1 per channel for color.
+   */
+  updateThrottling?: {
+    anchorMaxRate?: number;
+    ambientLightMaxRate?: number;
+    positionThreshold?: number;
+    rotationThreshold?: number;
+    extentThreshold?: number;
+    intensityThreshold?: number;
+    colorThreshold?: number;
+  };
+
   onCameraARHitTest?: (event: ViroCameraARHitTest) => void;
   onARPointCloudUpdate?: (pointCloud: ViroARPointCloud) => void;
+  onARPackedPointCloudUpdate?: (pointCloud: ViroPackedPointCloud) => void;
   onCameraTransformUpdate?: (cameraTransform: ViroCameraTransform) => void;
   onTrackingUpdated?: (
     state: ViroTrackingState,
@@ -85,6 +121,8 @@ type Props = ViroCommonProps & {
 
 export class ViroARScene extends ViroBase<Props> {
   onTrackingFirstInitialized = false;
+  _pointCloudDecoder = new ViroPointCloudDecoder();
+  _planeGeometryDecoder = new ViroARPlaneGeometryDecoder();
 
   _onCameraARHitTest = (
     event: NativeSyntheticEvent<ViroCameraARHitTestEvent>
@@ -121,8 +159,16 @@ export class ViroARScene extends ViroBase<Props> {
   _onARPointCloudUpdate = (
     event: NativeSyntheticEvent<ViroARPointCloudUpdateEvent>
   ) => {
+    const pointCloud = event.nativeEvent.pointCloud;
+    if (pointCloud && pointCloud.format === "packed") {
+      // Decode even without a listener so the decoder stays in step with native
+      const decoded = this._pointCloudDecoder.decode(pointCloud);
+      this.props.onARPackedPointCloudUpdate &&
+        this.props.onARPackedPointCloudUpdate(decoded);
+      return;
+    }
     this.props.onARPointCloudUpdate &&
-      this.props.onARPointCloudUpdate(event.nativeEvent.pointCloud);
+      this.props.onARPointCloudUpdate(pointCloud);
   };
 
   _onCameraTransformUpdate = (
@@ -236,22 +282,38 @@ export class ViroARScene extends ViroBase<Props> {
 
   _onAnchorFound = (event: NativeSyntheticEvent<ViroARAnchorFoundEvent>) => {
     // TODO: this is in a different format than the other onAnchorFound methods
-    this.props.onAnchorFound &&
-      this.props.onAnchorFound(event.nativeEvent.anchor);
+    const anchor = this._planeGeometryDecoder.decode(
+      event.nativeEvent.anchor,
+      this._requestAnchorResync
+    );
+    anchor && this.props.onAnchorFound && this.props.onAnchorFound(anchor);
   };
 
   _onAnchorUpdated = (
     event: NativeSyntheticEvent<ViroARAnchorUpdatedEvent>
   ) => {
     // TODO: this is in a different format than the other onAnchorUpdated methods
-    this.props.onAnchorUpdated &&
-      this.props.onAnchorUpdated(event.nativeEvent.anchor);
+    const anchor = this._planeGeometryDecoder.decode(
+      event.nativeEvent.anchor,
+      this._requestAnchorResync
+    );
+    anchor && this.props.onAnchorUpdated && this.props.onAnchorUpdated(anchor);
+  };
+
+  _requestAnchorResync = (anchorId: string) => {
+    NativeModules.VRTARSceneModule.requestAnchorResync(
+      findNodeHandle(this),
+      anchorId
+    );
   };
 
   _onAnchorRemoved = (
     event: NativeSyntheticEvent<ViroARAnchorRemovedEvent>
   ) => {
     // TODO: this is in a different format than the other onAnchorRemoved methods
+    if (event.nativeEvent.anchor) {
+      this._planeGeometryDecoder.remove(event.nativeEvent.anchor.anchorId);
+    }
     this.props.onAnchorRemoved &&
       this.props.onAnchorRemoved(event.nativeEvent.anchor);
   };
@@ -288,6 +350,21 @@ export class ViroARScene extends ViroBase<Props> {
     );
   };
 
+  /**
+   * Runs many ray and shape queries in one call. See ViroCollisionQueries for
+   * the packed query and result layouts. Android only.
+   */
+  findCollisionsBatchAsync = async (
+    queries: Float32Array,
+    closest: boolean
+  ) => {
+    return await findCollisionsBatchAsync(
+      findNodeHandle(this),
+      queries,
+      closest
+    );
+  };
+
   performARHitTestWithRay = async (ray: ViroRay) => {
     return await NativeModules.VRTARSceneModule.performARHitTestWithRay(
       findNodeHandle(this),
@@ -321,6 +398,32 @@ export class ViroARScene extends ViroBase<Props> {
     );
   };
 
+  /**
+   * Runs many hit tests (screen points and rays) against the current AR frame
+   * in one call. See ViroARHitTestBatch for the packed query and result
+   * layouts. Android only.
+   */
+  performARHitTestBatch = async (
+    queries: Float32Array,
+    options?: ViroARHitTestBatchOptions
+  ) => {
+    return await performARHitTestBatchAsync(
+      findNodeHandle(this),
+      queries,
+      options
+    );
+  };
+
+  /**
+   * Returns the number of anchor and ambient light updates delivered and dropped by
+   * updateThrottling (Android only).
+   */
+  getUpdateStatsAsync = async () => {
+    return await NativeModules.VRTARSceneModule.getUpdateStats(
+      findNodeHandle(this)
+    );
+  };
+
   /**
    * ##### DEPRECATION WARNING - this prop may be removed in future releases #####
    * @deprecated
@@ -443,7 +546,10 @@ export class ViroARScene extends ViroBase<Props> {
           canRotate={this.props.onRotate != undefined}
           canFuse={this.props.onFuse != undefined}
           canCameraARHitTest={this.props.onCameraARHitTest != undefined}
-          canARPointCloudUpdate={this.props.onARPointCloudUpdate != undefined}
+          canARPointCloudUpdate={
+            this.props.onARPointCloudUpdate != undefined ||
+            this.props.onARPackedPointCloudUpdate != undefined
+          }
           canCameraTransformUpdate={
             this.props.onCameraTransformUpdate != undefined
           }
@@ -59,6 +59,24 @@ export type ViroAnimation = {
   onFinish?: () => void;
   run?: boolean;
   interruptible?: boolean;
+  /**
+   * Name of the group this animation belongs to, used with sequential.
+   */
+  group?: string;
+  /**
+   * Position of this animation within its group or stagger, defaults to 0.
+   */
+  groupIndex?: number;
+  /**
+   * Milliseconds added to the delay for each step of groupIndex, so animations
+   * across many nodes can be staggered. Ignored for sequential animations.
+   */
+  stagger?: number;
+  /**
+   * If true, this animation starts (after its delay) only once every animation
+   * in its group with a lower groupIndex has finished.
+   */
+  sequential?: boolean;
 };
 
 export class ViroAnimations {
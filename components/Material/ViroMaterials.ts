@@ -12,6 +12,8 @@
 
 import {
   ColorValue,
+  DeviceEventEmitter,
+  EmitterSubscription,
   ImageResolvedAssetSource,
   NativeModules,
   processColor,
@@ -77,6 +79,18 @@ export type ViroMaterialDict = {
   [key: string]: ViroMaterial;
 };
 
+export type ViroMaterialLoadedEvent = {
+  name: string;
+  success: boolean;
+  loadTime: number;
+  /**
+   * "created" for a material loaded for the first time. For an existing
+   * material, "reused" if its definition was unchanged, "patched" if it was
+   * updated in place, or "rebuilt".
+   */
+  update: "created" | "reused" | "patched" | "rebuilt";
+};
+
 export class ViroMaterials {
   static createMaterials(materials: ViroMaterialDict) {
     var result: any = {};
@@ -136,4 +150,25 @@ export class ViroMaterials {
   static deleteMaterials(materials: any) {
     MaterialManager.deleteMaterials(materials);
   }
+
+  /*
+  Sets the number of bytes of decoded texture images the platform keeps cached
+  after the last material using them has been deleted. Android only.
+   */
+  static setImageCacheSize(bytes: number) {
+    MaterialManager.setImageCacheSize(bytes);
+  }
+
+  /*
+  Registers a callback invoked once per material after createMaterials, when all of
+  that material's textures have been loaded (or failed to load) and the native
+  material has been built. loadTime is in milliseconds. Materials re-sent with
+  an unchanged definition are reused, and those whose changes are limited to
+  scalar properties or texture sources are patched in place. Android only.
+   */
+  static addMaterialLoadedListener(
+    callback: (event: ViroMaterialLoadedEvent) => void
+  ): EmitterSubscription {
+    return DeviceEventEmitter.addListener("onMaterialLoadedViro", callback);
+  }
 }
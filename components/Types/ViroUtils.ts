@@ -167,3 +167,13 @@ export type ViroSound = string;
 export type ViroSoundPreloadResult = {
   [key: string]: { result: any; msg: any };
 };
+
+export type ViroSoundCacheStats = {
+  count: number;
+  sizeBytes: number;
+  maxSizeBytes: number;
+  hits: number;
+  misses: number;
+  deduped: number;
+  evictions: number;
+};
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2026-present, Viro Media, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+import { NativeModules, Platform } from "react-native";
+import { base64ToArrayBuffer, typedArrayToBase64 } from "./ViroBase64";
+
+/**
+ * Batched AR hit tests are packed as ViroARHitTestQueryStride floats each:
+ * [kind, a, b, c, d, e, f], where for each kind:
+ * - point: a, b are the screen x, y
+ * - ray: a, b, c are the ray direction from the camera
+ * - worldPoints: a, b, c are the origin and d, e, f the destination
+ */
+export const ViroARHitTestQueryStride = 7;
+
+export const ViroARHitTestQueryKinds = {
+  point: 0,
+  ray: 1,
+  worldPoints: 2,
+};
+
+/**
+ * Results are ViroARHitTestResultStride floats each, grouped by query:
+ * [queryIndex, type, positionX, positionY, positionZ, rotationX, rotationY,
+ * rotationZ], where type indexes `types` and rotation is in degrees.
+ */
+export const ViroARHitTestResultStride = 8;
+
+export type ViroARHitTestBatchResult = {
+  results: Float32Array;
+  types: string[];
+};
+
+export type ViroARHitTestBatchOptions = {
+  // Only return results of these types, e.g. ["ExistingPlaneUsingExtent"]
+  types?: string[];
+  // Only return the nearest results for each query (0 for all)
+  maxResultsPerQuery?: number;
+};
+
+export async function performARHitTestBatchAsync(
+  sceneTag: number | null,
+  queries: Float32Array,
+  options: ViroARHitTestBatchOptions = {}
+): Promise<ViroARHitTestBatchResult | null> {
+  if (Platform.OS !== "android") {
+    console.warn("[Viro] performARHitTestBatch is only supported on Android");
+    return null;
+  }
+  const result = await NativeModules.VRTARSceneModule.performARHitTestBatch(
+    sceneTag,
+    typedArrayToBase64(queries),
+    options.types || null,
+    options.maxResultsPerQuery || 0
+  );
+  return {
+    results: new Float32Array(base64ToArrayBuffer(result.results)),
+    types: result.types,
+  };
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026-present, Viro Media, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+const DELTA_KEYS = ["baseVertexVersion", "vertexCount", "vertexRanges"];
+
+/**
+ * Rebuilds full plane anchors from the geometry deltas sent by Android, which only carry the
+ * center, extent and vertex ranges that changed since the previous update of the same anchor.
+ * Anchors without a vertexVersion (non-plane anchors, or iOS) are passed through untouched.
+ *
+ * If an update doesn't apply to the version this decoder holds, `onResync` is called with the
+ * anchor's ID so native sends the next update in full, and the update is skipped: decode returns
+ * the last known anchor, or undefined if there is none.
+ */
+export class ViroARPlaneGeometryDecoder {
+  _anchors = new Map<string, any>();
+
+  decode(anchor: any, onResync: (anchorId: string) => void): any {
+    if (!anchor || anchor.vertexVersion === undefined) {
+      return anchor;
+    }
+
+    if (anchor.vertices) {
+      this._anchors.set(anchor.anchorId, anchor);
+      return anchor;
+    }
+
+    const previous = this._anchors.get(anchor.anchorId);
+    if (!previous || previous.vertexVersion !== anchor.baseVertexVersion) {
+      onResync(anchor.anchorId);
+      return previous;
+    }
+
+    const decoded = { ...previous, ...anchor };
+    for (const key of DELTA_KEYS) {
+      delete decoded[key];
+    }
+
+    const previousVertices = previous.vertices || [];
+    if (anchor.vertexRanges) {
+      const vertices = previousVertices.slice(0, anchor.vertexCount);
+      for (const range of anchor.vertexRanges) {
+        for (let i = 0; i < range.vertices.length; i++) {
+          vertices[range.start + i] = range.vertices[i];
+        }
+      }
+      decoded.vertices = vertices;
+    } else {
+      decoded.vertices = previousVertices;
+    }
+
+    this._anchors.set(anchor.anchorId, decoded);
+    return decoded;
+  }
+
+  remove(anchorId: string) {
+    this._anchors.delete(anchorId);
+  }
+
+  clear() {
+    this._anchors.clear();
+  }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2026-present, Viro Media, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+/**
+ * Packed buffers cross the bridge as base64 strings, which native decodes
+ * straight into primitive arrays. These helpers convert between those strings
+ * and typed arrays without relying on atob/btoa, which aren't available on
+ * every JS engine React Native runs on.
+ */
+
+const BASE64_CHARS =
+  "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+const BASE64_LOOKUP = new Uint8Array(128);
+for (let i = 0; i < BASE64_CHARS.length; i++) {
+  BASE64_LOOKUP[BASE64_CHARS.charCodeAt(i)] = i;
+}
+
+export function base64ToArrayBuffer(base64: string): ArrayBuffer {
+  let length = base64.length;
+  while (length > 0 && base64.charAt(length - 1) === "=") {
+    length--;
+  }
+  const bytes = new Uint8Array((length * 3) >> 2);
+  let byteIndex = 0;
+  for (let i = 0; i < length; i += 4) {
+    const a = BASE64_LOOKUP[base64.charCodeAt(i)];
+    const b = BASE64_LOOKUP[base64.charCodeAt(i + 1)];
+    const c = i + 2 < length ? BASE64_LOOKUP[base64.charCodeAt(i + 2)] : 0;
+    const d = i + 3 < length ? BASE64_LOOKUP[base64.charCodeAt(i + 3)] : 0;
+    bytes[byteIndex++] = (a << 2) | (b >> 4);
+    if (i + 2 < length) {
+      bytes[byteIndex++] = ((b & 15) << 4) | (c >> 2);
+    }
+    if (i + 3 < length) {
+      bytes[byteIndex++] = ((c & 3) << 6) | d;
+    }
+  }
+  return bytes.buffer;
+}
+
+/**
+ * Encode the bytes of a typed array as base64. Typed arrays are little-endian
+ * on every platform React Native supports, which is the byte order native
+ * expects.
+ */
+export function typedArrayToBase64(array: ArrayBufferView): string {
+  const bytes = new Uint8Array(
+    array.buffer,
+    array.byteOffset,
+    array.byteLength
+  );
+  const chunks: string[] = [];
+  let chunk = "";
+  for (let i = 0; i < bytes.length; i += 3) {
+    const a = bytes[i];
+    const b = i + 1 < bytes.length ? bytes[i + 1] : 0;
+    const c = i + 2 < bytes.length ? bytes[i + 2] : 0;
+    chunk += BASE64_CHARS.charAt(a >> 2);
+    chunk += BASE64_CHARS.charAt(((a & 3) << 4) | (b >> 4));
+    chunk +=
+      i + 1 < bytes.length
+        ? BASE64_CHARS.charAt(((b & 15) << 2) | (c >> 6))
+        : "=";
+    chunk += i + 2 < bytes.length ? BASE64_CHARS.charAt(c & 63) : "=";
+    // Keep intermediate strings short so large buffers don't build deep ropes
+    if (chunk.length >= 8192) {
+      chunks.push(chunk);
+      chunk = "";
+    }
+  }
+  chunks.push(chunk);
+  return chunks.join("");
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2026-present, Viro Media, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+import { NativeModules, Platform } from "react-native";
+import { base64ToArrayBuffer, typedArrayToBase64 } from "./ViroBase64";
+
+/**
+ * Batched collision queries are packed as QUERY_STRIDE floats each:
+ * [fromX, fromY, fromZ, toX, toY, toZ, shape, param0, param1, param2], where
+ * params are the sphere radius or the box width, height and length.
+ */
+export const ViroCollisionQueryStride = 10;
+
+export const ViroCollisionQueryShapes = {
+  ray: 0,
+  sphere: 1,
+  box: 2,
+  compound: 3,
+};
+
+/**
+ * Results of a batched collision query, indexed by query:
+ * - hits: [hit (0 or 1), tag of the nearest node hit or -1] per query
+ * - points: [x, y, z, distance] of the nearest hit per query, where the
+ *   distance is -1 if nothing was hit
+ */
+export type ViroCollisionBatchResult = {
+  hits: Int32Array;
+  points: Float32Array;
+};
+
+export async function findCollisionsBatchAsync(
+  sceneTag: number | null,
+  queries: Float32Array,
+  closest: boolean
+): Promise<ViroCollisionBatchResult | null> {
+  if (Platform.OS !== "android") {
+    console.warn(
+      "[Viro] findCollisionsBatchAsync is only supported on Android"
+    );
+    return null;
+  }
+  const result = await NativeModules.VRTSceneModule.findCollisionsBatchAsync(
+    sceneTag,
+    typedArrayToBase64(queries),
+    closest
+  );
+  return {
+    hits: new Int32Array(base64ToArrayBuffer(result.hits)),
+    points: new Float32Array(base64ToArrayBuffer(result.points)),
+  };
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2026-present, Viro Media, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+import * as React from "react";
+import { findNodeHandle, NativeModules, Platform } from "react-native";
+import { typedArrayToBase64 } from "./ViroBase64";
+
+const OP_IMPULSE = 0;
+const OP_TORQUE_IMPULSE = 1;
+const OP_VELOCITY = 2;
+const VECTOR_STRIDE = 6;
+
+type PhysicsTarget = number | React.Component<any> | null;
+type Vector3 = ArrayLike<number>;
+
+/**
+ * Collects physics commands for many bodies and sends them to native in a
+ * single call, applied together on the next UI frame. Reuse one batch per
+ * tick: queue the frame's impulses and velocities, then call flush().
+ *
+ * On iOS, where there is no batch API, flush() falls back to the individual
+ * VRTNodeModule calls.
+ */
+export class ViroPhysicsBatch {
+  _tags: number[] = [];
+  _ops: number[] = [];
+  _vectors: number[] = [];
+
+  applyImpulse(target: PhysicsTarget, force: Vector3, position?: Vector3) {
+    this._push(target, OP_IMPULSE, force, position);
+  }
+
+  applyTorqueImpulse(target: PhysicsTarget, torque: Vector3) {
+    this._push(target, OP_TORQUE_IMPULSE, torque);
+  }
+
+  setVelocity(target: PhysicsTarget, velocity: Vector3) {
+    this._push(target, OP_VELOCITY, velocity);
+  }
+
+  get size() {
+    return this._tags.length;
+  }
+
+  clear() {
+    this._tags.length = 0;
+    this._ops.length = 0;
+    this._vectors.length = 0;
+  }
+
+  /**
+   * Sends all queued commands to native and empties the batch.
+   */
+  flush() {
+    const count = this._tags.length;
+    if (count === 0) {
+      return;
+    }
+    if (Platform.OS === "android") {
+      const commands = new Int32Array(count * 2);
+      for (let i = 0; i < count; i++) {
+        commands[i * 2] = this._tags[i];
+        commands[i * 2 + 1] = this._ops[i];
+      }
+      NativeModules.VRTNodeModule.applyPhysicsBatch(
+        typedArrayToBase64(commands),
+        typedArrayToBase64(new Float32Array(this._vectors))
+      );
+    } else {
+      this._flushIndividually();
+    }
+    this.clear();
+  }
+
+  _flushIndividually() {
+    const nodeModule = NativeModules.VRTNodeModule;
+    for (let i = 0; i < this._tags.length; i++) {
+      const offset = i * VECTOR_STRIDE;
+      const value = this._vectors.slice(offset, offset + 3);
+      switch (this._ops[i]) {
+        case OP_IMPULSE:
+          nodeModule.applyImpulse(
+            this._tags[i],
+            value,
+            this._vectors.slice(offset + 3, offset + 6)
+          );
+          break;
+        case OP_TORQUE_IMPULSE:
+          nodeModule.applyTorqueImpulse(this._tags[i], value);
+          break;
+        case OP_VELOCITY:
+          nodeModule.setVelocity(this._tags[i], value);
+          break;
+      }
+    }
+  }
+
+  _push(target: PhysicsTarget, op: number, value: Vector3, position?: Vector3) {
+    const tag = typeof target === "number" ? target : findNodeHandle(target);
+    if (tag == null) {
+      return;
+    }
+    this._tags.push(tag);
+    this._ops.push(op);
+    this._vectors.push(value[0], value[1], value[2]);
+    if (position) {
+      this._vectors.push(position[0], position[1], position[2]);
+    } else {
+      this._vectors.push(0, 0, 0);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2026-present, Viro Media, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+import { base64ToArrayBuffer } from "./ViroBase64";
+
+/**
+ * A point cloud in the packed format: `points` holds x, y, z and confidence for each
+ * point. Identifiers are 64-bit, so `identifiers[i * 2]` and `identifiers[i * 2 + 1]`
+ * are the low and high 32 bits of the identifier of the point at `points[i * 4]`.
+ */
+export type ViroPackedPointCloud = {
+  points: Float32Array;
+  identifiers: Int32Array;
+};
+
+// Map key for the identifier of point i. Numbers are exact up to 2^53, which
+// covers every identifier whose high word is below 2^21; any other identifier
+// falls back to a string key so that no two identifiers collide.
+function identifierKey(identifiers: Int32Array, i: number): number | string {
+  const low = identifiers[i * 2] >>> 0;
+  const high = identifiers[i * 2 + 1];
+  if (high >= 0 && high < 0x200000) {
+    return high * 0x100000000 + low;
+  }
+  return `${high}:${low}`;
+}
+
+/**
+ * Rebuilds full point clouds from the packed, delta-encoded updates sent by native when
+ * ViroARScene's pointCloudFormat is "packed". Non-keyframe updates only carry the points
+ * that changed, so the decoder keeps the previous frame to fill in the rest.
+ */
+export class ViroPointCloudDecoder {
+  _previous?: ViroPackedPointCloud;
+
+  decode(pointCloud: any): ViroPackedPointCloud {
+    const identifiers = new Int32Array(
+      base64ToArrayBuffer(pointCloud.identifiers)
+    );
+    const changedPoints = new Float32Array(
+      base64ToArrayBuffer(pointCloud.changedPoints)
+    );
+    let points: Float32Array;
+
+    if (pointCloud.keyframe || !this._previous) {
+      points = changedPoints;
+    } else {
+      const count = identifiers.length / 2;
+      points = new Float32Array(count * 4);
+      const previous = this._previous;
+      const previousIndices = new Map<number | string, number>();
+      for (let i = 0; i < previous.identifiers.length / 2; i++) {
+        previousIndices.set(identifierKey(previous.identifiers, i), i);
+      }
+      for (let i = 0; i < count; i++) {
+        const previousIndex = previousIndices.get(
+          identifierKey(identifiers, i)
+        );
+        if (previousIndex !== undefined) {
+          points.set(
+            previous.points.subarray(previousIndex * 4, previousIndex * 4 + 4),
+            i * 4
+          );
+        }
+      }
+
+      const changedIndices = new Int32Array(
+        base64ToArrayBuffer(pointCloud.changedIndices)
+      );
+      for (let i = 0; i < changedIndices.length; i++) {
+        points.set(
+          changedPoints.subarray(i * 4, i * 4 + 4),
+          changedIndices[i] * 4
+        );
+      }
+    }
+
+    this._previous = { points, identifiers };
+    return this._previous;
+  }
+
+  reset() {
+    this._previous = undefined;
+  }
+}
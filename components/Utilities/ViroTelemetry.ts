@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2026-present, Viro Media, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+import { NativeModules, Platform } from "react-native";
+
+export type ViroTelemetryHistogram = {
+  count: number;
+  min: number;
+  max: number;
+  mean: number;
+  p50: number;
+  p90: number;
+  p99: number;
+  p999: number;
+};
+
+/**
+ * Latency histograms are in microseconds. Events are counted per event type
+ * sent from native to JS.
+ */
+export type ViroTelemetrySnapshot = {
+  enabled: boolean;
+  startedAt: number;
+  capturedAt: number;
+  histograms: {
+    frameTimeUs: ViroTelemetryHistogram;
+    propUpdatesPerFrame: ViroTelemetryHistogram;
+    imageDecodeUs: ViroTelemetryHistogram;
+    textureUploadUs: ViroTelemetryHistogram;
+    materialParseUs: ViroTelemetryHistogram;
+    animationParseUs: ViroTelemetryHistogram;
+  };
+  events: { [type: string]: number };
+  counters: { [name: string]: number };
+};
+
+/**
+ * A completed trace span. Times are in microseconds; startUs is relative to an
+ * arbitrary origin, so only differences between spans are meaningful.
+ */
+export type ViroTraceSpan = {
+  name: string;
+  thread: string;
+  startUs: number;
+  durationUs: number;
+};
+
+export type ViroTracingOptions = {
+  // Also emit spans as android.os.Trace sections for systrace / Perfetto
+  systemTrace?: boolean;
+  // Number of most recent spans kept in memory
+  bufferSize?: number;
+};
+
+const PerfMonitor = NativeModules.VRTPerfMonitor;
+
+function isSupported(method: string) {
+  if (Platform.OS !== "android") {
+    console.warn(`[Viro] ViroTelemetry.${method} is only supported on Android`);
+    return false;
+  }
+  return true;
+}
+
+/**
+ * Runtime performance telemetry that works in release builds. Enable it,
+ * then periodically read or dump snapshots to catch regressions in the field.
+ */
+export const ViroTelemetry = {
+  setEnabled(enabled: boolean) {
+    if (isSupported("setEnabled")) {
+      PerfMonitor.setTelemetryEnabled(enabled);
+    }
+  },
+
+  async getSnapshot(reset = false): Promise<ViroTelemetrySnapshot | null> {
+    if (!isSupported("getSnapshot")) {
+      return null;
+    }
+    return await PerfMonitor.getTelemetrySnapshot(reset);
+  },
+
+  reset() {
+    if (isSupported("reset")) {
+      PerfMonitor.resetTelemetry();
+    }
+  },
+
+  /**
+   * Turns on tracing of the bridge's hot paths (material creation, image
+   * loads, prop updates, layout, animation parsing and model loads).
+   */
+  setTracingEnabled(enabled: boolean, options: ViroTracingOptions = {}) {
+    if (isSupported("setTracingEnabled")) {
+      PerfMonitor.setTracingEnabled(
+        enabled,
+        !!options.systemTrace,
+        options.bufferSize || 0
+      );
+    }
+  },
+
+  async getTraceSpans(clear = false): Promise<ViroTraceSpan[] | null> {
+    if (!isSupported("getTraceSpans")) {
+      return null;
+    }
+    return await PerfMonitor.getTraceSpans(clear);
+  },
+
+  /**
+   * Writes a snapshot, along with the buffered trace spans, as JSON to the
+   * given path (or a timestamped file in the app's files directory), resolving
+   * with the path once it is closed. Rejects if the file can't be written.
+   */
+  async dump(path?: string): Promise<string | null> {
+    if (!isSupported("dump")) {
+      return null;
+    }
+    return await PerfMonitor.dumpTelemetry(path || null);
+  },
+};
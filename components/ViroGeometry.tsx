@@ -8,19 +8,127 @@
  */
 
 import * as React from "react";
-import { requireNativeComponent } from "react-native";
+import {
+  findNodeHandle,
+  NativeModules,
+  Platform,
+  requireNativeComponent,
+} from "react-native";
 import { Viro2DPoint, Viro3DPoint, ViroNativeRef } from "./Types/ViroUtils";
+import { typedArrayToBase64 } from "./Utilities/ViroBase64";
 import { checkMisnamedProps } from "./Utilities/ViroProps";
 import { ViroBase } from "./ViroBase";
 
+type ViroGeometryIndices = number[] | Int32Array | Uint32Array;
+
+/**
+ * Vertex attributes can be given as arrays of points, or as flat typed arrays
+ * (x, y, z per vertex, or u, v per texcoord). On Android typed arrays are sent
+ * to native packed, which is much faster for large meshes. Packed arrays are
+ * only re-sent when a different array is passed, so don't modify one in place.
+ */
 type Props = {
-  vertices?: Viro3DPoint[];
-  normals?: Viro3DPoint[];
-  texcoords?: Viro2DPoint[];
-  triangleIndices?: Viro3DPoint[];
+  vertices?: Viro3DPoint[] | Float32Array;
+  normals?: Viro3DPoint[] | Float32Array;
+  texcoords?: Viro2DPoint[] | Float32Array;
+  triangleIndices?: ViroGeometryIndices[];
 };
 
+function isTypedArray(value: any): value is ArrayBufferView {
+  return value != undefined && ArrayBuffer.isView(value);
+}
+
+// Base64 encodings of the arrays sent packed, so a re-render with the same
+// array doesn't re-encode it. Arrays are keyed by identity: pass a new array
+// rather than writing into one that was already rendered.
+const packedArrays = new WeakMap<object, string>();
+
+function packArray(array: ArrayBufferView | number[]): string {
+  let packed = packedArrays.get(array);
+  if (packed === undefined) {
+    packed = typedArrayToBase64(
+      isTypedArray(array) ? array : Int32Array.from(array)
+    );
+    packedArrays.set(array, packed);
+  }
+  return packed;
+}
+
+function unpackVectors(array: Float32Array, componentsPerVertex: number) {
+  const vectors: number[][] = [];
+  for (let i = 0; i < array.length; i += componentsPerVertex) {
+    vectors.push(Array.from(array.subarray(i, i + componentsPerVertex)));
+  }
+  return vectors;
+}
+
 export class ViroGeometry extends ViroBase<Props> {
+  /**
+   * Replace part of a vertex attribute without sending the rest of the
+   * geometry over the bridge. `data` holds the new values for consecutive
+   * vertices starting at `startVertex`, and must lie within the attribute's
+   * current length. Native still re-uploads the whole attribute to the
+   * renderer. Android only.
+   */
+  updateVertexRange = (
+    attribute: "vertices" | "normals" | "texcoords",
+    startVertex: number,
+    data: Float32Array
+  ) => {
+    if (Platform.OS !== "android") {
+      console.warn(
+        "[Viro] ViroGeometry.updateVertexRange is only supported on Android"
+      );
+      return;
+    }
+    NativeModules.UIManager.dispatchViewManagerCommand(
+      findNodeHandle(this),
+      NativeModules.UIManager.VRTGeometry.Commands.updateVertexRange,
+      [attribute, startVertex, typedArrayToBase64(data)]
+    );
+  };
+
+  _getGeometryProps() {
+    const geometryProps: any = {};
+    const packed = Platform.OS === "android";
+    const attributes: [string, number][] = [
+      ["vertices", 3],
+      ["normals", 3],
+      ["texcoords", 2],
+    ];
+    for (const [name, componentsPerVertex] of attributes) {
+      const value = (this.props as any)[name];
+      if (!isTypedArray(value)) {
+        continue;
+      }
+      if (packed) {
+        const packedName =
+          "packed" + name.charAt(0).toUpperCase() + name.slice(1);
+        // The legacy prop is sent as null, which native ignores
+        geometryProps[name] = undefined;
+        geometryProps[packedName] = packArray(value);
+      } else {
+        geometryProps[name] = unpackVectors(
+          value as Float32Array,
+          componentsPerVertex
+        );
+      }
+    }
+
+    const triangleIndices = this.props.triangleIndices;
+    if (triangleIndices && triangleIndices.some(isTypedArray)) {
+      if (packed) {
+        geometryProps.triangleIndices = undefined;
+        geometryProps.packedTriangleIndices = triangleIndices.map(packArray);
+      } else {
+        geometryProps.triangleIndices = triangleIndices.map((indices) =>
+          Array.from(indices)
+        );
+      }
+    }
+    return geometryProps;
+  }
+
   render() {
     checkMisnamedProps("ViroGeometry", this.props);
 
@@ -61,6 +169,7 @@ export class ViroGeometry extends ViroBase<Props> {
     return (
       <VRTGeometry
         {...this.props}
+        {...this._getGeometryProps()}
         ref={(component: ViroNativeRef) => {
           this._component = component;
         }}
@@ -131,6 +240,10 @@ var VRTGeometry = requireNativeComponent<any>(
       hasTransformDelegate: true,
       onAnimationStartViro: true,
       onAnimationFinishViro: true,
+      packedVertices: true,
+      packedNormals: true,
+      packedTexcoords: true,
+      packedTriangleIndices: true,
     },
   }
 );
@@ -180,6 +180,33 @@ export class ViroImage extends ViroBase<Props> {
       ViroImageModule.evictFromCache(image);
     }
   };
+
+  // Fetches and decodes the given image ahead of time, at the lowest download
+  // priority, so that a later ViroImage with the same source loads from memory.
+  // Android-only.
+  static prefetch = (imageSource: ViroSource) => {
+    if (Platform.OS == "android") {
+      var image = resolveAssetSource(imageSource);
+      ViroImageModule.prefetch(image);
+    }
+  };
+
+  // Sets the maximum number of images fetched and decoded at once across the
+  // app. Android-only.
+  static setDownloadParallelism = (parallelism: number) => {
+    if (Platform.OS == "android") {
+      ViroImageModule.setDownloadParallelism(parallelism);
+    }
+  };
+
+  // Returns how many bytes of decoded image data the platform copied versus
+  // handed straight to native image creation without a copy. Android-only.
+  static getAllocationStats = async () => {
+    if (Platform.OS == "android") {
+      return await ViroImageModule.getAllocationStats();
+    }
+    return null;
+  };
 }
 
 var VRTImage = requireNativeComponent<any>(
@@ -8,8 +8,14 @@
  */
 
 import * as React from "react";
-import { requireNativeComponent } from "react-native";
+import {
+  findNodeHandle,
+  NativeModules,
+  Platform,
+  requireNativeComponent,
+} from "react-native";
 import { Viro3DPoint } from "./Types/ViroUtils";
+import { typedArrayToBase64 } from "./Utilities/ViroBase64";
 import { checkMisnamedProps } from "./Utilities/ViroProps";
 import { ViroBase } from "./ViroBase";
 
@@ -22,9 +28,51 @@ type Props = {
    * The thickness of the line specified in meters.
    */
   thickness?: number;
+  /**
+   * The maximum number of points kept in the line. Once reached, the oldest
+   * points are dropped as new ones are appended. 0 (the default) keeps every
+   * point. Android only.
+   */
+  maxPoints?: number;
+  /**
+   * Points closer than this distance (in meters) to the previous point are
+   * dropped. Android only.
+   */
+  simplificationDistance?: number;
+  /**
+   * Points that turn the line by less than this angle (in degrees) are
+   * dropped. Android only.
+   */
+  simplificationAngle?: number;
 };
 
 export class ViroPolyline extends ViroBase<Props> {
+  /**
+   * Append points to the end of the line without resending the points already
+   * drawn. Points are given as [x, y, z] arrays or as a flat Float32Array.
+   * Setting the points prop again replaces everything appended. Android only.
+   */
+  appendPoints = (points: Viro3DPoint[] | Float32Array) => {
+    if (Platform.OS !== "android") {
+      console.warn(
+        "[Viro] ViroPolyline.appendPoints is only supported on Android"
+      );
+      return;
+    }
+    let packed: Float32Array;
+    if (points instanceof Float32Array) {
+      packed = points;
+    } else {
+      packed = new Float32Array(points.length * 3);
+      points.forEach((point, i) => packed.set(point.slice(0, 3), i * 3));
+    }
+    NativeModules.UIManager.dispatchViewManagerCommand(
+      findNodeHandle(this),
+      NativeModules.UIManager.VRTPolyline.Commands.appendPoints,
+      [typedArrayToBase64(packed)]
+    );
+  };
+
   render() {
     checkMisnamedProps("ViroPolyline", this.props);
 
@@ -32,6 +32,7 @@ import { ViroBase } from "./ViroBase";
 import { ViroCamera } from "./ViroCamera";
 import { ViroSceneContext } from "./ViroSceneContext";
 import { ViroOrbitCamera } from "./ViroOrbitCamera";
+import { findCollisionsBatchAsync } from "./Utilities/ViroCollisionQueries";
 
 type Props = ViroCommonProps & {
   onPlatformUpdate?: (platformInfo: ViroPlatformInfo) => void;
@@ -145,6 +146,21 @@ export class ViroScene extends ViroBase<Props> {
     );
   };
 
+  /**
+   * Runs many ray and shape queries in one call. See ViroCollisionQueries for
+   * the packed query and result layouts. Android only.
+   */
+  findCollisionsBatchAsync = async (
+    queries: Float32Array,
+    closest: boolean
+  ) => {
+    return await findCollisionsBatchAsync(
+      findNodeHandle(this),
+      queries,
+      closest
+    );
+  };
+
   /**
    * ##### DEPRECATION WARNING - this prop may be removed in future releases #####
    * @deprecated
@@ -25,6 +25,7 @@ import resolveAssetSource from "react-native/Libraries/Image/resolveAssetSource"
 import { ViroErrorEvent, ViroSoundFinishEvent } from "./Types/ViroEvents";
 import {
   ViroNativeRef,
+  ViroSoundCacheStats,
   ViroSoundMap,
   ViroSoundPreloadResult,
   ViroSource,
@@ -68,6 +69,30 @@ export class ViroSound extends React.Component<Props> {
     SoundModule.unloadSounds(soundKeys);
   };
 
+  /**
+   * Sets the maximum size in bytes of sound data kept cached after it is no
+   * longer playing. Android only.
+   */
+  static setCacheSize = (maxSizeBytes: number) => {
+    if (Platform.OS !== "android") {
+      console.warn(
+        "[Viro] ViroSound.setCacheSize is only supported on Android"
+      );
+      return;
+    }
+    SoundModule.setSoundCacheSize(maxSizeBytes);
+  };
+
+  static getCacheStats = async (): Promise<ViroSoundCacheStats | null> => {
+    if (Platform.OS !== "android") {
+      console.warn(
+        "[Viro] ViroSound.getCacheStats is only supported on Android"
+      );
+      return null;
+    }
+    return await SoundModule.getSoundCacheStats();
+  };
+
   _onFinish = (event: NativeSyntheticEvent<ViroSoundFinishEvent>) => {
     this.props.onFinish && this.props.onFinish(event);
   };
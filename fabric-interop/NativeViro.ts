@@ -54,6 +54,15 @@ export type ViroNodeType =
 
 export type ViroEventCallback = (event: any) => void;
 
+// A single node mutation. Mutations queued during one React commit are sent to
+// native together and applied in one pass.
+export type ViroMutation =
+  | { op: "create"; id: string; type: ViroNodeType; props: ViroNodeProps }
+  | { op: "update"; id: string; props: ViroNodeProps }
+  | { op: "addChild"; id: string; parentId: string }
+  | { op: "removeChild"; id: string; parentId: string }
+  | { op: "delete"; id: string };
+
 // The global NativeViro object is injected by the native code
 // Note: The type declaration is in the generated .d.ts file
 // We don't redeclare it here to avoid conflicts
@@ -84,7 +93,80 @@ export function handleViroEvent(callbackId: string, event: any): void {
   }
 }
 
-import { getNativeViro, isNativeViroAvailable } from "./components/ViroGlobal";
+import {
+  getNativeViro,
+  isNativeViroAvailable,
+  NativeViroType,
+} from "./components/ViroGlobal";
+
+// Mutations waiting to be sent to native
+let pendingMutations: ViroMutation[] = [];
+let flushScheduled = false;
+
+// Apply a mutation through the individual NativeViro functions
+function applyMutation(nativeViro: NativeViroType, mutation: ViroMutation) {
+  switch (mutation.op) {
+    case "create":
+      nativeViro.createViroNode(mutation.id, mutation.type, mutation.props);
+      break;
+    case "update":
+      nativeViro.updateViroNode(mutation.id, mutation.props);
+      break;
+    case "addChild":
+      nativeViro.addViroNodeChild(mutation.parentId, mutation.id);
+      break;
+    case "removeChild":
+      nativeViro.removeViroNodeChild(mutation.parentId, mutation.id);
+      break;
+    case "delete":
+      nativeViro.deleteViroNode(mutation.id);
+      break;
+  }
+}
+
+// Queue a node mutation. The queue is flushed in a microtask, so everything a
+// commit's effects queue reaches native as one batch. Platforms without
+// applyViroMutations get the mutation applied right away.
+export function queueViroMutation(mutation: ViroMutation): void {
+  const nativeViro = getNativeViro();
+  if (!nativeViro) {
+    return;
+  }
+  if (!nativeViro.applyViroMutations) {
+    applyMutation(nativeViro, mutation);
+    return;
+  }
+
+  pendingMutations.push(mutation);
+  if (!flushScheduled) {
+    flushScheduled = true;
+    Promise.resolve().then(flushViroMutations);
+  }
+}
+
+// Send all queued mutations to native now. An invalid batch is rejected as a
+// whole; the error is reported here, since a flush from the microtask has no
+// caller to handle it.
+export function flushViroMutations(): void {
+  flushScheduled = false;
+  if (pendingMutations.length === 0) {
+    return;
+  }
+
+  const mutations = pendingMutations;
+  pendingMutations = [];
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.applyViroMutations) {
+    try {
+      nativeViro.applyViroMutations(mutations);
+    } catch (error) {
+      console.error(
+        `Failed to apply ${mutations.length} Viro mutations:`,
+        error
+      );
+    }
+  }
+}
 
 // Register a JS callback for native events
 export function registerEventListener(
@@ -95,6 +177,9 @@ export function registerEventListener(
   const callbackId = generateCallbackId();
   eventCallbacks[callbackId] = callback;
 
+  // The node may still be in the mutation queue
+  flushViroMutations();
+
   // Register with native code
   const nativeViro = getNativeViro();
   if (nativeViro) {
@@ -111,6 +196,7 @@ export function unregisterEventListener(
   callbackId: string
 ): void {
   delete eventCallbacks[callbackId];
+  flushViroMutations();
 
   // Unregister with native code
   const nativeViro = getNativeViro();
@@ -243,6 +243,34 @@ private:
             }
         ));
         
+        // Batched mutations
+        nativeViro.setProperty(runtime, "applyViroMutations", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "applyViroMutations"),
+            1,  // mutations
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 1 || !args[0].isObject() || !args[0].getObject(rt).isArray(rt)) {
+                    throw jsi::JSError(rt, "applyViroMutations requires an array of mutations");
+                }
+                
+                // Wrap the array so it converts with the same path as props
+                auto batchObj = jsi::Object(rt);
+                batchObj.setProperty(rt, "mutations", args[0]);
+                auto batchMap = jni::make_local(ReadableNativeMap::createWithContents(rt, std::move(batchObj)));
+                
+                // Call the Java method; invalid batches throw IllegalArgumentException
+                static const auto applyMutationsMethod = 
+                    javaPart_->getClass()->getMethod<void(ReadableNativeMap::javaobject)>("applyMutations");
+                try {
+                    applyMutationsMethod(javaPart_.get(), batchMap.get());
+                } catch (const std::exception& e) {
+                    throw jsi::JSError(rt, e.what());
+                }
+                
+                return jsi::Value::undefined();
+            }
+        ));
+        
         // Event handling functions
         nativeViro.setProperty(runtime, "registerEventCallback", jsi::Function::createFromHostFunction(
             runtime,
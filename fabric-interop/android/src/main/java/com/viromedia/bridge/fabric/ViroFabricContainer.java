@@ -19,13 +19,13 @@ import com.facebook.react.bridge.RuntimeExecutor;
 import com.viromedia.bridge.component.VRTSceneNavigator;
 import com.viromedia.bridge.component.VRTARSceneNavigator;
 import com.viromedia.bridge.component.VRTVRSceneNavigator;
+import com.viromedia.bridge.component.VRTComponent;
 import com.viromedia.bridge.component.node.VRTNode;
 import com.viromedia.bridge.component.node.VRTScene;
 import com.viromedia.bridge.component.node.VRTARScene;
 import com.viromedia.bridge.component.node.control.VRTBox;
 import com.viromedia.bridge.utility.ComponentEventDelegate.VRTEventListener;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -40,11 +40,8 @@ public class ViroFabricContainer extends FrameLayout {
     private VRTARSceneNavigator mARSceneNavigator;
     private VRTVRSceneNavigator mVRSceneNavigator;
 
-    // Node registry
-    private Map<String, Object> mNodeRegistry = new HashMap<>();
-
-    // Event callback registry
-    private Map<String, String> mEventCallbackRegistry = new HashMap<>();
+    // Node registry, shared between the JSI and UI threads
+    private final ViroNodeTable mNodeTable = new ViroNodeTable();
 
     // Flags
     private boolean mIsAR = false;
@@ -182,10 +179,7 @@ public class ViroFabricContainer extends FrameLayout {
         }
 
         // Clear node registry
-        mNodeRegistry.clear();
-
-        // Clear event callback registry
-        mEventCallbackRegistry.clear();
+        mNodeTable.clear();
 
         // Reset flags
         mIsAR = false;
@@ -234,79 +228,46 @@ public class ViroFabricContainer extends FrameLayout {
     }
 
     /**
-     * Create a node.
+     * Create a node. The node is registered right away so later calls on the JSI thread can
+     * find it, while its view is created on the UI thread, unless the node has been deleted by
+     * then.
      */
     @DoNotStrip
-    private void createNode(String nodeId, String nodeType, ReadableMap props) {
-        // Get the appropriate navigator
-        ViewGroup navigator = getActiveNavigator();
-        if (navigator == null) {
-            System.err.println("Cannot create node: no active navigator");
-            return;
-        }
-        
-        // Store the node ID in the registry
-        Map<String, Object> nodeInfo = new HashMap<>();
-        nodeInfo.put("type", nodeType);
-        nodeInfo.put("props", props != null ? props.toHashMap() : new HashMap<>());
-        mNodeRegistry.put(nodeId, nodeInfo);
-        
-        // If this is a scene node, add it to the navigator
-        if ("scene".equals(nodeType)) {
-            // For scene nodes, we need to create a VRTScene and set it on the navigator
-            if (mSceneNavigator != null) {
-                // Create a scene using the existing VRTScene implementation
-                VRTScene scene = new VRTScene(mReactContext);
-                scene.setProps(props);
-                mSceneNavigator.setScene(scene);
-                mNodeRegistry.put(nodeId, scene);
-            }
-        } else if ("arScene".equals(nodeType)) {
-            // For AR scene nodes, we need to create a VRTARScene and set it on the navigator
-            if (mARSceneNavigator != null) {
-                // Create an AR scene using the existing VRTARScene implementation
-                VRTARScene arScene = new VRTARScene(mReactContext);
-                arScene.setProps(props);
-                mARSceneNavigator.setScene(arScene);
-                mNodeRegistry.put(nodeId, arScene);
-            }
-        } else {
-            // For other node types, create the appropriate VRT node and add it to the scene
-            // This would delegate to the existing VRT node creation logic
-            // For example, for a box:
-            if ("box".equals(nodeType)) {
-                VRTBox box = new VRTBox(mReactContext);
-                box.setProps(props);
-                mNodeRegistry.put(nodeId, box);
+    private void createNode(String nodeId, String nodeType, final ReadableMap props) {
+        final int handle = mNodeTable.add(nodeId, nodeType).handle;
+
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                ViroNodeTable.Node node = mNodeTable.get(handle);
+                if (node != null) {
+                    createView(node, props);
+                }
             }
-            // Similar implementations for other node types
-        }
+        });
     }
 
     /**
      * Update a node.
      */
     @DoNotStrip
-    private void updateNode(String nodeId, ReadableMap props) {
-        // Get the node from the registry
-        Object node = mNodeRegistry.get(nodeId);
+    private void updateNode(String nodeId, final ReadableMap props) {
+        ViroNodeTable.Node node = mNodeTable.get(nodeId);
         if (node == null) {
-            System.err.println("Cannot update node: node not found");
+            Log.w(TAG, "Cannot update node: node not found");
             return;
         }
-        
-        // If the node is a VRT node, update its properties
-        if (node instanceof VRTNode) {
-            VRTNode vrtNode = (VRTNode) node;
-            vrtNode.setProps(props);
-        } else {
-            // If it's just a dictionary (for nodes we don't have a VRT class for yet),
-            // update the props in the registry
-            Map<String, Object> nodeInfo = (Map<String, Object>) node;
-            Map<String, Object> nodeProps = (Map<String, Object>) nodeInfo.get("props");
-            nodeProps.putAll(props.toHashMap());
-            mNodeRegistry.put(nodeId, nodeInfo);
-        }
+
+        final int handle = node.handle;
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                ViroNodeTable.Node node = mNodeTable.get(handle);
+                if (node != null) {
+                    setNodeProps(node, props);
+                }
+            }
+        });
     }
 
     /**
@@ -314,24 +275,21 @@ public class ViroFabricContainer extends FrameLayout {
      */
     @DoNotStrip
     private void deleteNode(String nodeId) {
-        // Get the node from the registry
-        Object node = mNodeRegistry.get(nodeId);
+        final ViroNodeTable.Node node = mNodeTable.remove(nodeId);
         if (node == null) {
-            System.err.println("Cannot delete node: node not found");
+            Log.w(TAG, "Cannot delete node: node not found");
             return;
         }
-        
-        // If the node is a VRT node, remove it from its parent
-        if (node instanceof VRTNode) {
-            VRTNode vrtNode = (VRTNode) node;
-            ViewGroup parent = (ViewGroup) vrtNode.getParent();
-            if (parent != null) {
-                parent.removeView(vrtNode);
+
+        // Drop the subscriptions first so no more events are routed for this node
+        node.unsubscribeAll();
+
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                detachView(node);
             }
-        }
-        
-        // Remove the node from the registry
-        mNodeRegistry.remove(nodeId);
+        });
     }
 
     /**
@@ -339,135 +297,306 @@ public class ViroFabricContainer extends FrameLayout {
      */
     @DoNotStrip
     private void addChild(String childId, String parentId) {
-        // Get the parent and child nodes from the registry
-        Object parent = mNodeRegistry.get(parentId);
-        Object child = mNodeRegistry.get(childId);
-        
+        ViroNodeTable.Node parent = mNodeTable.get(parentId);
+        ViroNodeTable.Node child = mNodeTable.get(childId);
         if (parent == null || child == null) {
-            System.err.println("Cannot add child: parent or child not found");
+            Log.w(TAG, "Cannot add child: parent or child not found");
             return;
         }
-        
-        // If both parent and child are VRT nodes, add the child to the parent
-        if (parent instanceof VRTNode && child instanceof VRTNode) {
-            VRTNode parentNode = (VRTNode) parent;
-            VRTNode childNode = (VRTNode) child;
-            parentNode.addView(childNode);
-        } else {
-            // If they're not both VRT nodes, update the parent-child relationship in the registry
-            Map<String, Object> parentInfo = (parent instanceof Map) ? (Map<String, Object>) parent : new HashMap<>();
-            if (!parentInfo.containsKey("children")) {
-                parentInfo.put("children", new HashMap<String, Object>());
+
+        final int parentHandle = parent.handle;
+        final int childHandle = child.handle;
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                ViroNodeTable.Node parent = mNodeTable.get(parentHandle);
+                ViroNodeTable.Node child = mNodeTable.get(childHandle);
+                if (parent != null && child != null) {
+                    attachChild(parent, child);
+                }
             }
-            Map<String, Object> children = (Map<String, Object>) parentInfo.get("children");
-            children.put(childId, true);
-            mNodeRegistry.put(parentId, parentInfo);
-        }
+        });
     }
 
     /**
-     * Remove a child from a parent.
+     * Remove a child from a parent. The nodes are held directly rather than by handle, as the
+     * child is often deleted right after it is removed.
      */
     @DoNotStrip
     private void removeChild(String childId, String parentId) {
-        // Get the parent and child nodes from the registry
-        Object parent = mNodeRegistry.get(parentId);
-        Object child = mNodeRegistry.get(childId);
-        
+        final ViroNodeTable.Node parent = mNodeTable.get(parentId);
+        final ViroNodeTable.Node child = mNodeTable.get(childId);
         if (parent == null || child == null) {
-            System.err.println("Cannot remove child: parent or child not found");
+            Log.w(TAG, "Cannot remove child: parent or child not found");
             return;
         }
-        
-        // If both parent and child are VRT nodes, remove the child from the parent
-        if (parent instanceof VRTNode && child instanceof VRTNode) {
-            VRTNode parentNode = (VRTNode) parent;
-            VRTNode childNode = (VRTNode) child;
-            parentNode.removeView(childNode);
+
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                detachChild(parent, child);
+            }
+        });
+    }
+
+    /**
+     * Apply the mutations from one Fabric commit. The batch is validated up front, and if any
+     * mutation is invalid an IllegalArgumentException is thrown (surfaced to JS as an error)
+     * and nothing is applied. Otherwise the whole batch is applied in one UI-thread pass, with
+     * each touched node's props set once and its tree update run once.
+     */
+    @DoNotStrip
+    private void applyMutations(ReadableMap batch) {
+        final ViroMutationBatch mutations =
+                ViroMutationBatch.parse(mNodeTable, batch.getArray("mutations"));
+
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                applyMutationsOnUiThread(mutations);
+            }
+        });
+    }
+
+    private void applyMutationsOnUiThread(ViroMutationBatch batch) {
+        VRTComponent.beginTreeUpdateBatch();
+        try {
+            for (ViroMutationBatch.Op op : batch.ops) {
+                switch (op.type) {
+                    case ViroMutationBatch.OP_CREATE:
+                        createView(op.node.node, op.node.getProps());
+                        break;
+                    case ViroMutationBatch.OP_ADD_CHILD:
+                        attachChild(op.parent.node, op.node.node);
+                        break;
+                    case ViroMutationBatch.OP_REMOVE_CHILD:
+                        detachChild(op.parent.node, op.node.node);
+                        break;
+                    case ViroMutationBatch.OP_DELETE:
+                        detachView(op.node.node);
+                        break;
+                }
+            }
+
+            // Updates to existing nodes, merged to one per node
+            for (ViroMutationBatch.NodeState state : batch.updates) {
+                if (!state.deleted) {
+                    setNodeProps(state.node, state.getProps());
+                }
+            }
+        } finally {
+            VRTComponent.endTreeUpdateBatch();
+        }
+    }
+
+    /**
+     * Create the view for a node. Must be called on the UI thread.
+     */
+    private void createView(ViroNodeTable.Node node, ReadableMap props) {
+        // Get the appropriate navigator
+        if (getActiveNavigator() == null) {
+            Log.w(TAG, "Cannot create node: no active navigator");
+            return;
+        }
+
+        VRTNode view = null;
+        if ("scene".equals(node.type)) {
+            // For scene nodes, we need to create a VRTScene and set it on the navigator
+            if (mSceneNavigator != null) {
+                VRTScene scene = new VRTScene(mReactContext);
+                scene.setProps(props);
+                mSceneNavigator.setScene(scene);
+                view = scene;
+            }
+        } else if ("arScene".equals(node.type)) {
+            // For AR scene nodes, we need to create a VRTARScene and set it on the navigator
+            if (mARSceneNavigator != null) {
+                VRTARScene arScene = new VRTARScene(mReactContext);
+                arScene.setProps(props);
+                mARSceneNavigator.setScene(arScene);
+                view = arScene;
+            }
+        } else if ("box".equals(node.type)) {
+            // For other node types, create the appropriate VRT node
+            // Similar implementations for other node types
+            VRTBox box = new VRTBox(mReactContext);
+            box.setProps(props);
+            view = box;
+        }
+
+        if (view != null) {
+            node.view = view;
+        } else if (props != null) {
+            // Keep the props for nodes we don't have a VRT class for yet
+            synchronized (node) {
+                node.props.putAll(props.toHashMap());
+            }
+        }
+    }
+
+    /**
+     * Set props on a node. Must be called on the UI thread.
+     */
+    private void setNodeProps(ViroNodeTable.Node node, ReadableMap props) {
+        VRTNode view = node.view;
+        if (view != null) {
+            view.setProps(props);
+        } else {
+            synchronized (node) {
+                node.props.putAll(props.toHashMap());
+            }
+        }
+    }
+
+    /**
+     * Remove a node's view from its parent. Must be called on the UI thread.
+     */
+    private void detachView(ViroNodeTable.Node node) {
+        VRTNode view = node.view;
+        if (view != null) {
+            ViewGroup parent = (ViewGroup) view.getParent();
+            if (parent != null) {
+                parent.removeView(view);
+            }
+        }
+    }
+
+    /**
+     * Add a child node to a parent node. Must be called on the UI thread.
+     */
+    private void attachChild(ViroNodeTable.Node parent, ViroNodeTable.Node child) {
+        VRTNode parentView = parent.view;
+        VRTNode childView = child.view;
+        if (parentView != null && childView != null) {
+            parentView.addView(childView);
         } else {
-            // If they're not both VRT nodes, update the parent-child relationship in the registry
-            if (parent instanceof Map) {
-                Map<String, Object> parentInfo = (Map<String, Object>) parent;
-                if (parentInfo.containsKey("children")) {
-                    Map<String, Object> children = (Map<String, Object>) parentInfo.get("children");
-                    children.remove(childId);
+            // Otherwise track the relationship in the table
+            synchronized (parent) {
+                if (!parent.children.contains(child)) {
+                    parent.children.add(child);
                 }
             }
         }
     }
 
     /**
-     * Register an event callback.
+     * Remove a child node from a parent node. Must be called on the UI thread.
+     */
+    private void detachChild(ViroNodeTable.Node parent, ViroNodeTable.Node child) {
+        VRTNode parentView = parent.view;
+        VRTNode childView = child.view;
+        if (parentView != null && childView != null) {
+            parentView.removeView(childView);
+        } else {
+            synchronized (parent) {
+                parent.children.remove(child);
+            }
+        }
+    }
+
+    /**
+     * Register an event callback. Subscriptions are kept as a bit per event on the node, so
+     * routing an event to its callback is a bit test and an array read.
      */
     @DoNotStrip
-    private void registerEventCallback(String callbackId, String eventName, String nodeId) {
-        // Get the node from the registry
-        Object node = mNodeRegistry.get(nodeId);
+    private void registerEventCallback(String callbackId, final String eventName, String nodeId) {
+        final ViroNodeTable.Node node = mNodeTable.get(nodeId);
         if (node == null) {
-            System.err.println("Cannot register event callback: node not found");
+            Log.w(TAG, "Cannot register event callback: node not found");
             return;
         }
-        
-        // Store the callback ID in the registry
-        String key = nodeId + "_" + eventName;
-        mEventCallbackRegistry.put(key, callbackId);
-        
-        // If the node is a VRT node, register the event callback
-        if (node instanceof VRTNode) {
-            VRTNode vrtNode = (VRTNode) node;
-            
-            // Create a callback that will dispatch the event to JS
-            VRTEventListener listener = new VRTEventListener() {
-                @Override
-                public void onEvent(Map<String, Object> event) {
-                    // Convert the event to a ReadableMap
-                    WritableMap writableEvent = new WritableNativeMap();
-                    for (Map.Entry<String, Object> entry : event.entrySet()) {
-                        String key = entry.getKey();
-                        Object value = entry.getValue();
-                        if (value instanceof String) {
-                            writableEvent.putString(key, (String) value);
-                        } else if (value instanceof Integer) {
-                            writableEvent.putInt(key, (Integer) value);
-                        } else if (value instanceof Double) {
-                            writableEvent.putDouble(key, (Double) value);
-                        } else if (value instanceof Boolean) {
-                            writableEvent.putBoolean(key, (Boolean) value);
-                        }
-                    }
-                    
-                    // Dispatch the event to JS
-                    dispatchEventToJS(callbackId, writableEvent);
-                }
-            };
-            
-            // Register the event callback with the node
-            vrtNode.addEventListener(eventName, listener);
+
+        final int eventIndex = ViroNodeTable.eventIndex(eventName);
+        if (eventIndex < 0) {
+            Log.w(TAG, "Cannot register event callback: too many event types");
+            return;
+        }
+
+        // Only attach a listener the first time; re-registering just swaps the callback id
+        if (!node.subscribe(eventIndex, callbackId)) {
+            return;
         }
+
+        final int handle = node.handle;
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                ViroNodeTable.Node node = mNodeTable.get(handle);
+                VRTNode view = node != null ? node.view : null;
+                if (view != null) {
+                    view.addEventListener(eventName, new NodeEventListener(handle, eventIndex));
+                }
+            }
+        });
     }
 
     /**
      * Unregister an event callback.
      */
     @DoNotStrip
-    private void unregisterEventCallback(String callbackId, String eventName, String nodeId) {
-        // Get the node from the registry
-        Object node = mNodeRegistry.get(nodeId);
+    private void unregisterEventCallback(String callbackId, final String eventName, String nodeId) {
+        final ViroNodeTable.Node node = mNodeTable.get(nodeId);
         if (node == null) {
-            System.err.println("Cannot unregister event callback: node not found");
+            Log.w(TAG, "Cannot unregister event callback: node not found");
             return;
         }
-        
-        // Remove the callback ID from the registry
-        String key = nodeId + "_" + eventName;
-        mEventCallbackRegistry.remove(key);
-        
-        // If the node is a VRT node, unregister the event callback
-        if (node instanceof VRTNode) {
-            VRTNode vrtNode = (VRTNode) node;
-            
-            // Unregister the event callback from the node
-            vrtNode.removeEventListener(eventName);
+
+        int eventIndex = ViroNodeTable.eventIndex(eventName);
+        if (eventIndex < 0 || !node.unsubscribe(eventIndex)) {
+            return;
+        }
+
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                VRTNode view = node.view;
+                if (view != null) {
+                    view.removeEventListener(eventName);
+                }
+            }
+        });
+    }
+
+    /**
+     * Routes a node's events to the JS callback currently subscribed to them. The node and its
+     * callback id are looked up by handle at dispatch time, so events stop as soon as the node
+     * unsubscribes or is deleted.
+     */
+    private final class NodeEventListener implements VRTEventListener {
+        private final int mHandle;
+        private final int mEventIndex;
+
+        NodeEventListener(int handle, int eventIndex) {
+            mHandle = handle;
+            mEventIndex = eventIndex;
+        }
+
+        @Override
+        public void onEvent(Map<String, Object> event) {
+            ViroNodeTable.Node node = mNodeTable.get(mHandle);
+            String callbackId = node != null ? node.getCallbackId(mEventIndex) : null;
+            if (callbackId == null) {
+                return;
+            }
+
+            // Convert the event to a ReadableMap
+            WritableMap writableEvent = new WritableNativeMap();
+            for (Map.Entry<String, Object> entry : event.entrySet()) {
+                String key = entry.getKey();
+                Object value = entry.getValue();
+                if (value instanceof String) {
+                    writableEvent.putString(key, (String) value);
+                } else if (value instanceof Integer) {
+                    writableEvent.putInt(key, (Integer) value);
+                } else if (value instanceof Double) {
+                    writableEvent.putDouble(key, (Double) value);
+                } else if (value instanceof Boolean) {
+                    writableEvent.putBoolean(key, (Boolean) value);
+                }
+            }
+
+            // Dispatch the event to JS
+            dispatchEventToJS(callbackId, writableEvent);
         }
     }
 
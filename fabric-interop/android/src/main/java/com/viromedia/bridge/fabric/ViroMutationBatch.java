@@ -0,0 +1,257 @@
+package com.viromedia.bridge.fabric;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import com.facebook.react.bridge.WritableNativeMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ViroMutationBatch is the ordered list of node mutations from one Fabric commit, validated
+ * and collapsed so it can be applied in a single UI-thread pass.
+ *
+ * Each mutation is a map with an "op" of create, update, addChild, removeChild or delete, the
+ * node "id", and the "type", "props" or "parentId" the op needs. Prop updates are merged per
+ * node: updates to a node created in the batch are folded into its create, updates to an
+ * existing node are applied once after the tree changes, and updates to a node deleted later in
+ * the batch are dropped. A node both created and deleted in the batch is never built.
+ *
+ * An id deleted in the batch may be created again later in the same batch, which is what a
+ * re-run effect produces. As with the individual calls, adding a child to or removing it from a
+ * parent that doesn't exist (or was deleted earlier in the batch) is skipped rather than
+ * rejected.
+ */
+class ViroMutationBatch {
+
+    static final int OP_CREATE = 0;
+    static final int OP_ADD_CHILD = 1;
+    static final int OP_REMOVE_CHILD = 2;
+    static final int OP_DELETE = 3;
+
+    /**
+     * A tree change, in the order it appeared in the batch.
+     */
+    static final class Op {
+        final int type;
+        final NodeState node;
+        final NodeState parent;
+
+        Op(int type, NodeState node, NodeState parent) {
+            this.type = type;
+            this.node = node;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * The state of one node touched by the batch.
+     */
+    static final class NodeState {
+        final String id;
+        final String type;
+        final boolean created;
+        boolean deleted;
+
+        // The table entry. For nodes created in the batch it is only set once the whole batch
+        // has been validated.
+        ViroNodeTable.Node node;
+
+        private ReadableMap mProps;
+        private WritableNativeMap mMergedProps;
+
+        NodeState(String id, String type, boolean created, ViroNodeTable.Node node) {
+            this.id = id;
+            this.type = type;
+            this.created = created;
+            this.node = node;
+        }
+
+        boolean isCancelled() {
+            return created && deleted;
+        }
+
+        /**
+         * Returns the props to set on the node, with all of the batch's updates merged in order.
+         */
+        ReadableMap getProps() {
+            return mProps != null ? mProps : new WritableNativeMap();
+        }
+
+        void mergeProps(ReadableMap props) {
+            if (mProps == null) {
+                // A single update is passed through as is, without a copy
+                mProps = props;
+                return;
+            }
+            if (mMergedProps == null) {
+                mMergedProps = new WritableNativeMap();
+                mMergedProps.merge(mProps);
+                mProps = mMergedProps;
+            }
+            mMergedProps.merge(props);
+        }
+    }
+
+    final List<Op> ops = new ArrayList<>();
+    final List<NodeState> updates = new ArrayList<>();
+
+    private final ViroNodeTable mTable;
+    // The current state for each id, and every state in the order it was created. An id deleted
+    // and created again in the batch has two states.
+    private final Map<String, NodeState> mStates = new HashMap<>();
+    private final List<NodeState> mStateList = new ArrayList<>();
+
+    private ViroMutationBatch(ViroNodeTable table) {
+        mTable = table;
+    }
+
+    /**
+     * Validates the mutations and registers the batch's creates and deletes with the node table.
+     * If any mutation is invalid, an IllegalArgumentException is thrown and nothing is changed.
+     */
+    static ViroMutationBatch parse(ViroNodeTable table, ReadableArray mutations) {
+        if (mutations == null) {
+            throw new IllegalArgumentException("applyMutations requires an array of mutations");
+        }
+
+        ViroMutationBatch batch = new ViroMutationBatch(table);
+        synchronized (table) {
+            List<Op> ops = new ArrayList<>(mutations.size());
+            for (int i = 0; i < mutations.size(); i++) {
+                Op op = batch.parseMutation(i, mutations.getMap(i));
+                if (op != null) {
+                    ops.add(op);
+                }
+            }
+
+            // Everything is valid: commit deletes and then creates to the table, so an id that is
+            // deleted and created again ends up with its new node, then drop the tree changes for
+            // nodes that never make it out of the batch
+            for (NodeState state : batch.mStateList) {
+                if (state.deleted && !state.created) {
+                    table.remove(state.id);
+                    state.node.unsubscribeAll();
+                }
+            }
+            for (NodeState state : batch.mStateList) {
+                if (state.created && !state.isCancelled()) {
+                    state.node = table.add(state.id, state.type);
+                }
+            }
+            for (Op op : ops) {
+                if (!op.node.isCancelled() && (op.parent == null || !op.parent.isCancelled())) {
+                    batch.ops.add(op);
+                }
+            }
+        }
+        return batch;
+    }
+
+    private Op parseMutation(int index, ReadableMap mutation) {
+        if (mutation == null) {
+            throw invalid(index, "expected a map");
+        }
+        String op = getString(index, mutation, "op");
+        String id = getString(index, mutation, "id");
+
+        switch (op) {
+            case "create": {
+                NodeState existing = mStates.get(id);
+                if (existing != null ? !existing.deleted : mTable.get(id) != null) {
+                    throw invalid(index, "node " + id + " already exists");
+                }
+                NodeState state = new NodeState(id, getString(index, mutation, "type"), true, null);
+                putState(state);
+                if (mutation.hasKey("props") && !mutation.isNull("props")) {
+                    state.mergeProps(getMap(index, mutation, "props"));
+                }
+                return new Op(OP_CREATE, state, null);
+            }
+            case "update": {
+                NodeState state = getLiveNode(index, id);
+                if (state.mProps == null && !state.created) {
+                    updates.add(state);
+                }
+                state.mergeProps(getMap(index, mutation, "props"));
+                return null;
+            }
+            case "addChild":
+            case "removeChild": {
+                NodeState state = getLiveNode(index, id);
+                NodeState parent = getParent(getString(index, mutation, "parentId"));
+                if (parent == null) {
+                    return null;
+                }
+                int type = "addChild".equals(op) ? OP_ADD_CHILD : OP_REMOVE_CHILD;
+                return new Op(type, state, parent);
+            }
+            case "delete": {
+                NodeState state = getLiveNode(index, id);
+                state.deleted = true;
+                return new Op(OP_DELETE, state, null);
+            }
+            default:
+                throw invalid(index, "unknown op " + op);
+        }
+    }
+
+    private NodeState getLiveNode(int index, String id) {
+        NodeState state = mStates.get(id);
+        if (state == null) {
+            ViroNodeTable.Node node = mTable.get(id);
+            if (node == null) {
+                throw invalid(index, "node " + id + " not found");
+            }
+            state = new NodeState(id, node.type, false, node);
+            putState(state);
+        }
+        if (state.deleted) {
+            throw invalid(index, "node " + id + " was deleted earlier in the batch");
+        }
+        return state;
+    }
+
+    /**
+     * Returns the state of a live parent node, or null if the parent doesn't exist or was
+     * deleted earlier in the batch.
+     */
+    private NodeState getParent(String id) {
+        NodeState state = mStates.get(id);
+        if (state == null) {
+            ViroNodeTable.Node node = mTable.get(id);
+            if (node == null) {
+                return null;
+            }
+            state = new NodeState(id, node.type, false, node);
+            putState(state);
+        }
+        return state.deleted ? null : state;
+    }
+
+    private void putState(NodeState state) {
+        mStates.put(state.id, state);
+        mStateList.add(state);
+    }
+
+    private static String getString(int index, ReadableMap mutation, String key) {
+        if (!mutation.hasKey(key) || mutation.getType(key) != ReadableType.String) {
+            throw invalid(index, "missing string \"" + key + "\"");
+        }
+        return mutation.getString(key);
+    }
+
+    private static ReadableMap getMap(int index, ReadableMap mutation, String key) {
+        if (!mutation.hasKey(key) || mutation.getType(key) != ReadableType.Map) {
+            throw invalid(index, "missing map \"" + key + "\"");
+        }
+        return mutation.getMap(key);
+    }
+
+    private static IllegalArgumentException invalid(int index, String reason) {
+        return new IllegalArgumentException("Invalid mutation at index " + index + ": " + reason);
+    }
+}
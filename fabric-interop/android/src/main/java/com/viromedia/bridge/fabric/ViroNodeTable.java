@@ -0,0 +1,247 @@
+package com.viromedia.bridge.fabric;
+
+import com.viromedia.bridge.component.node.VRTNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ViroNodeTable is the registry of nodes created through the JSI bindings.
+ *
+ * Each node gets an integer handle that indexes straight into the table. Lookups by id or
+ * handle are lock-free, so they can be made from the JSI thread as well as the UI thread.
+ * Adding and removing nodes is serialized on the table.
+ *
+ * Work deferred to the UI thread holds on to a node's handle rather than the node, and resolves
+ * it when it runs: a node deleted in the meantime no longer resolves, so its deferred work is
+ * skipped. A handle is a slot index in the low bits and the slot's generation in the high bits,
+ * so a stale handle never resolves to a later node that reuses the slot.
+ */
+class ViroNodeTable {
+
+    // Each event a node can subscribe to is mapped to one bit of the node's event mask. The
+    // events used by the Viro components are assigned up front; any other event name gets the
+    // next free bit the first time it is registered.
+    static final int MAX_EVENTS = 64;
+    private static final String[] KNOWN_EVENTS = {
+            "onHover", "onClick", "onClickState", "onTouch", "onScroll", "onSwipe", "onDrag",
+            "onPinch", "onRotate", "onFuse", "onCollision", "onTransformUpdate", "onLoadStart",
+            "onLoadEnd", "onError", "onAnimationStart", "onAnimationFinish", "onFinish",
+            "onBufferStart", "onBufferEnd", "onUpdateTime", "onAnchorFound", "onAnchorUpdated",
+            "onAnchorRemoved", "onTrackingUpdated", "onAmbientLightUpdate",
+            "onCameraTransformUpdate", "onPlatformUpdate", "onPortalEnter", "onPortalExit",
+            "onControllerStatus", "onExitViro"
+    };
+    private static final ConcurrentHashMap<String, Integer> sEventIndices = new ConcurrentHashMap<>();
+    private static int sEventCount = 0;
+
+    static {
+        for (String eventName : KNOWN_EVENTS) {
+            sEventIndices.put(eventName, sEventCount++);
+        }
+    }
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1;
+
+    /**
+     * Returns the event index for the given event name, assigning one if this is the first time
+     * the event is seen, or -1 if all event bits are in use.
+     */
+    static int eventIndex(String eventName) {
+        Integer index = sEventIndices.get(eventName);
+        if (index != null) {
+            return index;
+        }
+        synchronized (sEventIndices) {
+            index = sEventIndices.get(eventName);
+            if (index == null) {
+                if (sEventCount == MAX_EVENTS) {
+                    return -1;
+                }
+                index = sEventCount++;
+                sEventIndices.put(eventName, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * A single node in the table. The view is only touched on the UI thread, while the
+     * event subscriptions and the props/children of nodes without a VRT implementation may be
+     * updated from any thread.
+     */
+    static final class Node {
+        final String id;
+        final int handle;
+        final String type;
+
+        // The backing VRT view, or null for node types without a VRT implementation yet
+        volatile VRTNode view;
+
+        // Props and children of nodes without a view, guarded by the node
+        final Map<String, Object> props = new HashMap<>();
+        final List<Node> children = new ArrayList<>();
+
+        // One bit per subscribed event. The callback id for a bit is written before the bit is
+        // set, so a reader that sees the bit also sees its callback id.
+        private volatile long mEventMask;
+        private final String[] mCallbackIds = new String[MAX_EVENTS];
+
+        Node(String id, int handle, String type) {
+            this.id = id;
+            this.handle = handle;
+            this.type = type;
+        }
+
+        boolean hasEvent(int eventIndex) {
+            return (mEventMask & (1L << eventIndex)) != 0;
+        }
+
+        /**
+         * Returns the JS callback id subscribed to the given event, or null if there is none.
+         */
+        String getCallbackId(int eventIndex) {
+            return hasEvent(eventIndex) ? mCallbackIds[eventIndex] : null;
+        }
+
+        /**
+         * Subscribes the callback to the event, returning true if the node wasn't subscribed
+         * to it before.
+         */
+        synchronized boolean subscribe(int eventIndex, String callbackId) {
+            boolean added = !hasEvent(eventIndex);
+            mCallbackIds[eventIndex] = callbackId;
+            mEventMask |= (1L << eventIndex);
+            return added;
+        }
+
+        /**
+         * Unsubscribes from the event, returning true if the node was subscribed to it.
+         */
+        synchronized boolean unsubscribe(int eventIndex) {
+            if (!hasEvent(eventIndex)) {
+                return false;
+            }
+            mEventMask &= ~(1L << eventIndex);
+            mCallbackIds[eventIndex] = null;
+            return true;
+        }
+
+        synchronized void unsubscribeAll() {
+            mEventMask = 0;
+            for (int i = 0; i < MAX_EVENTS; i++) {
+                mCallbackIds[i] = null;
+            }
+        }
+    }
+
+    private final ConcurrentHashMap<String, Node> mNodesById = new ConcurrentHashMap<>();
+    private volatile Node[] mNodesBySlot = new Node[INITIAL_CAPACITY];
+
+    // Released slots are reused so the table stays as large as the live node count. Guarded by
+    // the table.
+    private int[] mGenerations = new int[INITIAL_CAPACITY];
+    private int[] mFreeSlots = new int[INITIAL_CAPACITY];
+    private int mFreeSlotCount = 0;
+    private int mNextSlot = 0;
+
+    /**
+     * Adds a node with the given id, replacing any existing node with the same id.
+     */
+    synchronized Node add(String id, String type) {
+        Node existing = mNodesById.get(id);
+        if (existing != null) {
+            existing.unsubscribeAll();
+            releaseHandle(existing.handle);
+        }
+
+        int slot;
+        if (mFreeSlotCount > 0) {
+            slot = mFreeSlots[--mFreeSlotCount];
+        } else if (mNextSlot <= SLOT_MASK) {
+            slot = mNextSlot++;
+        } else {
+            throw new IllegalStateException("Node table is full");
+        }
+
+        Node[] nodes = mNodesBySlot;
+        if (slot >= nodes.length) {
+            Node[] grown = new Node[nodes.length * 2];
+            System.arraycopy(nodes, 0, grown, 0, nodes.length);
+            nodes = grown;
+            int[] generations = new int[grown.length];
+            System.arraycopy(mGenerations, 0, generations, 0, mGenerations.length);
+            mGenerations = generations;
+        }
+
+        Node node = new Node(id, (mGenerations[slot] << SLOT_BITS) | slot, type);
+        nodes[slot] = node;
+        mNodesBySlot = nodes;
+        mNodesById.put(id, node);
+        return node;
+    }
+
+    /**
+     * Removes the node with the given id, returning it, or null if there is none.
+     */
+    synchronized Node remove(String id) {
+        Node node = mNodesById.remove(id);
+        if (node != null) {
+            releaseHandle(node.handle);
+        }
+        return node;
+    }
+
+    Node get(String id) {
+        return mNodesById.get(id);
+    }
+
+    /**
+     * Returns the node with the given handle, or null if it has been removed.
+     */
+    Node get(int handle) {
+        Node[] nodes = mNodesBySlot;
+        int slot = handle & SLOT_MASK;
+        Node node = slot < nodes.length ? nodes[slot] : null;
+        return node != null && node.handle == handle ? node : null;
+    }
+
+    int size() {
+        return mNodesById.size();
+    }
+
+    synchronized void clear() {
+        for (Node node : mNodesById.values()) {
+            node.unsubscribeAll();
+        }
+        mNodesById.clear();
+        // Keep the generations, bumped, so handles from before the clear stay stale
+        for (int slot = 0; slot < mNextSlot; slot++) {
+            mGenerations[slot] = (mGenerations[slot] + 1) & GENERATION_MASK;
+        }
+        mNodesBySlot = new Node[mNodesBySlot.length];
+        mFreeSlotCount = 0;
+        mNextSlot = 0;
+    }
+
+    private void releaseHandle(int handle) {
+        int slot = handle & SLOT_MASK;
+        Node[] nodes = mNodesBySlot;
+        nodes[slot] = null;
+        // Re-publish the array so lock-free readers see the cleared slot
+        mNodesBySlot = nodes;
+        mGenerations[slot] = (mGenerations[slot] + 1) & GENERATION_MASK;
+        if (mFreeSlotCount == mFreeSlots.length) {
+            int[] grown = new int[mFreeSlots.length * 2];
+            System.arraycopy(mFreeSlots, 0, grown, 0, mFreeSlotCount);
+            mFreeSlots = grown;
+        }
+        mFreeSlots[mFreeSlotCount++] = slot;
+    }
+}
@@ -4,6 +4,8 @@
  * A utility to provide type-safe access to the global NativeViro object.
  */
 
+import type { ViroMutation } from "../NativeViro";
+
 // Add global declaration for TypeScript
 declare global {
   var NativeViro: any;
@@ -24,6 +26,9 @@ export interface NativeViroType {
   addViroNodeChild: (parentId: string, childId: string) => void;
   removeViroNodeChild: (parentId: string, childId: string) => void;
 
+  // Batched mutations (not available on every platform)
+  applyViroMutations?: (mutations: ViroMutation[]) => void;
+
   // Event handling
   registerEventCallback: (
     nodeId: string,
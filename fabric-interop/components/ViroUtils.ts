@@ -5,9 +5,12 @@
  */
 
 import { useEffect, useRef } from "react";
-import { generateNodeId, ViroNodeProps, ViroNodeType } from "../NativeViro";
-
-import { getNativeViro } from "./ViroGlobal";
+import {
+  generateNodeId,
+  queueViroMutation,
+  ViroNodeProps,
+  ViroNodeType,
+} from "../NativeViro";
 
 // Hook to manage a node's lifecycle
 export function useViroNode(
@@ -19,37 +22,33 @@ export function useViroNode(
 
   useEffect(() => {
     // Create the node when the component mounts
-    const nativeViro = getNativeViro();
-    if (nativeViro) {
-      nativeViro.createViroNode(nodeId.current, nodeType, props);
-
-      // Add to parent if specified
-      if (parentId) {
-        nativeViro.addViroNodeChild(parentId, nodeId.current);
-      }
+    queueViroMutation({
+      op: "create",
+      id: nodeId.current,
+      type: nodeType,
+      props,
+    });
+
+    // Add to parent if specified
+    if (parentId) {
+      queueViroMutation({ op: "addChild", id: nodeId.current, parentId });
     }
 
     // Clean up when the component unmounts
     return () => {
-      const nativeViro = getNativeViro();
-      if (nativeViro) {
-        // Remove from parent if specified
-        if (parentId) {
-          nativeViro.removeViroNodeChild(parentId, nodeId.current);
-        }
-
-        // Delete the node
-        nativeViro.deleteViroNode(nodeId.current);
+      // Remove from parent if specified
+      if (parentId) {
+        queueViroMutation({ op: "removeChild", id: nodeId.current, parentId });
       }
+
+      // Delete the node
+      queueViroMutation({ op: "delete", id: nodeId.current });
     };
   }, [nodeType, parentId]);
 
   // Update props when they change
   useEffect(() => {
-    const nativeViro = getNativeViro();
-    if (nativeViro) {
-      nativeViro.updateViroNode(nodeId.current, props);
-    }
+    queueViroMutation({ op: "update", id: nodeId.current, props });
   }, [props]);
 
   return nodeId.current;
@@ -62,6 +62,27 @@ import {
   isARSupportedOnDevice,
   ViroARSupportResponse,
 } from "./components/Utilities/ViroUtils";
+import { ViroPhysicsBatch } from "./components/Utilities/ViroPhysicsBatch";
+import { ViroPackedPointCloud } from "./components/Utilities/ViroPointCloud";
+import {
+  ViroCollisionBatchResult,
+  ViroCollisionQueryShapes,
+  ViroCollisionQueryStride,
+} from "./components/Utilities/ViroCollisionQueries";
+import {
+  ViroARHitTestBatchOptions,
+  ViroARHitTestBatchResult,
+  ViroARHitTestQueryKinds,
+  ViroARHitTestQueryStride,
+  ViroARHitTestResultStride,
+} from "./components/Utilities/ViroARHitTestBatch";
+import {
+  ViroTelemetry,
+  ViroTelemetryHistogram,
+  ViroTelemetrySnapshot,
+  ViroTraceSpan,
+  ViroTracingOptions,
+} from "./components/Utilities/ViroTelemetry";
 import { ViroARCamera } from "./components/AR/ViroARCamera";
 import {
   ViroHoverEvent,
@@ -185,7 +206,22 @@ export {
   polarToCartesian,
   polarToCartesianActual,
   isARSupportedOnDevice,
+  ViroPhysicsBatch,
+  ViroCollisionQueryShapes,
+  ViroCollisionQueryStride,
+  ViroARHitTestQueryKinds,
+  ViroARHitTestQueryStride,
+  ViroARHitTestResultStride,
+  ViroTelemetry,
   // Types
+  ViroPackedPointCloud,
+  ViroCollisionBatchResult,
+  ViroARHitTestBatchOptions,
+  ViroARHitTestBatchResult,
+  ViroTelemetryHistogram,
+  ViroTelemetrySnapshot,
+  ViroTraceSpan,
+  ViroTracingOptions,
   ViroARSupportResponse,
   ViroHoverEvent,
   ViroClickEvent,